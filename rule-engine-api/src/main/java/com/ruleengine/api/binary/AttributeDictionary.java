@@ -0,0 +1,97 @@
+package com.ruleengine.api.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numbering of attribute codes for the binary protocol. Codes are sorted and numbered from 1,
+ * so every instance built from the same attribute catalog assigns the same ids; the version is
+ * derived from the codes and lets a server detect a client using an outdated dictionary. It is the
+ * leading 32 bits of a SHA-256 over the codes: unlike a {@link String#hashCode}-based version, two
+ * code lists sharing one take a brute-force search rather than swapping a few characters.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public final class AttributeDictionary {
+
+    /** Id written for attribute codes that are not in the dictionary; the code follows inline. */
+    public static final int INLINE = 0;
+
+    private final int version;
+    private final List<String> codes;
+    private final Map<String, Integer> idsByCode;
+
+    private AttributeDictionary(List<String> codes) {
+        this.version = contentHash(codes);
+        this.codes = codes;
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < codes.size(); i++) {
+            ids.put(codes.get(i), i + 1);
+        }
+        this.idsByCode = Map.copyOf(ids);
+    }
+
+    /**
+     * Builds the dictionary for the given attribute codes.
+     */
+    public static AttributeDictionary of(Collection<String> attributeCodes) {
+        if (attributeCodes == null) {
+            throw new IllegalArgumentException("Attribute codes cannot be null");
+        }
+        return new AttributeDictionary(attributeCodes.stream().distinct().sorted().toList());
+    }
+
+    /**
+     * Hashes each code with its length, so the boundaries between codes are part of the hash.
+     */
+    private static int contentHash(List<String> codes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String code : codes) {
+                byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+            return ByteBuffer.wrap(digest.digest()).getInt();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Returns the attribute codes in id order (id = index + 1).
+     */
+    public List<String> codes() {
+        return codes;
+    }
+
+    /**
+     * Returns the id of an attribute code, or {@link #INLINE} if the code is not in the dictionary.
+     */
+    public int idOf(String code) {
+        return idsByCode.getOrDefault(code, INLINE);
+    }
+
+    /**
+     * Returns the attribute code for an id.
+     *
+     * @throws IllegalArgumentException if the id is not in the dictionary
+     */
+    public String codeOf(int id) {
+        if (id < 1 || id > codes.size()) {
+            throw new IllegalArgumentException("Unknown attribute id: " + id);
+        }
+        return codes.get(id - 1);
+    }
+}
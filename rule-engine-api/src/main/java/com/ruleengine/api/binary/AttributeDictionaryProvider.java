@@ -0,0 +1,96 @@
+package com.ruleengine.api.binary;
+
+import com.ruleengine.application.service.AttributeService;
+import com.ruleengine.domain.attribute.Attribute;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Supplies the current {@link AttributeDictionary}, built from the attribute catalog. The
+ * dictionary is rebuilt when it is requested explicitly or a client sends a version the server
+ * does not know, e.g. after attributes were added. Unknown versions arrive on the request path and
+ * cost nothing to make up, so they rebuild the dictionary at most once per
+ * {@code minRefreshInterval}, by one caller while the others wait for its result; in between they
+ * are rejected against the current dictionary.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public class AttributeDictionaryProvider {
+    public static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    private final AttributeService attributeService;
+    private final long minRefreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile AttributeDictionary current;
+    private volatile long nextRefreshAt;
+
+    public AttributeDictionaryProvider(AttributeService attributeService) {
+        this(attributeService, DEFAULT_MIN_REFRESH_INTERVAL);
+    }
+
+    /**
+     * @param minRefreshInterval Shortest time between two rebuilds caused by unknown versions
+     */
+    public AttributeDictionaryProvider(AttributeService attributeService, Duration minRefreshInterval) {
+        if (attributeService == null) {
+            throw new IllegalArgumentException("Attribute service cannot be null");
+        }
+        if (minRefreshInterval == null || minRefreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Minimum refresh interval cannot be null or negative");
+        }
+        this.attributeService = attributeService;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.nextRefreshAt = System.nanoTime();
+    }
+
+    /**
+     * Returns the current dictionary, building it on first use.
+     */
+    public AttributeDictionary current() {
+        AttributeDictionary dictionary = current;
+        return dictionary != null ? dictionary : refresh();
+    }
+
+    /**
+     * Returns the dictionary with the given version, rebuilding it if the cached one differs and
+     * no rebuild for an unknown version happened within the minimum refresh interval.
+     */
+    public Optional<AttributeDictionary> forVersion(int version) {
+        AttributeDictionary dictionary = current();
+        if (dictionary.version() != version) {
+            dictionary = refreshForUnknownVersion(dictionary);
+        }
+        return dictionary.version() == version ? Optional.of(dictionary) : Optional.empty();
+    }
+
+    /**
+     * Rebuilds the dictionary from the attribute catalog.
+     */
+    public AttributeDictionary refresh() {
+        AttributeDictionary dictionary = AttributeDictionary.of(
+                attributeService.getAllAttributes().stream().map(Attribute::code).toList());
+        current = dictionary;
+        return dictionary;
+    }
+
+    private AttributeDictionary refreshForUnknownVersion(AttributeDictionary seen) {
+        if (System.nanoTime() - nextRefreshAt < 0) {
+            return seen;
+        }
+        refreshLock.lock();
+        try {
+            // Rebuilt by the caller that held the lock before us
+            if (current != seen || System.nanoTime() - nextRefreshAt < 0) {
+                return current;
+            }
+            // Advanced first, so a failing catalog read is not retried by every request either
+            nextRefreshAt = System.nanoTime() + minRefreshIntervalNanos;
+            return refresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package com.ruleengine.api.binary;
+
+import com.ruleengine.api.dto.CategoryValidationRequest;
+import com.ruleengine.api.dto.CategoryValidationResponse;
+import com.ruleengine.api.dto.RuleValidationRequest;
+import com.ruleengine.api.dto.RuleValidationResponse;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Compact binary encoding of the validation DTOs, for high-volume service-to-service callers.
+ *
+ * <p>Every message starts with a header: the magic bytes {@code 'R' 'E'}, the schema version,
+ * a message type and the version of the {@link AttributeDictionary} used to encode it. Fields
+ * follow in declaration order of the DTO. Counts, lengths and ids are unsigned LEB128 varints;
+ * strings are UTF-8, prefixed with their length + 1 (0 encodes null). Attribute codes in
+ * conditions and contexts are written as dictionary ids, or {@link AttributeDictionary#INLINE}
+ * followed by the code; responses contain no attribute codes and carry the empty dictionary.
+ * Attribute types and operators are written as enum ordinals, so their
+ * order is part of schema version 1. Free-form values carry a one-byte type tag.
+ *
+ * <p>Decoding throws {@link IllegalArgumentException} for malformed input.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public final class BinaryValidationCodec {
+    public static final int SCHEMA_VERSION = 1;
+
+    static final byte RULE_VALIDATION_REQUEST = 1;
+    static final byte RULE_VALIDATION_RESPONSE = 2;
+    static final byte CATEGORY_VALIDATION_REQUEST = 3;
+    static final byte CATEGORY_VALIDATION_RESPONSE = 4;
+
+    private static final byte MAGIC_0 = 'R';
+    private static final byte MAGIC_1 = 'E';
+
+    /** Responses carry no attribute codes, so they are not tied to the client's dictionary. */
+    private static final AttributeDictionary NO_DICTIONARY = AttributeDictionary.of(List.of());
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_LIST = 6;
+    private static final byte TAG_MAP = 7;
+    private static final byte TAG_DECIMAL = 8;
+
+    private BinaryValidationCodec() {
+    }
+
+    // Encoding
+
+    public static byte[] encode(RuleValidationRequest request, AttributeDictionary dictionary) {
+        Writer out = new Writer(RULE_VALIDATION_REQUEST, dictionary);
+        out.string(request.ruleId());
+        out.string(request.ruleName());
+        List<RuleValidationRequest.ConditionDto> conditions = request.conditions() != null ? request.conditions() : List.of();
+        out.varint(conditions.size());
+        for (RuleValidationRequest.ConditionDto condition : conditions) {
+            out.attribute(condition.attributeCode(), dictionary);
+            out.varint(AttributeType.valueOf(condition.attributeType()).ordinal());
+            out.varint(ComparisonOperator.valueOf(condition.operator()).ordinal());
+            out.value(condition.targetValue());
+        }
+        out.context(request.context(), dictionary);
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(CategoryValidationRequest request, AttributeDictionary dictionary) {
+        Writer out = new Writer(CATEGORY_VALIDATION_REQUEST, dictionary);
+        out.string(request.ruleCategory());
+        out.context(request.contextMap(), dictionary);
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(RuleValidationResponse response) {
+        Writer out = new Writer(RULE_VALIDATION_RESPONSE, NO_DICTIONARY);
+        out.bool(response.passed());
+        out.string(response.message());
+        out.value(response.details());
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(CategoryValidationResponse response) {
+        Writer out = new Writer(CATEGORY_VALIDATION_RESPONSE, NO_DICTIONARY);
+        out.bool(response.passed());
+        out.string(response.message());
+        out.string(response.ruleCategory());
+        out.varint(response.totalRuleSets());
+        out.varint(response.passedRuleSets());
+        out.varint(response.failedRuleSets());
+        List<CategoryValidationResponse.RuleSetValidationResult> ruleSets =
+                response.ruleSetResults() != null ? response.ruleSetResults() : List.of();
+        out.varint(ruleSets.size());
+        for (CategoryValidationResponse.RuleSetValidationResult ruleSet : ruleSets) {
+            out.string(ruleSet.ruleSetId());
+            out.string(ruleSet.ruleSetName());
+            out.bool(ruleSet.passed());
+            out.string(ruleSet.message());
+            List<CategoryValidationResponse.RuleValidationResult> rules =
+                    ruleSet.ruleResults() != null ? ruleSet.ruleResults() : List.of();
+            out.varint(rules.size());
+            for (CategoryValidationResponse.RuleValidationResult rule : rules) {
+                out.string(rule.ruleId());
+                out.string(rule.ruleName());
+                out.bool(rule.passed());
+                out.string(rule.message());
+            }
+        }
+        out.value(response.details());
+        return out.toByteArray();
+    }
+
+    // Decoding
+
+    /**
+     * Reads the dictionary version from a message header without decoding the body.
+     */
+    public static int dictionaryVersion(byte[] message) {
+        return new Reader(message).header();
+    }
+
+    public static RuleValidationRequest decodeRuleValidationRequest(byte[] message, AttributeDictionary dictionary) {
+        Reader in = Reader.open(message, RULE_VALIDATION_REQUEST, dictionary);
+        String ruleId = in.string();
+        String ruleName = in.string();
+        int count = in.count();
+        List<RuleValidationRequest.ConditionDto> conditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            conditions.add(new RuleValidationRequest.ConditionDto(
+                    in.attribute(dictionary),
+                    in.enumName(AttributeType.values().length, ordinal -> AttributeType.values()[ordinal].name()),
+                    in.enumName(ComparisonOperator.values().length, ordinal -> ComparisonOperator.values()[ordinal].name()),
+                    in.value()
+            ));
+        }
+        Map<String, Object> context = in.context(dictionary);
+        in.end();
+        return new RuleValidationRequest(ruleId, ruleName, conditions, context);
+    }
+
+    public static CategoryValidationRequest decodeCategoryValidationRequest(byte[] message, AttributeDictionary dictionary) {
+        Reader in = Reader.open(message, CATEGORY_VALIDATION_REQUEST, dictionary);
+        CategoryValidationRequest request = new CategoryValidationRequest(in.string(), in.context(dictionary));
+        in.end();
+        return request;
+    }
+
+    public static RuleValidationResponse decodeRuleValidationResponse(byte[] message) {
+        Reader in = Reader.open(message, RULE_VALIDATION_RESPONSE, NO_DICTIONARY);
+        RuleValidationResponse response = new RuleValidationResponse(in.bool(), in.string(), in.map());
+        in.end();
+        return response;
+    }
+
+    public static CategoryValidationResponse decodeCategoryValidationResponse(byte[] message) {
+        Reader in = Reader.open(message, CATEGORY_VALIDATION_RESPONSE, NO_DICTIONARY);
+        boolean passed = in.bool();
+        String text = in.string();
+        String ruleCategory = in.string();
+        int total = in.count();
+        int passedCount = in.count();
+        int failedCount = in.count();
+        int ruleSetCount = in.count();
+        List<CategoryValidationResponse.RuleSetValidationResult> ruleSets = new ArrayList<>(ruleSetCount);
+        for (int i = 0; i < ruleSetCount; i++) {
+            String ruleSetId = in.string();
+            String ruleSetName = in.string();
+            boolean ruleSetPassed = in.bool();
+            String ruleSetMessage = in.string();
+            int ruleCount = in.count();
+            List<CategoryValidationResponse.RuleValidationResult> rules = new ArrayList<>(ruleCount);
+            for (int j = 0; j < ruleCount; j++) {
+                rules.add(new CategoryValidationResponse.RuleValidationResult(in.string(), in.string(), in.bool(), in.string()));
+            }
+            ruleSets.add(new CategoryValidationResponse.RuleSetValidationResult(
+                    ruleSetId, ruleSetName, ruleSetPassed, ruleSetMessage, rules));
+        }
+        Map<String, Object> details = in.map();
+        in.end();
+        return new CategoryValidationResponse(passed, text, ruleCategory, total, passedCount, failedCount, ruleSets, details);
+    }
+
+    /**
+     * Appends primitives to a growing buffer, starting with the message header.
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+
+        Writer(byte messageType, AttributeDictionary dictionary) {
+            buffer.write(MAGIC_0);
+            buffer.write(MAGIC_1);
+            buffer.write(SCHEMA_VERSION);
+            buffer.write(messageType);
+            int version = dictionary.version();
+            buffer.write(version >>> 24);
+            buffer.write(version >>> 16);
+            buffer.write(version >>> 8);
+            buffer.write(version);
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        void bool(boolean value) {
+            buffer.write(value ? 1 : 0);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            buffer.writeBytes(bytes);
+        }
+
+        void attribute(String code, AttributeDictionary dictionary) {
+            int id = dictionary.idOf(code);
+            varint(id);
+            if (id == AttributeDictionary.INLINE) {
+                string(code);
+            }
+        }
+
+        void context(Map<String, Object> context, AttributeDictionary dictionary) {
+            Map<String, Object> entries = context != null ? context : Map.of();
+            varint(entries.size());
+            entries.forEach((code, value) -> {
+                attribute(code, dictionary);
+                value(value);
+            });
+        }
+
+        void value(Object value) {
+            if (value == null) {
+                buffer.write(TAG_NULL);
+            } else if (value instanceof Boolean b) {
+                buffer.write(b ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                buffer.write(TAG_INTEGER);
+                long n = ((Number) value).longValue();
+                varint((n << 1) ^ (n >> 63));
+            } else if (value instanceof Double || value instanceof Float) {
+                buffer.write(TAG_DOUBLE);
+                long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    buffer.write((int) (bits >>> shift));
+                }
+            } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+                buffer.write(TAG_DECIMAL);
+                string(value instanceof BigDecimal d ? d.toString() : value.toString());
+            } else if (value instanceof Collection<?> list) {
+                buffer.write(TAG_LIST);
+                varint(list.size());
+                list.forEach(this::value);
+            } else if (value instanceof Map<?, ?> map) {
+                buffer.write(TAG_MAP);
+                varint(map.size());
+                map.forEach((key, entry) -> {
+                    string(String.valueOf(key));
+                    value(entry);
+                });
+            } else {
+                buffer.write(TAG_STRING);
+                string(value.toString());
+            }
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * Reads primitives from a message, failing with IllegalArgumentException on malformed input.
+     */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        static Reader open(byte[] message, byte messageType, AttributeDictionary dictionary) {
+            Reader reader = new Reader(message);
+            int version = reader.header();
+            if (message[3] != messageType) {
+                throw new IllegalArgumentException("Unexpected message type: " + message[3]);
+            }
+            if (version != dictionary.version()) {
+                throw new IllegalArgumentException("Attribute dictionary version mismatch: " + version);
+            }
+            return reader;
+        }
+
+        /**
+         * Validates the header and returns the dictionary version.
+         */
+        int header() {
+            if (bytes.length < 8 || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+                throw new IllegalArgumentException("Not a rule engine binary message");
+            }
+            if (bytes[2] != SCHEMA_VERSION) {
+                throw new IllegalArgumentException("Unsupported schema version: " + bytes[2]);
+            }
+            position = 8;
+            return ((bytes[4] & 0xFF) << 24) | ((bytes[5] & 0xFF) << 16) | ((bytes[6] & 0xFF) << 8) | (bytes[7] & 0xFF);
+        }
+
+        int next() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Truncated message");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        /**
+         * Reads a count or length, bounded by the remaining bytes so corrupt input cannot allocate much.
+         */
+        int count() {
+            long value = varint();
+            if (value < 0 || value > bytes.length - position + 1L) {
+                throw new IllegalArgumentException("Invalid length: " + value);
+            }
+            return (int) value;
+        }
+
+        boolean bool() {
+            return next() != 0;
+        }
+
+        String string() {
+            int length = count();
+            if (length == 0) {
+                return null;
+            }
+            int size = length - 1;
+            if (size > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated message");
+            }
+            String value = new String(bytes, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+
+        String enumName(int size, IntFunction<String> names) {
+            long ordinal = varint();
+            if (ordinal < 0 || ordinal >= size) {
+                throw new IllegalArgumentException("Invalid enum ordinal: " + ordinal);
+            }
+            return names.apply((int) ordinal);
+        }
+
+        String attribute(AttributeDictionary dictionary) {
+            long id = varint();
+            if (id == AttributeDictionary.INLINE) {
+                return string();
+            }
+            if (id > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Unknown attribute id: " + id);
+            }
+            return dictionary.codeOf((int) id);
+        }
+
+        Map<String, Object> context(AttributeDictionary dictionary) {
+            int size = count();
+            Map<String, Object> context = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                context.put(attribute(dictionary), value());
+            }
+            return context;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map() {
+            Object value = value();
+            if (value != null && !(value instanceof Map)) {
+                throw new IllegalArgumentException("Expected a map");
+            }
+            return (Map<String, Object>) value;
+        }
+
+        Object value() {
+            int tag = next();
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_FALSE:
+                    return Boolean.FALSE;
+                case TAG_TRUE:
+                    return Boolean.TRUE;
+                case TAG_INTEGER: {
+                    long zigzag = varint();
+                    long n = (zigzag >>> 1) ^ -(zigzag & 1);
+                    // Same types Jackson produces for JSON integers
+                    if (n == (int) n) {
+                        return (int) n;
+                    }
+                    return n;
+                }
+                case TAG_DOUBLE: {
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | next();
+                    }
+                    return Double.longBitsToDouble(bits);
+                }
+                case TAG_STRING:
+                    return string();
+                case TAG_DECIMAL: {
+                    String text = string();
+                    try {
+                        return new BigDecimal(text);
+                    } catch (NumberFormatException | NullPointerException e) {
+                        throw new IllegalArgumentException("Invalid decimal: " + text);
+                    }
+                }
+                case TAG_LIST: {
+                    int size = count();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(value());
+                    }
+                    return list;
+                }
+                case TAG_MAP: {
+                    int size = count();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(string(), value());
+                    }
+                    return map;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown value tag: " + tag);
+            }
+        }
+
+        void end() {
+            if (position != bytes.length) {
+                throw new IllegalArgumentException("Trailing bytes after message");
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ruleengine.api.binary;
+
+import com.ruleengine.api.dto.CategoryValidationRequest;
+import com.ruleengine.api.dto.CategoryValidationResponse;
+import com.ruleengine.api.dto.RuleValidationRequest;
+import com.ruleengine.api.dto.RuleValidationResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads and writes the validation DTOs in the {@link BinaryValidationCodec} format when a client
+ * sends or accepts {@link #MEDIA_TYPE}; JSON stays the default for everyone else.
+ * A request encoded with an unknown attribute dictionary version is rejected with 400; the client
+ * should fetch {@code GET /api/attributes/dictionary} and retry.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public class BinaryValidationMessageConverter extends AbstractHttpMessageConverter<Object> {
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-rule-engine-validation");
+    public static final String MEDIA_TYPE_VALUE = "application/x-rule-engine-validation";
+
+    private static final Set<Class<?>> SUPPORTED = Set.of(
+            RuleValidationRequest.class,
+            RuleValidationResponse.class,
+            CategoryValidationRequest.class,
+            CategoryValidationResponse.class
+    );
+
+    private final AttributeDictionaryProvider dictionaryProvider;
+
+    public BinaryValidationMessageConverter(AttributeDictionaryProvider dictionaryProvider) {
+        super(MEDIA_TYPE);
+        if (dictionaryProvider == null) {
+            throw new IllegalArgumentException("Dictionary provider cannot be null");
+        }
+        this.dictionaryProvider = dictionaryProvider;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SUPPORTED.contains(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] message = inputMessage.getBody().readAllBytes();
+        try {
+            if (clazz == RuleValidationResponse.class) {
+                return BinaryValidationCodec.decodeRuleValidationResponse(message);
+            }
+            if (clazz == CategoryValidationResponse.class) {
+                return BinaryValidationCodec.decodeCategoryValidationResponse(message);
+            }
+            int version = BinaryValidationCodec.dictionaryVersion(message);
+            AttributeDictionary dictionary = dictionaryProvider.forVersion(version)
+                    .orElseThrow(() -> new HttpMessageNotReadableException(
+                            "Unknown attribute dictionary version " + version
+                                    + "; fetch /api/attributes/dictionary and re-encode", inputMessage));
+            if (clazz == RuleValidationRequest.class) {
+                return BinaryValidationCodec.decodeRuleValidationRequest(message, dictionary);
+            }
+            return BinaryValidationCodec.decodeCategoryValidationRequest(message, dictionary);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid binary validation message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] message;
+        try {
+            message = switch (value) {
+                case RuleValidationResponse response -> BinaryValidationCodec.encode(response);
+                case CategoryValidationResponse response -> BinaryValidationCodec.encode(response);
+                case RuleValidationRequest request -> BinaryValidationCodec.encode(request, dictionaryProvider.current());
+                case CategoryValidationRequest request -> BinaryValidationCodec.encode(request, dictionaryProvider.current());
+                default -> throw new HttpMessageNotWritableException("Unsupported type: " + value.getClass().getName());
+            };
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException("Cannot encode binary validation message: " + e.getMessage(), e);
+        }
+        outputMessage.getHeaders().setContentLength(message.length);
+        outputMessage.getBody().write(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ruleengine.api.config;
+
+import com.ruleengine.api.binary.AttributeDictionaryProvider;
+import com.ruleengine.api.binary.BinaryValidationMessageConverter;
+import com.ruleengine.application.service.AttributeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Spring configuration for the binary validation protocol. The converter is appended after the
+ * default converters, so it is only chosen when a client asks for its media type explicitly and
+ * requests with {@code Accept: *}{@code /*} keep getting JSON.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+@Configuration
+public class BinaryProtocolConfiguration implements WebMvcConfigurer {
+    private final AttributeService attributeService;
+    private final long dictionaryMinRefreshIntervalMs;
+
+    public BinaryProtocolConfiguration(
+            AttributeService attributeService,
+            @Value("${rule-engine.binary.dictionary-min-refresh-interval-ms:5000}") long dictionaryMinRefreshIntervalMs) {
+        this.attributeService = attributeService;
+        this.dictionaryMinRefreshIntervalMs = dictionaryMinRefreshIntervalMs;
+    }
+
+    @Bean
+    public AttributeDictionaryProvider attributeDictionaryProvider() {
+        return new AttributeDictionaryProvider(attributeService, Duration.ofMillis(dictionaryMinRefreshIntervalMs));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new BinaryValidationMessageConverter(attributeDictionaryProvider()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ruleengine.api.controller;
+
+import com.ruleengine.api.dto.CategoryValidationRequest;
+import com.ruleengine.api.dto.CategoryValidationResponse;
+import com.ruleengine.api.dto.RuleValidationRequest;
+import com.ruleengine.api.dto.RuleValidationResponse;
+import com.ruleengine.application.service.AsyncValidationService;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.exception.RuleEvaluationException;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Non-blocking variants of the validation endpoints. The request thread is released as soon as
+ * the evaluation is queued; rules come from the in-memory catalog, so no JDBC call is made on the
+ * request path. Responds 503 only when the service rejects the evaluation, i.e. while the catalog is
+ * not loaded or the evaluation pool is saturated; any other failure propagates as a server error.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+@RestController
+@RequestMapping("/api/async")
+public class AsyncValidationController {
+    private final AsyncValidationService asyncValidationService;
+
+    public AsyncValidationController(AsyncValidationService asyncValidationService) {
+        this.asyncValidationService = asyncValidationService;
+    }
+
+    @PostMapping("/rules/validate")
+    public CompletableFuture<ResponseEntity<RuleValidationResponse>> validateRule(
+            @RequestBody RuleValidationRequest request
+    ) {
+        List<Condition> conditions = ValidationMappings.toConditions(request);
+        Rule rule = ValidationMappings.toRule(request, conditions);
+        EvaluationContext context = EvaluationContext.from(request.context());
+
+        return asyncValidationService.validateRule(rule, context, conditions)
+                .thenApply(result -> ResponseEntity.ok(ValidationMappings.toResponse(result)))
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof RuleEvaluationException) {
+                        return ResponseEntity.badRequest()
+                                .body(new RuleValidationResponse(false, cause.getMessage(), null));
+                    }
+                    return unavailableOrRethrow(cause);
+                });
+    }
+
+    @PostMapping("/rule-sets/validate-by-category")
+    public CompletableFuture<ResponseEntity<CategoryValidationResponse>> validateByCategory(
+            @RequestBody CategoryValidationRequest request
+    ) {
+        if (request.ruleCategory() == null || request.ruleCategory().isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        EvaluationContext context = EvaluationContext.from(request.contextMap() != null ? request.contextMap() : Map.of());
+
+        return asyncValidationService.validateCategory(request.ruleCategory(), context)
+                .thenApply(result -> ResponseEntity.ok(ValidationMappings.toResponse(
+                        result, request.ruleCategory(), result.ruleSetResults().size())))
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof IllegalArgumentException) {
+                        return ResponseEntity.badRequest().build();
+                    }
+                    return unavailableOrRethrow(cause);
+                });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static <T> ResponseEntity<T> unavailableOrRethrow(Throwable cause) {
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        throw new CompletionException(cause);
+    }
+}
@@ -1,5 +1,8 @@
 package com.ruleengine.api.controller;
 
+import com.ruleengine.api.binary.AttributeDictionary;
+import com.ruleengine.api.binary.AttributeDictionaryProvider;
+import com.ruleengine.api.dto.AttributeDictionaryDto;
 import com.ruleengine.api.dto.AttributeDto;
 import com.ruleengine.api.dto.CreateAttributeRequest;
 import com.ruleengine.api.dto.UpdateAttributeRequest;
@@ -24,9 +27,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/attributes")
 public class AttributeController {
     private final AttributeService attributeService;
+    private final AttributeDictionaryProvider dictionaryProvider;
 
-    public AttributeController(AttributeService attributeService) {
+    public AttributeController(AttributeService attributeService, AttributeDictionaryProvider dictionaryProvider) {
         this.attributeService = attributeService;
+        this.dictionaryProvider = dictionaryProvider;
     }
 
     @PostMapping
@@ -46,6 +51,15 @@ public class AttributeController {
         }
     }
 
+    /**
+     * Returns the attribute dictionary that binary validation clients encode attribute codes with.
+     */
+    @GetMapping("/dictionary")
+    public ResponseEntity<AttributeDictionaryDto> getDictionary() {
+        AttributeDictionary dictionary = dictionaryProvider.refresh();
+        return ResponseEntity.ok(new AttributeDictionaryDto(dictionary.version(), dictionary.codes()));
+    }
+
     @GetMapping("/{code}")
     public ResponseEntity<AttributeDto> getAttribute(@PathVariable String code) {
         return attributeService.getAttributeByCode(code)
@@ -0,0 +1,300 @@
+package com.ruleengine.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ruleengine.api.dto.CatalogEntryDto;
+import com.ruleengine.api.dto.CatalogImportResponse;
+import com.ruleengine.api.dto.CatalogRevisionDto;
+import com.ruleengine.api.dto.CreateAttributeRequest;
+import com.ruleengine.api.dto.CreateConditionRequest;
+import com.ruleengine.api.dto.CreateRuleRequest;
+import com.ruleengine.api.dto.CreateRuleSetRequest;
+import com.ruleengine.application.catalog.CatalogImportResult;
+import com.ruleengine.application.catalog.CatalogRecord;
+import com.ruleengine.application.catalog.CatalogSink;
+import com.ruleengine.application.service.CatalogRevisionService;
+import com.ruleengine.application.service.CatalogTransferService;
+import com.ruleengine.application.service.RuleCatalogTableService;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * REST controller for the catalog as a whole: its revision, which clients and peer nodes poll to
+ * reload rules only when it has moved, bulk import and export as NDJSON, one
+ * {@link CatalogEntryDto} per line, and the compiled snapshot file. All of them stream; none holds
+ * the whole file in memory.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+    private final CatalogRevisionService catalogRevisionService;
+    private final CatalogTransferService catalogTransferService;
+    private final RuleCatalogTableService ruleCatalogTableService;
+    private final ObjectMapper objectMapper;
+
+    public CatalogController(CatalogRevisionService catalogRevisionService,
+                             CatalogTransferService catalogTransferService,
+                             RuleCatalogTableService ruleCatalogTableService, ObjectMapper objectMapper) {
+        this.catalogRevisionService = catalogRevisionService;
+        this.catalogTransferService = catalogTransferService;
+        this.ruleCatalogTableService = ruleCatalogTableService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/revision")
+    public ResponseEntity<CatalogRevisionDto> getRevision() {
+        return ResponseEntity.ok(new CatalogRevisionDto(catalogRevisionService.currentRevision()));
+    }
+
+    /**
+     * Imports the lines in order; a line may reference entities that exist or appear earlier.
+     * Lines that fail are reported in the response and do not stop the import; blank lines are
+     * ignored.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<CatalogImportResponse> importCatalog(
+            InputStream body,
+            @RequestParam(defaultValue = "FAIL") CatalogTransferService.OnExisting onExisting
+    ) throws IOException {
+        AtomicInteger lineNumber = new AtomicInteger();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Stream<CatalogRecord> records = reader.lines()
+                    .map(line -> {
+                        int number = lineNumber.incrementAndGet();
+                        return line.isBlank() ? null : toRecord(number, line);
+                    })
+                    .filter(Objects::nonNull);
+            return ResponseEntity.ok(toResponse(catalogTransferService.importCatalog(records, onExisting)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Streams the catalog in a form {@link #importCatalog} accepts.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCatalog() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> {
+                    OutputStream buffered = new BufferedOutputStream(out);
+                    try {
+                        catalogTransferService.exportCatalog(new NdjsonSink(buffered));
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                    buffered.flush();
+                });
+    }
+
+    /**
+     * Compiles the catalog into a snapshot file, which nodes configured with
+     * {@code rule-engine.catalog.snapshot-file} serve validations from without database access.
+     * The revision it was written at is returned in the {@code X-Catalog-Revision} header.
+     */
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> getSnapshot() throws IOException {
+        Path file = Files.createTempFile("catalog", ".snapshot");
+        try {
+            long revision = ruleCatalogTableService.writeSnapshotFile(file);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(Files.size(file))
+                    .header("X-Catalog-Revision", Long.toString(revision))
+                    .body(out -> {
+                        try {
+                            Files.copy(file, out);
+                        } finally {
+                            Files.deleteIfExists(file);
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private CatalogRecord toRecord(int line, String json) {
+        try {
+            CatalogEntryDto entry = objectMapper.readValue(json, CatalogEntryDto.class);
+            long present = Stream.of(entry.attribute(), entry.condition(), entry.rule(), entry.ruleSet())
+                    .filter(Objects::nonNull)
+                    .count();
+            if (present != 1) {
+                return new CatalogRecord.Unreadable(line, "Expected exactly one of attribute, condition, rule or ruleSet");
+            }
+            if (entry.attribute() != null) {
+                CreateAttributeRequest request = entry.attribute();
+                return new CatalogRecord.AttributeRecord(line, new Attribute(
+                        request.code(),
+                        request.path() != null ? request.path() : request.code(),
+                        valueOf(AttributeType.class, request.type()),
+                        Optional.ofNullable(request.description()),
+                        Optional.ofNullable(request.constraints())
+                ));
+            }
+            if (entry.condition() != null) {
+                CreateConditionRequest request = entry.condition();
+                return new CatalogRecord.ConditionRecord(line, request.id(), request.name(),
+                        request.leftAttributeCode(), valueOf(ComparisonOperator.class, request.operator()),
+                        request.rightAttributeCode() != null && !request.rightAttributeCode().isBlank()
+                                ? request.rightAttributeCode() : null,
+                        request.targetValue());
+            }
+            if (entry.rule() != null) {
+                CreateRuleRequest request = entry.rule();
+                return new CatalogRecord.RuleRecord(line, new Rule(
+                        request.id(),
+                        request.name(),
+                        request.conditionIds() != null ? request.conditionIds() : List.of(),
+                        new RuleMetadata(
+                                request.priority() != null ? request.priority() : 0,
+                                request.active() != null ? request.active() : true,
+                                request.tags() != null ? request.tags() : Set.of()
+                        )
+                ));
+            }
+            CreateRuleSetRequest request = entry.ruleSet();
+            return new CatalogRecord.RuleSetRecord(line, request.id(), request.name(),
+                    request.ruleIds() != null ? request.ruleIds() : List.of(),
+                    request.stopOnFirstFailure() != null ? request.stopOnFirstFailure() : false,
+                    request.engineType() != null ? EngineType.valueOf(request.engineType()) : EngineType.SPEL,
+                    request.ruleCategory(),
+                    request.missingAttributePolicy() != null
+                            ? MissingAttributePolicy.valueOf(request.missingAttributePolicy())
+                            : MissingAttributePolicy.EVALUATE);
+        } catch (JsonProcessingException e) {
+            return new CatalogRecord.Unreadable(line, "Invalid JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new CatalogRecord.Unreadable(line, e.getMessage());
+        }
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> type, String name) {
+        if (name == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " is required");
+        }
+        return Enum.valueOf(type, name);
+    }
+
+    private static CatalogImportResponse toResponse(CatalogImportResult result) {
+        return new CatalogImportResponse(
+                result.attributes(),
+                result.conditions(),
+                result.rules(),
+                result.ruleSets(),
+                result.skipped(),
+                result.failed(),
+                result.errors().stream()
+                        .map(error -> new CatalogImportResponse.LineError(error.line(), error.message()))
+                        .toList()
+        );
+    }
+
+    /**
+     * Writes each exported entity as one line, in the shape of its create request.
+     */
+    private final class NdjsonSink implements CatalogSink {
+        private final OutputStream out;
+
+        private NdjsonSink(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void attribute(Attribute attribute) {
+            write(new CatalogEntryDto(new CreateAttributeRequest(
+                    attribute.code(),
+                    attribute.path(),
+                    attribute.type().name(),
+                    attribute.description().orElse(null),
+                    attribute.constraints().orElse(null)
+            ), null, null, null));
+        }
+
+        @Override
+        public void condition(Condition condition) {
+            write(new CatalogEntryDto(null, new CreateConditionRequest(
+                    condition.id(),
+                    condition.name(),
+                    condition.leftAttribute().code(),
+                    condition.operator().name(),
+                    condition.rightAttribute().map(Attribute::code).orElse(null),
+                    condition.targetValue().orElse(null)
+            ), null, null));
+        }
+
+        @Override
+        public void rule(Rule rule) {
+            write(new CatalogEntryDto(null, null, new CreateRuleRequest(
+                    rule.id(),
+                    rule.name(),
+                    rule.conditionIds(),
+                    rule.metadata().priority(),
+                    rule.metadata().active(),
+                    rule.metadata().tags()
+            ), null));
+        }
+
+        @Override
+        public void ruleSet(RuleSet ruleSet) {
+            write(new CatalogEntryDto(null, null, null, new CreateRuleSetRequest(
+                    ruleSet.id(),
+                    ruleSet.name(),
+                    ruleSet.rules().stream().map(Rule::id).toList(),
+                    ruleSet.stopOnFirstFailure(),
+                    ruleSet.engineType().name(),
+                    ruleSet.ruleCategory(),
+                    ruleSet.missingAttributePolicy().name()
+            )));
+        }
+
+        /**
+         * Not {@code writeValue(out, ...)}, which would close the response stream.
+         */
+        private void write(CatalogEntryDto entry) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(entry));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
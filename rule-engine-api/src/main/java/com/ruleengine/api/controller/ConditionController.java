@@ -145,7 +145,8 @@ public class ConditionController {
                 condition.leftAttribute().code(),
                 condition.operator().name(),
                 condition.rightAttribute().map(attr -> attr.code()).orElse(null),
-                condition.targetValue().orElse(null)
+                condition.targetValue().orElse(null),
+                condition.revision()
         );
     }
 }
@@ -0,0 +1,53 @@
+package com.ruleengine.api.controller;
+
+import com.ruleengine.api.dto.EngineChoiceDto;
+import com.ruleengine.application.service.AdaptiveEngineSelector;
+import com.ruleengine.application.service.RuleEngineService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for inspecting expression engine selection.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+@RestController
+@RequestMapping("/api/engines")
+public class EngineController {
+    private final RuleEngineService ruleEngineService;
+
+    public EngineController(RuleEngineService ruleEngineService) {
+        this.ruleEngineService = ruleEngineService;
+    }
+
+    @GetMapping("/auto-selections")
+    public ResponseEntity<List<EngineChoiceDto>> getAutoSelections() {
+        List<EngineChoiceDto> choices = ruleEngineService.engineChoices().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(choices);
+    }
+
+    private EngineChoiceDto toDto(AdaptiveEngineSelector.EngineChoice choice) {
+        Map<String, Double> averageNanos = new LinkedHashMap<>();
+        choice.averageNanos().forEach((engineType, nanos) -> averageNanos.put(engineType.name(), nanos));
+        return new EngineChoiceDto(
+                choice.ruleId(),
+                choice.pinned() != null ? choice.pinned().name() : null,
+                choice.samples(),
+                averageNanos,
+                choice.rejected().stream()
+                        .map(Enum::name)
+                        .sorted()
+                        .collect(Collectors.toList())
+        );
+    }
+}
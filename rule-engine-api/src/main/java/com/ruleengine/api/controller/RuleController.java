@@ -3,11 +3,8 @@ package com.ruleengine.api.controller;
 import com.ruleengine.api.dto.*;
 import com.ruleengine.application.service.RuleEngineService;
 import com.ruleengine.application.service.RuleService;
-import com.ruleengine.domain.attribute.Attribute;
-import com.ruleengine.domain.attribute.AttributeType;
 import com.ruleengine.domain.context.EvaluationContext;
 import com.ruleengine.domain.exception.RuleEvaluationException;
-import com.ruleengine.domain.operator.ComparisonOperator;
 import com.ruleengine.domain.rule.Condition;
 import com.ruleengine.domain.rule.Rule;
 import com.ruleengine.domain.rule.RuleMetadata;
@@ -45,43 +42,15 @@ public class RuleController {
     ) {
         try {
             // For validation endpoint, we support inline conditions for ad-hoc validation
-            // Convert inline conditions to Condition objects
-            List<Condition> conditions = request.conditions().stream()
-                .map(cond -> {
-                    Attribute attribute = new Attribute(
-                        cond.attributeCode(),
-                        AttributeType.valueOf(cond.attributeType()),
-                        null
-                    );
-                    return Condition.attributeVsValue(
-                        "temp-" + java.util.UUID.randomUUID().toString(),
-                        "Temporary condition",
-                        attribute,
-                        ComparisonOperator.valueOf(cond.operator()),
-                        cond.targetValue()
-                    );
-                })
-                .collect(Collectors.toList());
-            
-            // Create a temporary rule with condition IDs (not used for validation)
-            Rule rule = new Rule(
-                request.ruleId(),
-                request.ruleName(),
-                conditions.stream().map(Condition::id).collect(Collectors.toList()),
-                RuleMetadata.defaults()
-            );
-            
+            List<Condition> conditions = ValidationMappings.toConditions(request);
+            Rule rule = ValidationMappings.toRule(request, conditions);
             EvaluationContext context = EvaluationContext.from(request.context());
 
             // Delegate to application service with conditions
             RuleValidationResult result = ruleEngineService.validateRule(rule, context, conditions);
 
             // Map domain result to DTO
-            RuleValidationResponse response = new RuleValidationResponse(
-                result.passed(),
-                result.message().orElse(null),
-                result.details().orElse(null)
-            );
+            RuleValidationResponse response = ValidationMappings.toResponse(result);
 
             return ResponseEntity.ok(response);
         } catch (RuleEvaluationException e) {
@@ -203,7 +172,8 @@ public class RuleController {
                         rule.metadata().priority(),
                         rule.metadata().active(),
                         rule.metadata().tags()
-                )
+                ),
+                rule.revision()
         );
     }
 }
@@ -7,6 +7,7 @@ import com.ruleengine.application.service.RuleService;
 import com.ruleengine.domain.context.EvaluationContext;
 import com.ruleengine.domain.exception.RuleEvaluationException;
 import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
 import com.ruleengine.domain.rule.Rule;
 import com.ruleengine.domain.rule.RuleSet;
 import org.springframework.http.HttpStatus;
@@ -89,7 +90,8 @@ public class RuleSetController {
                     loadRules(request.ruleIds()),
                     request.stopOnFirstFailure() != null ? request.stopOnFirstFailure() : existing.stopOnFirstFailure(),
                     request.engineType() != null ? EngineType.valueOf(request.engineType()) : existing.engineType(),
-                    request.ruleCategory() != null && !request.ruleCategory().isBlank() ? request.ruleCategory() : existing.ruleCategory()
+                    request.ruleCategory() != null && !request.ruleCategory().isBlank() ? request.ruleCategory() : existing.ruleCategory(),
+                    request.missingAttributePolicy() != null ? MissingAttributePolicy.valueOf(request.missingAttributePolicy()) : existing.missingAttributePolicy()
             );
             RuleSet saved = ruleSetService.updateRuleSet(updated);
             return ResponseEntity.ok(toDto(saved));
@@ -108,6 +110,32 @@ public class RuleSetController {
         }
     }
 
+    @GetMapping("/{id}/plan")
+    public ResponseEntity<ExecutionPlanResponse> getExecutionPlan(@PathVariable String id) {
+        return ruleSetService.getRuleSetById(id)
+                .map(rs -> ResponseEntity.ok(new ExecutionPlanResponse(
+                        rs.id(),
+                        rs.name(),
+                        ruleEngineService.describePlan(rs).stream()
+                                .map(plan -> new ExecutionPlanResponse.RulePlan(
+                                        plan.ruleId(),
+                                        plan.ruleName(),
+                                        plan.reordered(),
+                                        plan.conditions().stream()
+                                                .map(c -> new ExecutionPlanResponse.ConditionPlan(
+                                                        c.conditionId(),
+                                                        c.declaredPosition(),
+                                                        c.samples(),
+                                                        c.failureRate(),
+                                                        c.averageNanos()
+                                                ))
+                                                .collect(Collectors.toList())
+                                ))
+                                .collect(Collectors.toList())
+                )))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping("/validate-by-category")
     public ResponseEntity<CategoryValidationResponse> validateByCategory(
             @RequestBody CategoryValidationRequest request
@@ -127,31 +155,7 @@ public class RuleSetController {
             RuleEngineService.CategoryValidationResult result = ruleEngineService.validateRuleSetsByCategory(ruleSets, context);
 
             // Map to response DTO
-            CategoryValidationResponse response = new CategoryValidationResponse(
-                    result.passed(),
-                    result.message(),
-                    request.ruleCategory(),
-                    ruleSets.size(),
-                    (int) result.ruleSetResults().stream().filter(RuleEngineService.RuleSetValidationResult::passed).count(),
-                    (int) result.ruleSetResults().stream().filter(rs -> !rs.passed()).count(),
-                    result.ruleSetResults().stream()
-                            .map(rs -> new CategoryValidationResponse.RuleSetValidationResult(
-                                    rs.ruleSetId(),
-                                    rs.ruleSetName(),
-                                    rs.passed(),
-                                    rs.message(),
-                                    rs.ruleResults().stream()
-                                            .map(r -> new CategoryValidationResponse.RuleValidationResult(
-                                                    r.ruleId(),
-                                                    r.ruleName(),
-                                                    r.passed(),
-                                                    r.message()
-                                            ))
-                                            .collect(Collectors.toList())
-                            ))
-                            .collect(Collectors.toList()),
-                    result.details()
-            );
+            CategoryValidationResponse response = ValidationMappings.toResponse(result, request.ruleCategory(), ruleSets.size());
 
             return ResponseEntity.ok(response);
         } catch (RuleEvaluationException e) {
@@ -181,7 +185,8 @@ public class RuleSetController {
                 loadRules(request.ruleIds()),
                 request.stopOnFirstFailure() != null ? request.stopOnFirstFailure() : false,
                 request.engineType() != null ? EngineType.valueOf(request.engineType()) : EngineType.SPEL,
-                request.ruleCategory()
+                request.ruleCategory(),
+                request.missingAttributePolicy() != null ? MissingAttributePolicy.valueOf(request.missingAttributePolicy()) : MissingAttributePolicy.EVALUATE
         );
     }
 
@@ -201,7 +206,9 @@ public class RuleSetController {
                         .collect(Collectors.toList()),
                 ruleSet.stopOnFirstFailure(),
                 ruleSet.engineType().name(),
-                ruleSet.ruleCategory()
+                ruleSet.ruleCategory(),
+                ruleSet.missingAttributePolicy().name(),
+                ruleSet.revision()
         );
     }
 }
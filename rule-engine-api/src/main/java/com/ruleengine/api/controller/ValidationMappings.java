@@ -0,0 +1,103 @@
+package com.ruleengine.api.controller;
+
+import com.ruleengine.api.dto.CategoryValidationResponse;
+import com.ruleengine.api.dto.RuleValidationRequest;
+import com.ruleengine.api.dto.RuleValidationResponse;
+import com.ruleengine.application.service.RuleEngineService;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleValidationResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapping between validation DTOs and domain objects, shared by the blocking and asynchronous
+ * validation endpoints.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+final class ValidationMappings {
+
+    private ValidationMappings() {
+    }
+
+    /**
+     * Converts the inline conditions of an ad-hoc validation request to Condition objects.
+     */
+    static List<Condition> toConditions(RuleValidationRequest request) {
+        return request.conditions().stream()
+            .map(cond -> {
+                Attribute attribute = new Attribute(
+                    cond.attributeCode(),
+                    AttributeType.valueOf(cond.attributeType()),
+                    null
+                );
+                return Condition.attributeVsValue(
+                    "temp-" + java.util.UUID.randomUUID().toString(),
+                    "Temporary condition",
+                    attribute,
+                    ComparisonOperator.valueOf(cond.operator()),
+                    cond.targetValue()
+                );
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a temporary rule with the condition IDs (not used for validation).
+     */
+    static Rule toRule(RuleValidationRequest request, List<Condition> conditions) {
+        return new Rule(
+            request.ruleId(),
+            request.ruleName(),
+            conditions.stream().map(Condition::id).collect(Collectors.toList()),
+            RuleMetadata.defaults()
+        );
+    }
+
+    static RuleValidationResponse toResponse(RuleValidationResult result) {
+        return new RuleValidationResponse(
+            result.passed(),
+            result.message().orElse(null),
+            result.details().orElse(null)
+        );
+    }
+
+    static CategoryValidationResponse toResponse(
+            RuleEngineService.CategoryValidationResult result,
+            String ruleCategory,
+            int totalRuleSets
+    ) {
+        return new CategoryValidationResponse(
+                result.passed(),
+                result.message(),
+                ruleCategory,
+                totalRuleSets,
+                (int) result.ruleSetResults().stream().filter(RuleEngineService.RuleSetValidationResult::passed).count(),
+                (int) result.ruleSetResults().stream().filter(rs -> !rs.passed()).count(),
+                result.ruleSetResults().stream()
+                        .map(rs -> new CategoryValidationResponse.RuleSetValidationResult(
+                                rs.ruleSetId(),
+                                rs.ruleSetName(),
+                                rs.passed(),
+                                rs.message(),
+                                rs.ruleResults().stream()
+                                        .map(r -> new CategoryValidationResponse.RuleValidationResult(
+                                                r.ruleId(),
+                                                r.ruleName(),
+                                                r.passed(),
+                                                r.message()
+                                        ))
+                                        .collect(Collectors.toList())
+                        ))
+                        .collect(Collectors.toList()),
+                result.details()
+        );
+    }
+}
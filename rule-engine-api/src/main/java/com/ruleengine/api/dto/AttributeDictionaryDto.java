@@ -0,0 +1,16 @@
+package com.ruleengine.api.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the attribute dictionary used by the binary validation protocol.
+ * The id of a code is its index in {@code codes} plus one.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public record AttributeDictionaryDto(
+        int version,
+        List<String> codes
+) {
+}
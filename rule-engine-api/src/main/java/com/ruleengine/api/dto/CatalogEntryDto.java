@@ -0,0 +1,19 @@
+package com.ruleengine.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a catalog import or export (NDJSON): exactly one of the fields is set, in the same
+ * shape as the request that creates that entity.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CatalogEntryDto(
+        CreateAttributeRequest attribute,
+        CreateConditionRequest condition,
+        CreateRuleRequest rule,
+        CreateRuleSetRequest ruleSet
+) {
+}
@@ -0,0 +1,29 @@
+package com.ruleengine.api.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for a catalog import: how many entities of each kind were written, how many lines
+ * were skipped or failed, and why (the first errors only).
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public record CatalogImportResponse(
+        int attributes,
+        int conditions,
+        int rules,
+        int ruleSets,
+        int skipped,
+        int failed,
+        List<LineError> errors
+) {
+    /**
+     * Why a line, or a chunk of lines starting at it, was not imported.
+     */
+    public record LineError(
+            int line,
+            String message
+    ) {
+    }
+}
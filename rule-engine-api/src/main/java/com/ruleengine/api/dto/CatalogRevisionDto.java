@@ -0,0 +1,13 @@
+package com.ruleengine.api.dto;
+
+/**
+ * DTO for the global catalog revision, advanced by every write to rules, rule sets,
+ * conditions and attributes.
+ *
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public record CatalogRevisionDto(
+        long revision
+) {
+}
@@ -2,6 +2,7 @@ package com.ruleengine.api.dto;
 
 /**
  * DTO for Condition representation in API layer.
+ * The revision is the catalog revision of the condition's last change, including changes to its attributes.
  *
  * Module: rule-engine-api
  * Layer: API
@@ -12,6 +13,7 @@ public record ConditionDto(
         String leftAttributeCode,
         String operator,
         String rightAttributeCode,
-        Object targetValue
+        Object targetValue,
+        long revision
 ) {
 }
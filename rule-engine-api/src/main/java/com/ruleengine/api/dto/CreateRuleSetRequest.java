@@ -14,7 +14,15 @@ public record CreateRuleSetRequest(
         List<String> ruleIds,
         Boolean stopOnFirstFailure,
         String engineType,
-        String ruleCategory
+        String ruleCategory,
+        String missingAttributePolicy
 ) {
+    /**
+     * Creates a request that leaves the missing-attribute policy at its default.
+     */
+    public CreateRuleSetRequest(String id, String name, List<String> ruleIds, Boolean stopOnFirstFailure,
+            String engineType, String ruleCategory) {
+        this(id, name, ruleIds, stopOnFirstFailure, engineType, ruleCategory, null);
+    }
 }
 
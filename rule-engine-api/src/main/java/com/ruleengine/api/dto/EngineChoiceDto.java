@@ -0,0 +1,19 @@
+package com.ruleengine.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the engine chosen for a rule evaluated with the AUTO engine type.
+ * 
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public record EngineChoiceDto(
+        String ruleId,
+        String pinnedEngine,
+        int samples,
+        Map<String, Double> averageNanos,
+        List<String> rejectedEngines
+) {
+}
@@ -0,0 +1,39 @@
+package com.ruleengine.api.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO describing the order in which a rule set's conditions are evaluated.
+ * Conditions are listed in evaluation order along with the statistics that placed them there.
+ * 
+ * Module: rule-engine-api
+ * Layer: API
+ */
+public record ExecutionPlanResponse(
+        String ruleSetId,
+        String ruleSetName,
+        List<RulePlan> rules
+) {
+    /**
+     * Evaluation order of a single rule's conditions.
+     */
+    public record RulePlan(
+            String ruleId,
+            String ruleName,
+            boolean reordered,
+            List<ConditionPlan> conditions
+    ) {
+    }
+
+    /**
+     * A condition in evaluation order.
+     */
+    public record ConditionPlan(
+            String conditionId,
+            int declaredPosition,
+            long samples,
+            double failureRate,
+            double averageNanos
+    ) {
+    }
+}
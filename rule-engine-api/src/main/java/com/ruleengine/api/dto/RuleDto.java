@@ -4,7 +4,7 @@ import java.util.List;
 
 /**
  * DTO for Rule representation in API layer.
- * References conditions by their IDs.
+ * References conditions by their IDs. The revision is the catalog revision of the rule's last change.
  *
  * Module: rule-engine-api
  * Layer: API
@@ -13,7 +13,8 @@ public record RuleDto(
         String id,
         String name,
         List<String> conditionIds,
-        RuleMetadataDto metadata
+        RuleMetadataDto metadata,
+        long revision
 ) {
 }
 
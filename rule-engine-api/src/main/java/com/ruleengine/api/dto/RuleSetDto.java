@@ -4,6 +4,7 @@ import java.util.List;
 
 /**
  * DTO for RuleSet representation in API layer.
+ * The revision is the catalog revision of the rule set's last change, including changes to its rules.
  *
  * Module: rule-engine-api
  * Layer: API
@@ -14,7 +15,9 @@ public record RuleSetDto(
         List<String> ruleIds,
         Boolean stopOnFirstFailure,
         String engineType,
-        String ruleCategory
+        String ruleCategory,
+        String missingAttributePolicy,
+        long revision
 ) {
 }
 
@@ -13,7 +13,15 @@ public record UpdateRuleSetRequest(
         List<String> ruleIds,
         Boolean stopOnFirstFailure,
         String engineType,
-        String ruleCategory
+        String ruleCategory,
+        String missingAttributePolicy
 ) {
+    /**
+     * Creates a request that keeps the rule set's current missing-attribute policy.
+     */
+    public UpdateRuleSetRequest(String name, List<String> ruleIds, Boolean stopOnFirstFailure,
+            String engineType, String ruleCategory) {
+        this(name, ruleIds, stopOnFirstFailure, engineType, ruleCategory, null);
+    }
 }
 
@@ -0,0 +1,95 @@
+package com.ruleengine.app.cache;
+
+import com.ruleengine.persistence.cache.CaffeineCacheStrategy;
+import com.ruleengine.persistence.cache.CircuitBreakingCacheStrategy;
+import com.ruleengine.persistence.cache.RedisCacheStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports per-region Caffeine statistics (e.g. {@code /actuator/metrics/ruleengine.cache.gets?tag=region:category&tag=result:hit})
+ * and Redis connection pool and circuit breaker gauges, e.g. under
+ * {@code /actuator/metrics/ruleengine.cache.redis.pool.borrow.wait.max}.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+public class CacheMetrics implements MeterBinder {
+    private final CaffeineCacheStrategy caffeineCacheStrategy;
+    private final RedisCacheStrategy redisCacheStrategy;
+    private final CircuitBreakingCacheStrategy redisCircuitBreaker;
+
+    public CacheMetrics(CaffeineCacheStrategy caffeineCacheStrategy, RedisCacheStrategy redisCacheStrategy,
+                        CircuitBreakingCacheStrategy redisCircuitBreaker) {
+        this.caffeineCacheStrategy = caffeineCacheStrategy;
+        this.redisCacheStrategy = redisCacheStrategy;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : caffeineCacheStrategy.regionNames()) {
+            bindRegion(registry, region);
+        }
+        Gauge.builder("ruleengine.cache.redis.pool.active", redisCacheStrategy, redis -> redis.poolStats().active())
+                .description("Redis connections in use")
+                .register(registry);
+        Gauge.builder("ruleengine.cache.redis.pool.idle", redisCacheStrategy, redis -> redis.poolStats().idle())
+                .description("Idle Redis connections")
+                .register(registry);
+        Gauge.builder("ruleengine.cache.redis.pool.waiters", redisCacheStrategy, redis -> redis.poolStats().waiters())
+                .description("Threads waiting for a Redis connection")
+                .register(registry);
+        TimeGauge.builder("ruleengine.cache.redis.pool.borrow.wait.mean", redisCacheStrategy, TimeUnit.MILLISECONDS,
+                        redis -> redis.poolStats().meanBorrowWait().toNanos() / 1_000_000.0)
+                .description("Mean time spent waiting for a Redis connection")
+                .register(registry);
+        TimeGauge.builder("ruleengine.cache.redis.pool.borrow.wait.max", redisCacheStrategy, TimeUnit.MILLISECONDS,
+                        redis -> redis.poolStats().maxBorrowWait().toNanos() / 1_000_000.0)
+                .description("Longest time spent waiting for a Redis connection")
+                .register(registry);
+        Gauge.builder("ruleengine.cache.redis.circuit.open", redisCircuitBreaker,
+                        breaker -> breaker.state() == CircuitBreakingCacheStrategy.State.CLOSED ? 0 : 1)
+                .description("1 while Redis calls are skipped or probed by the circuit breaker")
+                .register(registry);
+    }
+
+    private void bindRegion(MeterRegistry registry, String region) {
+        FunctionCounter.builder("ruleengine.cache.gets", caffeineCacheStrategy, cache -> cache.regionStats(region).hits())
+                .tags("region", region, "result", "hit")
+                .description("Cache lookups that found an entry")
+                .register(registry);
+        FunctionCounter.builder("ruleengine.cache.gets", caffeineCacheStrategy, cache -> cache.regionStats(region).misses())
+                .tags("region", region, "result", "miss")
+                .description("Cache lookups that found no entry")
+                .register(registry);
+        FunctionCounter.builder("ruleengine.cache.evictions", caffeineCacheStrategy, cache -> cache.regionStats(region).evictions())
+                .tag("region", region)
+                .description("Entries evicted for size or expiry")
+                .register(registry);
+        FunctionCounter.builder("ruleengine.cache.loads", caffeineCacheStrategy, cache -> cache.regionStats(region).loadFailures())
+                .tags("region", region, "result", "failure")
+                .description("Loads that failed or found nothing")
+                .register(registry);
+        FunctionTimer.builder("ruleengine.cache.load.duration", caffeineCacheStrategy,
+                        cache -> cache.regionStats(region).loadSuccesses() + cache.regionStats(region).loadFailures(),
+                        cache -> cache.regionStats(region).totalLoadTime().toNanos(), TimeUnit.NANOSECONDS)
+                .tag("region", region)
+                .description("Time spent loading entries on a miss")
+                .register(registry);
+        Gauge.builder("ruleengine.cache.size", caffeineCacheStrategy, cache -> cache.regionStats(region).size())
+                .tag("region", region)
+                .description("Approximate number of entries")
+                .register(registry);
+        Gauge.builder("ruleengine.cache.weight", caffeineCacheStrategy, cache -> cache.regionStats(region).weight())
+                .tag("region", region)
+                .description("Summed weight of the entries, bounded by the region's maximum weight")
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ruleengine.app.cache;
+
+import com.ruleengine.persistence.cache.CaffeineCacheStrategy;
+import com.ruleengine.persistence.cache.CircuitBreakingCacheStrategy;
+import com.ruleengine.persistence.cache.RedisCacheStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration for cache metrics.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class CacheMetricsConfiguration {
+
+    @Bean
+    public CacheMetrics cacheMetrics(
+            CaffeineCacheStrategy caffeineCacheStrategy,
+            RedisCacheStrategy redisCacheStrategy,
+            CircuitBreakingCacheStrategy redisCircuitBreaker
+    ) {
+        return new CacheMetrics(caffeineCacheStrategy, redisCacheStrategy, redisCircuitBreaker);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ruleengine.app.catalog;
+
+import com.ruleengine.application.catalog.RuleCatalog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring configuration for the in-memory catalog metrics.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class RuleCatalogMetricsConfiguration {
+
+    /**
+     * Exports {@code ruleengine.catalog.staleness}, the time since the served catalog was last synced
+     * (NaN before the first load), and {@code ruleengine.catalog.refresh.failures}. Staleness well above
+     * {@code rule-engine.catalog.refresh-interval-ms} means the background refresh keeps failing.
+     */
+    @Bean
+    public MeterBinder ruleCatalogMetrics(RuleCatalog ruleCatalog) {
+        return registry -> {
+            TimeGauge.builder("ruleengine.catalog.staleness", ruleCatalog, TimeUnit.MILLISECONDS,
+                            catalog -> catalog.syncedAt()
+                                    .map(at -> (double) Duration.between(at, Instant.now()).toMillis())
+                                    .orElse(Double.NaN))
+                    .description("Time since the in-memory catalog was last synced with the database or snapshot file")
+                    .register(registry);
+            FunctionCounter.builder("ruleengine.catalog.refresh.failures", ruleCatalog, RuleCatalog::refreshFailures)
+                    .description("Background catalog refreshes that failed")
+                    .register(registry);
+        };
+    }
+}
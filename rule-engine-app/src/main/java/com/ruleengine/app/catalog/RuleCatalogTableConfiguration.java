@@ -0,0 +1,37 @@
+package com.ruleengine.app.catalog;
+
+import com.ruleengine.application.service.RuleCatalogTableService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Spring configuration for the denormalized rule catalog table.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class RuleCatalogTableConfiguration {
+
+    /**
+     * Rebuilds the table before the warm-up and before traffic arrives when it is missing rows,
+     * e.g. on first start or after the codec schema changed. Category reads trust the table, so a
+     * failed rebuild fails the startup.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public ApplicationRunner ruleCatalogTableRebuild(
+            RuleCatalogTableService ruleCatalogTableService,
+            @Value("${rule-engine.catalog.table.rebuild-on-startup:true}") boolean rebuildOnStartup
+    ) {
+        return args -> {
+            if (rebuildOnStartup) {
+                ruleCatalogTableService.rebuildIfIncomplete();
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.ruleengine.app.datasource;
+
+import com.ruleengine.persistence.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Spring configuration for read replica routing. Replaces the auto-configured data source with the
+ * primary Hikari pool from {@code spring.datasource.*} behind a {@link ReadReplicaRoutingDataSource};
+ * when {@code rule-engine.datasource.replica.url} is set, the routing data source also gets a replica
+ * pool. The choice is made in the bean method rather than with {@code @ConditionalOnProperty}: Spring
+ * AOT evaluates conditions when the image is built, where the url is not set, so a conditional
+ * configuration would never be active in an AOT-processed deployment.
+ *
+ * <p>Both pools export {@code hikaricp.connections.*} tagged {@code pool:rule-engine-primary} and
+ * {@code pool:rule-engine-replica}. The replica pool is not a bean: it has no health contributor,
+ * since reads fall back to the primary when it fails, and it is closed with the routing data source.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("rule-engine-primary");
+        return dataSource;
+    }
+
+    /**
+     * Without a replica url every connection comes from the primary. Replica credentials default to
+     * the primary's. The short connection timeout bounds how long a read waits for an unavailable
+     * replica before falling back to the primary.
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${rule-engine.datasource.replica.url:}") String url,
+            @Value("${rule-engine.datasource.replica.username:}") String username,
+            @Value("${rule-engine.datasource.replica.password:}") String password,
+            @Value("${rule-engine.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${rule-engine.datasource.replica.connection-timeout-ms:250}") long connectionTimeoutMs,
+            @Value("${rule-engine.datasource.replica.retry-after-ms:5000}") long retryAfterMs
+    ) {
+        if (url.isBlank()) {
+            return new ReadReplicaRoutingDataSource(primaryDataSource);
+        }
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        replicaDataSource.setPoolName("rule-engine-replica");
+        replicaDataSource.setJdbcUrl(url);
+        replicaDataSource.setDriverClassName(properties.determineDriverClassName());
+        replicaDataSource.setUsername(username.isBlank() ? properties.determineUsername() : username);
+        replicaDataSource.setPassword(password.isBlank() ? properties.determinePassword() : password);
+        replicaDataSource.setMaximumPoolSize(maximumPoolSize);
+        replicaDataSource.setConnectionTimeout(connectionTimeoutMs);
+        replicaDataSource.setReadOnly(true);
+        meterRegistry.ifAvailable(registry ->
+                replicaDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, Duration.ofMillis(retryAfterMs));
+    }
+
+    /**
+     * The data source JPA, Flyway and the transaction manager use; with a replica, connections are
+     * taken from a pool at the first statement, once the transaction's read-only flag is known.
+     * Without one there is nothing to defer, and the lazy proxy is left out: it turns an unreachable
+     * database into a failure on the first metadata call, which stops Flyway's startup probe, and
+     * with it the CDS training run, that a failed {@code getConnection} does not.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        if (!readReplicaRoutingDataSource.hasReplica()) {
+            return readReplicaRoutingDataSource;
+        }
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    /**
+     * Exports {@code ruleengine.datasource.replica.fallbacks} and {@code ruleengine.datasource.replica.available}.
+     */
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return registry -> {
+            FunctionCounter.builder("ruleengine.datasource.replica.fallbacks", readReplicaRoutingDataSource,
+                            ReadReplicaRoutingDataSource::replicaFallbacks)
+                    .description("Read-only connections served by the primary because the replica failed")
+                    .register(registry);
+            Gauge.builder("ruleengine.datasource.replica.available", readReplicaRoutingDataSource,
+                            dataSource -> dataSource.isReplicaAvailable() ? 1 : 0)
+                    .description("Whether read-only transactions currently go to the replica")
+                    .register(registry);
+        };
+    }
+}
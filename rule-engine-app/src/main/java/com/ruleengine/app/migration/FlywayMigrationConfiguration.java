@@ -0,0 +1,33 @@
+package com.ruleengine.app.migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration for the Flyway migrations.
+ *
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class FlywayMigrationConfiguration {
+
+    /**
+     * Migrates unless {@code spring.flyway.enabled} is false at runtime. Spring AOT evaluates the
+     * auto-configuration's own condition on that property at build time, so with
+     * {@code -Dspring.aot.enabled=true} Flyway is always wired; this keeps the property effective for
+     * runs without a database, such as the AppCDS training run.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${spring.flyway.enabled:true}") boolean enabled
+    ) {
+        return flyway -> {
+            if (enabled) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.ruleengine.app.warmup;
+
+import com.ruleengine.application.service.ConditionService;
+import com.ruleengine.application.service.ExpressionEngineService;
+import com.ruleengine.application.service.ExpressionService;
+import com.ruleengine.application.service.RuleEngineService;
+import com.ruleengine.application.service.RuleService;
+import com.ruleengine.application.service.RuleSetService;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.exception.ExpressionEvaluationException;
+import com.ruleengine.domain.exception.RuleEvaluationException;
+import com.ruleengine.domain.expression.Expression;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup phase that loads every rule set, active rule and stored expression, compiles them on
+ * their configured engine and runs synthetic evaluations so parsers, expression caches and the
+ * JIT are warm before traffic arrives. It runs as an ApplicationRunner, i.e. before Spring Boot
+ * switches readiness to ACCEPTING_TRAFFIC, while {@link WarmupProgress} reports progress to the
+ * health endpoint.
+ * 
+ * Module: rule-engine-app
+ * Layer: App
+ */
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final RuleSetService ruleSetService;
+    private final RuleService ruleService;
+    private final ConditionService conditionService;
+    private final ExpressionService expressionService;
+    private final RuleEngineService ruleEngineService;
+    private final ExpressionEngineService expressionEngineService;
+    private final WarmupProgress progress;
+    private final boolean enabled;
+    private final int iterations;
+
+    public StartupWarmup(
+            RuleSetService ruleSetService,
+            RuleService ruleService,
+            ConditionService conditionService,
+            ExpressionService expressionService,
+            RuleEngineService ruleEngineService,
+            ExpressionEngineService expressionEngineService,
+            WarmupProgress progress,
+            boolean enabled,
+            int iterations
+    ) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Warm-up iterations must be positive");
+        }
+        this.ruleSetService = ruleSetService;
+        this.ruleService = ruleService;
+        this.conditionService = conditionService;
+        this.expressionService = expressionService;
+        this.ruleEngineService = ruleEngineService;
+        this.expressionEngineService = expressionEngineService;
+        this.progress = progress;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            progress.disable();
+            return;
+        }
+        try {
+            List<RuleSet> ruleSets = ruleSetService.getAllRuleSets();
+            List<Rule> rules = ruleService.getActiveRules();
+            List<Expression> expressions = expressionService.getAllExpressions();
+            progress.start(ruleSets.size() + rules.size() + expressions.size());
+
+            for (RuleSet ruleSet : ruleSets) {
+                progress.stepCompleted(warmRuleSet(ruleSet));
+            }
+            for (Rule rule : rules) {
+                progress.stepCompleted(warmRule(rule));
+            }
+            for (Expression expression : expressions) {
+                progress.stepCompleted(warmExpression(expression));
+            }
+
+            // Synthetic traffic must not steer the cost-based condition order
+            ruleEngineService.resetConditionStatistics();
+            progress.complete();
+        } catch (RuntimeException e) {
+            // Keep readiness DOWN: an instance that could not load its catalog should not take traffic
+            log.error("Startup warm-up failed", e);
+            progress.fail(e.toString());
+        }
+    }
+
+    private int warmRuleSet(RuleSet ruleSet) {
+        List<Condition> conditions = new ArrayList<>();
+        for (Rule rule : ruleSet.rules()) {
+            conditions.addAll(conditionService.getConditionsByIds(rule.conditionIds()));
+        }
+        SyntheticContexts contexts = SyntheticContexts.forConditions(conditions);
+        int evaluations = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                ruleEngineService.validateRuleSetUncached(ruleSet, contexts.variant(i));
+                evaluations++;
+            } catch (RuleEvaluationException e) {
+                // Engine not available for this rule set; nothing to warm
+                break;
+            }
+        }
+        return evaluations;
+    }
+
+    private int warmRule(Rule rule) {
+        List<Condition> conditions = conditionService.getConditionsByIds(rule.conditionIds());
+        if (conditions.isEmpty()) {
+            return 0;
+        }
+        SyntheticContexts contexts = SyntheticContexts.forConditions(conditions);
+        int evaluations = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                ruleEngineService.validateRule(rule, contexts.variant(i), conditions);
+                evaluations++;
+            } catch (RuleEvaluationException e) {
+                break;
+            }
+        }
+        return evaluations;
+    }
+
+    /**
+     * Stored expressions carry no attribute types, so they are only compiled:
+     * evaluating against an empty context parses and caches them even when evaluation fails.
+     */
+    private int warmExpression(Expression expression) {
+        try {
+            expressionEngineService.evaluateExpression(expression, EvaluationContext.empty());
+        } catch (ExpressionEvaluationException | RuntimeException e) {
+            // Expected for expressions that reference attributes
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ruleengine.app.warmup;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.rule.Condition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds synthetic evaluation contexts from conditions for warm-up traffic.
+ * Values are taken at and around each condition's target, so successive variants
+ * drive rules down both their passing and failing paths.
+ * 
+ * Module: rule-engine-app
+ * Layer: App
+ */
+final class SyntheticContexts {
+    private final Map<String, List<Object>> candidatesByAttribute;
+
+    private SyntheticContexts(Map<String, List<Object>> candidatesByAttribute) {
+        this.candidatesByAttribute = candidatesByAttribute;
+    }
+
+    /**
+     * Collects candidate values for every attribute referenced by the conditions.
+     */
+    static SyntheticContexts forConditions(List<Condition> conditions) {
+        Map<String, List<Object>> candidates = new LinkedHashMap<>();
+        for (Condition condition : conditions) {
+            List<Object> values = candidates.computeIfAbsent(condition.leftAttribute().code(), c -> new ArrayList<>());
+            if (condition.targetValue().isPresent()) {
+                values.addAll(around(condition.targetValue().get()));
+            } else {
+                addDefault(values, condition.leftAttribute());
+            }
+            condition.rightAttribute().ifPresent(right ->
+                    addDefault(candidates.computeIfAbsent(right.code(), c -> new ArrayList<>()), right));
+        }
+        candidates.values().removeIf(List::isEmpty);
+        return new SyntheticContexts(candidates);
+    }
+
+    /**
+     * Returns the n-th synthetic context.
+     */
+    EvaluationContext variant(int n) {
+        Map<String, Object> values = new HashMap<>();
+        int offset = 0;
+        for (Map.Entry<String, List<Object>> entry : candidatesByAttribute.entrySet()) {
+            List<Object> candidates = entry.getValue();
+            values.put(entry.getKey(), candidates.get((n + offset++) % candidates.size()));
+        }
+        return EvaluationContext.from(values);
+    }
+
+    private static List<Object> around(Object target) {
+        if (target instanceof Integer || target instanceof Long || target instanceof Short) {
+            long value = ((Number) target).longValue();
+            return List.of(narrow(value), narrow(value + 1), narrow(value - 1));
+        }
+        if (target instanceof Number number) {
+            double value = number.doubleValue();
+            return List.of(value, value + 1.0, value - 1.0);
+        }
+        if (target instanceof Boolean) {
+            return List.of(true, false);
+        }
+        return List.of(target, target + "_");
+    }
+
+    private static Object narrow(long value) {
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+    }
+
+    private static void addDefault(List<Object> values, Attribute attribute) {
+        Object value = defaultValue(attribute.type());
+        if (value != null && !values.contains(value)) {
+            values.add(value);
+        }
+    }
+
+    private static Object defaultValue(AttributeType type) {
+        return switch (type) {
+            case NUMBER -> 0;
+            case DECIMAL -> 0.0;
+            case STRING -> "";
+            case BOOLEAN -> false;
+            case DATE, DATETIME -> null;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.ruleengine.app.warmup;
+
+import com.ruleengine.application.service.ConditionService;
+import com.ruleengine.application.service.ExpressionEngineService;
+import com.ruleengine.application.service.ExpressionService;
+import com.ruleengine.application.service.RuleEngineService;
+import com.ruleengine.application.service.RuleService;
+import com.ruleengine.application.service.RuleSetService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration for the startup warm-up.
+ * 
+ * Module: rule-engine-app
+ * Layer: App
+ */
+@Configuration
+public class WarmupConfiguration {
+
+    @Bean
+    public WarmupProgress warmupProgress() {
+        return new WarmupProgress();
+    }
+
+    @Bean
+    public StartupWarmup startupWarmup(
+            RuleSetService ruleSetService,
+            RuleService ruleService,
+            ConditionService conditionService,
+            ExpressionService expressionService,
+            RuleEngineService ruleEngineService,
+            ExpressionEngineService expressionEngineService,
+            WarmupProgress warmupProgress,
+            @Value("${rule-engine.warmup.enabled:true}") boolean enabled,
+            @Value("${rule-engine.warmup.iterations:200}") int iterations
+    ) {
+        return new StartupWarmup(ruleSetService, ruleService, conditionService, expressionService,
+                ruleEngineService, expressionEngineService, warmupProgress, enabled, iterations);
+    }
+
+    @Bean
+    public WarmupHealthIndicator warmupHealthIndicator(WarmupProgress warmupProgress) {
+        return new WarmupHealthIndicator(warmupProgress);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ruleengine.app.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports warm-up progress on the health endpoint.
+ * The indicator is OUT_OF_SERVICE while the warm-up runs, UP once it completed and DOWN with
+ * the error if it failed, so it can be part of the readiness group without affecting liveness.
+ * 
+ * Module: rule-engine-app
+ * Layer: App
+ */
+public class WarmupHealthIndicator implements HealthIndicator {
+    private final WarmupProgress progress;
+
+    public WarmupHealthIndicator(WarmupProgress progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = switch (progress.phase()) {
+            case COMPLETED, DISABLED -> Health.up();
+            case FAILED -> Health.down();
+            case PENDING, RUNNING -> Health.outOfService();
+        };
+        return builder.withDetails(progress.details()).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ruleengine.app.warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe progress of the startup warm-up, read by the health indicator while
+ * the warm-up runs on the startup thread.
+ * 
+ * Module: rule-engine-app
+ * Layer: App
+ */
+public class WarmupProgress {
+    /**
+     * Phases of the warm-up.
+     */
+    public enum Phase {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        DISABLED
+    }
+
+    private final AtomicInteger totalSteps = new AtomicInteger();
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private volatile Phase phase = Phase.PENDING;
+    private volatile String error;
+    private volatile long startedAtMillis;
+    private volatile long finishedAtMillis;
+
+    void start(int steps) {
+        totalSteps.set(steps);
+        startedAtMillis = System.currentTimeMillis();
+        phase = Phase.RUNNING;
+    }
+
+    void stepCompleted(int stepEvaluations) {
+        completedSteps.incrementAndGet();
+        evaluations.addAndGet(stepEvaluations);
+    }
+
+    void complete() {
+        finishedAtMillis = System.currentTimeMillis();
+        phase = Phase.COMPLETED;
+    }
+
+    void fail(String message) {
+        finishedAtMillis = System.currentTimeMillis();
+        error = message;
+        phase = Phase.FAILED;
+    }
+
+    void disable() {
+        phase = Phase.DISABLED;
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    /**
+     * Returns true once the warm-up has stopped running, successfully or not.
+     */
+    public boolean isFinished() {
+        Phase current = phase;
+        return current == Phase.COMPLETED || current == Phase.FAILED || current == Phase.DISABLED;
+    }
+
+    /**
+     * Returns the progress as a map suitable for health details.
+     */
+    public Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int total = totalSteps.get();
+        int completed = completedSteps.get();
+        details.put("phase", phase.name());
+        details.put("completedSteps", completed);
+        details.put("totalSteps", total);
+        details.put("percent", total == 0 ? (isFinished() ? 100 : 0) : completed * 100 / total);
+        details.put("syntheticEvaluations", evaluations.get());
+        if (startedAtMillis > 0) {
+            long end = finishedAtMillis > 0 ? finishedAtMillis : System.currentTimeMillis();
+            details.put("elapsedMillis", end - startedAtMillis);
+        }
+        if (error != null) {
+            details.put("error", error);
+        }
+        return details;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.dto.*;
+import com.ruleengine.application.catalog.RuleCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for the non-blocking validation endpoints backed by the in-memory catalog.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-AsyncValidationE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class AsyncValidationE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RuleCatalog ruleCatalog;
+
+    @Test
+    void shouldValidateInlineRuleAsynchronously() {
+        RuleValidationRequest request = new RuleValidationRequest(
+                "rule-1",
+                "Adult customer rule",
+                List.of(new RuleValidationRequest.ConditionDto("customer.age", "NUMBER", "GTE", 18)),
+                Map.of("customer.age", 25)
+        );
+
+        ResponseEntity<RuleValidationResponse> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/async/rules/validate",
+                request,
+                RuleValidationResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().passed()).isTrue();
+    }
+
+    @Test
+    void shouldValidateCategoryFromCatalogSnapshot() {
+        restTemplate.postForEntity("http://localhost:" + port + "/api/attributes",
+                new CreateAttributeRequest("async.age", "async.age", "NUMBER", null, null), AttributeDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/conditions",
+                new CreateConditionRequest("async-cond", "Adult", "async.age", "GTE", null, 18), ConditionDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rules",
+                new CreateRuleRequest("async-rule", "Adult rule", List.of("async-cond"), 1, true, null), RuleDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("async-set", "Adult set", List.of("async-rule"), false, "SPEL", "Async"),
+                RuleSetDto.class);
+        ruleCatalog.refresh();
+
+        ResponseEntity<CategoryValidationResponse> passing = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/async/rule-sets/validate-by-category",
+                new CategoryValidationRequest("Async", Map.of("async.age", 30)),
+                CategoryValidationResponse.class
+        );
+        ResponseEntity<CategoryValidationResponse> failing = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/async/rule-sets/validate-by-category",
+                new CategoryValidationRequest("Async", Map.of("async.age", 12)),
+                CategoryValidationResponse.class
+        );
+
+        assertThat(passing.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(passing.getBody()).isNotNull();
+        assertThat(passing.getBody().passed()).isTrue();
+        assertThat(passing.getBody().totalRuleSets()).isEqualTo(1);
+        assertThat(passing.getBody().ruleSetResults())
+                .extracting(CategoryValidationResponse.RuleSetValidationResult::ruleSetId)
+                .containsExactly("async-set");
+        assertThat(failing.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(failing.getBody()).isNotNull();
+        assertThat(failing.getBody().passed()).isFalse();
+        assertThat(failing.getBody().failedRuleSets()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyConditionChangeFromChangeFeed() {
+        restTemplate.postForEntity("http://localhost:" + port + "/api/attributes",
+                new CreateAttributeRequest("feed.age", "feed.age", "NUMBER", null, null), AttributeDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/conditions",
+                new CreateConditionRequest("feed-cond", "Adult", "feed.age", "GTE", null, 18), ConditionDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rules",
+                new CreateRuleRequest("feed-rule", "Adult rule", List.of("feed-cond"), 1, true, null), RuleDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("feed-set", "Adult set", List.of("feed-rule"), false, "SPEL", "Feed"),
+                RuleSetDto.class);
+        ruleCatalog.refreshIfChanged();
+        assertThat(validateFeedCategory(19)).isTrue();
+
+        restTemplate.put("http://localhost:" + port + "/api/conditions/feed-cond",
+                new UpdateConditionRequest("Adult", "feed.age", "GTE", null, 21));
+        ruleCatalog.refreshIfChanged();
+
+        assertThat(validateFeedCategory(19)).isFalse();
+        assertThat(validateFeedCategory(21)).isTrue();
+    }
+
+    private boolean validateFeedCategory(int age) {
+        ResponseEntity<CategoryValidationResponse> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/async/rule-sets/validate-by-category",
+                new CategoryValidationRequest("Feed", Map.of("feed.age", age)),
+                CategoryValidationResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().passed();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExportCatalogStaleness() {
+        ruleCatalog.refresh();
+
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/metrics/ruleengine.catalog.staleness", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> measurements = (List<Map<String, Object>>) response.getBody().get("measurements");
+        assertThat(((Number) measurements.getFirst().get("value")).doubleValue()).isBetween(0.0, 60.0);
+    }
+
+    @Test
+    void shouldRejectBlankCategory() {
+        ResponseEntity<CategoryValidationResponse> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/async/rule-sets/validate-by-category",
+                new CategoryValidationRequest(" ", Map.of()),
+                CategoryValidationResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.binary.AttributeDictionary;
+import com.ruleengine.api.binary.BinaryValidationCodec;
+import com.ruleengine.api.binary.BinaryValidationMessageConverter;
+import com.ruleengine.api.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for the binary validation protocol, including attribute dictionary negotiation.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-BinaryProtocolE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class BinaryProtocolE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldValidateRuleWithDictionaryEncodedRequest() {
+        restTemplate.postForEntity("http://localhost:" + port + "/api/attributes",
+                new CreateAttributeRequest("binary.age", "binary.age", "NUMBER", null, null), AttributeDto.class);
+        AttributeDictionary dictionary = fetchDictionary();
+        assertThat(dictionary.idOf("binary.age")).isNotEqualTo(AttributeDictionary.INLINE);
+
+        RuleValidationRequest request = new RuleValidationRequest(
+                "rule-1",
+                "Adult customer rule",
+                List.of(new RuleValidationRequest.ConditionDto("binary.age", "NUMBER", "GTE", 18)),
+                Map.of("binary.age", 25, "customer.name", "Ann")
+        );
+
+        ResponseEntity<byte[]> response = post("/api/rules/validate", BinaryValidationCodec.encode(request, dictionary));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(BinaryValidationMessageConverter.MEDIA_TYPE);
+        RuleValidationResponse decoded = BinaryValidationCodec.decodeRuleValidationResponse(response.getBody());
+        assertThat(decoded.passed()).isTrue();
+    }
+
+    @Test
+    void shouldValidateCategoryWithBinaryRequestAndResponse() {
+        restTemplate.postForEntity("http://localhost:" + port + "/api/attributes",
+                new CreateAttributeRequest("binary.score", "binary.score", "NUMBER", null, null), AttributeDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/conditions",
+                new CreateConditionRequest("binary-cond", "Score", "binary.score", "GT", null, 600), ConditionDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rules",
+                new CreateRuleRequest("binary-rule", "Score rule", List.of("binary-cond"), 1, true, null), RuleDto.class);
+        restTemplate.postForEntity("http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("binary-set", "Score set", List.of("binary-rule"), false, "SPEL", "Binary"),
+                RuleSetDto.class);
+        AttributeDictionary dictionary = fetchDictionary();
+
+        ResponseEntity<byte[]> response = post("/api/rule-sets/validate-by-category", BinaryValidationCodec.encode(
+                new CategoryValidationRequest("Binary", Map.of("binary.score", 720)), dictionary));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        CategoryValidationResponse decoded = BinaryValidationCodec.decodeCategoryValidationResponse(response.getBody());
+        assertThat(decoded.passed()).isTrue();
+        assertThat(decoded.ruleCategory()).isEqualTo("Binary");
+        assertThat(decoded.ruleSetResults())
+                .extracting(CategoryValidationResponse.RuleSetValidationResult::ruleSetId)
+                .containsExactly("binary-set");
+    }
+
+    @Test
+    void shouldRejectRequestEncodedWithUnknownDictionary() {
+        AttributeDictionary stale = AttributeDictionary.of(List.of("no.such.attribute", "other.attribute"));
+
+        ResponseEntity<byte[]> response = post("/api/rule-sets/validate-by-category", BinaryValidationCodec.encode(
+                new CategoryValidationRequest("Binary", Map.of("other.attribute", 1)), stale));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldKeepJsonAsDefault() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.ALL));
+        String body = "{\"ruleId\":\"r\",\"ruleName\":\"r\",\"conditions\":[{\"attributeCode\":\"a\","
+                + "\"attributeType\":\"NUMBER\",\"operator\":\"GT\",\"targetValue\":1}],\"context\":{\"a\":2}}";
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rules/validate", new HttpEntity<>(body, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+    }
+
+    private AttributeDictionary fetchDictionary() {
+        ResponseEntity<AttributeDictionaryDto> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/attributes/dictionary", AttributeDictionaryDto.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        AttributeDictionary dictionary = AttributeDictionary.of(response.getBody().codes());
+        assertThat(dictionary.version()).isEqualTo(response.getBody().version());
+        return dictionary;
+    }
+
+    private ResponseEntity<byte[]> post(String path, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(BinaryValidationMessageConverter.MEDIA_TYPE);
+        headers.setAccept(List.of(BinaryValidationMessageConverter.MEDIA_TYPE));
+        return restTemplate.postForEntity("http://localhost:" + port + path, new HttpEntity<>(body, headers), byte[].class);
+    }
+}
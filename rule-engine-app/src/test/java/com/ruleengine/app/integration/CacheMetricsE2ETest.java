@@ -0,0 +1,59 @@
+package com.ruleengine.app.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for the per-region cache statistics exported under /actuator/metrics.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-CacheMetricsE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class CacheMetricsE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldExportHitsAndMissesOfCategoryRegion() {
+        double hitsBefore = measurement("ruleengine.cache.gets?tag=region:category&tag=result:hit");
+
+        restTemplate.getForEntity("http://localhost:" + port + "/api/rule-sets?category=Metrics", List.class);
+        restTemplate.getForEntity("http://localhost:" + port + "/api/rule-sets?category=Metrics", List.class);
+
+        assertThat(measurement("ruleengine.cache.gets?tag=region:category&tag=result:hit")).isEqualTo(hitsBefore + 1);
+        assertThat(measurement("ruleengine.cache.gets?tag=region:category&tag=result:miss")).isGreaterThanOrEqualTo(1);
+        assertThat(measurement("ruleengine.cache.size?tag=region:category")).isGreaterThanOrEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private double measurement(String metric) {
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/metrics/" + metric, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> measurements = (List<Map<String, Object>>) response.getBody().get("measurements");
+        return ((Number) measurements.getFirst().get("value")).doubleValue();
+    }
+}
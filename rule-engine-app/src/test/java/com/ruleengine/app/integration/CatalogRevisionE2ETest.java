@@ -0,0 +1,94 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for entity revisions and the global catalog revision.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-CatalogRevisionE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class CatalogRevisionE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldStampEveryWriteWithNextCatalogRevision() {
+        long start = revision();
+
+        restTemplate.postForEntity(url("/api/attributes"),
+                new CreateAttributeRequest("revision.age", "revision.age", "NUMBER", null, null), AttributeDto.class);
+        ConditionDto condition = restTemplate.postForEntity(url("/api/conditions"),
+                new CreateConditionRequest("rev-cond", "Adult", "revision.age", "GTE", null, 18),
+                ConditionDto.class).getBody();
+        RuleDto rule = restTemplate.postForEntity(url("/api/rules"),
+                new CreateRuleRequest("rev-rule", "Adult", List.of("rev-cond"), 1, true, null),
+                RuleDto.class).getBody();
+        RuleSetDto ruleSet = restTemplate.postForEntity(url("/api/rule-sets"),
+                new CreateRuleSetRequest("rev-set", "Adults", List.of("rev-rule"), false, "SPEL", "Revision"),
+                RuleSetDto.class).getBody();
+
+        assertThat(condition.revision()).isEqualTo(start + 2);
+        assertThat(rule.revision()).isEqualTo(start + 3);
+        assertThat(ruleSet.revision()).isEqualTo(start + 4);
+        assertThat(revision()).isEqualTo(start + 4);
+    }
+
+    @Test
+    void shouldStampEmbeddingEntitiesWhenEmbeddedOneChanges() {
+        restTemplate.postForEntity(url("/api/attributes"),
+                new CreateAttributeRequest("embedded.age", "embedded.age", "NUMBER", null, null), AttributeDto.class);
+        restTemplate.postForEntity(url("/api/conditions"),
+                new CreateConditionRequest("emb-cond", "Adult", "embedded.age", "GTE", null, 18), ConditionDto.class);
+        restTemplate.postForEntity(url("/api/rules"),
+                new CreateRuleRequest("emb-rule", "Adult", List.of("emb-cond"), 1, true, null), RuleDto.class);
+        restTemplate.postForEntity(url("/api/rule-sets"),
+                new CreateRuleSetRequest("emb-set", "Adults", List.of("emb-rule"), false, "SPEL", "Embedded"),
+                RuleSetDto.class);
+
+        restTemplate.put(url("/api/attributes/embedded.age"),
+                new UpdateAttributeRequest("embedded.age", "NUMBER", "Age in years", null));
+        assertThat(restTemplate.getForObject(url("/api/conditions/emb-cond"), ConditionDto.class).revision())
+                .isEqualTo(revision());
+
+        restTemplate.put(url("/api/rules/emb-rule"),
+                new UpdateRuleRequest("Adult customer", List.of("emb-cond"), 2, true, null));
+        assertThat(restTemplate.getForObject(url("/api/rule-sets/emb-set"), RuleSetDto.class).revision())
+                .isEqualTo(revision());
+    }
+
+    private long revision() {
+        ResponseEntity<CatalogRevisionDto> response =
+                restTemplate.getForEntity(url("/api/catalog/revision"), CatalogRevisionDto.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().revision();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for bulk catalog import and export as NDJSON.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-CatalogTransferE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "rule-engine.catalog.transfer.chunk-size=2"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class CatalogTransferE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldImportCatalogReportBadLinesAndExportItForReimport() {
+        String catalog = String.join("\n",
+                "{\"attribute\":{\"code\":\"transfer.age\",\"type\":\"NUMBER\"}}",
+                "{\"condition\":{\"id\":\"transfer-adult\",\"name\":\"Adult\",\"leftAttributeCode\":\"transfer.age\","
+                        + "\"operator\":\"GTE\",\"targetValue\":18}}",
+                "{not json",
+                "{\"condition\":{\"id\":\"transfer-rich\",\"name\":\"Rich\",\"leftAttributeCode\":\"transfer.income\","
+                        + "\"operator\":\"GTE\",\"targetValue\":1000}}",
+                "",
+                "{\"rule\":{\"id\":\"transfer-rule\",\"name\":\"Adult\",\"conditionIds\":[\"transfer-adult\"]}}",
+                "{\"ruleSet\":{\"id\":\"transfer-set\",\"name\":\"Adults\",\"ruleIds\":[\"transfer-rule\"],"
+                        + "\"ruleCategory\":\"Transfer\"}}");
+
+        CatalogImportResponse imported = importCatalog(catalog, "FAIL");
+
+        assertThat(imported.attributes()).isEqualTo(1);
+        assertThat(imported.conditions()).isEqualTo(1);
+        assertThat(imported.rules()).isEqualTo(1);
+        assertThat(imported.ruleSets()).isEqualTo(1);
+        assertThat(imported.failed()).isEqualTo(2);
+        assertThat(imported.errors()).extracting(CatalogImportResponse.LineError::line).containsExactly(3, 4);
+        assertThat(imported.errors().get(1).message()).isEqualTo("Attribute not found: transfer.income");
+
+        RuleSetDto ruleSet = restTemplate.getForObject(url("/api/rule-sets/transfer-set"), RuleSetDto.class);
+        assertThat(ruleSet.revision()).isEqualTo(
+                restTemplate.getForObject(url("/api/catalog/revision"), CatalogRevisionDto.class).revision());
+        CategoryValidationResponse validation = restTemplate.postForObject(url("/api/rule-sets/validate-by-category"),
+                new CategoryValidationRequest("Transfer", Map.of("transfer.age", 20)), CategoryValidationResponse.class);
+        assertThat(validation.totalRuleSets()).isEqualTo(1);
+        assertThat(validation.passed()).isTrue();
+
+        ResponseEntity<String> export = restTemplate.getForEntity(url("/api/catalog/export"), String.class);
+        assertThat(export.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(export.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        List<String> lines = export.getBody().lines().toList();
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"transfer.age\""));
+        assertThat(lines.indexOf(lines.stream().filter(line -> line.contains("\"transfer-set\"")).findFirst().orElseThrow()))
+                .isEqualTo(lines.size() - 1);
+
+        CatalogImportResponse reimported = importCatalog(export.getBody(), "SKIP");
+        assertThat(reimported.skipped()).isEqualTo(lines.size());
+        assertThat(reimported.failed()).isZero();
+    }
+
+    private CatalogImportResponse importCatalog(String ndjson, String onExisting) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        ResponseEntity<CatalogImportResponse> response = restTemplate.postForEntity(
+                url("/api/catalog/import?onExisting=" + onExisting), new HttpEntity<>(ndjson, headers),
+                CatalogImportResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ruleengine.app.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ruleengine.app.RuleEngineApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the AOT-processed application the way the Docker image does: bean definitions generated by
+ * {@code process-aot} without a replica url, then a separate JVM started with
+ * {@code -Dspring.aot.enabled=true} and the replica url as a runtime argument. Only the {@code aot}
+ * profile runs it, after {@code process-aot} has compiled the generated code into target/classes.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+class ReadReplicaAotIT {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final String DATABASE_URL = "jdbc:h2:mem:testdb-ReadReplicaAotIT;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Process app;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (app != null) {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    @Test
+    void shouldRouteToReplicaConfiguredOnlyAtRuntime() throws Exception {
+        int port = freePort();
+        Path log = Files.createTempFile("read-replica-aot", ".log");
+        app = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dspring.aot.enabled=true",
+                "-cp", System.getProperty("java.class.path"),
+                RuleEngineApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--rule-engine.datasource.replica.url=" + DATABASE_URL,
+                "--rule-engine.warmup.enabled=false")
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        awaitStarted(port, log);
+
+        HttpResponse<String> ruleSet = get(port, "/api/rule-sets/replica-missing");
+
+        assertThat(ruleSet.statusCode()).isEqualTo(404);
+        assertThat(measurement(port, "ruleengine.datasource.replica.available")).isEqualTo(1.0);
+        assertThat(measurement(port, "hikaricp.connections.usage?tag=pool:rule-engine-replica")).isPositive();
+    }
+
+    private void awaitStarted(int port, Path log) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("App exited with code " + app.exitValue() + ":\n" + Files.readString(log));
+            }
+            try {
+                get(port, "/actuator/health");
+                return;
+            } catch (ConnectException e) {
+                // Not listening yet
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("App did not start within " + STARTUP_TIMEOUT + ":\n" + Files.readString(log));
+    }
+
+    private double measurement(int port, String metric) throws IOException, InterruptedException {
+        HttpResponse<String> response = get(port, "/actuator/metrics/" + metric);
+        assertThat(response.statusCode()).as(metric).isEqualTo(200);
+        List<JsonNode> measurements = objectMapper.readTree(response.body()).path("measurements").findParents("value");
+        return measurements.getFirst().get("value").asDouble();
+    }
+
+    private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.dto.RuleSetDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for routing read-only transactions to the replica pool. The "replica" is the
+ * same in-memory database, reached through its own pool.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-ReadReplicaRoutingE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "rule-engine.datasource.replica.url=jdbc:h2:mem:testdb-ReadReplicaRoutingE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class ReadReplicaRoutingE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldServeReadOnlyTransactionsFromReplicaPoolAndReportPoolsSeparately() {
+        double replicaUsageBefore = measurement("hikaricp.connections.usage?tag=pool:rule-engine-replica");
+
+        ResponseEntity<RuleSetDto> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/rule-sets/replica-missing", RuleSetDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(measurement("hikaricp.connections.usage?tag=pool:rule-engine-replica"))
+                .isGreaterThan(replicaUsageBefore);
+        assertThat(measurement("hikaricp.connections.max?tag=pool:rule-engine-primary")).isPositive();
+        assertThat(measurement("ruleengine.datasource.replica.fallbacks")).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private double measurement(String metric) {
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/metrics/" + metric, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> measurements = (List<Map<String, Object>>) response.getBody().get("measurements");
+        return ((Number) measurements.getFirst().get("value")).doubleValue();
+    }
+}
@@ -313,5 +313,136 @@ class RuleEngineE2ETest {
         assertThat(response.getBody().passedRuleSets()).isEqualTo(0);
         assertThat(response.getBody().failedRuleSets()).isEqualTo(0);
     }
-}
 
+    @Test
+    void shouldApplyMissingAttributePolicyPerRuleSet() {
+        String cond1 = createCondition("cond-age-missing" + uuid_exec, "Age check",
+                "customer.age" + uuid_exec, "GTE", 18);
+        String cond2 = createCondition("cond-total-missing" + uuid_exec, "Total check",
+                "order.total" + uuid_exec, "GT", 100);
+
+        String rule1 = "rule-age-missing" + uuid_exec;
+        String rule2 = "rule-total-missing" + uuid_exec;
+        createRule(rule1, "Age validation rule", cond1);
+        createRule(rule2, "Total validation rule", cond2);
+
+        String category = "Missing" + uuid_exec;
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("ruleset-na" + uuid_exec, "Not applicable rule set",
+                        List.of(rule1, rule2), false, "SPEL", category, "NOT_APPLICABLE"),
+                RuleSetDto.class
+        );
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("ruleset-fail" + uuid_exec, "Failing rule set",
+                        List.of(rule1, rule2), false, "SPEL", category, "FAIL"),
+                RuleSetDto.class
+        );
+
+        // order.total is absent from the context
+        CategoryValidationRequest request = new CategoryValidationRequest(
+                category,
+                Map.of("customer.age" + uuid_exec, 25)
+        );
+
+        ResponseEntity<CategoryValidationResponse> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets/validate-by-category",
+                request,
+                CategoryValidationResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().passed()).isFalse();
+
+        CategoryValidationResponse.RuleSetValidationResult notApplicable = response.getBody().ruleSetResults().stream()
+                .filter(rs -> rs.ruleSetId().equals("ruleset-na" + uuid_exec))
+                .findFirst()
+                .orElseThrow();
+        assertThat(notApplicable.passed()).isTrue();
+        assertThat(notApplicable.ruleResults().get(1).message()).contains("not applicable");
+
+        CategoryValidationResponse.RuleSetValidationResult failing = response.getBody().ruleSetResults().stream()
+                .filter(rs -> rs.ruleSetId().equals("ruleset-fail" + uuid_exec))
+                .findFirst()
+                .orElseThrow();
+        assertThat(failing.passed()).isFalse();
+        assertThat(failing.ruleResults().get(0).passed()).isTrue();
+        assertThat(failing.ruleResults().get(1).message()).contains("missing attributes");
+    }
+
+    @Test
+    void shouldExposeExecutionPlanForRuleSet() {
+        String cond = createCondition("cond-plan" + uuid_exec, "Age check",
+                "customer.age" + uuid_exec, "GTE", 18);
+        String rule = "rule-plan" + uuid_exec;
+        createRule(rule, "Age validation rule", cond);
+        String ruleSetId = "ruleset-plan" + uuid_exec;
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest(ruleSetId, "Plan rule set", List.of(rule), false, "SPEL", "Plan" + uuid_exec),
+                RuleSetDto.class
+        );
+
+        ResponseEntity<ExecutionPlanResponse> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/rule-sets/" + ruleSetId + "/plan",
+                ExecutionPlanResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().rules()).hasSize(1);
+        ExecutionPlanResponse.RulePlan plan = response.getBody().rules().get(0);
+        assertThat(plan.ruleId()).isEqualTo(rule);
+        assertThat(plan.reordered()).isFalse();
+        assertThat(plan.conditions()).extracting(ExecutionPlanResponse.ConditionPlan::conditionId).containsExactly(cond);
+    }
+
+    @Test
+    void shouldValidateAutoEngineRuleSetAndReportChoice() {
+        String cond = createCondition("cond-auto" + uuid_exec, "Age check",
+                "customer.age" + uuid_exec, "GTE", 18);
+        // Attribute-vs-attribute conditions are not indexed, so the rule goes through an engine
+        String cond2 = "cond-auto-total" + uuid_exec;
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/conditions",
+                new CreateConditionRequest(cond2, "Total vs age", "order.total" + uuid_exec, "GT",
+                        "customer.age" + uuid_exec, null),
+                ConditionDto.class
+        );
+        String rule = "rule-auto" + uuid_exec;
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rules",
+                new CreateRuleRequest(rule, "Auto rule", List.of(cond, cond2), 1, true, null),
+                RuleDto.class
+        );
+        String category = "Auto" + uuid_exec;
+        restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets",
+                new CreateRuleSetRequest("ruleset-auto" + uuid_exec, "Auto rule set", List.of(rule), false, "AUTO", category),
+                RuleSetDto.class
+        );
+
+        ResponseEntity<CategoryValidationResponse> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/rule-sets/validate-by-category",
+                new CategoryValidationRequest(category, Map.of("customer.age" + uuid_exec, 30, "order.total" + uuid_exec, 40.0)),
+                CategoryValidationResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().passed()).isTrue();
+
+        ResponseEntity<EngineChoiceDto[]> choices = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/engines/auto-selections",
+                EngineChoiceDto[].class
+        );
+        assertThat(choices.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(choices.getBody()).isNotNull();
+        assertThat(choices.getBody()).anySatisfy(choice -> {
+            assertThat(choice.ruleId()).isEqualTo(rule);
+            assertThat(choice.samples()).isEqualTo(1);
+        });
+    }
+}
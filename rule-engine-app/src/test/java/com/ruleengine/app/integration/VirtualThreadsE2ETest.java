@@ -0,0 +1,91 @@
+package com.ruleengine.app.integration;
+
+import com.ruleengine.api.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for category validation with virtual threads enabled, where the rule sets
+ * of a category are validated concurrently.
+ *
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-VirtualThreadsE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.threads.virtual.enabled=true"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class VirtualThreadsE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldValidateCategoryConsistentlyUnderConcurrentRequests() throws Exception {
+        restTemplate.postForEntity("http://localhost:" + port + "/api/attributes",
+                new CreateAttributeRequest("vt.age", "vt.age", "NUMBER", null, null), AttributeDto.class);
+        for (int i = 0; i < 4; i++) {
+            // The last rule set requires an age the context does not reach
+            int threshold = i == 3 ? 65 : 18 + i;
+            restTemplate.postForEntity("http://localhost:" + port + "/api/conditions",
+                    new CreateConditionRequest("vt-cond-" + i, "Age " + threshold, "vt.age", "GTE", null, threshold),
+                    ConditionDto.class);
+            restTemplate.postForEntity("http://localhost:" + port + "/api/rules",
+                    new CreateRuleRequest("vt-rule-" + i, "Age rule " + i, List.of("vt-cond-" + i), 1, true, null),
+                    RuleDto.class);
+            ResponseEntity<RuleSetDto> created = restTemplate.postForEntity("http://localhost:" + port + "/api/rule-sets",
+                    new CreateRuleSetRequest("vt-set-" + i, "Age set " + i, List.of("vt-rule-" + i), false, "SPEL", "VirtualThreads"),
+                    RuleSetDto.class);
+            assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        }
+
+        CategoryValidationRequest request = new CategoryValidationRequest("VirtualThreads", Map.of("vt.age", 30));
+        List<Future<ResponseEntity<CategoryValidationResponse>>> responses = new ArrayList<>();
+        try (ExecutorService clients = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 64; i++) {
+                responses.add(clients.submit(() -> restTemplate.postForEntity(
+                        "http://localhost:" + port + "/api/rule-sets/validate-by-category",
+                        request,
+                        CategoryValidationResponse.class
+                )));
+            }
+        }
+
+        for (Future<ResponseEntity<CategoryValidationResponse>> future : responses) {
+            ResponseEntity<CategoryValidationResponse> response = future.get();
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().passed()).isFalse();
+            assertThat(response.getBody().totalRuleSets()).isEqualTo(4);
+            assertThat(response.getBody().passedRuleSets()).isEqualTo(3);
+            assertThat(response.getBody().failedRuleSets()).isEqualTo(1);
+            assertThat(response.getBody().ruleSetResults())
+                    .filteredOn(rs -> !rs.passed())
+                    .extracting(CategoryValidationResponse.RuleSetValidationResult::ruleSetId)
+                    .containsExactly("vt-set-3");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ruleengine.app.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test for the startup warm-up and its health reporting.
+ * 
+ * Module: rule-engine-app
+ * Layer: App (E2E Tests)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-WarmupHealthE2ETest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+class WarmupHealthE2ETest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportCompletedWarmupAndReadiness() {
+        ResponseEntity<Map> health = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/health",
+                Map.class
+        );
+
+        assertThat(health.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<String, Object> components = (Map<String, Object>) health.getBody().get("components");
+        Map<String, Object> warmup = (Map<String, Object>) components.get("warmup");
+        assertThat(warmup.get("status")).isEqualTo("UP");
+        assertThat(((Map<String, Object>) warmup.get("details")).get("phase")).isEqualTo("COMPLETED");
+
+        ResponseEntity<Map> readiness = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/health/readiness",
+                Map.class
+        );
+        assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getBody().get("status")).isEqualTo("UP");
+    }
+}
@@ -0,0 +1,37 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.rule.RuleSetGraph;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Catalog changes read from the change feed since a snapshot's revision, with the current graph
+ * of every changed rule set that still exists.
+ *
+ * @param revision       Catalog revision the changes were read up to
+ * @param ruleSetIds     Rule sets that were written or deleted; those absent from {@code ruleSets} were deleted
+ * @param ruleCategories Categories the changed rule sets were in or moved to
+ * @param ruleSets       Current graphs of the changed rule sets that still exist
+ * @param conditionIds   Conditions that were written or deleted; the rule sets using them are among the changed ones
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public record CatalogChanges(
+        long revision,
+        Set<String> ruleSetIds,
+        Set<String> ruleCategories,
+        List<RuleSetGraph> ruleSets,
+        Set<String> conditionIds
+) {
+    public CatalogChanges {
+        if (ruleSetIds == null || ruleCategories == null || ruleSets == null || conditionIds == null) {
+            throw new IllegalArgumentException("Catalog changes components cannot be null");
+        }
+        ruleSetIds = Set.copyOf(ruleSetIds);
+        ruleCategories = Set.copyOf(ruleCategories);
+        ruleSets = List.copyOf(ruleSets);
+        conditionIds = Set.copyOf(conditionIds);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ruleengine.application.catalog;
+
+import java.util.List;
+
+/**
+ * Outcome of a catalog import.
+ *
+ * @param attributes Attributes written
+ * @param conditions Conditions written
+ * @param rules      Rules written
+ * @param ruleSets   Rule sets written
+ * @param skipped    Lines naming an id that already existed, when those are skipped
+ * @param failed     Lines that were not written
+ * @param errors     Why lines failed; at most {@link #MAX_ERRORS} are kept
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public record CatalogImportResult(
+        int attributes,
+        int conditions,
+        int rules,
+        int ruleSets,
+        int skipped,
+        int failed,
+        List<LineError> errors
+) {
+    public static final int MAX_ERRORS = 100;
+
+    public CatalogImportResult {
+        errors = List.copyOf(errors);
+    }
+
+    /**
+     * A failed line, or the first line of a chunk whose write failed.
+     */
+    public record LineError(int line, String message) {
+    }
+}
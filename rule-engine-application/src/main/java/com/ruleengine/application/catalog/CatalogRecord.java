@@ -0,0 +1,49 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+
+import java.util.List;
+
+/**
+ * One line of a catalog import. Attributes and rules are complete as read; conditions and rule
+ * sets name the attributes and rules they reference, which the import resolves against what it
+ * has already seen. A file therefore lists attributes before the conditions using them, and so on.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public sealed interface CatalogRecord {
+
+    /**
+     * Line number in the imported file, for reporting.
+     */
+    int line();
+
+    record AttributeRecord(int line, Attribute attribute) implements CatalogRecord {
+    }
+
+    /**
+     * Either {@code rightAttributeCode} or {@code targetValue} is set.
+     */
+    record ConditionRecord(int line, String id, String name, String leftAttributeCode, ComparisonOperator operator,
+                           String rightAttributeCode, Object targetValue) implements CatalogRecord {
+    }
+
+    record RuleRecord(int line, Rule rule) implements CatalogRecord {
+    }
+
+    record RuleSetRecord(int line, String id, String name, List<String> ruleIds, boolean stopOnFirstFailure,
+                         EngineType engineType, String ruleCategory,
+                         MissingAttributePolicy missingAttributePolicy) implements CatalogRecord {
+    }
+
+    /**
+     * A line that could not be parsed; reported as failed.
+     */
+    record Unreadable(int line, String reason) implements CatalogRecord {
+    }
+}
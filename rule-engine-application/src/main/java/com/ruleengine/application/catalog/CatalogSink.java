@@ -0,0 +1,24 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+
+/**
+ * Receives the catalog during an export: all attributes, then conditions, rules and rule sets,
+ * each kind in id order, so the output can be imported again as it is.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public interface CatalogSink {
+
+    void attribute(Attribute attribute);
+
+    void condition(Condition condition);
+
+    void rule(Rule rule);
+
+    void ruleSet(RuleSet ruleSet);
+}
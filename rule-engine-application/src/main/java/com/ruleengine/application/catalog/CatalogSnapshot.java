@@ -0,0 +1,112 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory copy of all rule sets and conditions, so validations can be served
+ * without touching the database.
+ *
+ * @param ruleSetsByCategory Rule sets keyed by category
+ * @param conditionsById     All conditions keyed by id
+ * @param loadedAt           When the snapshot was read from the database
+ * @param revision           Catalog revision read before loading; the snapshot contains at least
+ *                           every write up to it
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public record CatalogSnapshot(
+        Map<String, List<RuleSet>> ruleSetsByCategory,
+        Map<String, Condition> conditionsById,
+        Instant loadedAt,
+        long revision
+) implements CatalogView {
+    public CatalogSnapshot {
+        if (ruleSetsByCategory == null || conditionsById == null || loadedAt == null) {
+            throw new IllegalArgumentException("Catalog snapshot components cannot be null");
+        }
+        if (revision < 0) {
+            throw new IllegalArgumentException("Catalog snapshot revision cannot be negative");
+        }
+        ruleSetsByCategory = Map.copyOf(ruleSetsByCategory);
+        conditionsById = Map.copyOf(conditionsById);
+    }
+
+    /**
+     * Builds a snapshot from rule sets and conditions loaded from the database.
+     */
+    public static CatalogSnapshot of(List<RuleSet> ruleSets, List<Condition> conditions, Instant loadedAt,
+                                     long revision) {
+        Map<String, List<RuleSet>> byCategory = new HashMap<>();
+        for (RuleSet ruleSet : ruleSets) {
+            byCategory.computeIfAbsent(ruleSet.ruleCategory(), c -> new ArrayList<>()).add(ruleSet);
+        }
+        byCategory.replaceAll((category, sets) -> List.copyOf(sets));
+
+        Map<String, Condition> byId = new HashMap<>();
+        for (Condition condition : conditions) {
+            byId.put(condition.id(), condition);
+        }
+        return new CatalogSnapshot(byCategory, byId, loadedAt, revision);
+    }
+
+    /**
+     * Returns a copy with the changed rule sets swapped in and deleted ones dropped. Only the
+     * affected categories are rebuilt; the other category lists are shared with this snapshot.
+     */
+    public CatalogSnapshot apply(CatalogChanges changes, Instant loadedAt) {
+        Map<String, List<RuleSet>> byCategory = new HashMap<>(ruleSetsByCategory);
+        Set<String> affected = new HashSet<>(changes.ruleCategories());
+        changes.ruleSets().forEach(graph -> affected.add(graph.ruleSet().ruleCategory()));
+        for (String category : affected) {
+            List<RuleSet> kept = new ArrayList<>();
+            for (RuleSet ruleSet : ruleSetsFor(category)) {
+                if (!changes.ruleSetIds().contains(ruleSet.id())) {
+                    kept.add(ruleSet);
+                }
+            }
+            byCategory.put(category, kept);
+        }
+
+        Map<String, Condition> byId = new HashMap<>(conditionsById);
+        byId.keySet().removeAll(changes.conditionIds());
+        for (RuleSetGraph graph : changes.ruleSets()) {
+            byCategory.get(graph.ruleSet().ruleCategory()).add(graph.ruleSet());
+            graph.conditions().forEach(condition -> byId.put(condition.id(), condition));
+        }
+        for (String category : affected) {
+            List<RuleSet> ruleSets = byCategory.get(category);
+            if (ruleSets.isEmpty()) {
+                byCategory.remove(category);
+            } else {
+                byCategory.put(category, List.copyOf(ruleSets));
+            }
+        }
+        return new CatalogSnapshot(byCategory, byId, loadedAt, changes.revision());
+    }
+
+    @Override
+    public List<RuleSet> ruleSetsFor(String category) {
+        return ruleSetsByCategory.getOrDefault(category, List.of());
+    }
+
+    @Override
+    public Map<String, List<Condition>> conditionsFor(RuleSet ruleSet) {
+        return CatalogView.resolveConditions(ruleSet, conditionsById::get);
+    }
+
+    @Override
+    public int ruleSetCount() {
+        return ruleSetsByCategory.values().stream().mapToInt(List::size).sum();
+    }
+}
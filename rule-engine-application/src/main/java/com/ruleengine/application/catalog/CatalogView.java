@@ -0,0 +1,71 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read side of a catalog snapshot: what validations need to run without touching the database,
+ * whether the snapshot was loaded from the database ({@link CatalogSnapshot}) or is served from a
+ * compiled snapshot file ({@link MappedCatalogSnapshot}).
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public interface CatalogView {
+
+    /**
+     * Returns the rule sets of a category, or an empty list for an unknown category.
+     */
+    List<RuleSet> ruleSetsFor(String category);
+
+    /**
+     * Resolves the conditions of every rule in the rule set, keyed by rule id.
+     *
+     * @throws IllegalArgumentException if a rule references a condition that is not in the snapshot
+     */
+    Map<String, List<Condition>> conditionsFor(RuleSet ruleSet);
+
+    /**
+     * Returns the number of rule sets across all categories.
+     */
+    int ruleSetCount();
+
+    /**
+     * When the snapshot was loaded.
+     */
+    Instant loadedAt();
+
+    /**
+     * Catalog revision the snapshot was taken at; it contains at least every write up to it.
+     */
+    long revision();
+
+    /**
+     * Resolves the conditions of every rule in the rule set through {@code conditionsById}, which
+     * returns null for an unknown id.
+     */
+    static Map<String, List<Condition>> resolveConditions(RuleSet ruleSet,
+                                                          Function<String, Condition> conditionsById) {
+        Map<String, List<Condition>> conditionsByRule = new LinkedHashMap<>();
+        for (Rule rule : ruleSet.rules()) {
+            List<Condition> conditions = new ArrayList<>(rule.conditionIds().size());
+            for (String conditionId : rule.conditionIds()) {
+                Condition condition = conditionsById.apply(conditionId);
+                if (condition == null) {
+                    throw new IllegalArgumentException("Condition with id '" + conditionId + "' not found");
+                }
+                conditions.add(condition);
+            }
+            conditionsByRule.put(rule.id(), conditions);
+        }
+        return conditionsByRule;
+    }
+}
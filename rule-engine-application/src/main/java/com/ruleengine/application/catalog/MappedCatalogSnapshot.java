@@ -0,0 +1,92 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.snapshot.CatalogSnapshotFile;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catalog snapshot served from a memory-mapped {@link CatalogSnapshotFile}. A category is decoded
+ * the first time it is validated and kept for the life of the snapshot, so opening a file, at
+ * startup or after it was replaced, costs no more than reading its directory.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public final class MappedCatalogSnapshot implements CatalogView {
+    private static final Category EMPTY = new Category(List.of(), Map.of());
+
+    private final CatalogSnapshotFile file;
+    private final Instant loadedAt;
+    private final Map<String, Category> categories = new ConcurrentHashMap<>();
+
+    public MappedCatalogSnapshot(CatalogSnapshotFile file, Instant loadedAt) {
+        if (file == null || loadedAt == null) {
+            throw new IllegalArgumentException("Catalog snapshot components cannot be null");
+        }
+        this.file = file;
+        this.loadedAt = loadedAt;
+    }
+
+    @Override
+    public List<RuleSet> ruleSetsFor(String category) {
+        return category(category).ruleSets();
+    }
+
+    /**
+     * Resolves conditions from the rule set's own category, which holds every condition its
+     * rules reference.
+     */
+    @Override
+    public Map<String, List<Condition>> conditionsFor(RuleSet ruleSet) {
+        return CatalogView.resolveConditions(ruleSet, category(ruleSet.ruleCategory()).conditionsById()::get);
+    }
+
+    @Override
+    public int ruleSetCount() {
+        return file.ruleSetCount();
+    }
+
+    @Override
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    @Override
+    public long revision() {
+        return file.revision();
+    }
+
+    /**
+     * Unknown categories are not cached, so arbitrary names cannot grow the map.
+     */
+    private Category category(String name) {
+        if (name == null || !file.categories().contains(name)) {
+            return EMPTY;
+        }
+        return categories.computeIfAbsent(name, this::decode);
+    }
+
+    private Category decode(String name) {
+        List<RuleSetGraph> graphs = file.category(name);
+        List<RuleSet> ruleSets = new ArrayList<>(graphs.size());
+        Map<String, Condition> conditionsById = new HashMap<>();
+        for (RuleSetGraph graph : graphs) {
+            ruleSets.add(graph.ruleSet());
+            for (Condition condition : graph.conditions()) {
+                conditionsById.put(condition.id(), condition);
+            }
+        }
+        return new Category(List.copyOf(ruleSets), Map.copyOf(conditionsById));
+    }
+
+    private record Category(List<RuleSet> ruleSets, Map<String, Condition> conditionsById) {
+    }
+}
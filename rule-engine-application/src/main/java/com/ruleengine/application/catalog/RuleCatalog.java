@@ -0,0 +1,238 @@
+package com.ruleengine.application.catalog;
+
+import com.ruleengine.application.service.CatalogRevisionService;
+import com.ruleengine.application.service.ConditionService;
+import com.ruleengine.application.service.RuleCatalogTableService;
+import com.ruleengine.application.service.RuleSetService;
+import com.ruleengine.persistence.snapshot.CatalogSnapshotFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link CatalogView} and reloads it in the background, from the database or,
+ * on nodes without database access, from a compiled {@link CatalogSnapshotFile}. Readers only
+ * dereference a volatile field, so the request path never blocks on I/O; changes become visible
+ * after at most one refresh interval. When a revision source is available, a scheduled refresh
+ * first compares the catalog revision with the snapshot's and skips the reload if nothing was
+ * written since. When the catalog table's change feed is available as well, a moved revision is
+ * applied incrementally: only the changed rule sets, including those using changed conditions,
+ * are swapped into a copy of the snapshot, and this node's cached categories and conditions
+ * are evicted from its local cache level, so caches can keep long expiries without serving stale rules.
+ * Shared category copies read before the feed's revision are rejected by {@link RuleSetService}. The whole catalog is
+ * reloaded only when the feed cannot be used. A failed background refresh is logged and counted
+ * ({@link #refreshFailures()}), and {@link #syncedAt()} tells how old the served catalog is.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public class RuleCatalog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(RuleCatalog.class);
+
+    private final Supplier<CatalogView> loader;
+    private final LongSupplier currentRevision;
+    private final Function<CatalogView, Optional<CatalogView>> changeFeed;
+    private volatile CatalogView snapshot;
+    private volatile Instant syncedAt = Instant.MIN;
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private ScheduledExecutorService refresher;
+
+    public RuleCatalog(RuleSetService ruleSetService, ConditionService conditionService) {
+        this(ruleSetService, conditionService, null);
+    }
+
+    /**
+     * @param catalogRevisionService Source of the catalog revision, or null to reload on every refresh
+     */
+    public RuleCatalog(RuleSetService ruleSetService, ConditionService conditionService,
+                       CatalogRevisionService catalogRevisionService) {
+        this(ruleSetService, conditionService, catalogRevisionService, null);
+    }
+
+    /**
+     * @param catalogRevisionService Source of the catalog revision, or null to reload on every refresh
+     * @param ruleCatalogTable       Source of the change feed, or null to reload the whole catalog
+     *                               whenever the revision has moved
+     */
+    public RuleCatalog(RuleSetService ruleSetService, ConditionService conditionService,
+                       CatalogRevisionService catalogRevisionService, RuleCatalogTableService ruleCatalogTable) {
+        if (ruleSetService == null) {
+            throw new IllegalArgumentException("RuleSet service cannot be null");
+        }
+        if (conditionService == null) {
+            throw new IllegalArgumentException("Condition service cannot be null");
+        }
+        this.currentRevision = catalogRevisionService != null ? catalogRevisionService::currentRevision : null;
+        this.loader = () -> {
+            // Read before loading, so a write committed during the load is picked up by the next refresh
+            long revision = catalogRevisionService != null ? catalogRevisionService.currentRevision() : 0;
+            return CatalogSnapshot.of(
+                    ruleSetService.getAllRuleSets(),
+                    conditionService.getAllConditions(),
+                    Instant.now(),
+                    revision
+            );
+        };
+        this.changeFeed = catalogRevisionService == null || ruleCatalogTable == null ? null : current -> {
+            if (!(current instanceof CatalogSnapshot loaded)) {
+                return Optional.empty();
+            }
+            return ruleCatalogTable.changesSince(loaded.revision()).map(changes -> {
+                ruleSetService.evictCategoriesLocally(changes.ruleCategories(), changes.revision());
+                conditionService.evictConditionsLocally(changes.conditionIds());
+                return loaded.apply(changes, Instant.now());
+            });
+        };
+    }
+
+    private RuleCatalog(Supplier<CatalogView> loader, LongSupplier currentRevision) {
+        this.loader = loader;
+        this.currentRevision = currentRevision;
+        this.changeFeed = null;
+    }
+
+    /**
+     * Serves the catalog from a compiled snapshot file. A refresh maps the file again once its
+     * revision has moved, which is how a node picks up a file replaced by
+     * {@link CatalogSnapshotFile.Writer#commit()}.
+     */
+    public static RuleCatalog fromSnapshotFile(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Catalog snapshot file cannot be null");
+        }
+        return new RuleCatalog(
+                () -> {
+                    try {
+                        return new MappedCatalogSnapshot(CatalogSnapshotFile.open(file), Instant.now());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                () -> {
+                    try {
+                        return CatalogSnapshotFile.readRevision(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Returns the current snapshot, or empty until the first load has completed.
+     */
+    public Optional<CatalogView> snapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Returns when the snapshot was last confirmed to match the catalog, or empty until the first
+     * load has completed. Stays put while background refreshes fail.
+     */
+    public Optional<Instant> syncedAt() {
+        Instant at = syncedAt;
+        return at.equals(Instant.MIN) ? Optional.empty() : Optional.of(at);
+    }
+
+    /**
+     * Returns the number of background refreshes that failed since startup.
+     */
+    public long refreshFailures() {
+        return refreshFailures.get();
+    }
+
+    /**
+     * Reloads the catalog and publishes it as the new snapshot.
+     */
+    public CatalogView refresh() {
+        Instant startedAt = Instant.now();
+        CatalogView loaded = loader.get();
+        snapshot = loaded;
+        syncedAt = startedAt;
+        return loaded;
+    }
+
+    /**
+     * Brings the snapshot to the latest catalog revision: keeps it if it is already there, applies
+     * the change feed if one is available and still holds every change since the last sync, and
+     * reloads the catalog otherwise.
+     */
+    public CatalogView refreshIfChanged() {
+        CatalogView current = snapshot;
+        if (current == null || currentRevision == null) {
+            return refresh();
+        }
+        Instant startedAt = Instant.now();
+        if (currentRevision.getAsLong() == current.revision()) {
+            syncedAt = startedAt;
+            return current;
+        }
+        // Feed rows written since the last sync are younger than it; older ones may have been pruned
+        if (changeFeed != null && syncedAt.isAfter(startedAt.minus(RuleCatalogTableService.CHANGE_RETENTION))) {
+            Optional<CatalogView> applied = changeFeed.apply(current);
+            if (applied.isPresent()) {
+                snapshot = applied.get();
+                syncedAt = startedAt;
+                return applied.get();
+            }
+        }
+        return refresh();
+    }
+
+    /**
+     * Loads the catalog right away and then every {@code interval} on a background thread.
+     * A failed reload keeps the previous snapshot in service.
+     */
+    public void startRefreshing(Duration interval) {
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive");
+        }
+        lifecycleLock.lock();
+        try {
+            if (refresher != null) {
+                throw new IllegalStateException("Catalog refresh already started");
+            }
+            refresher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("rule-catalog-refresh").daemon(true).factory());
+            refresher.scheduleWithFixedDelay(() -> {
+                try {
+                    refreshIfChanged();
+                } catch (RuntimeException e) {
+                    // Keep serving the previous snapshot; the next run retries
+                    refreshFailures.incrementAndGet();
+                    log.warn("Catalog refresh failed; serving the snapshot synced at {}",
+                            syncedAt().map(Instant::toString).orElse("never"), e);
+                }
+            }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lifecycleLock.lock();
+        try {
+            if (refresher != null) {
+                refresher.shutdownNow();
+                refresher = null;
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+}
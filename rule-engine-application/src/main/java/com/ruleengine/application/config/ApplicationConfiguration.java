@@ -1,12 +1,34 @@
 package com.ruleengine.application.config;
 
+import com.ruleengine.application.catalog.RuleCatalog;
+import com.ruleengine.application.service.AsyncValidationService;
+import com.ruleengine.application.service.CatalogRevisionService;
+import com.ruleengine.application.service.CatalogTransferService;
 import com.ruleengine.application.service.ConditionService;
 import com.ruleengine.application.service.ExpressionEngineService;
+import com.ruleengine.application.service.RuleCatalogTableService;
 import com.ruleengine.application.service.RuleEngineService;
+import com.ruleengine.application.service.RuleSetService;
+import com.ruleengine.application.service.ValidationResultCache;
 import com.ruleengine.domain.factory.EngineType;
 import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
+import com.ruleengine.persistence.repository.AttributeRepository;
+import com.ruleengine.persistence.repository.ConditionRepository;
+import com.ruleengine.persistence.repository.RuleRepository;
+import com.ruleengine.persistence.repository.RuleSetRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Spring configuration for application layer services.
@@ -17,12 +39,88 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ApplicationConfiguration {
 
+    /**
+     * With {@code spring.threads.virtual.enabled} requests are already served on virtual threads;
+     * the rule sets of a category validation then also fan out, one virtual thread each, so their
+     * condition lookups block concurrently instead of one after another.
+     * A positive {@code rule-engine.validation.result-cache.max-weight} memoizes rule set results
+     * of repeated validations; an entry weighs its referenced attribute values plus its rule results.
+     */
     @Bean
     public RuleEngineService ruleEngineService(
             EngineStrategyRegistry engineStrategyRegistry,
-            ConditionService conditionService
+            ConditionService conditionService,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${rule-engine.validation.result-cache.max-weight:0}") long resultCacheWeight
+    ) {
+        Executor ruleSetExecutor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : Runnable::run;
+        ValidationResultCache resultCache = resultCacheWeight > 0 ? new ValidationResultCache(resultCacheWeight) : null;
+        return new RuleEngineService(engineStrategyRegistry, EngineType.SPEL, conditionService, ruleSetExecutor, resultCache);
+    }
+
+    /**
+     * In-memory catalog for the non-blocking validation endpoints, brought up to date in the
+     * background from the catalog change feed whenever the catalog revision has moved. With {@code rule-engine.catalog.snapshot-file} set,
+     * it is served from that compiled snapshot file instead and follows replacements of the file.
+     */
+    @Bean
+    public RuleCatalog ruleCatalog(
+            RuleSetService ruleSetService,
+            ConditionService conditionService,
+            CatalogRevisionService catalogRevisionService,
+            RuleCatalogTableService ruleCatalogTableService,
+            @Value("${rule-engine.catalog.refresh-interval-ms:5000}") long refreshIntervalMs,
+            @Value("${rule-engine.catalog.snapshot-file:}") String snapshotFile
+    ) {
+        RuleCatalog ruleCatalog = snapshotFile.isBlank()
+                ? new RuleCatalog(ruleSetService, conditionService, catalogRevisionService, ruleCatalogTableService)
+                : RuleCatalog.fromSnapshotFile(Path.of(snapshotFile));
+        ruleCatalog.startRefreshing(Duration.ofMillis(refreshIntervalMs));
+        return ruleCatalog;
+    }
+
+    /**
+     * Evaluation runs on a bounded pool for CPU-bound work, separate from the request (I/O) threads.
+     * A full queue rejects work instead of letting latency grow without bound.
+     */
+    @Bean
+    public AsyncValidationService asyncValidationService(
+            RuleEngineService ruleEngineService,
+            RuleCatalog ruleCatalog,
+            @Value("${rule-engine.async.threads:0}") int threads,
+            @Value("${rule-engine.async.queue-capacity:1024}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService evaluationExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("rule-eval-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        return new AsyncValidationService(ruleEngineService, ruleCatalog, evaluationExecutor);
+    }
+
+    /**
+     * Imports write {@code rule-engine.catalog.transfer.chunk-size} lines per transaction, and
+     * exports read pages of that many entities; chunks should be a multiple of the JDBC batch size.
+     */
+    @Bean
+    public CatalogTransferService catalogTransferService(
+            AttributeRepository attributeRepository,
+            ConditionRepository conditionRepository,
+            RuleRepository ruleRepository,
+            RuleSetRepository ruleSetRepository,
+            CatalogRevisionService catalogRevisionService,
+            RuleCatalogTableService ruleCatalogTableService,
+            RuleSetService ruleSetService,
+            PlatformTransactionManager transactionManager,
+            @Value("${rule-engine.catalog.transfer.chunk-size:500}") int chunkSize
     ) {
-        return new RuleEngineService(engineStrategyRegistry, EngineType.SPEL, conditionService);
+        return new CatalogTransferService(attributeRepository, conditionRepository, ruleRepository, ruleSetRepository,
+                catalogRevisionService, ruleCatalogTableService, ruleSetService, transactionManager, chunkSize);
     }
 
     @Bean
@@ -0,0 +1,218 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.domain.command.ValidateRuleCommand;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.exception.RuleEvaluationException;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleValidationResult;
+import com.ruleengine.domain.strategy.ExpressionEvaluationStrategy;
+import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Selects an expression engine per rule for rule sets using {@link EngineType#AUTO}.
+ * During warm-up every rule is evaluated on all registered expression engines; engines whose
+ * result differs from the reference engine are ruled out for that rule, and once warm-up is
+ * complete the fastest remaining engine is pinned. Results returned during warm-up always
+ * come from the reference engine, so callers never observe a different outcome.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public class AdaptiveEngineSelector {
+    private final EngineStrategyRegistry strategyRegistry;
+    private final EngineType referenceEngineType;
+    private final int warmupRounds;
+    private final Map<String, RuleProfile> profilesByRule = new ConcurrentHashMap<>();
+
+    public AdaptiveEngineSelector(EngineStrategyRegistry strategyRegistry, EngineType referenceEngineType, int warmupRounds) {
+        if (strategyRegistry == null) {
+            throw new IllegalArgumentException("Strategy registry cannot be null");
+        }
+        if (referenceEngineType == null || referenceEngineType == EngineType.AUTO) {
+            throw new IllegalArgumentException("Reference engine type must be a concrete engine");
+        }
+        if (warmupRounds < 1) {
+            throw new IllegalArgumentException("Warm-up rounds must be positive");
+        }
+        this.strategyRegistry = strategyRegistry;
+        this.referenceEngineType = referenceEngineType;
+        this.warmupRounds = warmupRounds;
+    }
+
+    /**
+     * Validates a rule on the engine selected for it, profiling all candidates while warming up.
+     *
+     * @param rule       The rule to validate
+     * @param context    The evaluation context
+     * @param conditions The rule's conditions, in evaluation order (the profile is kept across reorderings)
+     * @return The validation result of the reference engine during warm-up, else of the pinned engine
+     * @throws RuleEvaluationException if the reference engine is not registered
+     */
+    public RuleValidationResult validate(Rule rule, EvaluationContext context, List<Condition> conditions)
+            throws RuleEvaluationException {
+        RuleProfile profile = profilesByRule.get(rule.id());
+        if (profile == null || !profile.isFor(conditions)) {
+            profile = profilesByRule.compute(rule.id(), (id, existing) ->
+                    existing != null && existing.isFor(conditions) ? existing : new RuleProfile(conditions, candidates()));
+        }
+
+        EngineType pinned = profile.pinned;
+        if (pinned != null) {
+            return new ValidateRuleCommand(rule, context, strategy(pinned), conditions).execute();
+        }
+
+        RuleValidationResult reference = null;
+        Map<EngineType, Long> nanos = new EnumMap<>(EngineType.class);
+        Map<EngineType, RuleValidationResult> results = new EnumMap<>(EngineType.class);
+        for (EngineType engineType : profile.candidates) {
+            ExpressionEvaluationStrategy strategy = strategy(engineType);
+            long start = System.nanoTime();
+            RuleValidationResult result = new ValidateRuleCommand(rule, context, strategy, conditions).execute();
+            nanos.put(engineType, System.nanoTime() - start);
+            results.put(engineType, result);
+            if (engineType == referenceEngineType) {
+                reference = result;
+            }
+        }
+        profile.record(referenceEngineType, results, nanos, warmupRounds);
+        return reference;
+    }
+
+    /**
+     * Returns the current engine choice for every profiled rule.
+     */
+    public List<EngineChoice> choices() {
+        List<EngineChoice> choices = new ArrayList<>();
+        profilesByRule.forEach((ruleId, profile) -> choices.add(profile.toChoice(ruleId)));
+        choices.sort((a, b) -> a.ruleId().compareTo(b.ruleId()));
+        return choices;
+    }
+
+    /**
+     * Discards all profiles, so every rule is warmed up again.
+     */
+    public void reset() {
+        profilesByRule.clear();
+    }
+
+    private Set<EngineType> candidates() {
+        Set<EngineType> candidates = EnumSet.noneOf(EngineType.class);
+        candidates.addAll(strategyRegistry.expressionEngineTypes());
+        candidates.remove(EngineType.AUTO);
+        candidates.add(referenceEngineType);
+        return candidates;
+    }
+
+    private ExpressionEvaluationStrategy strategy(EngineType engineType) throws RuleEvaluationException {
+        return strategyRegistry.getExpressionStrategy(engineType)
+                .orElseThrow(() -> new RuleEvaluationException(
+                        "No expression strategy found for engine type: " + engineType
+                ));
+    }
+
+    /**
+     * Engine chosen for a rule together with the measurements behind the choice.
+     *
+     * @param ruleId       The rule id
+     * @param pinned       The pinned engine, or null while the rule is still warming up
+     * @param samples      Number of warm-up rounds recorded
+     * @param averageNanos Average evaluation time per engine that agrees with the reference engine
+     * @param rejected     Engines ruled out because their result differed from the reference engine
+     */
+    public record EngineChoice(
+            String ruleId,
+            EngineType pinned,
+            int samples,
+            Map<EngineType, Double> averageNanos,
+            Set<EngineType> rejected
+    ) {
+    }
+
+    /**
+     * Warm-up measurements for one rule. Updates are guarded by a lock; the pinned engine is
+     * published through a volatile field so the steady-state path never locks.
+     */
+    private static final class RuleProfile {
+        private final Set<Condition> conditions;
+        private final int conditionCount;
+        private final Set<EngineType> candidates;
+        private final Set<EngineType> rejected = EnumSet.noneOf(EngineType.class);
+        private final Map<EngineType, Long> totalNanos = new EnumMap<>(EngineType.class);
+        private final ReentrantLock lock = new ReentrantLock();
+        private int samples;
+        private volatile EngineType pinned;
+
+        private RuleProfile(List<Condition> conditions, Set<EngineType> candidates) {
+            this.conditions = Set.copyOf(conditions);
+            this.conditionCount = conditions.size();
+            this.candidates = candidates;
+        }
+
+        boolean isFor(List<Condition> conditions) {
+            return conditionCount == conditions.size() && this.conditions.containsAll(conditions);
+        }
+
+        void record(EngineType reference, Map<EngineType, RuleValidationResult> results,
+                    Map<EngineType, Long> nanos, int warmupRounds) {
+            lock.lock();
+            try {
+                if (pinned != null) {
+                    return;
+                }
+                RuleValidationResult expected = results.get(reference);
+                results.forEach((engineType, result) -> {
+                    if (result.passed() != expected.passed() || !result.message().equals(expected.message())) {
+                        rejected.add(engineType);
+                    }
+                });
+                nanos.forEach((engineType, value) -> totalNanos.merge(engineType, value, Long::sum));
+                samples++;
+                if (samples >= warmupRounds) {
+                    pinned = fastest(reference);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        EngineChoice toChoice(String ruleId) {
+            lock.lock();
+            try {
+                Map<EngineType, Double> averages = new EnumMap<>(EngineType.class);
+                if (samples > 0) {
+                    totalNanos.forEach((engineType, total) -> {
+                        if (!rejected.contains(engineType)) {
+                            averages.put(engineType, (double) total / samples);
+                        }
+                    });
+                }
+                return new EngineChoice(ruleId, pinned, samples, averages, Set.copyOf(rejected));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private EngineType fastest(EngineType reference) {
+            EngineType best = reference;
+            long bestNanos = totalNanos.getOrDefault(reference, Long.MAX_VALUE);
+            for (Map.Entry<EngineType, Long> entry : totalNanos.entrySet()) {
+                if (!rejected.contains(entry.getKey()) && entry.getValue() < bestNanos) {
+                    best = entry.getKey();
+                    bestNanos = entry.getValue();
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogView;
+import com.ruleengine.application.catalog.RuleCatalog;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.exception.RuleEvaluationException;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleValidationResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking validation: rules are read from the in-memory {@link RuleCatalog} only and evaluated
+ * on a bounded CPU executor, so request threads are released immediately and no JDBC call is made.
+ * Futures complete exceptionally with {@link RejectedExecutionException} when the executor is saturated
+ * or the catalog has not been loaded yet, i.e. whenever the request should be retried elsewhere.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public class AsyncValidationService implements AutoCloseable {
+    private final RuleEngineService ruleEngineService;
+    private final RuleCatalog ruleCatalog;
+    private final ExecutorService evaluationExecutor;
+
+    /**
+     * @param evaluationExecutor Bounded executor for evaluation; owned by this service and shut down on {@link #close()}
+     */
+    public AsyncValidationService(RuleEngineService ruleEngineService, RuleCatalog ruleCatalog, ExecutorService evaluationExecutor) {
+        if (ruleEngineService == null) {
+            throw new IllegalArgumentException("Rule engine service cannot be null");
+        }
+        if (ruleCatalog == null) {
+            throw new IllegalArgumentException("Rule catalog cannot be null");
+        }
+        if (evaluationExecutor == null) {
+            throw new IllegalArgumentException("Evaluation executor cannot be null");
+        }
+        this.ruleEngineService = ruleEngineService;
+        this.ruleCatalog = ruleCatalog;
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    /**
+     * Validates a rule with inline conditions.
+     */
+    public CompletableFuture<RuleValidationResult> validateRule(Rule rule, EvaluationContext context, List<Condition> conditions) {
+        return submit(() -> {
+            try {
+                return ruleEngineService.validateRule(rule, context, conditions);
+            } catch (RuleEvaluationException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Validates all rule sets of a category as found in the current catalog snapshot.
+     */
+    public CompletableFuture<RuleEngineService.CategoryValidationResult> validateCategory(String ruleCategory, EvaluationContext context) {
+        CatalogView snapshot = ruleCatalog.snapshot().orElse(null);
+        if (snapshot == null) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Rule catalog not loaded yet"));
+        }
+        List<RuleSet> ruleSets = snapshot.ruleSetsFor(ruleCategory);
+        return submit(() -> ruleEngineService.validateRuleSetsByCategory(ruleSets, context, snapshot::conditionsFor));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, evaluationExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        evaluationExecutor.shutdown();
+    }
+}
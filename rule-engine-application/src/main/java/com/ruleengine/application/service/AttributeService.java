@@ -13,7 +13,8 @@ import java.util.stream.Collectors;
 
 /**
  * Application service for managing Attribute entities.
- * Provides CRUD operations for attributes.
+ * Provides CRUD operations for attributes. Attributes carry no revision of their own; writes
+ * advance the catalog revision and stamp the conditions that embed the attribute.
  *
  * Module: rule-engine-application
  * Layer: Application
@@ -22,9 +23,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class AttributeService {
     private final AttributeRepository attributeRepository;
+    private final ConditionService conditionService;
+    private final CatalogRevisionService catalogRevisionService;
 
-    public AttributeService(AttributeRepository attributeRepository) {
+    public AttributeService(AttributeRepository attributeRepository, ConditionService conditionService,
+                            CatalogRevisionService catalogRevisionService) {
         this.attributeRepository = attributeRepository;
+        this.conditionService = conditionService;
+        this.catalogRevisionService = catalogRevisionService;
     }
 
     /**
@@ -35,6 +41,7 @@ public class AttributeService {
             throw new IllegalArgumentException("Attribute with code '" + attribute.code() + "' already exists");
         }
         AttributeEntity entity = AttributeMapper.toEntity(attribute);
+        catalogRevisionService.nextRevision();
         AttributeEntity saved = attributeRepository.save(entity);
         return AttributeMapper.toDomain(saved);
     }
@@ -82,6 +89,8 @@ public class AttributeService {
         }
         
         AttributeEntity saved = attributeRepository.save(existing);
+        // Conditions embed their attributes, so cached copies would keep the old definition
+        conditionService.reviseConditionsUsingAttribute(attribute.code(), catalogRevisionService.nextRevision());
         return AttributeMapper.toDomain(saved);
     }
 
@@ -92,6 +101,7 @@ public class AttributeService {
         if (!attributeRepository.existsByCode(code)) {
             throw new IllegalArgumentException("Attribute with code '" + code + "' not found");
         }
+        catalogRevisionService.nextRevision();
         attributeRepository.deleteById(code);
     }
 
@@ -0,0 +1,68 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.persistence.entity.CatalogRevisionEntity;
+import com.ruleengine.persistence.repository.CatalogRevisionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Application service for the global catalog revision, a counter that every write to rules,
+ * rule sets, conditions and attributes advances in the same transaction. The written entities are
+ * stamped with the new value, so caches and peers can tell whether what they hold is current by
+ * comparing one number instead of reloading.
+ *
+ * <p>The counter lives in a single row; incrementing it locks the row until the writing
+ * transaction ends, which serializes catalog writes and keeps revisions gap-free in commit order.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@Service
+@Transactional
+public class CatalogRevisionService {
+    private final CatalogRevisionRepository catalogRevisionRepository;
+    private final TransactionTemplate newTransaction;
+
+    public CatalogRevisionService(CatalogRevisionRepository catalogRevisionRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.catalogRevisionRepository = catalogRevisionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Advances the catalog revision as part of the caller's write and returns the new value.
+     */
+    public long nextRevision() {
+        if (catalogRevisionRepository.increment(CatalogRevisionEntity.SINGLETON_ID) == 0) {
+            createRow();
+            catalogRevisionRepository.increment(CatalogRevisionEntity.SINGLETON_ID);
+        }
+        return currentRevision();
+    }
+
+    /**
+     * Returns the revision of the last committed catalog write, or 0 if nothing was written yet.
+     */
+    @Transactional(readOnly = true)
+    public long currentRevision() {
+        return catalogRevisionRepository.findRevision(CatalogRevisionEntity.SINGLETON_ID).orElse(0L);
+    }
+
+    /**
+     * Commits the row on its own, so it survives a rollback of the first write; a concurrent
+     * writer that created it first is fine.
+     */
+    private void createRow() {
+        try {
+            newTransaction.executeWithoutResult(status -> catalogRevisionRepository.saveAndFlush(
+                    new CatalogRevisionEntity(CatalogRevisionEntity.SINGLETON_ID, 0)));
+        } catch (DataIntegrityViolationException e) {
+            // Created by another writer meanwhile
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogImportResult;
+import com.ruleengine.application.catalog.CatalogRecord;
+import com.ruleengine.application.catalog.CatalogRecord.AttributeRecord;
+import com.ruleengine.application.catalog.CatalogRecord.ConditionRecord;
+import com.ruleengine.application.catalog.CatalogRecord.RuleRecord;
+import com.ruleengine.application.catalog.CatalogRecord.RuleSetRecord;
+import com.ruleengine.application.catalog.CatalogRecord.Unreadable;
+import com.ruleengine.application.catalog.CatalogSink;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.persistence.entity.ConditionEntity;
+import com.ruleengine.persistence.entity.RuleSetEntity;
+import com.ruleengine.persistence.mapper.AttributeMapper;
+import com.ruleengine.persistence.mapper.ConditionMapper;
+import com.ruleengine.persistence.mapper.RuleMapper;
+import com.ruleengine.persistence.mapper.RuleSetMapper;
+import com.ruleengine.persistence.repository.AttributeRepository;
+import com.ruleengine.persistence.repository.BulkInsertRepository;
+import com.ruleengine.persistence.repository.ConditionRepository;
+import com.ruleengine.persistence.repository.RuleRepository;
+import com.ruleengine.persistence.repository.RuleSetRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Application service for bulk import and export of the catalog (attributes, conditions, rules
+ * and rule sets).
+ *
+ * <p>An import reads its records in chunks and writes each chunk in its own transaction. A chunk
+ * first looks up, in one query per kind, which of its ids exist and which referenced attributes,
+ * conditions and rules it has not seen yet; every record is then validated in memory against what
+ * the import has seen so far, and the valid ones are inserted with JDBC batching, stamped with one
+ * catalog revision per chunk. Invalid lines are reported and skipped; a chunk whose write fails is
+ * reported and rolled back without affecting the chunks before or after it.
+ *
+ * <p>An export walks each kind in id order, one page per read-only transaction, so the
+ * persistence context never holds more than a page and the database connection is released while
+ * the page is written out.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public class CatalogTransferService {
+
+    /**
+     * What an import does with a line whose id already exists.
+     */
+    public enum OnExisting {
+        /** Report the line as failed. */
+        FAIL,
+        /** Count the line as skipped and keep the existing entity. */
+        SKIP
+    }
+
+    private final AttributeRepository attributeRepository;
+    private final ConditionRepository conditionRepository;
+    private final RuleRepository ruleRepository;
+    private final RuleSetRepository ruleSetRepository;
+    private final CatalogRevisionService catalogRevisionService;
+    private final RuleCatalogTableService ruleCatalogTable;
+    private final RuleSetService ruleSetService;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+
+    public CatalogTransferService(AttributeRepository attributeRepository, ConditionRepository conditionRepository,
+                                  RuleRepository ruleRepository, RuleSetRepository ruleSetRepository,
+                                  CatalogRevisionService catalogRevisionService,
+                                  RuleCatalogTableService ruleCatalogTable, RuleSetService ruleSetService,
+                                  PlatformTransactionManager transactionManager, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Catalog transfer chunk size must be positive");
+        }
+        this.attributeRepository = attributeRepository;
+        this.conditionRepository = conditionRepository;
+        this.ruleRepository = ruleRepository;
+        this.ruleSetRepository = ruleSetRepository;
+        this.catalogRevisionService = catalogRevisionService;
+        this.ruleCatalogTable = ruleCatalogTable;
+        this.ruleSetService = ruleSetService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the records in order. Records may only reference entities that exist or appear on an
+     * earlier line.
+     */
+    public CatalogImportResult importCatalog(Stream<CatalogRecord> records, OnExisting onExisting) {
+        Import state = new Import(onExisting);
+        Iterator<CatalogRecord> iterator = records.iterator();
+        List<CatalogRecord> chunk = new ArrayList<>(chunkSize);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                importChunk(state, chunk);
+                chunk.clear();
+            }
+        }
+        return state.result();
+    }
+
+    /**
+     * Exports the whole catalog: attributes, conditions, rules, then rule sets, each in id order.
+     */
+    public void exportCatalog(CatalogSink sink) {
+        exportAll(attributeRepository::findCodesAfter,
+                codes -> attributeRepository.findWithConstraintsByCodeIn(codes).stream().map(AttributeMapper::toDomain),
+                Attribute::code, sink::attribute);
+        exportAll(conditionRepository::findIdsAfter,
+                ids -> conditionRepository.findGraphByIdIn(ids).stream().map(ConditionMapper::toDomain),
+                Condition::id, sink::condition);
+        exportAll(ruleRepository::findIdsAfter,
+                ids -> ruleRepository.findGraphByIdIn(ids).stream().map(RuleMapper::toDomain),
+                Rule::id, sink::rule);
+        exportAll(ruleSetRepository::findIdsAfter,
+                ids -> ruleSetRepository.findGraphByIdIn(ids).stream().map(RuleSetMapper::toDomain),
+                RuleSet::id, sink::ruleSet);
+    }
+
+    /**
+     * A chunk whose write fails counts as failed as a whole; the errors of its invalid lines are
+     * still reported.
+     */
+    private void importChunk(Import state, List<CatalogRecord> records) {
+        Chunk chunk = new Chunk();
+        int failedBefore = state.failed;
+        int skippedBefore = state.skipped;
+        try {
+            transaction.executeWithoutResult(status -> {
+                Existing existing = prefetch(state, records);
+                records.forEach(record -> stage(state, chunk, existing, record));
+                if (chunk.writes() > 0) {
+                    write(chunk);
+                }
+            });
+        } catch (DataAccessException | TransactionException e) {
+            state.report(records.get(0).line(), "Lines " + records.get(0).line() + "-"
+                    + records.get(records.size() - 1).line() + " not written: " + e.getMostSpecificCause().getMessage());
+            state.failed = failedBefore + records.size();
+            state.skipped = skippedBefore;
+            return;
+        }
+        state.commit(chunk);
+    }
+
+    /**
+     * Finds which ids of the chunk exist, and loads what its records reference that the import has
+     * not seen yet. Referenced entities written earlier in the same chunk are simply not found.
+     */
+    private Existing prefetch(Import state, List<CatalogRecord> records) {
+        Set<String> attributeCodes = new HashSet<>();
+        Set<String> conditionIds = new HashSet<>();
+        Set<String> ruleIds = new HashSet<>();
+        Set<String> ruleSetIds = new HashSet<>();
+        Set<String> referencedAttributes = new HashSet<>();
+        Set<String> referencedConditions = new HashSet<>();
+        Set<String> referencedRules = new HashSet<>();
+        for (CatalogRecord record : records) {
+            switch (record) {
+                case AttributeRecord r -> attributeCodes.add(r.attribute().code());
+                case ConditionRecord r -> {
+                    conditionIds.add(r.id());
+                    referencedAttributes.add(r.leftAttributeCode());
+                    referencedAttributes.add(r.rightAttributeCode());
+                }
+                case RuleRecord r -> {
+                    ruleIds.add(r.rule().id());
+                    referencedConditions.addAll(r.rule().conditionIds());
+                }
+                case RuleSetRecord r -> {
+                    ruleSetIds.add(r.id());
+                    if (r.ruleIds() != null) {
+                        referencedRules.addAll(r.ruleIds());
+                    }
+                }
+                case Unreadable r -> {
+                }
+            }
+        }
+        referencedAttributes.removeIf(state.attributes::containsKey);
+        referencedConditions.removeIf(state.conditionIds::contains);
+        referencedRules.removeIf(state.rules::containsKey);
+
+        query(referencedAttributes, attributeRepository::findWithConstraintsByCodeIn).stream()
+                .map(AttributeMapper::toDomain)
+                .forEach(attribute -> state.attributes.put(attribute.code(), attribute));
+        state.conditionIds.addAll(query(referencedConditions, conditionRepository::findIdsByIdIn));
+        query(referencedRules, ruleRepository::findGraphByIdIn).stream()
+                .map(RuleMapper::toDomain)
+                .forEach(rule -> state.rules.put(rule.id(), rule));
+        return new Existing(
+                new HashSet<>(query(attributeCodes, attributeRepository::findCodesByCodeIn)),
+                new HashSet<>(query(conditionIds, conditionRepository::findIdsByIdIn)),
+                new HashSet<>(query(ruleIds, ruleRepository::findIdsByIdIn)),
+                new HashSet<>(query(ruleSetIds, ruleSetRepository::findIdsByIdIn)));
+    }
+
+    /**
+     * Validates a record against the import so far and stages it for writing, or reports it.
+     */
+    private static void stage(Import state, Chunk chunk, Existing existing, CatalogRecord record) {
+        try {
+            switch (record) {
+                case AttributeRecord r -> {
+                    String code = r.attribute().code();
+                    if (admit(state, "Attribute", code, existing.attributeCodes().contains(code)
+                            || state.attributes.containsKey(code) || chunk.attributes.containsKey(code))) {
+                        chunk.attributes.put(code, r.attribute());
+                    }
+                }
+                case ConditionRecord r -> {
+                    if (admit(state, "Condition", r.id(), existing.conditionIds().contains(r.id())
+                            || state.conditionIds.contains(r.id()) || chunk.conditions.containsKey(r.id()))) {
+                        Optional<Attribute> right = Optional.ofNullable(r.rightAttributeCode())
+                                .map(code -> attribute(state, chunk, code));
+                        chunk.conditions.put(r.id(), new Condition(r.id(), r.name(),
+                                attribute(state, chunk, r.leftAttributeCode()), r.operator(), right,
+                                Optional.ofNullable(r.targetValue())));
+                    }
+                }
+                case RuleRecord r -> {
+                    String id = r.rule().id();
+                    if (admit(state, "Rule", id, existing.ruleIds().contains(id)
+                            || state.rules.containsKey(id) || chunk.rules.containsKey(id))) {
+                        for (String conditionId : r.rule().conditionIds()) {
+                            if (!state.conditionIds.contains(conditionId) && !chunk.conditions.containsKey(conditionId)) {
+                                throw new IllegalArgumentException("Condition not found: " + conditionId);
+                            }
+                        }
+                        chunk.rules.put(id, r.rule());
+                    }
+                }
+                case RuleSetRecord r -> {
+                    if (admit(state, "RuleSet", r.id(), existing.ruleSetIds().contains(r.id())
+                            || state.ruleSetIds.contains(r.id()) || chunk.ruleSets.containsKey(r.id()))) {
+                        List<Rule> rules = new ArrayList<>();
+                        for (String ruleId : r.ruleIds() != null ? r.ruleIds() : List.<String>of()) {
+                            rules.add(Optional.ofNullable(chunk.rules.get(ruleId))
+                                    .or(() -> Optional.ofNullable(state.rules.get(ruleId)))
+                                    .orElseThrow(() -> new IllegalArgumentException("Rule not found: " + ruleId)));
+                        }
+                        chunk.ruleSets.put(r.id(), new RuleSet(r.id(), r.name(), rules, r.stopOnFirstFailure(),
+                                r.engineType(), r.ruleCategory(), r.missingAttributePolicy()));
+                    }
+                }
+                case Unreadable r -> throw new IllegalArgumentException(r.reason());
+            }
+        } catch (IllegalArgumentException e) {
+            state.fail(record.line(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether a record is new; an existing id is skipped or fails per the import's policy.
+     */
+    private static boolean admit(Import state, String kind, String id, boolean exists) {
+        if (!exists) {
+            return true;
+        }
+        if (state.onExisting == OnExisting.SKIP) {
+            state.skipped++;
+            return false;
+        }
+        throw new IllegalArgumentException(kind + " '" + id + "' already exists");
+    }
+
+    private static Attribute attribute(Import state, Chunk chunk, String code) {
+        return Optional.ofNullable(chunk.attributes.get(code))
+                .or(() -> Optional.ofNullable(state.attributes.get(code)))
+                .orElseThrow(() -> new IllegalArgumentException("Attribute not found: " + code));
+    }
+
+    /**
+     * Inserts the staged entities in dependency order. Referenced attributes and rules are
+     * attached as references, so existing ones are not read again. The staged rules and rule sets
+     * are replaced by their stamped versions.
+     */
+    private void write(Chunk chunk) {
+        long revision = catalogRevisionService.nextRevision();
+
+        insert(attributeRepository, chunk.attributes.values().stream().map(AttributeMapper::toEntity).toList());
+
+        List<ConditionEntity> conditions = new ArrayList<>();
+        for (Condition condition : chunk.conditions.values()) {
+            ConditionEntity entity = ConditionMapper.toEntity(condition);
+            entity.setLeftAttribute(attributeRepository.getReferenceById(condition.leftAttribute().code()));
+            entity.setRightAttribute(condition.rightAttribute()
+                    .map(attribute -> attributeRepository.getReferenceById(attribute.code()))
+                    .orElse(null));
+            entity.setRevision(revision);
+            conditions.add(entity);
+        }
+        insert(conditionRepository, conditions);
+
+        chunk.rules.replaceAll((id, rule) -> new Rule(id, rule.name(), rule.conditionIds(), rule.metadata(), revision));
+        insert(ruleRepository, chunk.rules.values().stream().map(RuleMapper::toEntity).toList());
+
+        List<RuleSetEntity> ruleSets = new ArrayList<>();
+        chunk.ruleSets.replaceAll((id, ruleSet) -> new RuleSet(id, ruleSet.name(),
+                ruleSet.rules().stream().map(rule -> chunk.rules.getOrDefault(rule.id(), rule)).toList(),
+                ruleSet.stopOnFirstFailure(), ruleSet.engineType(), ruleSet.ruleCategory(),
+                ruleSet.missingAttributePolicy(), revision));
+        for (RuleSet ruleSet : chunk.ruleSets.values()) {
+            RuleSetEntity entity = RuleSetMapper.toEntity(ruleSet);
+            entity.setRules(ruleSet.rules().stream().map(rule -> ruleRepository.getReferenceById(rule.id())).toList());
+            ruleSets.add(entity);
+        }
+        insert(ruleSetRepository, ruleSets);
+
+        if (!chunk.ruleSets.isEmpty()) {
+            ruleCatalogTable.refresh(chunk.ruleSets.values());
+            ruleSetService.evictCategoriesAfterCommit(
+                    chunk.ruleSets.values().stream().map(RuleSet::ruleCategory).distinct().toList());
+        }
+    }
+
+    private static <T> void insert(BulkInsertRepository<T> repository, List<T> entities) {
+        if (!entities.isEmpty()) {
+            repository.insertAll(entities);
+        }
+    }
+
+    private <T> void exportAll(BiFunction<String, Pageable, List<String>> nextIds,
+                               Function<Collection<String>, Stream<T>> load, Function<T, String> idOf,
+                               Consumer<T> sink) {
+        String after = "";
+        while (true) {
+            String from = after;
+            Page<T> page = readOnlyTransaction.execute(status -> {
+                List<String> ids = nextIds.apply(from, PageRequest.ofSize(chunkSize));
+                Map<String, T> loaded = new HashMap<>();
+                if (!ids.isEmpty()) {
+                    load.apply(ids).forEach(item -> loaded.put(idOf.apply(item), item));
+                }
+                return new Page<>(ids, ids.stream().map(loaded::get).filter(Objects::nonNull).toList());
+            });
+            page.items().forEach(sink);
+            if (page.ids().size() < chunkSize) {
+                return;
+            }
+            after = page.ids().get(page.ids().size() - 1);
+        }
+    }
+
+    private static <T> List<T> query(Collection<String> ids, Function<Collection<String>, List<T>> query) {
+        List<String> nonNull = ids.stream().filter(Objects::nonNull).toList();
+        return nonNull.isEmpty() ? List.of() : query.apply(nonNull);
+    }
+
+    /**
+     * Ids of a page in database order, and the entities still found for them.
+     */
+    private record Page<T>(List<String> ids, List<T> items) {
+    }
+
+    /**
+     * Ids of a chunk's records that already exist in the database.
+     */
+    private record Existing(Set<String> attributeCodes, Set<String> conditionIds, Set<String> ruleIds,
+                            Set<String> ruleSetIds) {
+    }
+
+    /**
+     * What an import has seen so far: entities it wrote and existing ones its records referenced.
+     */
+    private static final class Import {
+        private final OnExisting onExisting;
+        private final Map<String, Attribute> attributes = new HashMap<>();
+        private final Set<String> conditionIds = new HashSet<>();
+        private final Map<String, Rule> rules = new HashMap<>();
+        private final Set<String> ruleSetIds = new HashSet<>();
+        private final List<CatalogImportResult.LineError> errors = new ArrayList<>();
+        private int attributeCount;
+        private int conditionCount;
+        private int ruleCount;
+        private int ruleSetCount;
+        private int skipped;
+        private int failed;
+
+        private Import(OnExisting onExisting) {
+            this.onExisting = onExisting;
+        }
+
+        private void fail(int line, String message) {
+            failed++;
+            report(line, message);
+        }
+
+        private void report(int line, String message) {
+            if (errors.size() < CatalogImportResult.MAX_ERRORS) {
+                errors.add(new CatalogImportResult.LineError(line, message));
+            }
+        }
+
+        private void commit(Chunk chunk) {
+            attributes.putAll(chunk.attributes);
+            conditionIds.addAll(chunk.conditions.keySet());
+            rules.putAll(chunk.rules);
+            ruleSetIds.addAll(chunk.ruleSets.keySet());
+            attributeCount += chunk.attributes.size();
+            conditionCount += chunk.conditions.size();
+            ruleCount += chunk.rules.size();
+            ruleSetCount += chunk.ruleSets.size();
+        }
+
+        private CatalogImportResult result() {
+            return new CatalogImportResult(attributeCount, conditionCount, ruleCount, ruleSetCount, skipped, failed,
+                    errors);
+        }
+    }
+
+    /**
+     * Entities of one chunk that passed validation, in line order.
+     */
+    private static final class Chunk {
+        private final Map<String, Attribute> attributes = new LinkedHashMap<>();
+        private final Map<String, Condition> conditions = new LinkedHashMap<>();
+        private final Map<String, Rule> rules = new LinkedHashMap<>();
+        private final Map<String, RuleSet> ruleSets = new LinkedHashMap<>();
+
+        private int writes() {
+            return attributes.size() + conditions.size() + rules.size() + ruleSets.size();
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.ruleengine.application.service;
 
 import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.persistence.cache.CacheStrategy;
+import com.ruleengine.persistence.datasource.ReadReplicaRoutingDataSource;
 import com.ruleengine.persistence.entity.ConditionEntity;
 import com.ruleengine.persistence.mapper.ConditionMapper;
 import com.ruleengine.persistence.repository.ConditionRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Application service for managing Condition entities.
- * Provides CRUD operations for conditions.
+ * Provides CRUD operations for conditions. Lookups by id read through the {@link CacheStrategy},
+ * batched into one cache and one database round-trip for several ids; writes advance the catalog revision, stamp the
+ * condition with it, rewrite the catalog table rows of the rule sets using it and evict the cached condition once the
+ * transaction has committed.
  *
  * Module: rule-engine-application
  * Layer: Application
@@ -21,10 +32,19 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class ConditionService {
+    private static final String CACHE_KEY_PREFIX = "condition:";
+
     private final ConditionRepository conditionRepository;
+    private final CacheStrategy cacheStrategy;
+    private final CatalogRevisionService catalogRevisionService;
+    private final RuleCatalogTableService ruleCatalogTable;
 
-    public ConditionService(ConditionRepository conditionRepository) {
+    public ConditionService(ConditionRepository conditionRepository, CacheStrategy cacheStrategy,
+                            CatalogRevisionService catalogRevisionService, RuleCatalogTableService ruleCatalogTable) {
         this.conditionRepository = conditionRepository;
+        this.cacheStrategy = cacheStrategy;
+        this.catalogRevisionService = catalogRevisionService;
+        this.ruleCatalogTable = ruleCatalogTable;
     }
 
     /**
@@ -35,6 +55,7 @@ public class ConditionService {
             throw new IllegalArgumentException("Condition with id '" + condition.id() + "' already exists");
         }
         ConditionEntity entity = ConditionMapper.toEntity(condition);
+        entity.setRevision(catalogRevisionService.nextRevision());
         ConditionEntity saved = conditionRepository.save(entity);
         return ConditionMapper.toDomain(saved);
     }
@@ -44,8 +65,15 @@ public class ConditionService {
      */
     @Transactional(readOnly = true)
     public Optional<Condition> getConditionById(String id) {
-        return conditionRepository.findById(id)
+        Optional<Condition> cached = cacheStrategy.get(CACHE_KEY_PREFIX + id, Condition.class);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        // Cached, so read from the primary even with a lagging read replica
+        Optional<Condition> loaded = ReadReplicaRoutingDataSource.onPrimary(() -> conditionRepository.findById(id))
                 .map(ConditionMapper::toDomain);
+        loaded.ifPresent(condition -> cacheStrategy.put(CACHE_KEY_PREFIX + id, condition));
+        return loaded;
     }
 
     /**
@@ -53,7 +81,7 @@ public class ConditionService {
      */
     @Transactional(readOnly = true)
     public List<Condition> getAllConditions() {
-        return conditionRepository.findAll().stream()
+        return conditionRepository.findGraphAll().stream()
                 .map(ConditionMapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -85,8 +113,11 @@ public class ConditionService {
                 existing.setTargetValueType(null);
             }
         }
+        existing.setRevision(catalogRevisionService.nextRevision());
         
         ConditionEntity saved = conditionRepository.save(existing);
+        ruleCatalogTable.refreshRuleSetsUsingConditions(List.of(condition.id()));
+        evictAfterCommit(condition.id());
         return ConditionMapper.toDomain(saved);
     }
 
@@ -97,7 +128,35 @@ public class ConditionService {
         if (!conditionRepository.existsById(id)) {
             throw new IllegalArgumentException("Condition with id '" + id + "' not found");
         }
+        catalogRevisionService.nextRevision();
         conditionRepository.deleteById(id);
+        ruleCatalogTable.refreshRuleSetsUsingConditions(List.of(id));
+        evictAfterCommit(id);
+    }
+
+    /**
+     * Stamps the conditions that embed the given attribute with the revision of its change,
+     * rewrites the catalog table rows of the rule sets using them and evicts their cached copies.
+     */
+    public void reviseConditionsUsingAttribute(String attributeCode, long revision) {
+        List<ConditionEntity> conditions = Stream.concat(
+                conditionRepository.findByLeftAttributeCode(attributeCode).stream(),
+                conditionRepository.findByRightAttributeCode(attributeCode).stream()
+        ).distinct().toList();
+        for (ConditionEntity condition : conditions) {
+            condition.setRevision(revision);
+            evictAfterCommit(condition.getId());
+        }
+        ruleCatalogTable.refreshRuleSetsUsingConditions(conditions.stream().map(ConditionEntity::getId).toList());
+    }
+
+    /**
+     * Drops this node's cached copies of the conditions, for changes written by other nodes and read
+     * from the catalog change feed. The writer has already evicted the shared cache and notified the
+     * other nodes, so only the local level is touched.
+     */
+    public void evictConditionsLocally(Collection<String> conditionIds) {
+        conditionIds.forEach(id -> cacheStrategy.evictLocally(CACHE_KEY_PREFIX + id));
     }
 
     /**
@@ -113,11 +172,51 @@ public class ConditionService {
      */
     @Transactional(readOnly = true)
     public List<Condition> getConditionsByIds(List<String> conditionIds) {
+        Map<String, Condition> conditions = new HashMap<>();
+        cacheStrategy.getAll(conditionIds.stream().map(id -> CACHE_KEY_PREFIX + id).toList(), Condition.class)
+                .values()
+                .forEach(condition -> conditions.put(condition.id(), condition));
+
+        List<String> missing = conditionIds.stream().filter(id -> !conditions.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            Map<String, Condition> loaded = new HashMap<>();
+            // Cached, so read from the primary even with a lagging read replica
+            List<ConditionEntity> entities = ReadReplicaRoutingDataSource.onPrimary(
+                    () -> conditionRepository.findGraphByIdIn(missing));
+            for (ConditionEntity entity : entities) {
+                Condition condition = ConditionMapper.toDomain(entity);
+                conditions.put(condition.id(), condition);
+                loaded.put(CACHE_KEY_PREFIX + condition.id(), condition);
+            }
+            cacheStrategy.putAll(loaded);
+        }
+
         return conditionIds.stream()
-                .map(id -> conditionRepository.findById(id)
-                        .map(ConditionMapper::toDomain)
-                        .orElseThrow(() -> new IllegalArgumentException("Condition with id '" + id + "' not found")))
+                .map(id -> {
+                    Condition condition = conditions.get(id);
+                    if (condition == null) {
+                        throw new IllegalArgumentException("Condition with id '" + id + "' not found");
+                    }
+                    return condition;
+                })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Evicting before commit would let a concurrent reader cache the old row again.
+     */
+    private void evictAfterCommit(String id) {
+        String key = CACHE_KEY_PREFIX + id;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheStrategy.evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheStrategy.evict(key);
+            }
+        });
+    }
 }
 
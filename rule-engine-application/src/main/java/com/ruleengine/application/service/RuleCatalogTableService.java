@@ -0,0 +1,287 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogChanges;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+import com.ruleengine.persistence.datasource.ReadReplicaRoutingDataSource;
+import com.ruleengine.persistence.entity.CatalogChangeEntity;
+import com.ruleengine.persistence.entity.CatalogChangeTypeEntity;
+import com.ruleengine.persistence.entity.RuleCatalogEntity;
+import com.ruleengine.persistence.mapper.ConditionMapper;
+import com.ruleengine.persistence.mapper.RuleSetMapper;
+import com.ruleengine.persistence.repository.CatalogChangeRepository;
+import com.ruleengine.persistence.repository.ConditionRepository;
+import com.ruleengine.persistence.repository.RuleCatalogRepository;
+import com.ruleengine.persistence.repository.RuleSetRepository;
+import com.ruleengine.persistence.snapshot.CatalogSnapshotFile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Application service maintaining the denormalized rule catalog table ({@code rule_catalog}):
+ * one row per rule set holding its {@link RuleSetGraph} encoded with {@link BinaryCacheCodec},
+ * stamped with the catalog revision that built it. A category is then read with one indexed query
+ * instead of joining six tables.
+ *
+ * <p>The rule set, rule, condition and attribute services refresh the affected rows in the same
+ * transaction as their write, so the table never disagrees with the normalized tables it was
+ * built from. Rows written with another codec schema version, or data written to the normalized
+ * tables directly, are picked up by {@link #rebuildIfIncomplete()}, which runs at startup.
+ *
+ * <p>Every rewrite is also recorded in the change feed ({@code catalog_change}) in the same
+ * transaction: the rewritten or removed rule sets with their categories, and the conditions whose
+ * change caused it. Nodes read the feed with {@link #changesSince(long)} and swap just those rule
+ * sets into their snapshot instead of reloading the catalog. Feed rows are kept for
+ * {@link #CHANGE_RETENTION}.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@Service
+@Transactional
+public class RuleCatalogTableService {
+    /**
+     * How long change feed rows are kept; a node that has not read the feed for longer reloads
+     * the whole catalog.
+     */
+    public static final Duration CHANGE_RETENTION = Duration.ofDays(1);
+
+    private final RuleCatalogRepository ruleCatalogRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final RuleSetRepository ruleSetRepository;
+    private final ConditionRepository conditionRepository;
+    private final CatalogRevisionService catalogRevisionService;
+    private final BinaryCacheCodec codec = new BinaryCacheCodec();
+
+    public RuleCatalogTableService(RuleCatalogRepository ruleCatalogRepository,
+                                   CatalogChangeRepository catalogChangeRepository, RuleSetRepository ruleSetRepository,
+                                   ConditionRepository conditionRepository,
+                                   CatalogRevisionService catalogRevisionService) {
+        this.ruleCatalogRepository = ruleCatalogRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.ruleSetRepository = ruleSetRepository;
+        this.conditionRepository = conditionRepository;
+        this.catalogRevisionService = catalogRevisionService;
+    }
+
+    /**
+     * Returns the rule set graphs of a category, or empty if a row cannot be decoded and the
+     * caller has to read the normalized tables. Reads the primary even with a read replica, since
+     * categories are cached.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<RuleSetGraph>> findCategory(String ruleCategory) {
+        List<RuleSetGraph> graphs = new ArrayList<>();
+        List<RuleCatalogEntity> rows = ReadReplicaRoutingDataSource.onPrimary(
+                () -> ruleCatalogRepository.findByRuleCategory(ruleCategory));
+        for (RuleCatalogEntity row : rows) {
+            Optional<RuleSetGraph> graph = decode(row);
+            if (graph.isEmpty()) {
+                return Optional.empty();
+            }
+            graphs.add(graph.get());
+        }
+        return Optional.of(graphs);
+    }
+
+    /**
+     * Rewrites the rows of the given rule sets after they were created or changed. Existing rows
+     * are read in one query and updated in place; new ones are inserted in batches.
+     */
+    public void refresh(Collection<RuleSet> ruleSets) {
+        if (ruleSets.isEmpty()) {
+            return;
+        }
+        Set<String> conditionIds = new LinkedHashSet<>();
+        ruleSets.forEach(ruleSet -> ruleSet.rules().forEach(rule -> conditionIds.addAll(rule.conditionIds())));
+        Map<String, Condition> conditions = new HashMap<>();
+        conditionRepository.findGraphByIdIn(conditionIds).stream()
+                .map(ConditionMapper::toDomain)
+                .forEach(condition -> conditions.put(condition.id(), condition));
+
+        Map<String, RuleCatalogEntity> existing = new HashMap<>();
+        ruleCatalogRepository.findAllById(ruleSets.stream().map(RuleSet::id).toList())
+                .forEach(row -> existing.put(row.getRuleSetId(), row));
+
+        long revision = catalogRevisionService.currentRevision();
+        Instant now = Instant.now();
+        List<RuleCatalogEntity> inserted = new ArrayList<>();
+        List<CatalogChangeEntity> changes = new ArrayList<>();
+        for (RuleSet ruleSet : ruleSets) {
+            byte[] payload = codec.encode(new RuleSetGraph(ruleSet, conditionsOf(ruleSet, conditions)));
+            RuleCatalogEntity row = existing.get(ruleSet.id());
+            changes.add(new CatalogChangeEntity(revision, CatalogChangeTypeEntity.RULE_SET, ruleSet.id(),
+                    ruleSet.ruleCategory(), now));
+            if (row == null) {
+                inserted.add(new RuleCatalogEntity(ruleSet.id(), ruleSet.ruleCategory(), revision,
+                        BinaryCacheCodec.SCHEMA_VERSION, payload));
+            } else {
+                if (!row.getRuleCategory().equals(ruleSet.ruleCategory())) {
+                    // Moved: readers drop it from the category it left
+                    changes.add(new CatalogChangeEntity(revision, CatalogChangeTypeEntity.RULE_SET, ruleSet.id(),
+                            row.getRuleCategory(), now));
+                }
+                row.setRuleCategory(ruleSet.ruleCategory());
+                row.setRevision(revision);
+                row.setFormatVersion(BinaryCacheCodec.SCHEMA_VERSION);
+                row.setPayload(payload);
+            }
+        }
+        ruleCatalogRepository.insertAll(inserted);
+        recordChanges(changes);
+    }
+
+    /**
+     * Rewrites the rows of the rule sets whose rules reference any of the given conditions.
+     */
+    public void refreshRuleSetsUsingConditions(Collection<String> conditionIds) {
+        if (conditionIds.isEmpty()) {
+            return;
+        }
+        long revision = catalogRevisionService.currentRevision();
+        Instant now = Instant.now();
+        recordChanges(conditionIds.stream()
+                .map(id -> new CatalogChangeEntity(revision, CatalogChangeTypeEntity.CONDITION, id, null, now))
+                .toList());
+        List<String> ruleSetIds = ruleSetRepository.findIdsByConditionIdIn(conditionIds);
+        if (!ruleSetIds.isEmpty()) {
+            refresh(ruleSetRepository.findGraphByIdIn(ruleSetIds).stream().map(RuleSetMapper::toDomain).toList());
+        }
+    }
+
+    /**
+     * Drops the row of a deleted rule set.
+     */
+    public void remove(String ruleSetId, String ruleCategory) {
+        ruleCatalogRepository.deleteById(ruleSetId);
+        recordChanges(List.of(new CatalogChangeEntity(catalogRevisionService.currentRevision(),
+                CatalogChangeTypeEntity.RULE_SET, ruleSetId, ruleCategory, Instant.now())));
+    }
+
+    /**
+     * Reads the change feed after the given revision, up to the current one, with the rows of the
+     * changed rule sets that still exist. Returns empty if a row cannot be decoded and the caller
+     * has to reload the catalog.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CatalogChanges> changesSince(long revision) {
+        // Read first: rows up to it are committed, since writers advance the revision one at a time
+        long current = catalogRevisionService.currentRevision();
+        Set<String> ruleSetIds = new LinkedHashSet<>();
+        Set<String> ruleCategories = new LinkedHashSet<>();
+        Set<String> conditionIds = new LinkedHashSet<>();
+        for (CatalogChangeEntity change : catalogChangeRepository.findByRevisionRange(revision, current)) {
+            if (change.getEntityType() == CatalogChangeTypeEntity.CONDITION) {
+                conditionIds.add(change.getEntityId());
+            } else {
+                ruleSetIds.add(change.getEntityId());
+                ruleCategories.add(change.getRuleCategory());
+            }
+        }
+        List<RuleSetGraph> graphs = new ArrayList<>();
+        if (!ruleSetIds.isEmpty()) {
+            for (RuleCatalogEntity row : ruleCatalogRepository.findAllById(ruleSetIds)) {
+                Optional<RuleSetGraph> graph = decode(row);
+                if (graph.isEmpty()) {
+                    return Optional.empty();
+                }
+                graphs.add(graph.get());
+            }
+        }
+        return Optional.of(new CatalogChanges(current, ruleSetIds, ruleCategories, graphs, conditionIds));
+    }
+
+    /**
+     * Rebuilds the whole table unless it holds one current-format row per rule set.
+     *
+     * @return the number of rows written
+     */
+    public int rebuildIfIncomplete() {
+        long ruleSetCount = ruleSetRepository.count();
+        if (ruleCatalogRepository.count() == ruleSetCount
+                && ruleCatalogRepository.countByFormatVersion(BinaryCacheCodec.SCHEMA_VERSION) == ruleSetCount) {
+            return 0;
+        }
+        ruleCatalogRepository.deleteAllInBatch();
+        List<RuleSet> ruleSets = ruleSetRepository.findGraphAll().stream().map(RuleSetMapper::toDomain).toList();
+        refresh(ruleSets);
+        return ruleSets.size();
+    }
+
+    /**
+     * Writes the table to a compiled snapshot file, which replaces {@code file} once complete.
+     * Rows are copied as stored, one category at a time; rows in another codec schema fail the
+     * write, so run {@link #rebuildIfIncomplete()} first after a codec change.
+     *
+     * @return the catalog revision the file was written at
+     */
+    @Transactional(readOnly = true)
+    public long writeSnapshotFile(Path file) throws IOException {
+        // Read before copying, so the file contains at least every write up to its revision
+        long revision = catalogRevisionService.currentRevision();
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(file, revision)) {
+            for (String category : ruleCatalogRepository.findCategories()) {
+                writer.addCategory(category, ruleCatalogRepository.findByRuleCategory(category).stream()
+                        .sorted(Comparator.comparing(RuleCatalogEntity::getRuleSetId))
+                        .map(RuleCatalogEntity::getPayload)
+                        .toList());
+            }
+            writer.commit();
+        }
+        return revision;
+    }
+
+    /**
+     * Writes the feed rows and prunes those past retention. Writers hold the catalog revision lock,
+     * so pruning runs one writer at a time.
+     */
+    private void recordChanges(List<CatalogChangeEntity> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        catalogChangeRepository.deleteCreatedBefore(changes.get(0).getCreatedAt().minus(CHANGE_RETENTION));
+        catalogChangeRepository.insertAll(changes);
+    }
+
+    private Optional<RuleSetGraph> decode(RuleCatalogEntity row) {
+        if (row.getFormatVersion() != BinaryCacheCodec.SCHEMA_VERSION) {
+            return Optional.empty();
+        }
+        try {
+            return codec.decode(row.getPayload(), RuleSetGraph.class);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Condition> conditionsOf(RuleSet ruleSet, Map<String, Condition> conditions) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<Condition> referenced = new ArrayList<>();
+        for (Rule rule : ruleSet.rules()) {
+            for (String conditionId : rule.conditionIds()) {
+                Condition condition = conditions.get(conditionId);
+                if (condition != null && seen.add(conditionId)) {
+                    referenced.add(condition);
+                }
+            }
+        }
+        return referenced;
+    }
+}
@@ -4,10 +4,15 @@ import com.ruleengine.domain.command.ValidateRuleCommand;
 import com.ruleengine.domain.context.EvaluationContext;
 import com.ruleengine.domain.exception.RuleEvaluationException;
 import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.index.ConditionMatches;
+import com.ruleengine.domain.index.RuleSetIndex;
 import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
 import com.ruleengine.domain.rule.Rule;
 import com.ruleengine.domain.rule.RuleSet;
 import com.ruleengine.domain.rule.RuleValidationResult;
+import com.ruleengine.domain.stats.ConditionProfile;
+import com.ruleengine.domain.stats.ConditionStatistics;
 import com.ruleengine.domain.strategy.ExpressionEvaluationStrategy;
 import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
 
@@ -15,20 +20,46 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Application service for orchestrating rule validation operations.
  * Coordinates domain strategies and commands to implement use cases.
+ * With a {@link ValidationResultCache}, repeated validations of a rule set with the same referenced
+ * attribute values reuse the earlier results.
  * 
  * Module: rule-engine-application
  * Layer: Application
  */
 public class RuleEngineService {
+    // Every n-th engine evaluation of a rule is sampled condition by condition
+    private static final int SAMPLE_INTERVAL = 100;
+    private static final int MIN_SAMPLES = 20;
+    private static final int WARMUP_ROUNDS = 50;
+
     private final EngineStrategyRegistry strategyRegistry;
     private final EngineType defaultEngineType;
     private final ConditionService conditionService;
+    private final Map<String, RuleSetIndex> ruleSetIndexes = new ConcurrentHashMap<>();
+    private final ConditionStatistics conditionStatistics;
+    private final AtomicLong engineEvaluations = new AtomicLong();
+    private final AdaptiveEngineSelector engineSelector;
+    private final Executor ruleSetExecutor;
+    private final ValidationResultCache resultCache;
 
-    public RuleEngineService(EngineStrategyRegistry strategyRegistry, EngineType defaultEngineType, ConditionService conditionService) {
+    /**
+     * @param ruleSetExecutor Runs the rule sets of a category validation, e.g. one virtual thread per rule set;
+     *                        {@code Runnable::run} keeps them on the caller thread
+     * @param resultCache     Memoizes rule set results of repeated validations; {@code null} evaluates every time
+     */
+    public RuleEngineService(EngineStrategyRegistry strategyRegistry, EngineType defaultEngineType, ConditionService conditionService,
+                             Executor ruleSetExecutor, ValidationResultCache resultCache) {
         if (strategyRegistry == null) {
             throw new IllegalArgumentException("Strategy registry cannot be null");
         }
@@ -38,9 +69,17 @@ public class RuleEngineService {
         if (conditionService == null) {
             throw new IllegalArgumentException("Condition service cannot be null");
         }
+        if (ruleSetExecutor == null) {
+            throw new IllegalArgumentException("Rule set executor cannot be null");
+        }
         this.strategyRegistry = strategyRegistry;
         this.defaultEngineType = defaultEngineType;
         this.conditionService = conditionService;
+        this.conditionStatistics = new ConditionStatistics(MIN_SAMPLES);
+        this.ruleSetExecutor = ruleSetExecutor;
+        this.resultCache = resultCache;
+        this.engineSelector = new AdaptiveEngineSelector(
+                strategyRegistry, referenceEngineType(defaultEngineType), WARMUP_ROUNDS);
     }
 
     /**
@@ -64,11 +103,10 @@ public class RuleEngineService {
      * Validates a single rule against the given evaluation context using a specific engine type with provided conditions.
      */
     public RuleValidationResult validateRule(Rule rule, EvaluationContext context, EngineType engineType, List<Condition> conditions) throws RuleEvaluationException {
-        ExpressionEvaluationStrategy strategy = strategyRegistry
-                .getExpressionStrategy(engineType)
-                .orElseThrow(() -> new RuleEvaluationException(
-                    "No expression strategy found for engine type: " + engineType
-                ));
+        if (engineType == EngineType.AUTO) {
+            return engineSelector.validate(rule, context, conditions);
+        }
+        ExpressionEvaluationStrategy strategy = resolveStrategy(engineType);
 
         ValidateRuleCommand command = new ValidateRuleCommand(rule, context, strategy, conditions);
         return command.execute();
@@ -96,20 +134,82 @@ public class RuleEngineService {
             EvaluationContext context,
             EngineType engineType
     ) throws RuleEvaluationException {
-        ExpressionEvaluationStrategy strategy = strategyRegistry
-                .getExpressionStrategy(engineType)
-                .orElseThrow(() -> new RuleEvaluationException(
-                    "No expression strategy found for engine type: " + engineType
-                ));
+        // AUTO rule sets sample conditions on the reference engine and pick an engine per rule
+        return validateRuleSet(ruleSet, context, engineType, resolveConditions(ruleSet));
+    }
+
+    /**
+     * Validates a rule set whose conditions have already been resolved, e.g. from an in-memory catalog.
+     *
+     * @param conditionsByRule The conditions of every rule in the rule set, keyed by rule id
+     */
+    public List<RuleValidationResult> validateRuleSet(
+            RuleSet ruleSet,
+            EvaluationContext context,
+            Map<String, List<Condition>> conditionsByRule
+    ) throws RuleEvaluationException {
+        EngineType engineType = ruleSet.engineType() != null ? ruleSet.engineType() : defaultEngineType;
+        return validateRuleSet(ruleSet, context, engineType, conditionsByRule);
+    }
+
+    /**
+     * Validates a rule set with synthetic input, e.g. during the startup warm-up.
+     * The result cache is neither read nor written: a memo hit would skip the engines the caller
+     * wants to exercise, and synthetic results would only evict entries of real traffic.
+     */
+    public List<RuleValidationResult> validateRuleSetUncached(
+            RuleSet ruleSet,
+            EvaluationContext context
+    ) throws RuleEvaluationException {
+        EngineType engineType = ruleSet.engineType() != null ? ruleSet.engineType() : defaultEngineType;
+        return validateRuleSet(ruleSet, context, engineType, resolveConditions(ruleSet), false);
+    }
+
+    private List<RuleValidationResult> validateRuleSet(
+            RuleSet ruleSet,
+            EvaluationContext context,
+            EngineType engineType,
+            Map<String, List<Condition>> conditionsByRule
+    ) throws RuleEvaluationException {
+        return validateRuleSet(ruleSet, context, engineType, conditionsByRule, true);
+    }
+
+    private List<RuleValidationResult> validateRuleSet(
+            RuleSet ruleSet,
+            EvaluationContext context,
+            EngineType engineType,
+            Map<String, List<Condition>> conditionsByRule,
+            boolean memoize
+    ) throws RuleEvaluationException {
+        ExpressionEvaluationStrategy strategy = resolveStrategy(
+                engineType == EngineType.AUTO ? referenceEngineType(defaultEngineType) : engineType);
+
+        RuleSetIndex index = indexFor(ruleSet, conditionsByRule);
+        Optional<ValidationResultCache.Key> memoKey = resultCache == null || !memoize
+                ? Optional.empty() : resultCache.keyFor(ruleSet, index, conditionsByRule, engineType, context);
+        if (memoKey.isPresent()) {
+            Optional<List<RuleValidationResult>> memoized = resultCache.get(memoKey.get());
+            if (memoized.isPresent()) {
+                return new ArrayList<>(memoized.get());
+            }
+        }
 
         List<RuleValidationResult> results = new ArrayList<>();
+        Map<String, List<String>> missingAttributes = findMissingAttributes(ruleSet, index, context);
+        ConditionMatches matches = index.indexedConditionCount() > 0 ? index.match(context) : ConditionMatches.none();
 
-        for (Rule rule : ruleSet.rules()) {
-            // Fetch conditions by their IDs
-            List<Condition> conditions = conditionService.getConditionsByIds(rule.conditionIds());
-            
-            ValidateRuleCommand command = new ValidateRuleCommand(rule, context, strategy, conditions);
-            RuleValidationResult result = command.execute();
+        for (int position = 0; position < ruleSet.rules().size(); position++) {
+            Rule rule = ruleSet.rules().get(position);
+            List<String> missing = missingAttributes.get(rule.id());
+            Optional<Boolean> decided = index.decide(position, matches);
+            RuleValidationResult result;
+            if (missing != null && rule.metadata().active()) {
+                result = missingAttributeResult(ruleSet.missingAttributePolicy(), missing);
+            } else if (decided.isPresent()) {
+                result = rule.validate(decided.get());
+            } else {
+                result = evaluateWithEngine(rule, context, engineType, strategy, conditionsByRule.get(rule.id()));
+            }
 
             results.add(result);
 
@@ -119,9 +219,174 @@ public class RuleEngineService {
             }
         }
 
+        memoKey.ifPresent(key -> resultCache.put(key, results));
         return results;
     }
 
+    /**
+     * Evaluates a rule through the expression engine with its conditions in cost-based order.
+     * Every n-th call additionally evaluates each condition on its own to feed the statistics.
+     */
+    private RuleValidationResult evaluateWithEngine(
+            Rule rule,
+            EvaluationContext context,
+            EngineType engineType,
+            ExpressionEvaluationStrategy strategy,
+            List<Condition> conditions
+    ) throws RuleEvaluationException {
+        if (rule.metadata().active() && conditions.size() > 1
+                && engineEvaluations.incrementAndGet() % SAMPLE_INTERVAL == 0) {
+            sampleConditions(rule, context, strategy, conditions);
+        }
+        List<Condition> ordered = conditionStatistics.order(conditions);
+        if (engineType == EngineType.AUTO) {
+            return engineSelector.validate(rule, context, ordered);
+        }
+        ValidateRuleCommand command = new ValidateRuleCommand(rule, context, strategy, ordered);
+        return command.execute();
+    }
+
+    /**
+     * Discards the condition statistics, e.g. after synthetic warm-up traffic,
+     * so condition order is learned from real traffic only.
+     */
+    public void resetConditionStatistics() {
+        conditionStatistics.reset();
+    }
+
+    /**
+     * Returns the engine chosen for every rule evaluated through {@link EngineType#AUTO}.
+     */
+    public List<AdaptiveEngineSelector.EngineChoice> engineChoices() {
+        return engineSelector.choices();
+    }
+
+    private ExpressionEvaluationStrategy resolveStrategy(EngineType engineType) throws RuleEvaluationException {
+        return strategyRegistry
+                .getExpressionStrategy(engineType)
+                .orElseThrow(() -> new RuleEvaluationException(
+                    "No expression strategy found for engine type: " + engineType
+                ));
+    }
+
+    /**
+     * AUTO compares engines against the default engine, or against SpEL when the default is AUTO itself.
+     */
+    private static EngineType referenceEngineType(EngineType defaultEngineType) {
+        return defaultEngineType == EngineType.AUTO ? EngineType.SPEL : defaultEngineType;
+    }
+
+    private void sampleConditions(
+            Rule rule,
+            EvaluationContext context,
+            ExpressionEvaluationStrategy strategy,
+            List<Condition> conditions
+    ) {
+        for (Condition condition : conditions) {
+            long start = System.nanoTime();
+            RuleValidationResult result = new ValidateRuleCommand(rule, context, strategy, List.of(condition)).execute();
+            conditionStatistics.record(condition.id(), System.nanoTime() - start, result.passed());
+        }
+    }
+
+    /**
+     * Describes the order in which each rule's conditions are currently evaluated,
+     * together with the statistics behind that order.
+     *
+     * @param ruleSet The rule set to describe
+     * @return One plan per rule, in declared rule order
+     */
+    public List<RulePlan> describePlan(RuleSet ruleSet) {
+        Map<String, List<Condition>> conditionsByRule = resolveConditions(ruleSet);
+        List<RulePlan> plans = new ArrayList<>();
+        for (Rule rule : ruleSet.rules()) {
+            List<Condition> declared = conditionsByRule.get(rule.id());
+            List<Condition> ordered = conditionStatistics.order(declared);
+            List<ConditionPlan> conditionPlans = new ArrayList<>();
+            for (Condition condition : ordered) {
+                ConditionProfile profile = conditionStatistics.profile(condition.id());
+                conditionPlans.add(new ConditionPlan(
+                        condition.id(),
+                        declared.indexOf(condition),
+                        profile.samples(),
+                        profile.failureRate(),
+                        profile.averageNanos()
+                ));
+            }
+            plans.add(new RulePlan(rule.id(), rule.name(), !ordered.equals(declared), conditionPlans));
+        }
+        return plans;
+    }
+
+    /**
+     * Fetches the conditions of every rule in the rule set, keyed by rule id.
+     */
+    private Map<String, List<Condition>> resolveConditions(RuleSet ruleSet) {
+        return conditionsByRule(ruleSet, fetchConditions(List.of(ruleSet)));
+    }
+
+    /**
+     * Fetches the conditions of all rules in the given rule sets with one batched lookup, keyed by condition id.
+     */
+    private Map<String, Condition> fetchConditions(List<RuleSet> ruleSets) {
+        List<String> conditionIds = ruleSets.stream()
+                .flatMap(ruleSet -> ruleSet.rules().stream())
+                .flatMap(rule -> rule.conditionIds().stream())
+                .distinct()
+                .toList();
+        Map<String, Condition> conditions = new HashMap<>();
+        for (Condition condition : conditionService.getConditionsByIds(conditionIds)) {
+            conditions.put(condition.id(), condition);
+        }
+        return conditions;
+    }
+
+    private static Map<String, List<Condition>> conditionsByRule(RuleSet ruleSet, Map<String, Condition> conditions) {
+        Map<String, List<Condition>> conditionsByRule = new HashMap<>();
+        for (Rule rule : ruleSet.rules()) {
+            conditionsByRule.computeIfAbsent(rule.id(), id -> rule.conditionIds().stream().map(conditions::get).toList());
+        }
+        return conditionsByRule;
+    }
+
+    /**
+     * Returns the cached index for the rule set, rebuilding it when the rule set or its conditions changed.
+     */
+    private RuleSetIndex indexFor(RuleSet ruleSet, Map<String, List<Condition>> conditionsByRule) {
+        RuleSetIndex index = ruleSetIndexes.get(ruleSet.id());
+        if (index == null || !index.isBuiltFrom(ruleSet, conditionsByRule)) {
+            index = RuleSetIndex.build(ruleSet, conditionsByRule);
+            ruleSetIndexes.put(ruleSet.id(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Uses the attribute index to find rules whose attributes are absent from the context.
+     * Rule sets with the EVALUATE policy skip the lookup and keep the legacy behaviour.
+     */
+    private Map<String, List<String>> findMissingAttributes(
+            RuleSet ruleSet,
+            RuleSetIndex index,
+            EvaluationContext context
+    ) {
+        if (ruleSet.missingAttributePolicy() == MissingAttributePolicy.EVALUATE) {
+            return Map.of();
+        }
+        return index.attributeIndex().missingAttributesByRule(context);
+    }
+
+    /**
+     * Builds the result for a rule that cannot be evaluated because attributes are missing.
+     */
+    private RuleValidationResult missingAttributeResult(MissingAttributePolicy policy, List<String> missing) {
+        Map<String, Object> details = Map.of("missingAttributes", missing);
+        if (policy == MissingAttributePolicy.NOT_APPLICABLE) {
+            return RuleValidationResult.notApplicable("Rule not applicable: missing attributes " + missing, details);
+        }
+        return RuleValidationResult.failure("Rule validation failed: missing attributes " + missing, details);
+    }
+
     /**
      * Validates all rule sets for a given category against the evaluation context.
      * Returns an aggregated result where overall success requires ALL rule sets to pass (AND operation).
@@ -135,6 +400,35 @@ public class RuleEngineService {
             List<RuleSet> ruleSets,
             EvaluationContext context
     ) throws RuleEvaluationException {
+        // One batched condition lookup for the whole category instead of one per rule
+        Map<String, Condition> conditions = ruleSets == null ? Map.of() : fetchConditions(ruleSets);
+        return validateRuleSetsByCategory(ruleSets, context,
+                ruleSet -> conditionsByRule(ruleSet, conditions), ruleSetExecutor);
+    }
+
+    /**
+     * Validates all rule sets for a category whose conditions have already been resolved.
+     * Nothing blocks, so the rule sets are validated on the calling thread.
+     *
+     * @param ruleSets           List of rule sets for the category
+     * @param context            The evaluation context containing attribute values
+     * @param conditionsResolver Returns the conditions of every rule in a rule set, keyed by rule id
+     * @return Aggregated validation result with details of each rule set
+     */
+    public CategoryValidationResult validateRuleSetsByCategory(
+            List<RuleSet> ruleSets,
+            EvaluationContext context,
+            Function<RuleSet, Map<String, List<Condition>>> conditionsResolver
+    ) {
+        return validateRuleSetsByCategory(ruleSets, context, conditionsResolver, Runnable::run);
+    }
+
+    private CategoryValidationResult validateRuleSetsByCategory(
+            List<RuleSet> ruleSets,
+            EvaluationContext context,
+            Function<RuleSet, Map<String, List<Condition>>> conditionsResolver,
+            Executor executor
+    ) {
         if (ruleSets == null || ruleSets.isEmpty()) {
             return new CategoryValidationResult(
                     true, // Empty category is considered valid
@@ -144,59 +438,30 @@ public class RuleEngineService {
             );
         }
 
-        List<RuleSetValidationResult> ruleSetResults = new ArrayList<>();
-        boolean overallPassed = true;
-        int totalRuleSets = ruleSets.size();
-        int passedRuleSets = 0;
-        int failedRuleSets = 0;
-
+        // Rule sets are independent, so they may run concurrently
+        List<CompletableFuture<RuleSetValidationResult>> pending = new ArrayList<>();
         for (RuleSet ruleSet : ruleSets) {
-            try {
-                List<RuleValidationResult> ruleResults = validateRuleSet(ruleSet, context);
-                
-                // Determine if this rule set passed (all rules must pass)
-                boolean ruleSetPassed = ruleResults.stream().allMatch(RuleValidationResult::passed);
-                
-                if (ruleSetPassed) {
-                    passedRuleSets++;
-                } else {
-                    failedRuleSets++;
-                    overallPassed = false; // AND operation: any failure means overall failure
-                }
+            pending.add(CompletableFuture.supplyAsync(
+                    () -> validateRuleSetForCategory(ruleSet, context, conditionsResolver), executor));
+        }
 
-                // Build rule results for this rule set
-                List<RuleResult> ruleResultList = new ArrayList<>();
-                for (int i = 0; i < ruleSet.rules().size() && i < ruleResults.size(); i++) {
-                    Rule rule = ruleSet.rules().get(i);
-                    RuleValidationResult result = ruleResults.get(i);
-                    ruleResultList.add(new RuleResult(
-                            rule.id(),
-                            rule.name(),
-                            result.passed(),
-                            result.message().orElse(result.passed() ? "Rule passed" : "Rule failed")
-                    ));
+        List<RuleSetValidationResult> ruleSetResults = new ArrayList<>();
+        for (CompletableFuture<RuleSetValidationResult> future : pending) {
+            try {
+                ruleSetResults.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
                 }
-
-                ruleSetResults.add(new RuleSetValidationResult(
-                        ruleSet.id(),
-                        ruleSet.name(),
-                        ruleSetPassed,
-                        ruleSetPassed ? "All rules in rule set passed" : "One or more rules in rule set failed",
-                        ruleResultList
-                ));
-            } catch (RuleEvaluationException e) {
-                failedRuleSets++;
-                overallPassed = false;
-                ruleSetResults.add(new RuleSetValidationResult(
-                        ruleSet.id(),
-                        ruleSet.name(),
-                        false,
-                        "Rule set validation error: " + e.getMessage(),
-                        new ArrayList<>()
-                ));
+                throw e;
             }
         }
 
+        int totalRuleSets = ruleSets.size();
+        int passedRuleSets = (int) ruleSetResults.stream().filter(RuleSetValidationResult::passed).count();
+        int failedRuleSets = totalRuleSets - passedRuleSets;
+        boolean overallPassed = failedRuleSets == 0; // AND operation: any failure means overall failure
+
         String message = overallPassed 
                 ? String.format("All %d rule set(s) passed validation", totalRuleSets)
                 : String.format("%d of %d rule set(s) failed validation", failedRuleSets, totalRuleSets);
@@ -214,6 +479,51 @@ public class RuleEngineService {
         );
     }
 
+    /**
+     * Validates one rule set of a category validation, turning evaluation errors into a failed result.
+     */
+    private RuleSetValidationResult validateRuleSetForCategory(
+            RuleSet ruleSet,
+            EvaluationContext context,
+            Function<RuleSet, Map<String, List<Condition>>> conditionsResolver
+    ) {
+        try {
+            List<RuleValidationResult> ruleResults = validateRuleSet(ruleSet, context, conditionsResolver.apply(ruleSet));
+
+            // Determine if this rule set passed (all rules must pass)
+            boolean ruleSetPassed = ruleResults.stream().allMatch(RuleValidationResult::passed);
+
+            // Build rule results for this rule set
+            List<RuleResult> ruleResultList = new ArrayList<>();
+            for (int i = 0; i < ruleSet.rules().size() && i < ruleResults.size(); i++) {
+                Rule rule = ruleSet.rules().get(i);
+                RuleValidationResult result = ruleResults.get(i);
+                ruleResultList.add(new RuleResult(
+                        rule.id(),
+                        rule.name(),
+                        result.passed(),
+                        result.message().orElse(result.passed() ? "Rule passed" : "Rule failed")
+                ));
+            }
+
+            return new RuleSetValidationResult(
+                    ruleSet.id(),
+                    ruleSet.name(),
+                    ruleSetPassed,
+                    ruleSetPassed ? "All rules in rule set passed" : "One or more rules in rule set failed",
+                    ruleResultList
+            );
+        } catch (RuleEvaluationException e) {
+            return new RuleSetValidationResult(
+                    ruleSet.id(),
+                    ruleSet.name(),
+                    false,
+                    "Rule set validation error: " + e.getMessage(),
+                    new ArrayList<>()
+            );
+        }
+    }
+
     /**
      * Result of validating all rule sets for a category.
      */
@@ -237,6 +547,29 @@ public class RuleEngineService {
     ) {
     }
 
+    /**
+     * Evaluation order of a rule's conditions.
+     */
+    public record RulePlan(
+            String ruleId,
+            String ruleName,
+            boolean reordered,
+            List<ConditionPlan> conditions
+    ) {
+    }
+
+    /**
+     * A condition in evaluation order with the statistics that placed it there.
+     */
+    public record ConditionPlan(
+            String conditionId,
+            int declaredPosition,
+            long samples,
+            double failureRate,
+            double averageNanos
+    ) {
+    }
+
     /**
      * Result for a single rule validation within a rule set.
      */
@@ -13,7 +13,9 @@ import java.util.stream.Collectors;
 
 /**
  * Application service for managing Rule entities.
- * Provides CRUD operations for rules.
+ * Provides CRUD operations for rules. Writes advance the catalog revision and stamp the rule with it;
+ * rule sets embed their rules, so updates and deletes also stamp the rule sets that contain the rule
+ * and evict their cached categories.
  *
  * Module: rule-engine-application
  * Layer: Application
@@ -22,9 +24,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class RuleService {
     private final RuleRepository ruleRepository;
+    private final RuleSetService ruleSetService;
+    private final CatalogRevisionService catalogRevisionService;
 
-    public RuleService(RuleRepository ruleRepository) {
+    public RuleService(RuleRepository ruleRepository, RuleSetService ruleSetService,
+                       CatalogRevisionService catalogRevisionService) {
         this.ruleRepository = ruleRepository;
+        this.ruleSetService = ruleSetService;
+        this.catalogRevisionService = catalogRevisionService;
     }
 
     /**
@@ -35,6 +42,7 @@ public class RuleService {
             throw new IllegalArgumentException("Rule with id '" + rule.id() + "' already exists");
         }
         RuleEntity entity = RuleMapper.toEntity(rule);
+        entity.setRevision(catalogRevisionService.nextRevision());
         RuleEntity saved = ruleRepository.save(entity);
         return RuleMapper.toDomain(saved);
     }
@@ -104,8 +112,11 @@ public class RuleService {
         // Update condition IDs
         existing.getConditionIds().clear();
         existing.getConditionIds().addAll(rule.conditionIds());
+        long revision = catalogRevisionService.nextRevision();
+        existing.setRevision(revision);
         
         RuleEntity saved = ruleRepository.save(existing);
+        ruleSetService.reviseRuleSetsContainingRule(rule.id(), revision);
         return RuleMapper.toDomain(saved);
     }
 
@@ -116,6 +127,7 @@ public class RuleService {
         if (!ruleRepository.existsById(id)) {
             throw new IllegalArgumentException("Rule with id '" + id + "' not found");
         }
+        ruleSetService.reviseRuleSetsContainingRule(id, catalogRevisionService.nextRevision());
         ruleRepository.deleteById(id);
     }
 
@@ -1,19 +1,38 @@
 package com.ruleengine.application.service;
 
+import com.ruleengine.domain.rule.CategoryRuleSets;
 import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.CacheStrategy;
+import com.ruleengine.persistence.datasource.ReadReplicaRoutingDataSource;
 import com.ruleengine.persistence.entity.RuleSetEntity;
 import com.ruleengine.persistence.mapper.RuleSetMapper;
 import com.ruleengine.persistence.repository.RuleSetRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
  * Application service for managing RuleSet entities.
- * Provides CRUD operations for rule sets.
+ * Provides CRUD operations for rule sets. Lookups by category read through the {@link CacheStrategy}
+ * with {@link CacheStrategy#getOrLoad}, so one caller loads a category while the others wait, and
+ * hot categories may be reloaded in the background; the loader therefore opens its own read-only
+ * transaction and reads the denormalized {@link RuleCatalogTableService} table. Writes advance the
+ * catalog revision, stamp the rule set with it, rewrite its catalog table row and evict the affected
+ * categories once the transaction has committed. A cached category carries the catalog revision it
+ * was read at, and a copy older than a change this node has read from the change feed is dropped
+ * from every cache level and reloaded: another node's loader may have read it before the write
+ * committed and put it into the shared cache after the writer's eviction.
  *
  * Module: rule-engine-application
  * Layer: Application
@@ -21,10 +40,24 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class RuleSetService {
+    private static final String CATEGORY_KEY_PREFIX = "category:";
+
     private final RuleSetRepository ruleSetRepository;
+    private final CacheStrategy cacheStrategy;
+    private final CatalogRevisionService catalogRevisionService;
+    private final RuleCatalogTableService ruleCatalogTable;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentMap<String, Long> categoryChangeRevisions = new ConcurrentHashMap<>();
 
-    public RuleSetService(RuleSetRepository ruleSetRepository) {
+    public RuleSetService(RuleSetRepository ruleSetRepository, CacheStrategy cacheStrategy,
+                          CatalogRevisionService catalogRevisionService, RuleCatalogTableService ruleCatalogTable,
+                          PlatformTransactionManager transactionManager) {
         this.ruleSetRepository = ruleSetRepository;
+        this.cacheStrategy = cacheStrategy;
+        this.catalogRevisionService = catalogRevisionService;
+        this.ruleCatalogTable = ruleCatalogTable;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -35,8 +68,12 @@ public class RuleSetService {
             throw new IllegalArgumentException("RuleSet with id '" + ruleSet.id() + "' already exists");
         }
         RuleSetEntity entity = RuleSetMapper.toEntity(ruleSet);
+        entity.setRevision(catalogRevisionService.nextRevision());
         RuleSetEntity saved = ruleSetRepository.save(entity);
-        return RuleSetMapper.toDomain(saved);
+        RuleSet created = RuleSetMapper.toDomain(saved);
+        ruleCatalogTable.refresh(List.of(created));
+        evictCategoryAfterCommit(saved.getRuleCategory());
+        return created;
     }
 
     /**
@@ -53,7 +90,7 @@ public class RuleSetService {
      */
     @Transactional(readOnly = true)
     public List<RuleSet> getAllRuleSets() {
-        return ruleSetRepository.findAll().stream()
+        return ruleSetRepository.findGraphAll().stream()
                 .map(RuleSetMapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -65,26 +102,69 @@ public class RuleSetService {
         RuleSetEntity existing = ruleSetRepository.findById(ruleSet.id())
                 .orElseThrow(() -> new IllegalArgumentException("RuleSet with id '" + ruleSet.id() + "' not found"));
         
+        evictCategoryAfterCommit(existing.getRuleCategory());
+
         // Map and set new rule set data
         RuleSetEntity updated = RuleSetMapper.toEntity(ruleSet);
         existing.setName(updated.getName());
         existing.setStopOnFirstFailure(updated.getStopOnFirstFailure());
         existing.setEngineType(updated.getEngineType());
         existing.setRuleCategory(updated.getRuleCategory());
+        existing.setMissingAttributePolicy(updated.getMissingAttributePolicy());
         existing.setRules(updated.getRules());
+        existing.setRevision(catalogRevisionService.nextRevision());
         
         RuleSetEntity saved = ruleSetRepository.save(existing);
-        return RuleSetMapper.toDomain(saved);
+        RuleSet updatedRuleSet = RuleSetMapper.toDomain(saved);
+        ruleCatalogTable.refresh(List.of(updatedRuleSet));
+        evictCategoryAfterCommit(saved.getRuleCategory());
+        return updatedRuleSet;
     }
 
     /**
      * Deletes a rule set by id.
      */
     public void deleteRuleSet(String id) {
-        if (!ruleSetRepository.existsById(id)) {
-            throw new IllegalArgumentException("RuleSet with id '" + id + "' not found");
-        }
+        RuleSetEntity existing = ruleSetRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("RuleSet with id '" + id + "' not found"));
+        catalogRevisionService.nextRevision();
         ruleSetRepository.deleteById(id);
+        ruleCatalogTable.remove(id, existing.getRuleCategory());
+        evictCategoryAfterCommit(existing.getRuleCategory());
+    }
+
+    /**
+     * Stamps the rule sets that embed the given rule with the revision of its change, rewrites
+     * their catalog table rows and evicts their cached categories.
+     */
+    public void reviseRuleSetsContainingRule(String ruleId, long revision) {
+        List<RuleSetEntity> ruleSets = ruleSetRepository.findByRuleId(ruleId);
+        for (RuleSetEntity ruleSet : ruleSets) {
+            ruleSet.setRevision(revision);
+            evictCategoryAfterCommit(ruleSet.getRuleCategory());
+        }
+        ruleCatalogTable.refresh(ruleSets.stream().map(RuleSetMapper::toDomain).toList());
+    }
+
+    /**
+     * Evicts the cached categories once the caller's transaction has committed, for writers that
+     * insert rule sets in bulk rather than through this service.
+     */
+    public void evictCategoriesAfterCommit(Collection<String> ruleCategories) {
+        ruleCategories.forEach(this::evictCategoryAfterCommit);
+    }
+
+    /**
+     * Drops this node's cached copies of the categories, for changes read from the catalog change
+     * feed up to the given revision. The writer has already evicted the shared cache and notified the
+     * other nodes, so only the local level is touched; a shared copy read before the change is
+     * rejected by the next lookup instead.
+     */
+    public void evictCategoriesLocally(Collection<String> ruleCategories, long revision) {
+        for (String ruleCategory : ruleCategories) {
+            categoryChangeRevisions.merge(ruleCategory, revision, Math::max);
+            cacheStrategy.evictLocally(CATEGORY_KEY_PREFIX + ruleCategory);
+        }
     }
 
     /**
@@ -100,9 +180,52 @@ public class RuleSetService {
      */
     @Transactional(readOnly = true)
     public List<RuleSet> getRuleSetsByCategory(String ruleCategory) {
-        return ruleSetRepository.findByRuleCategory(ruleCategory).stream()
-                .map(RuleSetMapper::toDomain)
-                .collect(Collectors.toList());
+        String key = CATEGORY_KEY_PREFIX + ruleCategory;
+        Optional<CategoryRuleSets> cached = cacheStrategy.getOrLoad(key, CategoryRuleSets.class,
+                () -> Optional.of(loadRuleSetsByCategory(ruleCategory)));
+        if (cached.isPresent() && cached.get().revision() < categoryChangeRevisions.getOrDefault(ruleCategory, 0L)) {
+            cacheStrategy.evict(key);
+            CategoryRuleSets loaded = loadRuleSetsByCategory(ruleCategory);
+            cacheStrategy.put(key, loaded);
+            return loaded.ruleSets();
+        }
+        return cached.map(CategoryRuleSets::ruleSets).orElseGet(List::of);
+    }
+
+    /**
+     * Joins the caller's transaction; a background refresh gets a new one. Falls back to the
+     * normalized tables when the catalog table has rows in an older format. Reads the primary even
+     * with a read replica, since the result is cached: a lagging replica would refill the category
+     * with the rule sets a write has just replaced. The catalog revision is read first, so the
+     * stamp never claims a write the rule sets may not contain.
+     */
+    private CategoryRuleSets loadRuleSetsByCategory(String ruleCategory) {
+        return ReadReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+            long revision = catalogRevisionService.currentRevision();
+            List<RuleSet> ruleSets = ruleCatalogTable.findCategory(ruleCategory)
+                    .map(graphs -> graphs.stream().map(RuleSetGraph::ruleSet).toList())
+                    .orElseGet(() -> ruleSetRepository.findGraphByRuleCategory(ruleCategory).stream()
+                            .map(RuleSetMapper::toDomain)
+                            .toList());
+            return new CategoryRuleSets(revision, ruleSets);
+        }));
+    }
+
+    /**
+     * Evicting before commit would let a concurrent reader cache the old rule sets again.
+     */
+    private void evictCategoryAfterCommit(String ruleCategory) {
+        String key = CATEGORY_KEY_PREFIX + ruleCategory;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheStrategy.evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheStrategy.evict(key);
+            }
+        });
     }
 }
 
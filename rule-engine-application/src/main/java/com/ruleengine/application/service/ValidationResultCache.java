@@ -0,0 +1,103 @@
+package com.ruleengine.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.index.RuleSetIndex;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleValidationResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Opt-in memo of rule set results, for callers that repeat the same validation (retries,
+ * idempotent re-checks). An entry is keyed by the rule set id, its revision, the engine and the
+ * values of only the attributes its rules reference, so context attributes the rules ignore do not
+ * spoil hits.
+ *
+ * <p>The revision is the highest catalog revision of the rule set, its rules and their conditions.
+ * Catalog revisions only grow, so any change to one of them yields a new key and the old entries
+ * are never hit again; they age out of the cache instead of being removed. Rule sets that were never
+ * saved (revision 0) have no version and, like rule sets containing a rule tagged
+ * {@value com.ruleengine.domain.rule.RuleMetadata#NON_DETERMINISTIC_TAG}, are never memoized.
+ * The key holds the referenced values themselves rather than a digest, so two contexts whose
+ * hashes collide still get their own results. The cache is bounded by weight: an entry weighs its
+ * referenced values plus its rule results.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+public class ValidationResultCache {
+    private final Cache<Key, List<RuleValidationResult>> results;
+
+    record Key(String ruleSetId, long revision, EngineType engineType, Map<String, Object> attributes) {
+    }
+
+    /**
+     * @param maximumWeight Upper bound of the summed entry weights
+     */
+    public ValidationResultCache(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, List<RuleValidationResult> ruleResults) -> key.attributes().size() + ruleResults.size())
+                .build();
+    }
+
+    /**
+     * Returns the key for validating the rule set against the context, or empty if the rule set
+     * must be evaluated every time.
+     */
+    Optional<Key> keyFor(RuleSet ruleSet, RuleSetIndex index, Map<String, List<Condition>> conditionsByRule,
+                         EngineType engineType, EvaluationContext context) {
+        if (ruleSet.revision() == 0 || !ruleSet.rules().stream().allMatch(rule -> rule.metadata().deterministic())) {
+            return Optional.empty();
+        }
+        Map<String, Object> referenced = new HashMap<>();
+        for (String attributeCode : index.attributeIndex().attributeCodes()) {
+            if (context.hasValue(attributeCode)) {
+                referenced.put(attributeCode, context.getValue(attributeCode));
+            }
+        }
+        return Optional.of(new Key(ruleSet.id(), revisionOf(ruleSet, conditionsByRule), engineType,
+                Collections.unmodifiableMap(referenced)));
+    }
+
+    Optional<List<RuleValidationResult>> get(Key key) {
+        return Optional.ofNullable(results.getIfPresent(key));
+    }
+
+    void put(Key key, List<RuleValidationResult> ruleResults) {
+        results.put(key, List.copyOf(ruleResults));
+    }
+
+    /**
+     * Returns the number of memoized results.
+     */
+    public long size() {
+        results.cleanUp();
+        return results.estimatedSize();
+    }
+
+    private static long revisionOf(RuleSet ruleSet, Map<String, List<Condition>> conditionsByRule) {
+        long revision = ruleSet.revision();
+        for (Rule rule : ruleSet.rules()) {
+            revision = Math.max(revision, rule.revision());
+            for (Condition condition : conditionsByRule.getOrDefault(rule.id(), List.of())) {
+                if (condition != null) {
+                    revision = Math.max(revision, condition.revision());
+                }
+            }
+        }
+        return revision;
+    }
+}
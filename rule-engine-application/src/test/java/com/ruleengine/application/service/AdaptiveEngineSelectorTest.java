@@ -0,0 +1,113 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.expression.ExpressionEvaluationResult;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleValidationResult;
+import com.ruleengine.domain.strategy.ExpressionEvaluationStrategy;
+import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdaptiveEngineSelector.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@ExtendWith(MockitoExtension.class)
+class AdaptiveEngineSelectorTest {
+
+    @Mock
+    private EngineStrategyRegistry strategyRegistry;
+
+    @Mock
+    private ExpressionEvaluationStrategy spel;
+
+    @Mock
+    private ExpressionEvaluationStrategy mvel;
+
+    @Mock
+    private ExpressionEvaluationStrategy jexl;
+
+    private Rule rule;
+    private List<Condition> conditions;
+    private EvaluationContext context;
+
+    @BeforeEach
+    void setUp() {
+        Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+        conditions = List.of(Condition.attributeVsValue("cond-age", "Age check", age, ComparisonOperator.GTE, 18));
+        rule = new Rule("rule-age", "Adult", List.of("cond-age"), RuleMetadata.defaults());
+        context = EvaluationContext.from(Map.of("customer.age", 30));
+
+        when(strategyRegistry.expressionEngineTypes()).thenReturn(Set.of(EngineType.SPEL, EngineType.MVEL, EngineType.JEXL));
+        when(strategyRegistry.getExpressionStrategy(EngineType.SPEL)).thenReturn(Optional.of(spel));
+        when(strategyRegistry.getExpressionStrategy(EngineType.MVEL)).thenReturn(Optional.of(mvel));
+        when(strategyRegistry.getExpressionStrategy(EngineType.JEXL)).thenReturn(Optional.of(jexl));
+    }
+
+    @Test
+    void shouldPinFastestEngineThatAgreesWithReference() throws Exception {
+        when(spel.evaluate(anyString(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return ExpressionEvaluationResult.success(true, AttributeType.BOOLEAN);
+        });
+        when(mvel.evaluate(anyString(), any())).thenReturn(ExpressionEvaluationResult.success(true, AttributeType.BOOLEAN));
+        when(jexl.evaluate(anyString(), any())).thenReturn(ExpressionEvaluationResult.success(false, AttributeType.BOOLEAN));
+        AdaptiveEngineSelector selector = new AdaptiveEngineSelector(strategyRegistry, EngineType.SPEL, 3);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(selector.validate(rule, context, conditions).passed()).isTrue();
+        }
+
+        AdaptiveEngineSelector.EngineChoice choice = selector.choices().get(0);
+        assertThat(choice.pinned()).isEqualTo(EngineType.MVEL);
+        assertThat(choice.samples()).isEqualTo(3);
+        assertThat(choice.rejected()).containsExactly(EngineType.JEXL);
+        verify(spel, times(3)).evaluate(anyString(), any());
+        verify(mvel, times(4)).evaluate(anyString(), any());
+    }
+
+    @Test
+    void shouldReturnReferenceResultDuringWarmUp() throws Exception {
+        when(spel.evaluate(anyString(), any())).thenReturn(ExpressionEvaluationResult.success(false, AttributeType.BOOLEAN));
+        when(mvel.evaluate(anyString(), any())).thenReturn(ExpressionEvaluationResult.success(true, AttributeType.BOOLEAN));
+        when(jexl.evaluate(anyString(), any())).thenReturn(ExpressionEvaluationResult.success(true, AttributeType.BOOLEAN));
+        AdaptiveEngineSelector selector = new AdaptiveEngineSelector(strategyRegistry, EngineType.SPEL, 10);
+
+        RuleValidationResult result = selector.validate(rule, context, conditions);
+
+        assertThat(result.passed()).isFalse();
+        assertThat(selector.choices().get(0).pinned()).isNull();
+        assertThat(selector.choices().get(0).rejected()).containsExactlyInAnyOrder(EngineType.MVEL, EngineType.JEXL);
+    }
+
+    @Test
+    void shouldRejectAutoAsReferenceEngine() {
+        reset(strategyRegistry);
+
+        assertThatThrownBy(() -> new AdaptiveEngineSelector(strategyRegistry, EngineType.AUTO, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,223 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogChanges;
+import com.ruleengine.application.catalog.CatalogView;
+import com.ruleengine.application.catalog.RuleCatalog;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.domain.strategy.ExpressionEvaluationStrategy;
+import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+import com.ruleengine.persistence.snapshot.CatalogSnapshotFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncValidationService.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncValidationServiceTest {
+
+    @Mock
+    private EngineStrategyRegistry strategyRegistry;
+
+    @Mock
+    private ExpressionEvaluationStrategy spel;
+
+    @Mock
+    private RuleSetService ruleSetService;
+
+    @Mock
+    private ConditionService conditionService;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
+    @Mock
+    private RuleCatalogTableService ruleCatalogTable;
+
+    private RuleCatalog ruleCatalog;
+    private ExecutorService executor;
+    private AsyncValidationService service;
+    private Condition adult;
+    private Rule adultRule;
+
+    @BeforeEach
+    void setUp() {
+        Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+        adult = Condition.attributeVsValue("cond-adult", "Adult", age, ComparisonOperator.GTE, 18);
+        adultRule = new Rule("rule-adult", "Adult", List.of("cond-adult"), RuleMetadata.defaults());
+
+        ruleCatalog = new RuleCatalog(ruleSetService, conditionService);
+        executor = Executors.newFixedThreadPool(2);
+        service = new AsyncValidationService(
+                new RuleEngineService(strategyRegistry, EngineType.SPEL, conditionService, Runnable::run, null), ruleCatalog, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void shouldValidateCategoryFromSnapshotWithoutLoadingConditions() throws Exception {
+        when(ruleSetService.getAllRuleSets()).thenReturn(List.of(ruleSet("set-adult", adultRule)));
+        when(conditionService.getAllConditions()).thenReturn(List.of(adult));
+        when(strategyRegistry.getExpressionStrategy(EngineType.SPEL)).thenReturn(Optional.of(spel));
+        ruleCatalog.refresh();
+
+        RuleEngineService.CategoryValidationResult passing = service
+                .validateCategory("Onboarding", EvaluationContext.from(Map.of("customer.age", 30))).get();
+        RuleEngineService.CategoryValidationResult failing = service
+                .validateCategory("Onboarding", EvaluationContext.from(Map.of("customer.age", 16))).get();
+
+        assertThat(passing.passed()).isTrue();
+        assertThat(passing.ruleSetResults()).extracting(RuleEngineService.RuleSetValidationResult::ruleSetId)
+                .containsExactly("set-adult");
+        assertThat(failing.passed()).isFalse();
+        verify(conditionService, never()).getConditionsByIds(any());
+    }
+
+    @Test
+    void shouldValidateCategoryFromSnapshotFile(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("catalog.snapshot");
+        BinaryCacheCodec codec = new BinaryCacheCodec();
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(file, 5)) {
+            writer.addCategory("Onboarding", List.of(codec.encode(new RuleSetGraph(ruleSet("set-adult", adultRule),
+                    List.of(adult)))));
+            writer.commit();
+        }
+        when(strategyRegistry.getExpressionStrategy(EngineType.SPEL)).thenReturn(Optional.of(spel));
+        RuleCatalog fileCatalog = RuleCatalog.fromSnapshotFile(file);
+        fileCatalog.refresh();
+        service = new AsyncValidationService(
+                new RuleEngineService(strategyRegistry, EngineType.SPEL, conditionService, Runnable::run, null), fileCatalog, executor);
+
+        RuleEngineService.CategoryValidationResult failing = service
+                .validateCategory("Onboarding", EvaluationContext.from(Map.of("customer.age", 16))).get();
+
+        assertThat(failing.passed()).isFalse();
+        assertThat(fileCatalog.refreshIfChanged()).isSameAs(fileCatalog.snapshot().orElseThrow());
+        verifyNoInteractions(ruleSetService, conditionService);
+    }
+
+    @Test
+    void shouldSwapChangedRuleSetsFromChangeFeedWithoutReloading() {
+        Condition senior = Condition.attributeVsValue("cond-adult", "Senior",
+                new Attribute("customer.age", AttributeType.NUMBER), ComparisonOperator.GTE, 65);
+        RuleSet changed = ruleSet("set-adult", adultRule);
+        when(catalogRevisionService.currentRevision()).thenReturn(4L, 4L, 6L);
+        when(ruleSetService.getAllRuleSets()).thenReturn(List.of(changed, ruleSet("set-other", adultRule)));
+        when(conditionService.getAllConditions()).thenReturn(List.of(adult));
+        when(ruleCatalogTable.changesSince(4L)).thenReturn(Optional.of(new CatalogChanges(6L, Set.of("set-adult"),
+                Set.of("Onboarding"), List.of(new RuleSetGraph(changed, List.of(senior))), Set.of("cond-adult"))));
+        RuleCatalog feedCatalog = new RuleCatalog(ruleSetService, conditionService, catalogRevisionService,
+                ruleCatalogTable);
+        feedCatalog.refresh();
+        assertThat(feedCatalog.refreshIfChanged().revision()).isEqualTo(4L);
+
+        CatalogView updated = feedCatalog.refreshIfChanged();
+
+        assertThat(updated.revision()).isEqualTo(6L);
+        assertThat(updated.ruleSetsFor("Onboarding")).extracting(RuleSet::id)
+                .containsExactlyInAnyOrder("set-adult", "set-other");
+        assertThat(updated.conditionsFor(changed).get("rule-adult")).containsExactly(senior);
+        verify(ruleSetService, times(1)).getAllRuleSets();
+        verify(ruleSetService).evictCategoriesLocally(Set.of("Onboarding"), 6L);
+        verify(conditionService).evictConditionsLocally(Set.of("cond-adult"));
+    }
+
+    @Test
+    void shouldTreatUnknownCategoryAsEmpty() throws Exception {
+        when(ruleSetService.getAllRuleSets()).thenReturn(List.of());
+        when(conditionService.getAllConditions()).thenReturn(List.of());
+        ruleCatalog.refresh();
+
+        RuleEngineService.CategoryValidationResult result = service
+                .validateCategory("Unknown", EvaluationContext.from(Map.of())).get();
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.ruleSetResults()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectWhileCatalogIsNotLoaded() {
+        assertThatThrownBy(() -> service.validateCategory("Onboarding", EvaluationContext.from(Map.of())).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldCountFailedBackgroundRefreshesAndKeepSyncTime() throws Exception {
+        when(ruleSetService.getAllRuleSets()).thenThrow(new IllegalStateException("database down"));
+
+        try (RuleCatalog failing = new RuleCatalog(ruleSetService, conditionService)) {
+            failing.startRefreshing(Duration.ofMillis(10));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (failing.refreshFailures() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(failing.refreshFailures()).isGreaterThanOrEqualTo(2);
+            assertThat(failing.syncedAt()).isEmpty();
+            assertThat(failing.snapshot()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldFailWhenConditionIsMissingFromSnapshot() {
+        when(ruleSetService.getAllRuleSets()).thenReturn(List.of(ruleSet("set-adult", adultRule)));
+        when(conditionService.getAllConditions()).thenReturn(List.of());
+        ruleCatalog.refresh();
+
+        assertThatThrownBy(() -> service.validateCategory("Onboarding", EvaluationContext.from(Map.of())).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectWhenEvaluationExecutorIsUnavailable() {
+        executor.shutdown();
+
+        assertThatThrownBy(() -> service.validateRule(adultRule, EvaluationContext.from(Map.of("customer.age", 30)), List.of(adult)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static RuleSet ruleSet(String id, Rule rule) {
+        return new RuleSet(id, id, List.of(rule), false, EngineType.SPEL, "Onboarding", MissingAttributePolicy.EVALUATE);
+    }
+}
@@ -32,6 +32,12 @@ class AttributeServiceTest {
     @Mock
     private AttributeRepository attributeRepository;
 
+    @Mock
+    private ConditionService conditionService;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
     @InjectMocks
     private AttributeService attributeService;
 
@@ -134,6 +140,7 @@ class AttributeServiceTest {
         );
         when(attributeRepository.findByCode("customer.age")).thenReturn(Optional.of(existingEntity));
         when(attributeRepository.save(any(AttributeEntity.class))).thenReturn(savedEntity);
+        when(catalogRevisionService.nextRevision()).thenReturn(7L);
 
         Attribute updated = new Attribute(
                 "customer.age",
@@ -151,6 +158,7 @@ class AttributeServiceTest {
         assertThat(result.description()).isPresent();
         assertThat(result.description().get()).isEqualTo("New description");
         verify(attributeRepository).save(any(AttributeEntity.class));
+        verify(conditionService).reviseConditionsUsingAttribute("customer.age", 7L);
     }
 
     @Test
@@ -0,0 +1,231 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogImportResult;
+import com.ruleengine.application.catalog.CatalogRecord;
+import com.ruleengine.application.catalog.CatalogSink;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.persistence.entity.AttributeEntity;
+import com.ruleengine.persistence.entity.AttributeTypeEntity;
+import com.ruleengine.persistence.entity.RuleSetEntity;
+import com.ruleengine.persistence.repository.AttributeRepository;
+import com.ruleengine.persistence.repository.ConditionRepository;
+import com.ruleengine.persistence.repository.RuleRepository;
+import com.ruleengine.persistence.repository.RuleSetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogTransferService.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogTransferServiceTest {
+
+    @Mock
+    private AttributeRepository attributeRepository;
+
+    @Mock
+    private ConditionRepository conditionRepository;
+
+    @Mock
+    private RuleRepository ruleRepository;
+
+    @Mock
+    private RuleSetRepository ruleSetRepository;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
+    @Mock
+    private RuleCatalogTableService ruleCatalogTable;
+
+    @Mock
+    private RuleSetService ruleSetService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogTransferService catalogTransfer;
+
+    private final Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+
+    @BeforeEach
+    void setUp() {
+        catalogTransfer = new CatalogTransferService(attributeRepository, conditionRepository, ruleRepository,
+                ruleSetRepository, catalogRevisionService, ruleCatalogTable, ruleSetService, transactionManager, 2);
+    }
+
+    @Test
+    void shouldImportInChunksWithOneRevisionPerChunk() {
+        // Given
+        when(catalogRevisionService.nextRevision()).thenReturn(7L, 8L);
+
+        // When
+        CatalogImportResult result = catalogTransfer.importCatalog(Stream.of(
+                new CatalogRecord.AttributeRecord(1, age),
+                new CatalogRecord.ConditionRecord(2, "cond-adult", "Adult", "customer.age", ComparisonOperator.GTE,
+                        null, 18),
+                new CatalogRecord.RuleRecord(3, new Rule("rule-adult", "Adult", List.of("cond-adult"),
+                        RuleMetadata.defaults())),
+                ruleSet(4, "set-adults", "rule-adult"),
+                new CatalogRecord.ConditionRecord(5, "cond-other", "Other", "customer.income", ComparisonOperator.GTE,
+                        null, 1000)
+        ), CatalogTransferService.OnExisting.FAIL);
+
+        // Then
+        assertThat(result).isEqualTo(new CatalogImportResult(1, 1, 1, 1, 0, 1,
+                List.of(new CatalogImportResult.LineError(5, "Attribute not found: customer.income"))));
+        verify(catalogRevisionService, times(2)).nextRevision();
+        ArgumentCaptor<Collection<RuleSetEntity>> ruleSets = captor();
+        verify(ruleSetRepository).insertAll(ruleSets.capture());
+        assertThat(ruleSets.getValue()).singleElement().satisfies(ruleSet -> {
+            assertThat(ruleSet.getId()).isEqualTo("set-adults");
+            assertThat(ruleSet.getRevision()).isEqualTo(8L);
+        });
+        ArgumentCaptor<Collection<RuleSet>> refreshed = captor();
+        verify(ruleCatalogTable).refresh(refreshed.capture());
+        assertThat(refreshed.getValue()).singleElement().satisfies(ruleSet ->
+                assertThat(ruleSet.rules()).singleElement().extracting(Rule::revision).isEqualTo(8L));
+        verify(ruleSetService).evictCategoriesAfterCommit(List.of("Adults"));
+    }
+
+    @Test
+    void shouldSkipExistingIdsAndResolveReferencesToThem() {
+        // Given
+        when(attributeRepository.findCodesByCodeIn(anyCollection())).thenReturn(List.of("customer.age"));
+        when(attributeRepository.findWithConstraintsByCodeIn(anyCollection())).thenReturn(List.of(
+                new AttributeEntity("customer.age", "customer.age", AttributeTypeEntity.NUMBER, null, Map.of())));
+        when(catalogRevisionService.nextRevision()).thenReturn(3L);
+
+        // When
+        CatalogImportResult result = catalogTransfer.importCatalog(Stream.of(
+                new CatalogRecord.AttributeRecord(1, age),
+                new CatalogRecord.ConditionRecord(2, "cond-adult", "Adult", "customer.age", ComparisonOperator.GTE,
+                        null, 18)
+        ), CatalogTransferService.OnExisting.SKIP);
+
+        // Then
+        assertThat(result).isEqualTo(new CatalogImportResult(0, 1, 0, 0, 1, 0, List.of()));
+        verify(attributeRepository, never()).insertAll(anyCollection());
+    }
+
+    @Test
+    void shouldReportExistingIdsWhenNotSkipping() {
+        // Given
+        when(attributeRepository.findCodesByCodeIn(anyCollection())).thenReturn(List.of("customer.age"));
+
+        // When
+        CatalogImportResult result = catalogTransfer.importCatalog(
+                Stream.of(new CatalogRecord.AttributeRecord(1, age), new CatalogRecord.Unreadable(2, "Invalid JSON")),
+                CatalogTransferService.OnExisting.FAIL);
+
+        // Then
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new CatalogImportResult.LineError(1, "Attribute 'customer.age' already exists"),
+                new CatalogImportResult.LineError(2, "Invalid JSON"));
+        verify(catalogRevisionService, never()).nextRevision();
+    }
+
+    @Test
+    void shouldFailWholeChunkWhenItsWriteFailsAndForgetItsEntities() {
+        // Given
+        when(catalogRevisionService.nextRevision()).thenReturn(1L);
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(conditionRepository).insertAll(anyCollection());
+
+        // When
+        CatalogImportResult result = catalogTransfer.importCatalog(Stream.of(
+                new CatalogRecord.AttributeRecord(1, age),
+                new CatalogRecord.ConditionRecord(2, "cond-adult", "Adult", "customer.age", ComparisonOperator.GTE,
+                        null, 18),
+                new CatalogRecord.RuleRecord(3, new Rule("rule-adult", "Adult", List.of("cond-adult"),
+                        RuleMetadata.defaults()))
+        ), CatalogTransferService.OnExisting.FAIL);
+
+        // Then
+        assertThat(result).isEqualTo(new CatalogImportResult(0, 0, 0, 0, 0, 3, List.of(
+                new CatalogImportResult.LineError(1, "Lines 1-2 not written: duplicate key"),
+                new CatalogImportResult.LineError(3, "Condition not found: cond-adult"))));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldExportEachKindInPagesInIdOrder() {
+        // Given
+        when(attributeRepository.findCodesAfter("", PageRequest.ofSize(2))).thenReturn(List.of("a", "b"));
+        when(attributeRepository.findCodesAfter("b", PageRequest.ofSize(2))).thenReturn(List.of("c"));
+        when(attributeRepository.findWithConstraintsByCodeIn(List.of("a", "b")))
+                .thenReturn(List.of(attributeEntity("b"), attributeEntity("a")));
+        when(attributeRepository.findWithConstraintsByCodeIn(List.of("c"))).thenReturn(List.of(attributeEntity("c")));
+        List<String> exported = new ArrayList<>();
+
+        // When
+        catalogTransfer.exportCatalog(new CatalogSink() {
+            @Override
+            public void attribute(Attribute attribute) {
+                exported.add(attribute.code());
+            }
+
+            @Override
+            public void condition(Condition condition) {
+                exported.add(condition.id());
+            }
+
+            @Override
+            public void rule(Rule rule) {
+                exported.add(rule.id());
+            }
+
+            @Override
+            public void ruleSet(RuleSet ruleSet) {
+                exported.add(ruleSet.id());
+            }
+        });
+
+        // Then
+        assertThat(exported).containsExactly("a", "b", "c");
+        verify(conditionRepository).findIdsAfter("", PageRequest.ofSize(2));
+        verify(ruleSetRepository).findIdsAfter("", PageRequest.ofSize(2));
+    }
+
+    private static CatalogRecord.RuleSetRecord ruleSet(int line, String id, String ruleId) {
+        return new CatalogRecord.RuleSetRecord(line, id, "Adults", List.of(ruleId), false, EngineType.SPEL, "Adults",
+                MissingAttributePolicy.EVALUATE);
+    }
+
+    private static AttributeEntity attributeEntity(String code) {
+        return new AttributeEntity(code, code, AttributeTypeEntity.NUMBER, null, Map.of());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ArgumentCaptor<Collection<T>> captor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -4,6 +4,7 @@ import com.ruleengine.domain.attribute.Attribute;
 import com.ruleengine.domain.attribute.AttributeType;
 import com.ruleengine.domain.operator.ComparisonOperator;
 import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.persistence.cache.CacheStrategy;
 import com.ruleengine.persistence.entity.ConditionEntity;
 import com.ruleengine.persistence.repository.ConditionRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +35,15 @@ class ConditionServiceTest {
     @Mock
     private ConditionRepository conditionRepository;
 
+    @Mock
+    private CacheStrategy cacheStrategy;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
+    @Mock
+    private RuleCatalogTableService ruleCatalogTable;
+
     @InjectMocks
     private ConditionService conditionService;
 
@@ -142,6 +153,21 @@ class ConditionServiceTest {
         // Then
         assertThat(result).isPresent();
         assertThat(result.get().id()).isEqualTo("cond-1");
+        verify(cacheStrategy).put("condition:cond-1", result.get());
+    }
+
+    @Test
+    void shouldReturnCachedConditionWithoutQueryingRepository() {
+        // Given
+        when(cacheStrategy.getAll(List.of("condition:cond-1"), Condition.class))
+                .thenReturn(Map.of("condition:cond-1", testCondition));
+
+        // When
+        List<Condition> result = conditionService.getConditionsByIds(List.of("cond-1"));
+
+        // Then
+        assertThat(result).containsExactly(testCondition);
+        verifyNoInteractions(conditionRepository);
     }
 
     @Test
@@ -196,6 +222,7 @@ class ConditionServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("New name");
         verify(conditionRepository).save(any(ConditionEntity.class));
+        verify(cacheStrategy).evict("condition:cond-1");
     }
 
     @Test
@@ -277,8 +304,7 @@ class ConditionServiceTest {
                 "1000.0",
                 "java.lang.Double"
         );
-        when(conditionRepository.findById("cond-1")).thenReturn(Optional.of(entity1));
-        when(conditionRepository.findById("cond-2")).thenReturn(Optional.of(entity2));
+        when(conditionRepository.findGraphByIdIn(List.of("cond-1", "cond-2"))).thenReturn(List.of(entity2, entity1));
 
         // When
         List<Condition> conditions = conditionService.getConditionsByIds(List.of("cond-1", "cond-2"));
@@ -287,12 +313,13 @@ class ConditionServiceTest {
         assertThat(conditions).hasSize(2);
         assertThat(conditions.get(0).id()).isEqualTo("cond-1");
         assertThat(conditions.get(1).id()).isEqualTo("cond-2");
+        verify(cacheStrategy).putAll(Map.of("condition:cond-1", conditions.get(0), "condition:cond-2", conditions.get(1)));
     }
 
     @Test
     void shouldThrowExceptionWhenConditionIdNotFoundInGetConditionsByIds() {
         // Given
-        when(conditionRepository.findById("cond-1")).thenReturn(Optional.empty());
+        when(conditionRepository.findGraphByIdIn(List.of("cond-1"))).thenReturn(List.of());
 
         // When/Then
         assertThatThrownBy(() -> conditionService.getConditionsByIds(List.of("cond-1")))
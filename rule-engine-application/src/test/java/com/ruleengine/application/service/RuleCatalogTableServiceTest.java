@@ -0,0 +1,219 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.application.catalog.CatalogChanges;
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+import com.ruleengine.persistence.entity.CatalogChangeEntity;
+import com.ruleengine.persistence.entity.CatalogChangeTypeEntity;
+import com.ruleengine.persistence.entity.RuleCatalogEntity;
+import com.ruleengine.persistence.mapper.ConditionMapper;
+import com.ruleengine.persistence.repository.CatalogChangeRepository;
+import com.ruleengine.persistence.repository.ConditionRepository;
+import com.ruleengine.persistence.repository.RuleCatalogRepository;
+import com.ruleengine.persistence.repository.RuleSetRepository;
+import com.ruleengine.persistence.snapshot.CatalogSnapshotFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RuleCatalogTableService.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@ExtendWith(MockitoExtension.class)
+class RuleCatalogTableServiceTest {
+
+    @Mock
+    private RuleCatalogRepository ruleCatalogRepository;
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Mock
+    private RuleSetRepository ruleSetRepository;
+
+    @Mock
+    private ConditionRepository conditionRepository;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
+    @InjectMocks
+    private RuleCatalogTableService ruleCatalogTable;
+
+    private final Condition adult = Condition.attributeVsValue("cond-adult", "Adult",
+            new Attribute("customer.age", AttributeType.NUMBER), ComparisonOperator.GTE, 18);
+    private final RuleSet ruleSet = new RuleSet("set-1", "Adults",
+            List.of(new Rule("rule-1", "Adult", List.of("cond-adult", "cond-adult"), RuleMetadata.defaults())),
+            false, EngineType.SPEL, "Onboarding");
+
+    @Test
+    void shouldWriteRuleSetWithReferencedConditionsAtCurrentRevision() {
+        // Given
+        when(conditionRepository.findGraphByIdIn(Set.of("cond-adult")))
+                .thenReturn(List.of(ConditionMapper.toEntity(adult)));
+        when(catalogRevisionService.currentRevision()).thenReturn(12L);
+
+        // When
+        ruleCatalogTable.refresh(List.of(ruleSet));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<RuleCatalogEntity>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(ruleCatalogRepository).insertAll(rows.capture());
+        RuleCatalogEntity row = rows.getValue().iterator().next();
+        assertThat(row.getRuleSetId()).isEqualTo("set-1");
+        assertThat(row.getRuleCategory()).isEqualTo("Onboarding");
+        assertThat(row.getRevision()).isEqualTo(12L);
+        assertThat(new BinaryCacheCodec().decode(row.getPayload(), RuleSetGraph.class))
+                .contains(new RuleSetGraph(ruleSet, List.of(adult)));
+    }
+
+    @Test
+    void shouldUpdateExistingRowInPlace() {
+        // Given
+        RuleCatalogEntity existing = new RuleCatalogEntity("set-1", "Other", 3, BinaryCacheCodec.SCHEMA_VERSION - 1,
+                new byte[]{1, 0, 7});
+        when(conditionRepository.findGraphByIdIn(Set.of("cond-adult")))
+                .thenReturn(List.of(ConditionMapper.toEntity(adult)));
+        when(ruleCatalogRepository.findAllById(List.of("set-1"))).thenReturn(List.of(existing));
+        when(catalogRevisionService.currentRevision()).thenReturn(12L);
+
+        // When
+        ruleCatalogTable.refresh(List.of(ruleSet));
+
+        // Then
+        assertThat(existing.getRuleCategory()).isEqualTo("Onboarding");
+        assertThat(existing.getRevision()).isEqualTo(12L);
+        assertThat(existing.getFormatVersion()).isEqualTo(BinaryCacheCodec.SCHEMA_VERSION);
+        assertThat(new BinaryCacheCodec().decode(existing.getPayload(), RuleSetGraph.class))
+                .contains(new RuleSetGraph(ruleSet, List.of(adult)));
+        verify(ruleCatalogRepository).insertAll(List.of());
+        verify(ruleCatalogRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRecordMovedRuleSetUnderBothCategories() {
+        // Given
+        RuleCatalogEntity existing = new RuleCatalogEntity("set-1", "Other", 3, BinaryCacheCodec.SCHEMA_VERSION,
+                new byte[]{2, 0, 7});
+        when(ruleCatalogRepository.findAllById(List.of("set-1"))).thenReturn(List.of(existing));
+        when(catalogRevisionService.currentRevision()).thenReturn(12L);
+
+        // When
+        ruleCatalogTable.refresh(List.of(ruleSet));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<CatalogChangeEntity>> changes = ArgumentCaptor.forClass(Collection.class);
+        verify(catalogChangeRepository).insertAll(changes.capture());
+        assertThat(changes.getValue())
+                .extracting(CatalogChangeEntity::getRevision, CatalogChangeEntity::getEntityId,
+                        CatalogChangeEntity::getRuleCategory)
+                .containsExactly(tuple(12L, "set-1", "Onboarding"), tuple(12L, "set-1", "Other"));
+        verify(catalogChangeRepository).deleteCreatedBefore(any());
+    }
+
+    @Test
+    void shouldReadChangedRuleSetsAndConditionsSinceRevision() {
+        // Given
+        byte[] payload = new BinaryCacheCodec().encode(new RuleSetGraph(ruleSet, List.of(adult)));
+        when(catalogRevisionService.currentRevision()).thenReturn(9L);
+        when(catalogChangeRepository.findByRevisionRange(7L, 9L)).thenReturn(List.of(
+                new CatalogChangeEntity(8, CatalogChangeTypeEntity.CONDITION, "cond-adult", null, Instant.now()),
+                new CatalogChangeEntity(8, CatalogChangeTypeEntity.RULE_SET, "set-1", "Onboarding", Instant.now()),
+                new CatalogChangeEntity(9, CatalogChangeTypeEntity.RULE_SET, "set-gone", "Pricing", Instant.now())));
+        when(ruleCatalogRepository.findAllById(Set.of("set-1", "set-gone"))).thenReturn(List.of(
+                new RuleCatalogEntity("set-1", "Onboarding", 8, BinaryCacheCodec.SCHEMA_VERSION, payload)));
+
+        // When
+        Optional<CatalogChanges> changes = ruleCatalogTable.changesSince(7L);
+
+        // Then
+        assertThat(changes).contains(new CatalogChanges(9L, Set.of("set-1", "set-gone"), Set.of("Onboarding", "Pricing"),
+                List.of(new RuleSetGraph(ruleSet, List.of(adult))), Set.of("cond-adult")));
+    }
+
+    @Test
+    void shouldReadCategoryFromRows() {
+        // Given
+        byte[] payload = new BinaryCacheCodec().encode(new RuleSetGraph(ruleSet, List.of(adult)));
+        when(ruleCatalogRepository.findByRuleCategory("Onboarding")).thenReturn(List.of(
+                new RuleCatalogEntity("set-1", "Onboarding", 3, BinaryCacheCodec.SCHEMA_VERSION, payload)));
+
+        // When
+        Optional<List<RuleSetGraph>> graphs = ruleCatalogTable.findCategory("Onboarding");
+
+        // Then
+        assertThat(graphs).contains(List.of(new RuleSetGraph(ruleSet, List.of(adult))));
+    }
+
+    @Test
+    void shouldReportRowsInAnotherFormatAsUnreadable() {
+        // Given
+        when(ruleCatalogRepository.findByRuleCategory("Onboarding")).thenReturn(List.of(
+                new RuleCatalogEntity("set-1", "Onboarding", 3, BinaryCacheCodec.SCHEMA_VERSION - 1, new byte[]{1, 0, 7})));
+
+        // When/Then
+        assertThat(ruleCatalogTable.findCategory("Onboarding")).isEmpty();
+    }
+
+    @Test
+    void shouldSkipRebuildWhenEveryRuleSetHasCurrentRow() {
+        // Given
+        when(ruleSetRepository.count()).thenReturn(4L);
+        when(ruleCatalogRepository.count()).thenReturn(4L);
+        when(ruleCatalogRepository.countByFormatVersion(BinaryCacheCodec.SCHEMA_VERSION)).thenReturn(4L);
+
+        // When/Then
+        assertThat(ruleCatalogTable.rebuildIfIncomplete()).isZero();
+        verify(ruleCatalogRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldWriteRowsToSnapshotFileByCategory(@TempDir Path directory) throws IOException {
+        // Given
+        byte[] payload = new BinaryCacheCodec().encode(new RuleSetGraph(ruleSet, List.of(adult)));
+        when(catalogRevisionService.currentRevision()).thenReturn(9L);
+        when(ruleCatalogRepository.findCategories()).thenReturn(List.of("Onboarding"));
+        when(ruleCatalogRepository.findByRuleCategory("Onboarding")).thenReturn(List.of(
+                new RuleCatalogEntity("set-1", "Onboarding", 3, BinaryCacheCodec.SCHEMA_VERSION, payload)));
+        Path file = directory.resolve("catalog.snapshot");
+
+        // When
+        long revision = ruleCatalogTable.writeSnapshotFile(file);
+
+        // Then
+        CatalogSnapshotFile snapshot = CatalogSnapshotFile.open(file);
+        assertThat(revision).isEqualTo(9L);
+        assertThat(snapshot.revision()).isEqualTo(9L);
+        assertThat(snapshot.category("Onboarding")).containsExactly(new RuleSetGraph(ruleSet, List.of(adult)));
+    }
+}
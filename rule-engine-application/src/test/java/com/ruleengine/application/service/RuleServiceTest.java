@@ -36,6 +36,12 @@ class RuleServiceTest {
     @Mock
     private RuleRepository ruleRepository;
 
+    @Mock
+    private RuleSetService ruleSetService;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
     @InjectMocks
     private RuleService ruleService;
 
@@ -144,6 +150,7 @@ class RuleServiceTest {
         savedEntity.setConditionIds(new java.util.ArrayList<>(List.of("cond-2")));
         when(ruleRepository.findById("rule-1")).thenReturn(Optional.of(existingEntity));
         when(ruleRepository.save(any(RuleEntity.class))).thenReturn(savedEntity);
+        when(catalogRevisionService.nextRevision()).thenReturn(3L);
 
         Rule updated = new Rule(
                 "rule-1",
@@ -159,7 +166,9 @@ class RuleServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("New name");
         assertThat(result.conditionIds()).containsExactly("cond-2");
+        assertThat(existingEntity.getRevision()).isEqualTo(3L);
         verify(ruleRepository).save(any(RuleEntity.class));
+        verify(ruleSetService).reviseRuleSetsContainingRule("rule-1", 3L);
     }
 
     @Test
@@ -190,6 +199,7 @@ class RuleServiceTest {
 
         // Then
         verify(ruleRepository).deleteById("rule-1");
+        verify(ruleSetService).reviseRuleSetsContainingRule(eq("rule-1"), anyLong());
     }
 
     @Test
@@ -1,20 +1,27 @@
 package com.ruleengine.application.service;
 
 import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.rule.CategoryRuleSets;
 import com.ruleengine.domain.rule.Rule;
 import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.CaffeineCacheStrategy;
+import com.ruleengine.persistence.cache.LocalCacheInvalidationBus;
+import com.ruleengine.persistence.cache.TieredCacheStrategy;
+import com.ruleengine.persistence.datasource.ReadReplicaRoutingDataSource;
 import com.ruleengine.persistence.entity.RuleEntity;
 import com.ruleengine.persistence.entity.RuleSetEntity;
 import com.ruleengine.persistence.repository.RuleSetRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,13 +40,24 @@ class RuleSetServiceTest {
     @Mock
     private RuleSetRepository ruleSetRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatalogRevisionService catalogRevisionService;
+
+    @Mock
+    private RuleCatalogTableService ruleCatalogTable;
+
     private RuleSetService ruleSetService;
 
     private RuleSet testRuleSet;
 
     @BeforeEach
     void setUp() {
+        ruleSetService = new RuleSetService(ruleSetRepository, new CaffeineCacheStrategy(), catalogRevisionService,
+                ruleCatalogTable, transactionManager);
+
         // Create a simple rule for the rule set
         Rule rule = new Rule(
                 "rule-1",
@@ -217,7 +235,8 @@ class RuleSetServiceTest {
     @Test
     void shouldDeleteRuleSet() {
         // Given
-        when(ruleSetRepository.existsById("ruleset-1")).thenReturn(true);
+        when(ruleSetRepository.findById("ruleset-1")).thenReturn(Optional.of(new RuleSetEntity(
+                "ruleset-1", "Test rule set", false, com.ruleengine.persistence.entity.EngineTypeEntity.SPEL, "Validation")));
         doNothing().when(ruleSetRepository).deleteById("ruleset-1");
 
         // When
@@ -230,7 +249,7 @@ class RuleSetServiceTest {
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentRuleSet() {
         // Given
-        when(ruleSetRepository.existsById("nonexistent")).thenReturn(false);
+        when(ruleSetRepository.findById("nonexistent")).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> ruleSetService.deleteRuleSet("nonexistent"))
@@ -287,7 +306,7 @@ class RuleSetServiceTest {
         ruleEntity2.setConditionIds(new java.util.ArrayList<>(List.of("cond-2")));
         entity2.setRules(new java.util.ArrayList<>(List.of(ruleEntity2)));
         
-        when(ruleSetRepository.findByRuleCategory("Pricing")).thenReturn(List.of(entity1, entity2));
+        when(ruleSetRepository.findGraphByRuleCategory("Pricing")).thenReturn(List.of(entity1, entity2));
 
         // When
         List<RuleSet> result = ruleSetService.getRuleSetsByCategory("Pricing");
@@ -296,5 +315,104 @@ class RuleSetServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result).allMatch(rs -> "Pricing".equals(rs.ruleCategory()));
     }
-}
 
+    @Test
+    void shouldCacheRuleSetsByCategoryUntilCategoryChanges() {
+        // Given
+        RuleSetEntity entity = new RuleSetEntity(
+                "ruleset-1",
+                "Test rule set",
+                false,
+                com.ruleengine.persistence.entity.EngineTypeEntity.SPEL,
+                "Pricing"
+        );
+        RuleEntity ruleEntity = new RuleEntity("rule-1", "Test rule", 1, true, null);
+        ruleEntity.setConditionIds(new java.util.ArrayList<>(List.of("cond-1")));
+        entity.setRules(new java.util.ArrayList<>(List.of(ruleEntity)));
+        when(ruleSetRepository.findGraphByRuleCategory("Pricing")).thenReturn(List.of(entity));
+        when(ruleSetRepository.findByRuleId("rule-1")).thenReturn(List.of(entity));
+
+        // When
+        ruleSetService.getRuleSetsByCategory("Pricing");
+        ruleSetService.getRuleSetsByCategory("Pricing");
+        ruleSetService.reviseRuleSetsContainingRule("rule-1", 5L);
+        List<RuleSet> result = ruleSetService.getRuleSetsByCategory("Pricing");
+
+        // Then
+        assertThat(result).extracting(RuleSet::id).containsExactly("ruleset-1");
+        assertThat(result).extracting(RuleSet::revision).containsExactly(5L);
+        verify(ruleSetRepository, times(2)).findGraphByRuleCategory("Pricing");
+    }
+
+    @Test
+    void shouldLoadCategoryFromCatalogTableWithoutQueryingRuleSets() {
+        // Given
+        when(ruleCatalogTable.findCategory("Validation"))
+                .thenReturn(Optional.of(List.of(new RuleSetGraph(testRuleSet, List.of()))));
+
+        // When
+        List<RuleSet> result = ruleSetService.getRuleSetsByCategory("Validation");
+
+        // Then
+        assertThat(result).containsExactly(testRuleSet);
+        verifyNoInteractions(ruleSetRepository);
+    }
+
+    @Test
+    void shouldRefillCategoryFromPrimaryAfterWriteWhileReplicaLags() {
+        // Given a replica that still serves the rule set as it was before the update
+        RuleSet stale = new RuleSet("ruleset-1", "Old name", testRuleSet.rules(), false, EngineType.SPEL, "Validation");
+        RuleSet updated = new RuleSet("ruleset-1", "New name", testRuleSet.rules(), true, EngineType.MVEL, "Validation");
+        AtomicReference<RuleSet> primary = new AtomicReference<>(stale);
+        when(ruleCatalogTable.findCategory("Validation")).thenAnswer(invocation -> Optional.of(List.of(new RuleSetGraph(
+                ReadReplicaRoutingDataSource.isPrimaryRequired() ? primary.get() : stale, List.of()))));
+        assertThat(ruleSetService.getRuleSetsByCategory("Validation")).containsExactly(stale);
+
+        RuleSetEntity existingEntity = new RuleSetEntity("ruleset-1", "Old name", false,
+                com.ruleengine.persistence.entity.EngineTypeEntity.SPEL, "Validation");
+        RuleSetEntity savedEntity = new RuleSetEntity("ruleset-1", "New name", true,
+                com.ruleengine.persistence.entity.EngineTypeEntity.MVEL, "Validation");
+        RuleEntity ruleEntity = new RuleEntity("rule-1", "Test rule", 1, true, null);
+        ruleEntity.setConditionIds(new java.util.ArrayList<>(List.of("cond-1")));
+        savedEntity.setRules(new java.util.ArrayList<>(List.of(ruleEntity)));
+        when(ruleSetRepository.findById("ruleset-1")).thenReturn(Optional.of(existingEntity));
+        when(ruleSetRepository.save(any(RuleSetEntity.class))).thenAnswer(invocation -> {
+            primary.set(updated);
+            return savedEntity;
+        });
+
+        // When
+        ruleSetService.updateRuleSet(updated);
+        List<RuleSet> afterWrite = ruleSetService.getRuleSetsByCategory("Validation");
+
+        // Then the evicted category is refilled with the write, not the replica's copy
+        assertThat(afterWrite).extracting(RuleSet::name).containsExactly("New name");
+        assertThat(ruleSetService.getRuleSetsByCategory("Validation")).extracting(RuleSet::name)
+                .containsExactly("New name");
+    }
+
+    @Test
+    void shouldReloadSharedCategoryReadBeforeChangeFromFeed() {
+        // Given a shared copy put by another node's loader that read the category before revision 5 committed
+        CaffeineCacheStrategy sharedCache = new CaffeineCacheStrategy();
+        RuleSetService tiered = new RuleSetService(ruleSetRepository,
+                new TieredCacheStrategy(new CaffeineCacheStrategy(), sharedCache, new LocalCacheInvalidationBus()),
+                catalogRevisionService, ruleCatalogTable, transactionManager);
+        RuleSet stale = new RuleSet("ruleset-1", "Old name", testRuleSet.rules(), false, EngineType.SPEL, "Validation");
+        sharedCache.put("category:Validation", new CategoryRuleSets(4L, List.of(stale)));
+        when(catalogRevisionService.currentRevision()).thenReturn(5L);
+        when(ruleCatalogTable.findCategory("Validation"))
+                .thenReturn(Optional.of(List.of(new RuleSetGraph(testRuleSet, List.of()))));
+
+        // When
+        tiered.evictCategoriesLocally(List.of("Validation"), 5L);
+        List<RuleSet> result = tiered.getRuleSetsByCategory("Validation");
+
+        // Then the stale copy is replaced on both levels
+        assertThat(result).containsExactly(testRuleSet);
+        assertThat(sharedCache.get("category:Validation", CategoryRuleSets.class))
+                .hasValueSatisfying(category -> assertThat(category.revision()).isEqualTo(5L));
+        assertThat(tiered.getRuleSetsByCategory("Validation")).containsExactly(testRuleSet);
+        verify(ruleCatalogTable, times(1)).findCategory("Validation");
+    }
+}
@@ -0,0 +1,161 @@
+package com.ruleengine.application.service;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleValidationResult;
+import com.ruleengine.domain.strategy.ExpressionEvaluationStrategy;
+import com.ruleengine.infrastructure.factory.EngineStrategyRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for result memoization in RuleEngineService.
+ *
+ * Module: rule-engine-application
+ * Layer: Application
+ */
+@ExtendWith(MockitoExtension.class)
+class ValidationResultCacheTest {
+
+    @Mock
+    private EngineStrategyRegistry strategyRegistry;
+
+    @Mock
+    private ExpressionEvaluationStrategy spel;
+
+    @Mock
+    private ConditionService conditionService;
+
+    private ValidationResultCache resultCache;
+    private RuleEngineService service;
+    private Attribute age;
+
+    @BeforeEach
+    void setUp() {
+        resultCache = new ValidationResultCache(100);
+        service = new RuleEngineService(strategyRegistry, EngineType.SPEL, conditionService, Runnable::run, resultCache);
+        age = new Attribute("customer.age", AttributeType.NUMBER);
+        when(strategyRegistry.getExpressionStrategy(EngineType.SPEL)).thenReturn(Optional.of(spel));
+    }
+
+    @Test
+    void shouldReuseResultWhenOnlyUnreferencedAttributesDiffer() throws Exception {
+        Condition adult = Condition.attributeVsValue("cond-adult", "Adult", age, ComparisonOperator.GTE, 18);
+        RuleSet ruleSet = ruleSet(RuleMetadata.defaults());
+
+        List<RuleValidationResult> first = validate(ruleSet, adult, Map.of("customer.age", 30, "requestId", "a"));
+        List<RuleValidationResult> retried = validate(ruleSet, adult, Map.of("customer.age", 30, "requestId", "b"));
+        List<RuleValidationResult> other = validate(ruleSet, adult, Map.of("customer.age", 12, "requestId", "c"));
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(first.getFirst().passed()).isTrue();
+        assertThat(other.getFirst().passed()).isFalse();
+        assertThat(resultCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMissWhenConditionRevisionMoves() throws Exception {
+        RuleSet ruleSet = ruleSet(RuleMetadata.defaults());
+        validate(ruleSet, condition(18, 6), Map.of("customer.age", 20));
+
+        List<RuleValidationResult> changed = validate(ruleSet, condition(21, 7), Map.of("customer.age", 20));
+
+        assertThat(changed.getFirst().passed()).isFalse();
+    }
+
+    @Test
+    void shouldHitAcrossIndexRebuildsOfTheSameRevision() throws Exception {
+        RuleSet ruleSet = ruleSet(RuleMetadata.defaults());
+        validate(ruleSet, condition(18, 6), Map.of("customer.age", 20));
+        validate(ruleSet, condition(30, 6), Map.of("customer.age", 40));
+
+        List<RuleValidationResult> again = validate(ruleSet, condition(18, 6), Map.of("customer.age", 20));
+
+        assertThat(again.getFirst().passed()).isTrue();
+        assertThat(resultCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotMemoizeUnsavedRuleSets() throws Exception {
+        Rule rule = new Rule("rule-adult", "Adult", List.of("cond-adult"), RuleMetadata.defaults());
+        RuleSet unsaved = new RuleSet("set-adult", "Adult", List.of(rule), false, EngineType.SPEL, "Onboarding",
+                MissingAttributePolicy.EVALUATE);
+
+        validate(unsaved, condition(18, 0), Map.of("customer.age", 30));
+
+        assertThat(resultCache.size()).isZero();
+    }
+
+    @Test
+    void shouldBoundResultsByWeight() throws Exception {
+        resultCache = new ValidationResultCache(3);
+        service = new RuleEngineService(strategyRegistry, EngineType.SPEL, conditionService, Runnable::run, resultCache);
+        RuleSet ruleSet = ruleSet(RuleMetadata.defaults());
+
+        validate(ruleSet, condition(18, 6), Map.of("customer.age", 20));
+        validate(ruleSet, condition(18, 6), Map.of("customer.age", 30));
+
+        assertThat(resultCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotMemoizeNonDeterministicRuleSets() throws Exception {
+        Condition adult = Condition.attributeVsValue("cond-adult", "Adult", age, ComparisonOperator.GTE, 18);
+        RuleSet ruleSet = ruleSet(new RuleMetadata(0, true, Set.of(RuleMetadata.NON_DETERMINISTIC_TAG)));
+
+        validate(ruleSet, adult, Map.of("customer.age", 30));
+
+        assertThat(resultCache.size()).isZero();
+    }
+
+    @Test
+    void shouldNeitherReadNorWriteResultsOfUncachedValidations() throws Exception {
+        RuleSet ruleSet = ruleSet(RuleMetadata.defaults());
+        when(conditionService.getConditionsByIds(List.of("cond-adult"))).thenReturn(List.of(condition(18, 6)));
+
+        service.validateRuleSetUncached(ruleSet, EvaluationContext.from(Map.of("customer.age", 30)));
+        assertThat(resultCache.size()).isZero();
+
+        validate(ruleSet, condition(18, 6), Map.of("customer.age", 30));
+        List<RuleValidationResult> uncached = service.validateRuleSetUncached(
+                ruleSet, EvaluationContext.from(Map.of("customer.age", 30)));
+
+        assertThat(uncached.getFirst().passed()).isTrue();
+        assertThat(resultCache.size()).isEqualTo(1);
+    }
+
+    private List<RuleValidationResult> validate(RuleSet ruleSet, Condition condition, Map<String, Object> context)
+            throws Exception {
+        return service.validateRuleSet(ruleSet, EvaluationContext.from(context), Map.of("rule-adult", List.of(condition)));
+    }
+
+    private Condition condition(int minimumAge, long revision) {
+        return new Condition("cond-adult", "Adult", age, ComparisonOperator.GTE, Optional.empty(),
+                Optional.of(minimumAge), revision);
+    }
+
+    private static RuleSet ruleSet(RuleMetadata metadata) {
+        Rule rule = new Rule("rule-adult", "Adult", List.of("cond-adult"), metadata, 5);
+        return new RuleSet("set-adult", "Adult", List.of(rule), false, EngineType.SPEL, "Onboarding",
+                MissingAttributePolicy.EVALUATE, 5);
+    }
+}
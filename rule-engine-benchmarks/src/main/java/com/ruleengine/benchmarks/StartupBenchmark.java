@@ -0,0 +1,155 @@
+package com.ruleengine.benchmarks;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark measuring time-to-first-validation of rule-engine-app: the time from
+ * launching the JVM until {@code POST /api/rules/validate} first answers with 200.
+ * This is what autoscaling cares about, and JMH cannot measure it because it needs a fresh
+ * JVM per sample.
+ *
+ * Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar com.ruleengine.benchmarks.StartupBenchmark &lt;app-jar&gt; [runs]
+ * </pre>
+ * System properties:
+ * <ul>
+ *   <li>{@code startup.cdsArchive} - AppCDS archive; when set, every run is repeated with
+ *       {@code -XX:SharedArchiveFile} so both variants are reported</li>
+ *   <li>{@code startup.aot} - {@code true} to start with {@code -Dspring.aot.enabled=true}</li>
+ *   <li>{@code startup.appArgs} - extra application arguments, space separated</li>
+ *   <li>{@code startup.port} - HTTP port for the launched app (default 18080)</li>
+ *   <li>{@code startup.timeoutSeconds} - give up on a run after this long (default 120)</li>
+ * </ul>
+ *
+ * Module: rule-engine-benchmarks
+ * Layer: Benchmarks
+ */
+public final class StartupBenchmark {
+    private static final String VALIDATION_REQUEST = """
+            {
+              "ruleId": "startup-rule",
+              "ruleName": "Startup probe",
+              "conditions": [
+                {"attributeCode": "customer.age", "attributeType": "NUMBER", "operator": "GTE", "targetValue": 18}
+              ],
+              "context": {"customer.age": 25}
+            }
+            """;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupBenchmark <app-jar> [runs]");
+            System.exit(2);
+        }
+        Path jar = Path.of(args[0]);
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("App jar not found: " + jar);
+        }
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int port = Integer.getInteger("startup.port", 18080);
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeoutSeconds", 120));
+        String cdsArchive = System.getProperty("startup.cdsArchive");
+
+        List<String> jvmOptions = new ArrayList<>();
+        if (Boolean.getBoolean("startup.aot")) {
+            jvmOptions.add("-Dspring.aot.enabled=true");
+        }
+        List<String> appArgs = new ArrayList<>(List.of("--server.port=" + port));
+        String extraAppArgs = System.getProperty("startup.appArgs", "").trim();
+        if (!extraAppArgs.isEmpty()) {
+            appArgs.addAll(Arrays.asList(extraAppArgs.split("\\s+")));
+        }
+
+        List<Long> baseline = new ArrayList<>();
+        List<Long> withCds = new ArrayList<>();
+        for (int run = 0; run < runs; run++) {
+            baseline.add(timeToFirstValidation(jar, jvmOptions, appArgs, port, timeout));
+            if (cdsArchive != null) {
+                List<String> cdsOptions = new ArrayList<>(jvmOptions);
+                cdsOptions.add("-XX:SharedArchiveFile=" + cdsArchive);
+                withCds.add(timeToFirstValidation(jar, cdsOptions, appArgs, port, timeout));
+            }
+        }
+
+        report("baseline", baseline);
+        if (cdsArchive != null) {
+            report("appcds", withCds);
+        }
+    }
+
+    /**
+     * Launches the app and polls the validate endpoint until it first succeeds.
+     *
+     * @return Milliseconds from process start to the first successful validation
+     */
+    private static long timeToFirstValidation(Path jar, List<String> jvmOptions, List<String> appArgs,
+                                              int port, Duration timeout) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.addAll(appArgs);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/rules/validate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(VALIDATION_REQUEST))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("App exited with code " + process.exitValue() + " before serving a validation");
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("App did not serve a validation within " + timeout);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void report(String variant, List<Long> millis) {
+        List<Long> sorted = new ArrayList<>(millis);
+        Collections.sort(sorted);
+        System.out.printf("%-8s runs=%d min=%dms median=%dms max=%dms%n",
+                variant, sorted.size(), sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+    }
+}
@@ -11,6 +11,11 @@ public enum EngineType {
     MVEL,
     SPEL,
     JEXL,
-    GROOVY
+    GROOVY,
+    /**
+     * Profiles each rule on every expression engine that agrees with the default engine
+     * and pins the fastest one.
+     */
+    AUTO
 }
 
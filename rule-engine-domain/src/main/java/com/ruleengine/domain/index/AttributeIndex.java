@@ -0,0 +1,130 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from attribute code to the rules and conditions that reference it.
+ * Built from the left and right attributes of each rule's conditions, it lets the evaluator
+ * find rules whose required attributes are absent from a context without touching an engine.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public final class AttributeIndex {
+    private final Map<String, Set<String>> rulesByAttribute;
+    private final Map<String, Set<String>> conditionsByAttribute;
+    private final Map<String, Set<String>> attributesByRule;
+
+    private AttributeIndex(Map<String, Set<String>> rulesByAttribute,
+                           Map<String, Set<String>> conditionsByAttribute,
+                           Map<String, Set<String>> attributesByRule) {
+        this.rulesByAttribute = rulesByAttribute;
+        this.conditionsByAttribute = conditionsByAttribute;
+        this.attributesByRule = attributesByRule;
+    }
+
+    /**
+     * Builds an index for the given rules.
+     *
+     * @param rules           The rules to index
+     * @param conditionsByRule Resolved conditions keyed by rule id
+     * @return New AttributeIndex instance
+     */
+    public static AttributeIndex build(List<Rule> rules, Map<String, List<Condition>> conditionsByRule) {
+        if (rules == null || conditionsByRule == null) {
+            throw new IllegalArgumentException("Rules and conditions cannot be null");
+        }
+        Map<String, Set<String>> rulesByAttribute = new HashMap<>();
+        Map<String, Set<String>> conditionsByAttribute = new HashMap<>();
+        Map<String, Set<String>> attributesByRule = new HashMap<>();
+
+        for (Rule rule : rules) {
+            Set<String> ruleAttributes = attributesByRule.computeIfAbsent(rule.id(), id -> new LinkedHashSet<>());
+            for (Condition condition : conditionsByRule.getOrDefault(rule.id(), List.of())) {
+                for (String code : referencedAttributes(condition)) {
+                    ruleAttributes.add(code);
+                    rulesByAttribute.computeIfAbsent(code, c -> new LinkedHashSet<>()).add(rule.id());
+                    conditionsByAttribute.computeIfAbsent(code, c -> new LinkedHashSet<>()).add(condition.id());
+                }
+            }
+        }
+        return new AttributeIndex(freeze(rulesByAttribute), freeze(conditionsByAttribute), freeze(attributesByRule));
+    }
+
+    /**
+     * Returns the ids of rules that reference the given attribute code.
+     */
+    public Set<String> rulesReferencing(String attributeCode) {
+        return rulesByAttribute.getOrDefault(attributeCode, Set.of());
+    }
+
+    /**
+     * Returns the ids of conditions that reference the given attribute code.
+     */
+    public Set<String> conditionsReferencing(String attributeCode) {
+        return conditionsByAttribute.getOrDefault(attributeCode, Set.of());
+    }
+
+    /**
+     * Returns the attribute codes required by the given rule.
+     */
+    public Set<String> attributesOf(String ruleId) {
+        return attributesByRule.getOrDefault(ruleId, Set.of());
+    }
+
+    /**
+     * Returns every attribute code referenced by the indexed rules.
+     */
+    public Set<String> attributeCodes() {
+        return rulesByAttribute.keySet();
+    }
+
+    /**
+     * Finds the rules whose required attributes are absent from the context.
+     * Every indexed attribute is looked up in the context once, so the cost is proportional to
+     * the number of distinct attributes referenced; the rules of an attribute are only visited
+     * when it is missing.
+     *
+     * @param context The evaluation context
+     * @return Map of rule id to the attribute codes it is missing (empty if none)
+     */
+    public Map<String, List<String>> missingAttributesByRule(EvaluationContext context) {
+        Map<String, List<String>> missing = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : rulesByAttribute.entrySet()) {
+            if (context.hasValue(entry.getKey())) {
+                continue;
+            }
+            for (String ruleId : entry.getValue()) {
+                missing.computeIfAbsent(ruleId, id -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        missing.values().forEach(Collections::sort);
+        return missing;
+    }
+
+    private static List<String> referencedAttributes(Condition condition) {
+        List<String> codes = new ArrayList<>(2);
+        codes.add(condition.leftAttribute().code());
+        condition.rightAttribute().map(Attribute::code).ifPresent(codes::add);
+        return codes;
+    }
+
+    private static Map<String, Set<String>> freeze(Map<String, Set<String>> source) {
+        Map<String, Set<String>> frozen = new HashMap<>();
+        source.forEach((key, values) -> frozen.put(key, Collections.unmodifiableSet(values)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.context.EvaluationContext;
+
+import java.util.BitSet;
+
+/**
+ * Strategy interface for indexes that decide conditions natively, without an expression engine.
+ * Conditions are addressed by ordinal, i.e. their position in the list the index was built from.
+ * Implementations must only mark a condition as decided when the outcome is exactly what the
+ * expression engines would produce; anything else is left to the engine.
+ * 
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public interface ConditionIndex {
+    /**
+     * Evaluates the indexed conditions against the context.
+     *
+     * @param context   The evaluation context containing attribute values
+     * @param satisfied Receives the ordinals of conditions that hold for the context
+     * @param decided   Receives the ordinals of conditions this index was able to decide
+     */
+    void evaluate(EvaluationContext context, BitSet satisfied, BitSet decided);
+}
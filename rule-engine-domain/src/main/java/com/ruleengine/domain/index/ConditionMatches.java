@@ -0,0 +1,24 @@
+package com.ruleengine.domain.index;
+
+import java.util.BitSet;
+
+/**
+ * Precomputed condition outcomes for one evaluation context.
+ *
+ * @param satisfied Ordinals of conditions that hold for the context
+ * @param decided   Ordinals of conditions decided by an index (the rest need an expression engine)
+ * 
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public record ConditionMatches(
+        BitSet satisfied,
+        BitSet decided
+) {
+    /**
+     * Creates an empty result where no condition has been decided.
+     */
+    public static ConditionMatches none() {
+        return new ConditionMatches(new BitSet(), new BitSet());
+    }
+}
@@ -0,0 +1,190 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash index for equality conditions (EQ and NE against a literal string, number or boolean).
+ * For every attribute the EQ conditions are grouped by target value, so a context value resolves
+ * all matching EQ conditions with one lookup; NE conditions are the complement of the same lookup.
+ * A condition is only decided when the context value is of the same kind as its target
+ * (string, number or boolean); mixed comparisons such as "30" == 30 are left to the engine.
+ * Numbers are compared by value, so 30 and 30.0 are equal as they are in the expression engines.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public final class EqualityIndex implements ConditionIndex {
+    private final Map<String, Map<ValueKind, Entries>> entriesByAttribute;
+    private final int size;
+
+    private EqualityIndex(Map<String, Map<ValueKind, Entries>> entriesByAttribute, int size) {
+        this.entriesByAttribute = entriesByAttribute;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index over the supported conditions in the list.
+     * Each condition is addressed by its position in the list.
+     *
+     * @param conditions The conditions to index; unsupported ones are ignored
+     * @return New EqualityIndex instance
+     */
+    public static EqualityIndex build(List<Condition> conditions) {
+        if (conditions == null) {
+            throw new IllegalArgumentException("Conditions cannot be null");
+        }
+        Map<String, Map<ValueKind, Entries>> entriesByAttribute = new HashMap<>();
+        int size = 0;
+
+        for (int ordinal = 0; ordinal < conditions.size(); ordinal++) {
+            Condition condition = conditions.get(ordinal);
+            if (!supports(condition)) {
+                continue;
+            }
+            Object target = condition.targetValue().get();
+            Entries entries = entriesByAttribute
+                    .computeIfAbsent(condition.leftAttribute().code(), c -> new EnumMap<>(ValueKind.class))
+                    .computeIfAbsent(ValueKind.of(target), k -> new Entries());
+            entries.add(normalize(target), condition.operator() == ComparisonOperator.NE, ordinal);
+            size++;
+        }
+        return new EqualityIndex(Collections.unmodifiableMap(entriesByAttribute), size);
+    }
+
+    /**
+     * Returns true if the condition compares an attribute with a literal string, finite number
+     * or boolean using EQ or NE. Strings containing quotes or backslashes are excluded because
+     * the engines would not see them as plain literals.
+     */
+    public static boolean supports(Condition condition) {
+        if (condition.operator() != ComparisonOperator.EQ && condition.operator() != ComparisonOperator.NE) {
+            return false;
+        }
+        if (condition.rightAttribute().isPresent() || condition.targetValue().isEmpty()) {
+            return false;
+        }
+        Object target = condition.targetValue().get();
+        if (target instanceof String text) {
+            return text.indexOf('\'') < 0 && text.indexOf('\\') < 0;
+        }
+        return ValueKind.of(target) != null && normalize(target) != null;
+    }
+
+    /**
+     * Returns the number of conditions held by the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void evaluate(EvaluationContext context, BitSet satisfied, BitSet decided) {
+        for (Map.Entry<String, Map<ValueKind, Entries>> entry : entriesByAttribute.entrySet()) {
+            Object value = context.getValue(entry.getKey());
+            ValueKind kind = ValueKind.of(value);
+            if (kind == null) {
+                continue;
+            }
+            Entries entries = entry.getValue().get(kind);
+            Object key = normalize(value);
+            if (entries == null || key == null) {
+                continue;
+            }
+            entries.match(key, satisfied);
+            decided.or(entries.ordinals);
+        }
+    }
+
+    /**
+     * Maps a value to a key with value-based equality, or null if the value cannot be indexed.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros();
+        }
+        if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer).stripTrailingZeros();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : null;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue()).stripTrailingZeros();
+        }
+        return null;
+    }
+
+    /**
+     * Kinds of values that only compare equal to values of the same kind.
+     */
+    private enum ValueKind {
+        STRING,
+        NUMBER,
+        BOOLEAN;
+
+        static ValueKind of(Object value) {
+            if (value instanceof String) {
+                return STRING;
+            }
+            if (value instanceof Number) {
+                return NUMBER;
+            }
+            if (value instanceof Boolean) {
+                return BOOLEAN;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * EQ and NE conditions of one attribute and value kind, grouped by normalized target value.
+     */
+    private static final class Entries {
+        private final Map<Object, BitSet> equalByValue = new HashMap<>();
+        private final Map<Object, BitSet> notEqualByValue = new HashMap<>();
+        private final BitSet notEqual = new BitSet();
+        private final BitSet ordinals = new BitSet();
+
+        void add(Object key, boolean negated, int ordinal) {
+            if (negated) {
+                notEqualByValue.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+                notEqual.set(ordinal);
+            } else {
+                equalByValue.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            }
+            ordinals.set(ordinal);
+        }
+
+        void match(Object key, BitSet satisfied) {
+            BitSet equal = equalByValue.get(key);
+            if (equal != null) {
+                satisfied.or(equal);
+            }
+            if (notEqual.isEmpty()) {
+                return;
+            }
+            BitSet holding = (BitSet) notEqual.clone();
+            BitSet violated = notEqualByValue.get(key);
+            if (violated != null) {
+                holding.andNot(violated);
+            }
+            satisfied.or(holding);
+        }
+    }
+}
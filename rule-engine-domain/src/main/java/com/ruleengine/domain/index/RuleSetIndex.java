@@ -0,0 +1,154 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.RuleSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Precomputed indexes for one rule set.
+ * Every distinct condition of the rule set gets an ordinal; the condition indexes decide as many
+ * of them as they can for a context, and the resulting bitsets are used to settle rules without
+ * building or evaluating an expression. Instances are immutable and safe to share between threads.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public final class RuleSetIndex {
+    private final RuleSet ruleSet;
+    private final Map<String, List<Condition>> conditionsByRule;
+    private final AttributeIndex attributeIndex;
+    private final List<ConditionIndex> conditionIndexes;
+    private final int[][] ordinalsByRule;
+    private final int indexedConditionCount;
+
+    private RuleSetIndex(RuleSet ruleSet,
+                         Map<String, List<Condition>> conditionsByRule,
+                         AttributeIndex attributeIndex,
+                         List<ConditionIndex> conditionIndexes,
+                         int[][] ordinalsByRule,
+                         int indexedConditionCount) {
+        this.ruleSet = ruleSet;
+        this.conditionsByRule = conditionsByRule;
+        this.attributeIndex = attributeIndex;
+        this.conditionIndexes = conditionIndexes;
+        this.ordinalsByRule = ordinalsByRule;
+        this.indexedConditionCount = indexedConditionCount;
+    }
+
+    /**
+     * Builds the indexes for a rule set.
+     *
+     * @param ruleSet          The rule set to index
+     * @param conditionsByRule Resolved conditions keyed by rule id
+     * @return New RuleSetIndex instance
+     */
+    public static RuleSetIndex build(RuleSet ruleSet, Map<String, List<Condition>> conditionsByRule) {
+        if (ruleSet == null || conditionsByRule == null) {
+            throw new IllegalArgumentException("Rule set and conditions cannot be null");
+        }
+        Map<String, Integer> ordinals = new LinkedHashMap<>();
+        List<Condition> conditions = new ArrayList<>();
+        int[][] ordinalsByRule = new int[ruleSet.rules().size()][];
+
+        for (int position = 0; position < ruleSet.rules().size(); position++) {
+            List<Condition> ruleConditions = conditionsByRule.getOrDefault(ruleSet.rules().get(position).id(), List.of());
+            int[] ruleOrdinals = new int[ruleConditions.size()];
+            for (int i = 0; i < ruleConditions.size(); i++) {
+                Condition condition = ruleConditions.get(i);
+                Integer ordinal = ordinals.get(condition.id());
+                if (ordinal == null) {
+                    ordinal = conditions.size();
+                    ordinals.put(condition.id(), ordinal);
+                    conditions.add(condition);
+                }
+                ruleOrdinals[i] = ordinal;
+            }
+            ordinalsByRule[position] = ruleOrdinals;
+        }
+
+        ThresholdIndex thresholdIndex = ThresholdIndex.build(conditions);
+        EqualityIndex equalityIndex = EqualityIndex.build(conditions);
+        List<ConditionIndex> conditionIndexes = new ArrayList<>();
+        if (thresholdIndex.size() > 0) {
+            conditionIndexes.add(thresholdIndex);
+        }
+        if (equalityIndex.size() > 0) {
+            conditionIndexes.add(equalityIndex);
+        }
+
+        return new RuleSetIndex(
+                ruleSet,
+                Map.copyOf(conditionsByRule),
+                AttributeIndex.build(ruleSet.rules(), conditionsByRule),
+                List.copyOf(conditionIndexes),
+                ordinalsByRule,
+                thresholdIndex.size() + equalityIndex.size()
+        );
+    }
+
+    /**
+     * Returns true if this index was built from the same rule set and conditions.
+     * Used by callers that cache indexes to detect stale entries.
+     */
+    public boolean isBuiltFrom(RuleSet ruleSet, Map<String, List<Condition>> conditionsByRule) {
+        return this.ruleSet.equals(ruleSet) && this.conditionsByRule.equals(conditionsByRule);
+    }
+
+    /**
+     * Returns the attribute index of the rule set.
+     */
+    public AttributeIndex attributeIndex() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns the number of conditions that can be decided without an expression engine.
+     */
+    public int indexedConditionCount() {
+        return indexedConditionCount;
+    }
+
+    /**
+     * Decides the indexed conditions for the context.
+     *
+     * @param context The evaluation context
+     * @return Satisfied and decided condition ordinals
+     */
+    public ConditionMatches match(EvaluationContext context) {
+        ConditionMatches matches = ConditionMatches.none();
+        for (ConditionIndex conditionIndex : conditionIndexes) {
+            conditionIndex.evaluate(context, matches.satisfied(), matches.decided());
+        }
+        return matches;
+    }
+
+    /**
+     * Settles the rule at the given position from precomputed matches, if possible.
+     * A rule passes when all of its conditions are decided and satisfied, and fails as soon as
+     * one decided condition is not satisfied; otherwise the rule needs an expression engine.
+     *
+     * @param position Position of the rule within the rule set
+     * @param matches  Matches produced by {@link #match(EvaluationContext)}
+     * @return Whether the rule's conditions hold, or empty if the engine must decide
+     */
+    public Optional<Boolean> decide(int position, ConditionMatches matches) {
+        if (ordinalsByRule[position].length == 0) {
+            return Optional.empty();
+        }
+        boolean allDecided = true;
+        for (int ordinal : ordinalsByRule[position]) {
+            if (!matches.decided().get(ordinal)) {
+                allDecided = false;
+            } else if (!matches.satisfied().get(ordinal)) {
+                return Optional.of(false);
+            }
+        }
+        return allDecided ? Optional.of(true) : Optional.empty();
+    }
+}
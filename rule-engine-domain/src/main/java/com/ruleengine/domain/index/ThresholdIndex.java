@@ -0,0 +1,224 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorted-threshold index for numeric range conditions (GT, GTE, LT, LTE against a literal number).
+ * For every attribute the lower bounds and upper bounds are kept in two sorted arrays, so the
+ * satisfied conditions for a context value are a prefix of one array and a suffix of the other,
+ * each located with a single binary search regardless of how many band conditions exist.
+ * Conditions are only decided when the context value is a number; anything else is left to the engine.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public final class ThresholdIndex implements ConditionIndex {
+    private final Map<String, Bands> bandsByAttribute;
+
+    private ThresholdIndex(Map<String, Bands> bandsByAttribute) {
+        this.bandsByAttribute = bandsByAttribute;
+    }
+
+    /**
+     * Builds an index over the supported conditions in the list.
+     * Each condition is addressed by its position in the list.
+     *
+     * @param conditions The conditions to index; unsupported ones are ignored
+     * @return New ThresholdIndex instance
+     */
+    public static ThresholdIndex build(List<Condition> conditions) {
+        if (conditions == null) {
+            throw new IllegalArgumentException("Conditions cannot be null");
+        }
+        Map<String, List<Bound>> lowerByAttribute = new HashMap<>();
+        Map<String, List<Bound>> upperByAttribute = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < conditions.size(); ordinal++) {
+            Condition condition = conditions.get(ordinal);
+            if (!supports(condition)) {
+                continue;
+            }
+            String code = condition.leftAttribute().code();
+            double threshold = ((Number) condition.targetValue().get()).doubleValue();
+            switch (condition.operator()) {
+                case GTE -> lowerByAttribute.computeIfAbsent(code, c -> new ArrayList<>())
+                        .add(new Bound(threshold, true, ordinal));
+                case GT -> lowerByAttribute.computeIfAbsent(code, c -> new ArrayList<>())
+                        .add(new Bound(threshold, false, ordinal));
+                case LT -> upperByAttribute.computeIfAbsent(code, c -> new ArrayList<>())
+                        .add(new Bound(threshold, false, ordinal));
+                case LTE -> upperByAttribute.computeIfAbsent(code, c -> new ArrayList<>())
+                        .add(new Bound(threshold, true, ordinal));
+                default -> throw new IllegalStateException("Unsupported operator: " + condition.operator());
+            }
+        }
+
+        Map<String, Bands> bandsByAttribute = new HashMap<>();
+        for (String code : union(lowerByAttribute, upperByAttribute)) {
+            bandsByAttribute.put(code, Bands.of(
+                    lowerByAttribute.getOrDefault(code, List.of()),
+                    upperByAttribute.getOrDefault(code, List.of())
+            ));
+        }
+        return new ThresholdIndex(Collections.unmodifiableMap(bandsByAttribute));
+    }
+
+    /**
+     * Returns true if the condition compares an attribute with a finite literal number
+     * using one of the range operators.
+     */
+    public static boolean supports(Condition condition) {
+        if (condition.rightAttribute().isPresent() || condition.targetValue().isEmpty()) {
+            return false;
+        }
+        if (!(condition.targetValue().get() instanceof Number number) || !Double.isFinite(number.doubleValue())) {
+            return false;
+        }
+        ComparisonOperator operator = condition.operator();
+        return operator == ComparisonOperator.GT || operator == ComparisonOperator.GTE
+                || operator == ComparisonOperator.LT || operator == ComparisonOperator.LTE;
+    }
+
+    /**
+     * Returns the number of conditions held by the index.
+     */
+    public int size() {
+        return bandsByAttribute.values().stream().mapToInt(bands -> bands.ordinals.cardinality()).sum();
+    }
+
+    @Override
+    public void evaluate(EvaluationContext context, BitSet satisfied, BitSet decided) {
+        for (Map.Entry<String, Bands> entry : bandsByAttribute.entrySet()) {
+            if (context.getValue(entry.getKey()) instanceof Number number) {
+                double value = number.doubleValue();
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                entry.getValue().match(value, satisfied);
+                decided.or(entry.getValue().ordinals);
+            }
+        }
+    }
+
+    private static List<String> union(Map<String, ?> first, Map<String, ?> second) {
+        List<String> codes = new ArrayList<>(first.keySet());
+        for (String code : second.keySet()) {
+            if (!first.containsKey(code)) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * A single threshold taken from a condition.
+     */
+    private record Bound(double threshold, boolean inclusive, int ordinal) {
+    }
+
+    /**
+     * Lower and upper bounds of one attribute, stored as parallel sorted arrays.
+     * Lower bounds are ordered by threshold with inclusive (GTE) before exclusive (GT) on ties,
+     * which makes the satisfied bounds a prefix. Upper bounds are ordered by threshold with
+     * exclusive (LT) before inclusive (LTE) on ties, which makes the satisfied bounds a suffix.
+     */
+    private static final class Bands {
+        private final double[] lowerThresholds;
+        private final boolean[] lowerInclusive;
+        private final int[] lowerOrdinals;
+        private final double[] upperThresholds;
+        private final boolean[] upperInclusive;
+        private final int[] upperOrdinals;
+        private final BitSet ordinals = new BitSet();
+
+        private Bands(List<Bound> lower, List<Bound> upper) {
+            lowerThresholds = new double[lower.size()];
+            lowerInclusive = new boolean[lower.size()];
+            lowerOrdinals = new int[lower.size()];
+            for (int i = 0; i < lower.size(); i++) {
+                lowerThresholds[i] = lower.get(i).threshold();
+                lowerInclusive[i] = lower.get(i).inclusive();
+                lowerOrdinals[i] = lower.get(i).ordinal();
+                ordinals.set(lowerOrdinals[i]);
+            }
+            upperThresholds = new double[upper.size()];
+            upperInclusive = new boolean[upper.size()];
+            upperOrdinals = new int[upper.size()];
+            for (int i = 0; i < upper.size(); i++) {
+                upperThresholds[i] = upper.get(i).threshold();
+                upperInclusive[i] = upper.get(i).inclusive();
+                upperOrdinals[i] = upper.get(i).ordinal();
+                ordinals.set(upperOrdinals[i]);
+            }
+        }
+
+        static Bands of(List<Bound> lower, List<Bound> upper) {
+            List<Bound> sortedLower = new ArrayList<>(lower);
+            sortedLower.sort(Comparator.comparingDouble(Bound::threshold)
+                    .thenComparing(bound -> !bound.inclusive()));
+            List<Bound> sortedUpper = new ArrayList<>(upper);
+            sortedUpper.sort(Comparator.comparingDouble(Bound::threshold)
+                    .thenComparing(Bound::inclusive));
+            return new Bands(sortedLower, sortedUpper);
+        }
+
+        void match(double value, BitSet satisfied) {
+            int lowerEnd = firstUnsatisfiedLower(value);
+            for (int i = 0; i < lowerEnd; i++) {
+                satisfied.set(lowerOrdinals[i]);
+            }
+            for (int i = firstSatisfiedUpper(value); i < upperOrdinals.length; i++) {
+                satisfied.set(upperOrdinals[i]);
+            }
+        }
+
+        /**
+         * A lower bound fails when its threshold is above the value, or equal to it and exclusive.
+         */
+        private int firstUnsatisfiedLower(double value) {
+            int low = 0;
+            int high = lowerThresholds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                double threshold = lowerThresholds[mid];
+                boolean unsatisfied = threshold > value || (threshold == value && !lowerInclusive[mid]);
+                if (unsatisfied) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * An upper bound holds when its threshold is above the value, or equal to it and inclusive.
+         */
+        private int firstSatisfiedUpper(double value) {
+            int low = 0;
+            int high = upperThresholds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                double threshold = upperThresholds[mid];
+                boolean satisfied = threshold > value || (threshold == value && upperInclusive[mid]);
+                if (satisfied) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ruleengine.domain.rule;
+
+import java.util.List;
+
+/**
+ * The rule sets of one category as read at a catalog revision, so a cached copy can be checked
+ * against the revision of a later change to the category.
+ *
+ * @param revision Catalog revision read before the rule sets; no write up to it is missing
+ * @param ruleSets The rule sets of the category
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public record CategoryRuleSets(
+        long revision,
+        List<RuleSet> ruleSets
+) {
+    public CategoryRuleSets {
+        if (revision < 0) {
+            throw new IllegalArgumentException("CategoryRuleSets revision cannot be negative");
+        }
+        if (ruleSets == null) {
+            throw new IllegalArgumentException("CategoryRuleSets ruleSets cannot be null");
+        }
+        ruleSets = List.copyOf(ruleSets);
+    }
+}
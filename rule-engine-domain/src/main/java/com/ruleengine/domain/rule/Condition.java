@@ -17,6 +17,7 @@ import java.util.Optional;
  * @param operator          The comparison operator to apply (required)
  * @param rightAttribute    Optional second attribute (for attribute vs attribute comparison)
  * @param targetValue       Optional target value (for attribute vs value comparison)
+ * @param revision          Catalog revision of the last write; 0 for conditions that were never saved
  * 
  * Module: rule-engine-domain
  * Layer: Domain
@@ -27,7 +28,8 @@ public record Condition(
         Attribute leftAttribute,
         ComparisonOperator operator,
         Optional<Attribute> rightAttribute,
-        Optional<Object> targetValue
+        Optional<Object> targetValue,
+        long revision
 ) {
     public Condition {
         if (id == null || id.isBlank()) {
@@ -49,6 +51,17 @@ public record Condition(
         if (rightAttribute.isPresent() && targetValue.isPresent()) {
             throw new IllegalArgumentException("Condition cannot have both rightAttribute and targetValue");
         }
+        if (revision < 0) {
+            throw new IllegalArgumentException("Condition revision cannot be negative");
+        }
+    }
+
+    /**
+     * Creates a condition that has not been saved yet.
+     */
+    public Condition(String id, String name, Attribute leftAttribute, ComparisonOperator operator,
+                     Optional<Attribute> rightAttribute, Optional<Object> targetValue) {
+        this(id, name, leftAttribute, operator, rightAttribute, targetValue, 0);
     }
 
     /**
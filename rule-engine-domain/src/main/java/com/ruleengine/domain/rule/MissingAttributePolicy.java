@@ -0,0 +1,18 @@
+package com.ruleengine.domain.rule;
+
+/**
+ * Policy applied by a rule set when a rule references attributes that are absent
+ * from the evaluation context.
+ *
+ * EVALUATE        - hand the rule to the expression engine regardless (legacy behaviour)
+ * FAIL            - fail the rule without invoking the expression engine
+ * NOT_APPLICABLE  - skip the rule and report it as not applicable (does not fail the set)
+ * 
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public enum MissingAttributePolicy {
+    EVALUATE,
+    FAIL,
+    NOT_APPLICABLE
+}
@@ -14,6 +14,7 @@ import java.util.List;
  * @param name        Human-readable name
  * @param conditionIds  List of condition IDs that must be satisfied
  * @param metadata    Optional metadata (priority, active flag, tags)
+ * @param revision    Catalog revision of the last write; 0 for rules that were never saved
  * 
  * Module: rule-engine-domain
  * Layer: Domain
@@ -22,7 +23,8 @@ public record Rule(
         String id,
         String name,
         List<String> conditionIds,
-        RuleMetadata metadata
+        RuleMetadata metadata,
+        long revision
 ) {
     public Rule {
         if (id == null || id.isBlank()) {
@@ -37,6 +39,16 @@ public record Rule(
         if (metadata == null) {
             metadata = RuleMetadata.defaults();
         }
+        if (revision < 0) {
+            throw new IllegalArgumentException("Rule revision cannot be negative");
+        }
+    }
+
+    /**
+     * Creates a rule that has not been saved yet.
+     */
+    public Rule(String id, String name, List<String> conditionIds, RuleMetadata metadata) {
+        this(id, name, conditionIds, metadata, 0);
     }
 
     /**
@@ -66,18 +78,33 @@ public record Rule(
             }
 
             // Convert expression result to boolean
-            boolean passed = convertToBoolean(expressionResult.value());
-
-            if (passed) {
-                return RuleValidationResult.success("Rule validation passed");
-            } else {
-                return RuleValidationResult.failure("Rule validation failed: conditions not satisfied");
-            }
+            return conditionResult(convertToBoolean(expressionResult.value()));
         } catch (Exception e) {
             return RuleValidationResult.failure("Rule validation error: " + e.getMessage());
         }
     }
 
+    /**
+     * Validates this rule from an already known outcome of its conditions,
+     * e.g. one decided by a condition index instead of an expression engine.
+     *
+     * @param conditionsSatisfied Whether all of the rule's conditions hold
+     * @return RuleValidationResult indicating whether the rule passed
+     */
+    public RuleValidationResult validate(boolean conditionsSatisfied) {
+        if (!metadata.active()) {
+            return RuleValidationResult.failure("Rule is not active");
+        }
+        return conditionResult(conditionsSatisfied);
+    }
+
+    private RuleValidationResult conditionResult(boolean passed) {
+        if (passed) {
+            return RuleValidationResult.success("Rule validation passed");
+        }
+        return RuleValidationResult.failure("Rule validation failed: conditions not satisfied");
+    }
+
     /**
      * Builds an expression string from the conditions.
      */
@@ -7,7 +7,8 @@ import java.util.Set;
  *
  * @param priority  Priority level (higher = more important)
  * @param active    Whether the rule is currently active
- * @param tags      Optional tags for categorization
+ * @param tags      Optional tags for categorization; {@value #NON_DETERMINISTIC_TAG} marks a rule whose
+ *                  outcome may differ between evaluations of the same input
  * 
  * Module: rule-engine-domain
  * Layer: Domain
@@ -17,6 +18,8 @@ public record RuleMetadata(
         boolean active,
         Set<String> tags
 ) {
+    public static final String NON_DETERMINISTIC_TAG = "non-deterministic";
+
     public RuleMetadata {
         if (tags == null) {
             tags = Set.of();
@@ -29,5 +32,12 @@ public record RuleMetadata(
     public static RuleMetadata defaults() {
         return new RuleMetadata(0, true, Set.of());
     }
+
+    /**
+     * Returns false if the rule is tagged {@value #NON_DETERMINISTIC_TAG}, so its results must not be reused.
+     */
+    public boolean deterministic() {
+        return !tags.contains(NON_DETERMINISTIC_TAG);
+    }
 }
 
@@ -16,6 +16,8 @@ import java.util.List;
  * @param stopOnFirstFailure  Whether to stop evaluation on the first failure
  * @param engineType          The engine type to use for evaluating rules in this set
  * @param ruleCategory        Category of the rule set (e.g., "Pricing", "Validation", "Authorization")
+ * @param missingAttributePolicy How rules referencing attributes absent from the context are handled
+ * @param revision            Catalog revision of the last write; 0 for rule sets that were never saved
  * 
  * Module: rule-engine-domain
  * Layer: Domain
@@ -26,7 +28,9 @@ public record RuleSet(
         List<Rule> rules,
         boolean stopOnFirstFailure,
         EngineType engineType,
-        String ruleCategory
+        String ruleCategory,
+        MissingAttributePolicy missingAttributePolicy,
+        long revision
 ) {
     public RuleSet {
         if (id == null || id.isBlank()) {
@@ -44,6 +48,28 @@ public record RuleSet(
         if (ruleCategory == null || ruleCategory.isBlank()) {
             throw new IllegalArgumentException("RuleSet ruleCategory cannot be null or blank");
         }
+        if (missingAttributePolicy == null) {
+            missingAttributePolicy = MissingAttributePolicy.EVALUATE;
+        }
+        if (revision < 0) {
+            throw new IllegalArgumentException("RuleSet revision cannot be negative");
+        }
+    }
+
+    /**
+     * Creates a RuleSet that has not been saved yet.
+     */
+    public RuleSet(String id, String name, List<Rule> rules, boolean stopOnFirstFailure,
+                   EngineType engineType, String ruleCategory, MissingAttributePolicy missingAttributePolicy) {
+        this(id, name, rules, stopOnFirstFailure, engineType, ruleCategory, missingAttributePolicy, 0);
+    }
+
+    /**
+     * Creates a RuleSet that evaluates rules even when referenced attributes are missing.
+     */
+    public RuleSet(String id, String name, List<Rule> rules, boolean stopOnFirstFailure,
+                   EngineType engineType, String ruleCategory) {
+        this(id, name, rules, stopOnFirstFailure, engineType, ruleCategory, MissingAttributePolicy.EVALUATE);
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.ruleengine.domain.rule;
+
+import java.util.List;
+
+/**
+ * A rule set together with the conditions its rules reference, i.e. everything needed to
+ * evaluate it.
+ *
+ * @param ruleSet    The rule set
+ * @param conditions The conditions referenced by its rules, each once
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public record RuleSetGraph(
+        RuleSet ruleSet,
+        List<Condition> conditions
+) {
+    public RuleSetGraph {
+        if (ruleSet == null) {
+            throw new IllegalArgumentException("RuleSetGraph ruleSet cannot be null");
+        }
+        if (conditions == null) {
+            throw new IllegalArgumentException("RuleSetGraph conditions cannot be null");
+        }
+        conditions = List.copyOf(conditions);
+    }
+}
@@ -52,5 +52,12 @@ public record RuleValidationResult(
     public static RuleValidationResult failure(String message, Map<String, Object> details) {
         return new RuleValidationResult(false, Optional.of(message), Optional.of(details));
     }
-}
 
+    /**
+     * Creates a result for a rule that was skipped because it does not apply to the context.
+     * Not-applicable rules count as passed so that they do not fail their rule set.
+     */
+    public static RuleValidationResult notApplicable(String message, Map<String, Object> details) {
+        return new RuleValidationResult(true, Optional.of(message), Optional.of(details));
+    }
+}
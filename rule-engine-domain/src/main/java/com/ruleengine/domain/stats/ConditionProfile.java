@@ -0,0 +1,43 @@
+package com.ruleengine.domain.stats;
+
+/**
+ * Observed cost and selectivity of a condition.
+ *
+ * @param conditionId  The condition id
+ * @param samples      Number of sampled evaluations
+ * @param failures     Number of sampled evaluations where the condition did not hold
+ * @param averageNanos Average evaluation time in nanoseconds
+ * 
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public record ConditionProfile(
+        String conditionId,
+        long samples,
+        long failures,
+        double averageNanos
+) {
+    /**
+     * Creates a profile for a condition that has not been sampled yet.
+     */
+    public static ConditionProfile unsampled(String conditionId) {
+        return new ConditionProfile(conditionId, 0, 0, 0.0);
+    }
+
+    /**
+     * Returns the fraction of sampled evaluations where the condition did not hold.
+     */
+    public double failureRate() {
+        return samples == 0 ? 0.0 : (double) failures / samples;
+    }
+
+    /**
+     * Returns the expected cost of reaching a failure through this condition.
+     * In a conjunction, evaluating conditions by ascending rank minimises the expected cost;
+     * conditions that never fail rank last.
+     */
+    public double rank() {
+        double failureRate = failureRate();
+        return failureRate == 0.0 ? Double.POSITIVE_INFINITY : averageNanos / failureRate;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ruleengine.domain.stats;
+
+import com.ruleengine.domain.rule.Condition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime cost and failure-rate statistics per condition, used to order AND-ed conditions
+ * so that cheap conditions that are likely to fail are checked first.
+ * Recording is lock-free and safe to call from many threads.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+public final class ConditionStatistics {
+    private final Map<String, Counters> countersByCondition = new ConcurrentHashMap<>();
+    private final int minSamples;
+
+    /**
+     * @param minSamples Samples every condition of a rule needs before the rule is reordered
+     */
+    public ConditionStatistics(int minSamples) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("Minimum samples must be positive");
+        }
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Records one sampled evaluation of a condition.
+     *
+     * @param conditionId The condition id
+     * @param nanos       Time taken by the evaluation
+     * @param held        Whether the condition held
+     */
+    public void record(String conditionId, long nanos, boolean held) {
+        Counters counters = countersByCondition.computeIfAbsent(conditionId, id -> new Counters());
+        counters.samples.increment();
+        counters.nanos.add(nanos);
+        if (!held) {
+            counters.failures.increment();
+        }
+    }
+
+    /**
+     * Returns the observed profile of a condition.
+     */
+    public ConditionProfile profile(String conditionId) {
+        Counters counters = countersByCondition.get(conditionId);
+        if (counters == null) {
+            return ConditionProfile.unsampled(conditionId);
+        }
+        long samples = counters.samples.sum();
+        return new ConditionProfile(
+                conditionId,
+                samples,
+                counters.failures.sum(),
+                samples == 0 ? 0.0 : (double) counters.nanos.sum() / samples
+        );
+    }
+
+    /**
+     * Returns true once every condition has enough samples to be ordered by rank.
+     */
+    public boolean isProfiled(List<Condition> conditions) {
+        for (Condition condition : conditions) {
+            if (profile(condition.id()).samples() < minSamples) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Orders conditions by ascending rank (cost divided by failure rate).
+     * The declared order is returned unchanged until every condition is profiled,
+     * and is kept for conditions with equal rank.
+     *
+     * @param conditions Conditions in declared order
+     * @return Conditions in evaluation order
+     */
+    public List<Condition> order(List<Condition> conditions) {
+        if (conditions.size() < 2 || !isProfiled(conditions)) {
+            return conditions;
+        }
+        List<ConditionProfile> profiles = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            profiles.add(profile(condition.id()));
+        }
+        List<Integer> positions = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            positions.add(i);
+        }
+        positions.sort(Comparator.<Integer>comparingDouble(i -> profiles.get(i).rank())
+                .thenComparingDouble(i -> profiles.get(i).averageNanos()));
+
+        List<Condition> ordered = new ArrayList<>(conditions.size());
+        for (int position : positions) {
+            ordered.add(conditions.get(position));
+        }
+        return ordered;
+    }
+
+    /**
+     * Discards all recorded statistics.
+     */
+    public void reset() {
+        countersByCondition.clear();
+    }
+
+    private static final class Counters {
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
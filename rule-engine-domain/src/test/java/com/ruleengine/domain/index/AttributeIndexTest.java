@@ -0,0 +1,87 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AttributeIndex.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+class AttributeIndexTest {
+
+    private AttributeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+        Attribute total = new Attribute("order.total", AttributeType.DECIMAL);
+        Attribute limit = new Attribute("customer.limit", AttributeType.DECIMAL);
+
+        Condition ageCheck = Condition.attributeVsValue("cond-age", "Age check", age, ComparisonOperator.GTE, 18);
+        Condition totalVsLimit = Condition.attributeVsAttribute("cond-limit", "Total vs limit", total,
+                ComparisonOperator.LTE, limit);
+
+        Rule adult = new Rule("rule-adult", "Adult", List.of("cond-age"), RuleMetadata.defaults());
+        Rule withinLimit = new Rule("rule-limit", "Within limit", List.of("cond-age", "cond-limit"),
+                RuleMetadata.defaults());
+
+        index = AttributeIndex.build(
+                List.of(adult, withinLimit),
+                Map.of(
+                        "rule-adult", List.of(ageCheck),
+                        "rule-limit", List.of(ageCheck, totalVsLimit)
+                )
+        );
+    }
+
+    @Test
+    void shouldIndexLeftAndRightAttributes() {
+        assertThat(index.attributeCodes()).containsExactlyInAnyOrder("customer.age", "order.total", "customer.limit");
+        assertThat(index.rulesReferencing("customer.age")).containsExactly("rule-adult", "rule-limit");
+        assertThat(index.rulesReferencing("customer.limit")).containsExactly("rule-limit");
+        assertThat(index.conditionsReferencing("order.total")).containsExactly("cond-limit");
+        assertThat(index.attributesOf("rule-limit")).containsExactly("customer.age", "order.total", "customer.limit");
+    }
+
+    @Test
+    void shouldReturnEmptySetsForUnknownKeys() {
+        assertThat(index.rulesReferencing("unknown")).isEmpty();
+        assertThat(index.conditionsReferencing("unknown")).isEmpty();
+        assertThat(index.attributesOf("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldFindRulesWithMissingAttributes() {
+        EvaluationContext context = EvaluationContext.from(Map.of("customer.age", 30, "order.total", 50.0));
+
+        Map<String, List<String>> missing = index.missingAttributesByRule(context);
+
+        assertThat(missing).containsOnlyKeys("rule-limit");
+        assertThat(missing.get("rule-limit")).containsExactly("customer.limit");
+    }
+
+    @Test
+    void shouldReportNothingMissingWhenContextIsComplete() {
+        EvaluationContext context = EvaluationContext.from(Map.of(
+                "customer.age", 30,
+                "order.total", 50.0,
+                "customer.limit", 100.0
+        ));
+
+        assertThat(index.missingAttributesByRule(context)).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EqualityIndex.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+class EqualityIndexTest {
+
+    private final Attribute country = new Attribute("customer.country", AttributeType.STRING);
+    private final Attribute tier = new Attribute("customer.tier", AttributeType.NUMBER);
+    private EqualityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = EqualityIndex.build(List.of(
+                Condition.attributeVsValue("c0", "Germany", country, ComparisonOperator.EQ, "DE"),
+                Condition.attributeVsValue("c1", "France", country, ComparisonOperator.EQ, "FR"),
+                Condition.attributeVsValue("c2", "Not Germany", country, ComparisonOperator.NE, "DE"),
+                Condition.attributeVsValue("c3", "Tier two", tier, ComparisonOperator.EQ, 2),
+                Condition.attributeVsValue("c4", "Quoted", country, ComparisonOperator.EQ, "O'Neil"),
+                Condition.attributeVsValue("c5", "Range", tier, ComparisonOperator.GT, 1)
+        ));
+    }
+
+    @Test
+    void shouldIndexOnlyLiteralEqualityConditions() {
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldResolveEqualAndNotEqualConditionsWithOneLookup() {
+        assertThat(satisfied(Map.of("customer.country", "DE"))).containsExactly(0);
+        assertThat(satisfied(Map.of("customer.country", "IT"))).containsExactly(2);
+        assertThat(satisfied(Map.of("customer.country", "FR"))).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldCompareNumbersByValue() {
+        assertThat(satisfied(Map.of("customer.tier", 2.0))).containsExactly(3);
+        assertThat(satisfied(Map.of("customer.tier", new BigDecimal("2.00")))).containsExactly(3);
+    }
+
+    @Test
+    void shouldLeaveMismatchedKindsUndecided() {
+        BitSet satisfied = new BitSet();
+        BitSet decided = new BitSet();
+
+        index.evaluate(EvaluationContext.from(Map.of("customer.tier", "2", "customer.country", 49)), satisfied, decided);
+
+        assertThat(decided.isEmpty()).isTrue();
+    }
+
+    private List<Integer> satisfied(Map<String, Object> values) {
+        BitSet satisfied = new BitSet();
+        index.evaluate(EvaluationContext.from(values), satisfied, new BitSet());
+        return satisfied.stream().boxed().toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RuleSetIndex.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+class RuleSetIndexTest {
+
+    private RuleSet ruleSet;
+    private Map<String, List<Condition>> conditionsByRule;
+    private RuleSetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+        Attribute country = new Attribute("customer.country", AttributeType.STRING);
+
+        Condition adult = Condition.attributeVsValue("cond-adult", "Adult", age, ComparisonOperator.GTE, 18);
+        Condition senior = Condition.attributeVsValue("cond-senior", "Senior", age, ComparisonOperator.GTE, 65);
+        Condition domestic = Condition.attributeVsValue("cond-country", "Domestic", country,
+                ComparisonOperator.EQ, "US");
+
+        ruleSet = RuleSet.withDefaultEngine("rs-1", "Eligibility", List.of(
+                new Rule("rule-adult", "Adult", List.of("cond-adult"), RuleMetadata.defaults()),
+                new Rule("rule-senior", "Senior", List.of("cond-adult", "cond-senior"), RuleMetadata.defaults()),
+                new Rule("rule-domestic", "Domestic adult", List.of("cond-adult", "cond-country"), RuleMetadata.defaults())
+        ), false, "ELIGIBILITY");
+        conditionsByRule = Map.of(
+                "rule-adult", List.of(adult),
+                "rule-senior", List.of(adult, senior),
+                "rule-domestic", List.of(adult, domestic)
+        );
+        index = RuleSetIndex.build(ruleSet, conditionsByRule);
+    }
+
+    @Test
+    void shouldDecideRulesWhoseConditionsAreAllIndexed() {
+        ConditionMatches matches = index.match(EvaluationContext.from(Map.of("customer.age", 30, "customer.country", "US")));
+
+        assertThat(index.indexedConditionCount()).isEqualTo(3);
+        assertThat(index.decide(0, matches)).contains(true);
+        assertThat(index.decide(1, matches)).contains(false);
+        assertThat(index.decide(2, matches)).contains(true);
+    }
+
+    @Test
+    void shouldLeaveRuleToEngineWhenConditionIsUndecided() {
+        ConditionMatches matches = index.match(EvaluationContext.from(Map.of("customer.age", 30, "customer.country", 1)));
+
+        assertThat(index.decide(2, matches)).isEmpty();
+    }
+
+    @Test
+    void shouldFailRuleWhenAnyDecidedConditionDoesNotHold() {
+        ConditionMatches matches = index.match(EvaluationContext.from(Map.of("customer.age", 12, "customer.country", "US")));
+
+        assertThat(index.decide(2, matches)).contains(false);
+    }
+
+    @Test
+    void shouldDetectStaleIndex() {
+        assertThat(index.isBuiltFrom(ruleSet, conditionsByRule)).isTrue();
+        assertThat(index.isBuiltFrom(ruleSet, Map.of())).isFalse();
+    }
+}
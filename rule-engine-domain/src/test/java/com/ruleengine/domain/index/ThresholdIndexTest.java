@@ -0,0 +1,71 @@
+package com.ruleengine.domain.index;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.context.EvaluationContext;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ThresholdIndex.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+class ThresholdIndexTest {
+
+    private final Attribute total = new Attribute("order.total", AttributeType.DECIMAL);
+    private final Attribute status = new Attribute("order.status", AttributeType.STRING);
+    private ThresholdIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = ThresholdIndex.build(List.of(
+                Condition.attributeVsValue("c0", "Over 100", total, ComparisonOperator.GT, 100.0),
+                Condition.attributeVsValue("c1", "At least 100", total, ComparisonOperator.GTE, 100),
+                Condition.attributeVsValue("c2", "At most 5000", total, ComparisonOperator.LTE, 5000),
+                Condition.attributeVsValue("c3", "Under 100", total, ComparisonOperator.LT, 100),
+                Condition.attributeVsValue("c4", "Status", status, ComparisonOperator.EQ, "OPEN")
+        ));
+    }
+
+    @Test
+    void shouldIndexOnlyNumericRangeConditions() {
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldHonourInclusiveAndExclusiveBoundsAtThreshold() {
+        assertThat(satisfied(100)).containsExactlyInAnyOrder(1, 2);
+        assertThat(satisfied(99.5)).containsExactlyInAnyOrder(2, 3);
+        assertThat(satisfied(100.01)).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(satisfied(5000.5)).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void shouldLeaveNonNumericValuesUndecided() {
+        BitSet satisfied = new BitSet();
+        BitSet decided = new BitSet();
+
+        index.evaluate(EvaluationContext.from(Map.of("order.total", "150")), satisfied, decided);
+
+        assertThat(decided.isEmpty()).isTrue();
+        assertThat(satisfied.isEmpty()).isTrue();
+    }
+
+    private List<Integer> satisfied(Object value) {
+        BitSet satisfied = new BitSet();
+        BitSet decided = new BitSet();
+        index.evaluate(EvaluationContext.from(Map.of("order.total", value)), satisfied, decided);
+        assertThat(decided.stream().boxed().toList()).containsExactly(0, 1, 2, 3);
+        return satisfied.stream().boxed().toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ruleengine.domain.stats;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ConditionStatistics.
+ *
+ * Module: rule-engine-domain
+ * Layer: Domain
+ */
+class ConditionStatisticsTest {
+
+    private final Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+    private Condition expensive;
+    private Condition selective;
+    private ConditionStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        expensive = Condition.attributeVsValue("cond-expensive", "Expensive", age, ComparisonOperator.GTE, 18);
+        selective = Condition.attributeVsValue("cond-selective", "Selective", age, ComparisonOperator.LT, 21);
+        statistics = new ConditionStatistics(2);
+    }
+
+    @Test
+    void shouldKeepDeclaredOrderUntilProfiled() {
+        statistics.record("cond-selective", 10, false);
+        statistics.record("cond-selective", 10, false);
+
+        assertThat(statistics.order(List.of(expensive, selective))).containsExactly(expensive, selective);
+    }
+
+    @Test
+    void shouldPutCheapLikelyFailuresFirst() {
+        statistics.record("cond-expensive", 1_000, true);
+        statistics.record("cond-expensive", 1_000, false);
+        statistics.record("cond-selective", 100, false);
+        statistics.record("cond-selective", 100, false);
+
+        assertThat(statistics.order(List.of(expensive, selective))).containsExactly(selective, expensive);
+    }
+
+    @Test
+    void shouldReportProfile() {
+        statistics.record("cond-expensive", 300, true);
+        statistics.record("cond-expensive", 100, false);
+
+        ConditionProfile profile = statistics.profile("cond-expensive");
+
+        assertThat(profile.samples()).isEqualTo(2);
+        assertThat(profile.failureRate()).isEqualTo(0.5);
+        assertThat(profile.averageNanos()).isEqualTo(200.0);
+        assertThat(statistics.profile("unknown").samples()).isZero();
+    }
+
+    @Test
+    void shouldRejectNonPositiveMinimumSamples() {
+        assertThatThrownBy(() -> new ConditionStatistics(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,6 +7,7 @@ import com.ruleengine.domain.strategy.ScriptEvaluationStrategy;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Registry for mapping EngineType to strategy implementations.
@@ -82,6 +83,13 @@ public class EngineStrategyRegistry {
         return Optional.ofNullable(scriptStrategies.get(engineType));
     }
 
+    /**
+     * Returns the engine types that have an expression strategy registered.
+     */
+    public Set<EngineType> expressionEngineTypes() {
+        return Set.copyOf(expressionStrategies.keySet());
+    }
+
     /**
      * Checks if an expression strategy is registered for the given engine type.
      */
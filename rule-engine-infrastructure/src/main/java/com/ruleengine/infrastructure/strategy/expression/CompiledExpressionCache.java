@@ -0,0 +1,48 @@
+package com.ruleengine.infrastructure.strategy.expression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed/compiled expressions keyed by expression string.
+ * Lookups are lock-free; when the cache is full it is cleared rather than evicting
+ * individual entries, which keeps the hot path free of bookkeeping.
+ *
+ * @param <T> The compiled form of an expression
+ * 
+ * Module: rule-engine-infrastructure
+ * Layer: Infrastructure
+ */
+final class CompiledExpressionCache<T> {
+    static final int DEFAULT_MAX_SIZE = 512;
+
+    private final int maxSize;
+    private final Map<String, T> entries = new ConcurrentHashMap<>();
+
+    CompiledExpressionCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the compiled form of the expression, compiling and caching it on first use.
+     */
+    T get(String expression, Function<String, T> compiler) {
+        T compiled = entries.get(expression);
+        if (compiled == null) {
+            compiled = compiler.apply(expression);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            entries.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
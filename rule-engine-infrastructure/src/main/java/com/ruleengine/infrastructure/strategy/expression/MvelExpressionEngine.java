@@ -20,7 +20,19 @@ import java.util.Map;
  * Layer: Infrastructure
  */
 public class MvelExpressionEngine implements ExpressionEvaluationStrategy {
-    
+    private final CompiledExpressionCache<Serializable> expressionCache;
+
+    public MvelExpressionEngine() {
+        this(CompiledExpressionCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param cacheSize Maximum number of compiled expressions kept for reuse
+     */
+    public MvelExpressionEngine(int cacheSize) {
+        this.expressionCache = new CompiledExpressionCache<>(cacheSize);
+    }
+
     @Override
     public ExpressionEvaluationResult evaluate(String expressionString, EvaluationContext context) throws ExpressionEvaluationException {
         try {
@@ -35,8 +47,8 @@ public class MvelExpressionEngine implements ExpressionEvaluationStrategy {
             Map<String, Object> mvelContext = new java.util.HashMap<>(values);
             mvelContext.put("map", values);
             
-            // Compile the expression for better performance
-            Serializable compiledExpression = MVEL.compileExpression(rewrittenExpression);
+            // Compile the expression once and reuse the compiled form
+            Serializable compiledExpression = expressionCache.get(rewrittenExpression, MVEL::compileExpression);
             
             // Evaluate the expression with the context values
             Object result = MVEL.executeExpression(compiledExpression, mvelContext);
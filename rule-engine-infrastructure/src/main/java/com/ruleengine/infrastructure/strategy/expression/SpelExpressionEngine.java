@@ -23,9 +23,18 @@ import java.util.Map;
  */
 public class SpelExpressionEngine implements ExpressionEvaluationStrategy {
     private final ExpressionParser parser;
+    private final CompiledExpressionCache<Expression> expressionCache;
 
     public SpelExpressionEngine() {
+        this(CompiledExpressionCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param cacheSize Maximum number of parsed expressions kept for reuse
+     */
+    public SpelExpressionEngine(int cacheSize) {
         this.parser = new SpelExpressionParser();
+        this.expressionCache = new CompiledExpressionCache<>(cacheSize);
     }
 
     @Override
@@ -56,8 +65,8 @@ public class SpelExpressionEngine implements ExpressionEvaluationStrategy {
             // For variable names with dots, use bracket notation if needed
             String rewrittenExpression = rewriteExpressionForVariables(expressionString, values);
             
-            // Parse the rewritten expression
-            Expression expression = parser.parseExpression(rewrittenExpression);
+            // Parse the rewritten expression, reusing a previously parsed one when available
+            Expression expression = expressionCache.get(rewrittenExpression, parser::parseExpression);
 
             // Evaluate the expression
             Object result = expression.getValue(spelContext);
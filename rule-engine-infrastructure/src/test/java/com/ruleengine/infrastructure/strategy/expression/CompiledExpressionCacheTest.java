@@ -0,0 +1,47 @@
+package com.ruleengine.infrastructure.strategy.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CompiledExpressionCache.
+ * 
+ * Module: rule-engine-infrastructure
+ * Layer: Infrastructure
+ */
+class CompiledExpressionCacheTest {
+
+    @Test
+    void shouldCompileEachExpressionOnce() {
+        CompiledExpressionCache<String> cache = new CompiledExpressionCache<>(4);
+        AtomicInteger compilations = new AtomicInteger();
+
+        cache.get("x > y", e -> e + "#" + compilations.incrementAndGet());
+        String compiled = cache.get("x > y", e -> e + "#" + compilations.incrementAndGet());
+
+        assertThat(compiled).isEqualTo("x > y#1");
+        assertThat(compilations).hasValue(1);
+    }
+
+    @Test
+    void shouldStayWithinMaximumSize() {
+        CompiledExpressionCache<String> cache = new CompiledExpressionCache<>(2);
+
+        cache.get("a", e -> e);
+        cache.get("b", e -> e);
+        cache.get("c", e -> e);
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        assertThat(cache.get("c", e -> "recompiled")).isEqualTo("c");
+    }
+
+    @Test
+    void shouldRejectNonPositiveSize() {
+        assertThatThrownBy(() -> new CompiledExpressionCache<String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+/**
+ * K6 load test script for the blocking validation paths at 1k+ concurrent users.
+ * Mixes /api/rules/validate with /api/rule-sets/validate-by-category, which loads
+ * conditions through JPA. Run it once against the default Tomcat pool and once with
+ * VIRTUAL_THREADS_ENABLED=true to compare throughput.
+ *
+ * Module: rule-engine-loadtest-scripts
+ * Layer: Load Tests
+ */
+
+export const options = {
+  stages: [
+    { duration: '30s', target: 250 },   // Ramp up to 250 users
+    { duration: '1m', target: 250 },    // Stay at 250 users
+    { duration: '30s', target: 1000 },  // Ramp up to 1000 users
+    { duration: '2m', target: 1000 },   // Stay at 1000 users
+    { duration: '30s', target: 1500 },  // Ramp up to 1500 users
+    { duration: '1m', target: 1500 },   // Stay at 1500 users
+    { duration: '30s', target: 0 },     // Ramp down
+  ],
+  thresholds: {
+    http_req_duration: ['p(95)<800', 'p(99)<1500'],
+    http_req_failed: ['rate<0.01'],
+    http_reqs: ['rate>500'],
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CATEGORY = __ENV.CATEGORY || 'loadtest-concurrency';
+const RULE_SETS = 5;
+const JSON_PARAMS = { headers: { 'Content-Type': 'application/json' } };
+
+/**
+ * Creates a category of rule sets to validate against; existing entities are reused.
+ */
+export function setup() {
+  http.post(`${BASE_URL}/api/attributes`, JSON.stringify({
+    code: 'lt.customer.age', path: 'lt.customer.age', type: 'NUMBER',
+  }), JSON_PARAMS);
+
+  for (let i = 0; i < RULE_SETS; i++) {
+    http.post(`${BASE_URL}/api/conditions`, JSON.stringify({
+      id: `lt-cond-${i}`, name: `Age >= ${18 + i}`, leftAttributeCode: 'lt.customer.age',
+      operator: 'GTE', targetValue: 18 + i,
+    }), JSON_PARAMS);
+    http.post(`${BASE_URL}/api/rules`, JSON.stringify({
+      id: `lt-rule-${i}`, name: `Age rule ${i}`, conditionIds: [`lt-cond-${i}`], priority: 1, active: true,
+    }), JSON_PARAMS);
+    http.post(`${BASE_URL}/api/rule-sets`, JSON.stringify({
+      id: `lt-set-${i}`, name: `Age set ${i}`, ruleIds: [`lt-rule-${i}`], stopOnFirstFailure: false,
+      engineType: 'SPEL', ruleCategory: CATEGORY,
+    }), JSON_PARAMS);
+  }
+}
+
+export default function () {
+  if (Math.random() < 0.5) {
+    const response = http.post(`${BASE_URL}/api/rule-sets/validate-by-category`, JSON.stringify({
+      ruleCategory: CATEGORY,
+      contextMap: { 'lt.customer.age': 30 },
+    }), JSON_PARAMS);
+
+    check(response, {
+      'category status is 200': (r) => r.status === 200,
+      'all rule sets evaluated': (r) => JSON.parse(r.body).totalRuleSets === RULE_SETS,
+    });
+  } else {
+    const response = http.post(`${BASE_URL}/api/rules/validate`, JSON.stringify({
+      ruleId: 'rule-1',
+      ruleName: 'Test Rule',
+      conditions: [
+        { attributeCode: 'customer.age', attributeType: 'NUMBER', operator: 'GTE', targetValue: 18 },
+      ],
+      context: { 'customer.age': 25 },
+    }), JSON_PARAMS);
+
+    check(response, {
+      'validate status is 200': (r) => r.status === 200,
+      'response has passed field': (r) => JSON.parse(r.body).passed !== undefined,
+    });
+  }
+
+  sleep(1);
+}
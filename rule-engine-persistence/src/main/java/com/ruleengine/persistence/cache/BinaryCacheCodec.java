@@ -0,0 +1,509 @@
+package com.ruleengine.persistence.cache;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.CategoryRuleSets;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary codec for the domain records kept in the distributed cache: {@link Attribute},
+ * {@link Condition}, {@link Rule}, {@link RuleSet}, lists of rule sets, {@link CategoryRuleSets}
+ * (one category at a catalog revision), {@link RuleSetGraph}s, plus strings.
+ *
+ * <p>Layout: schema version, flags, record type, then the record fields in declaration order
+ * ({@link DataOutputStream} primitives, enums by name, free-form values with a one-byte tag).
+ * When the body is larger than the compression threshold it is deflated and the
+ * deflated flag is set. Values written by another schema version decode as empty,
+ * so they behave like cache misses during a rolling deployment; bump {@link #SCHEMA_VERSION}
+ * whenever a record layout changes.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class BinaryCacheCodec implements CacheCodec {
+    public static final int SCHEMA_VERSION = 3;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    static final int FLAG_DEFLATED = 1;
+
+    private static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_ATTRIBUTE = 2;
+    private static final byte TYPE_CONDITION = 3;
+    private static final byte TYPE_RULE = 4;
+    private static final byte TYPE_RULE_SET = 5;
+    private static final byte TYPE_RULE_SET_LIST = 6;
+    private static final byte TYPE_RULE_SET_GRAPH = 7;
+    private static final byte TYPE_CATEGORY_RULE_SETS = 8;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_INTEGER = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_DOUBLE = 4;
+    private static final byte VALUE_BOOLEAN = 5;
+    private static final byte VALUE_DECIMAL = 6;
+    private static final byte VALUE_LIST = 7;
+    private static final byte VALUE_MAP = 8;
+
+    private final int compressionThreshold;
+
+    public BinaryCacheCodec() {
+        this(DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionThreshold Bodies larger than this many bytes are deflated
+     */
+    public BinaryCacheCodec(int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative");
+        }
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        byte type = typeOf(value);
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            writeRecord(new DataOutputStream(body), type, value);
+            byte[] bytes = body.toByteArray();
+            boolean deflate = bytes.length > compressionThreshold;
+
+            ByteArrayOutputStream message = new ByteArrayOutputStream(bytes.length + 8);
+            DataOutputStream out = new DataOutputStream(message);
+            out.writeByte(SCHEMA_VERSION);
+            out.writeByte(deflate ? FLAG_DEFLATED : 0);
+            out.writeByte(type);
+            if (deflate) {
+                out.writeInt(bytes.length);
+                out.write(deflate(bytes));
+            } else {
+                out.write(bytes);
+            }
+            return message.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> decode(byte[] bytes, Class<T> type) {
+        if (bytes.length < 3) {
+            throw new IllegalArgumentException("Cache value too short");
+        }
+        if (bytes[0] != SCHEMA_VERSION || !type.isAssignableFrom(classOf(bytes[2]))) {
+            return Optional.empty();
+        }
+        try {
+            byte[] body;
+            if ((bytes[1] & FLAG_DEFLATED) != 0) {
+                DataInputStream header = new DataInputStream(new ByteArrayInputStream(bytes, 3, 4));
+                body = inflate(bytes, 7, header.readInt());
+            } else {
+                body = Arrays.copyOfRange(bytes, 3, bytes.length);
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            Object value = readRecord(in, bytes[2]);
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Trailing bytes in cache value");
+            }
+            return Optional.of(type.cast(value));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed cache value", e);
+        }
+    }
+
+    private static byte typeOf(Object value) {
+        return switch (value) {
+            case String ignored -> TYPE_STRING;
+            case Attribute ignored -> TYPE_ATTRIBUTE;
+            case Condition ignored -> TYPE_CONDITION;
+            case Rule ignored -> TYPE_RULE;
+            case RuleSet ignored -> TYPE_RULE_SET;
+            case RuleSetGraph ignored -> TYPE_RULE_SET_GRAPH;
+            case CategoryRuleSets ignored -> TYPE_CATEGORY_RULE_SETS;
+            case List<?> list when list.stream().allMatch(RuleSet.class::isInstance) -> TYPE_RULE_SET_LIST;
+            case null -> throw new IllegalArgumentException("Cannot encode null cache value");
+            default -> throw new IllegalArgumentException("Unsupported cache value type: " + value.getClass().getName());
+        };
+    }
+
+    private static Class<?> classOf(byte type) {
+        return switch (type) {
+            case TYPE_STRING -> String.class;
+            case TYPE_ATTRIBUTE -> Attribute.class;
+            case TYPE_CONDITION -> Condition.class;
+            case TYPE_RULE -> Rule.class;
+            case TYPE_RULE_SET -> RuleSet.class;
+            case TYPE_RULE_SET_LIST -> List.class;
+            case TYPE_RULE_SET_GRAPH -> RuleSetGraph.class;
+            case TYPE_CATEGORY_RULE_SETS -> CategoryRuleSets.class;
+            default -> throw new IllegalArgumentException("Unknown cache value type: " + type);
+        };
+    }
+
+    // Records
+
+    private static void writeRecord(DataOutputStream out, byte type, Object value) throws IOException {
+        switch (type) {
+            case TYPE_STRING -> out.writeUTF((String) value);
+            case TYPE_ATTRIBUTE -> writeAttribute(out, (Attribute) value);
+            case TYPE_CONDITION -> writeCondition(out, (Condition) value);
+            case TYPE_RULE -> writeRule(out, (Rule) value);
+            case TYPE_RULE_SET_LIST -> writeRuleSets(out, (List<?>) value);
+            case TYPE_RULE_SET_GRAPH -> writeRuleSetGraph(out, (RuleSetGraph) value);
+            case TYPE_CATEGORY_RULE_SETS -> writeCategoryRuleSets(out, (CategoryRuleSets) value);
+            default -> writeRuleSet(out, (RuleSet) value);
+        }
+    }
+
+    private static Object readRecord(DataInputStream in, byte type) throws IOException {
+        return switch (type) {
+            case TYPE_STRING -> in.readUTF();
+            case TYPE_ATTRIBUTE -> readAttribute(in);
+            case TYPE_CONDITION -> readCondition(in);
+            case TYPE_RULE -> readRule(in);
+            case TYPE_RULE_SET_LIST -> readRuleSets(in);
+            case TYPE_RULE_SET_GRAPH -> readRuleSetGraph(in);
+            case TYPE_CATEGORY_RULE_SETS -> readCategoryRuleSets(in);
+            default -> readRuleSet(in);
+        };
+    }
+
+    private static void writeAttribute(DataOutputStream out, Attribute attribute) throws IOException {
+        out.writeUTF(attribute.code());
+        out.writeUTF(attribute.path());
+        out.writeUTF(attribute.type().name());
+        writeNullableString(out, attribute.description().orElse(null));
+        writeValue(out, attribute.constraints().orElse(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Attribute readAttribute(DataInputStream in) throws IOException {
+        String code = in.readUTF();
+        String path = in.readUTF();
+        AttributeType type = readEnum(in, AttributeType.class);
+        Optional<String> description = Optional.ofNullable(readNullableString(in));
+        Object constraints = readValue(in);
+        if (constraints != null && !(constraints instanceof Map)) {
+            throw new IllegalArgumentException("Attribute constraints must be a map");
+        }
+        return new Attribute(code, path, type, description, Optional.ofNullable((Map<String, Object>) constraints));
+    }
+
+    private static void writeCondition(DataOutputStream out, Condition condition) throws IOException {
+        out.writeUTF(condition.id());
+        out.writeUTF(condition.name());
+        writeAttribute(out, condition.leftAttribute());
+        out.writeUTF(condition.operator().name());
+        out.writeBoolean(condition.rightAttribute().isPresent());
+        if (condition.rightAttribute().isPresent()) {
+            writeAttribute(out, condition.rightAttribute().get());
+        } else {
+            writeValue(out, condition.targetValue().orElse(null));
+        }
+        out.writeLong(condition.revision());
+    }
+
+    private static Condition readCondition(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        Attribute left = readAttribute(in);
+        ComparisonOperator operator = readEnum(in, ComparisonOperator.class);
+        boolean attributeVsAttribute = in.readBoolean();
+        Optional<Attribute> right = attributeVsAttribute ? Optional.of(readAttribute(in)) : Optional.empty();
+        Optional<Object> target = attributeVsAttribute ? Optional.empty() : Optional.ofNullable(readValue(in));
+        return new Condition(id, name, left, operator, right, target, in.readLong());
+    }
+
+    private static void writeRule(DataOutputStream out, Rule rule) throws IOException {
+        out.writeUTF(rule.id());
+        out.writeUTF(rule.name());
+        writeStrings(out, rule.conditionIds());
+        out.writeInt(rule.metadata().priority());
+        out.writeBoolean(rule.metadata().active());
+        writeStrings(out, rule.metadata().tags());
+        out.writeLong(rule.revision());
+    }
+
+    private static Rule readRule(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        List<String> conditionIds = readStrings(in);
+        int priority = in.readInt();
+        boolean active = in.readBoolean();
+        Set<String> tags = new LinkedHashSet<>(readStrings(in));
+        return new Rule(id, name, conditionIds, new RuleMetadata(priority, active, tags), in.readLong());
+    }
+
+    private static void writeRuleSet(DataOutputStream out, RuleSet ruleSet) throws IOException {
+        out.writeUTF(ruleSet.id());
+        out.writeUTF(ruleSet.name());
+        out.writeInt(ruleSet.rules().size());
+        for (Rule rule : ruleSet.rules()) {
+            writeRule(out, rule);
+        }
+        out.writeBoolean(ruleSet.stopOnFirstFailure());
+        out.writeUTF(ruleSet.engineType().name());
+        out.writeUTF(ruleSet.ruleCategory());
+        out.writeUTF(ruleSet.missingAttributePolicy().name());
+        out.writeLong(ruleSet.revision());
+    }
+
+    private static RuleSet readRuleSet(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        int count = readCount(in);
+        List<Rule> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rules.add(readRule(in));
+        }
+        boolean stopOnFirstFailure = in.readBoolean();
+        EngineType engineType = readEnum(in, EngineType.class);
+        String ruleCategory = in.readUTF();
+        MissingAttributePolicy policy = readEnum(in, MissingAttributePolicy.class);
+        return new RuleSet(id, name, rules, stopOnFirstFailure, engineType, ruleCategory, policy, in.readLong());
+    }
+
+    private static void writeRuleSets(DataOutputStream out, List<?> ruleSets) throws IOException {
+        out.writeInt(ruleSets.size());
+        for (Object ruleSet : ruleSets) {
+            writeRuleSet(out, (RuleSet) ruleSet);
+        }
+    }
+
+    private static List<RuleSet> readRuleSets(DataInputStream in) throws IOException {
+        int count = readCount(in);
+        List<RuleSet> ruleSets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ruleSets.add(readRuleSet(in));
+        }
+        return List.copyOf(ruleSets);
+    }
+
+    private static void writeCategoryRuleSets(DataOutputStream out, CategoryRuleSets category) throws IOException {
+        out.writeLong(category.revision());
+        writeRuleSets(out, category.ruleSets());
+    }
+
+    private static CategoryRuleSets readCategoryRuleSets(DataInputStream in) throws IOException {
+        long revision = in.readLong();
+        return new CategoryRuleSets(revision, readRuleSets(in));
+    }
+
+    private static void writeRuleSetGraph(DataOutputStream out, RuleSetGraph graph) throws IOException {
+        writeRuleSet(out, graph.ruleSet());
+        out.writeInt(graph.conditions().size());
+        for (Condition condition : graph.conditions()) {
+            writeCondition(out, condition);
+        }
+    }
+
+    private static RuleSetGraph readRuleSetGraph(DataInputStream in) throws IOException {
+        RuleSet ruleSet = readRuleSet(in);
+        int count = readCount(in);
+        List<Condition> conditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            conditions.add(readCondition(in));
+        }
+        return new RuleSetGraph(ruleSet, conditions);
+    }
+
+    // Primitives
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = readCount(in);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    /**
+     * Reads a count, bounded by the remaining bytes so corrupt input cannot allocate much.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        return count;
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        return Enum.valueOf(type, in.readUTF());
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(VALUE_STRING);
+            out.writeUTF(s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(VALUE_INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean b) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof BigDecimal d) {
+            out.writeByte(VALUE_DECIMAL);
+            out.writeUTF(d.toString());
+        } else if (value instanceof Collection<?> list) {
+            out.writeByte(VALUE_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(VALUE_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeUTF(String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            out.writeByte(VALUE_STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return in.readUTF();
+            case VALUE_INTEGER:
+                return in.readInt();
+            case VALUE_LONG:
+                return in.readLong();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_DECIMAL:
+                return new BigDecimal(in.readUTF());
+            case VALUE_LIST: {
+                int count = readCount(in);
+                List<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case VALUE_MAP: {
+                int count = readCount(in);
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    map.put(in.readUTF(), readValue(in));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown value tag: " + tag);
+        }
+    }
+
+    // Compression
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length) throws EOFException {
+        if (length < 0 || length > MAX_INFLATED_SIZE || offset > bytes.length) {
+            throw new IllegalArgumentException("Invalid compressed length: " + length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(body, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length || !inflater.finished()) {
+                throw new EOFException("Truncated compressed cache value");
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
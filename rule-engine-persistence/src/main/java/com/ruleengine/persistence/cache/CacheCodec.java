@@ -0,0 +1,26 @@
+package com.ruleengine.persistence.cache;
+
+import java.util.Optional;
+
+/**
+ * Serializes cache values for caches that store bytes, such as Redis.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public interface CacheCodec {
+    /**
+     * Encodes a value.
+     *
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a value written by {@link #encode(Object)}.
+     *
+     * @return the value, or empty if it was written with another schema version or is not of the given type
+     * @throws IllegalArgumentException if the bytes are malformed
+     */
+    <T> Optional<T> decode(byte[] bytes, Class<T> type);
+}
@@ -0,0 +1,42 @@
+package com.ruleengine.persistence.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache key invalidations between application instances, so each instance can drop
+ * its local copy of an entry that was changed elsewhere.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public interface CacheInvalidationBus extends AutoCloseable {
+    /**
+     * Key published when the whole cache was cleared.
+     */
+    String ALL_KEYS = "*";
+
+    /**
+     * Publishes an invalidation to all other instances.
+     *
+     * @param key The invalidated key, or {@link #ALL_KEYS}
+     */
+    void publish(String key);
+
+    /**
+     * Publishes invalidations of several keys, in one message where the transport allows it.
+     */
+    default void publishAll(Collection<String> keys) {
+        keys.forEach(this::publish);
+    }
+
+    /**
+     * Registers a listener for invalidations published by other instances.
+     *
+     * @param listener Receives the invalidated key, or {@link #ALL_KEYS}
+     */
+    void subscribe(Consumer<String> listener);
+
+    @Override
+    void close();
+}
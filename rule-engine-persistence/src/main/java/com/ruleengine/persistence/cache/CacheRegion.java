@@ -0,0 +1,88 @@
+package com.ruleengine.persistence.cache;
+
+import com.ruleengine.domain.rule.CategoryRuleSets;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleSet;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Sizing and expiry of one named region of {@link CaffeineCacheStrategy}. Keys are routed to the
+ * region named by their namespace, the prefix before the first {@code ':'}
+ * (e.g. {@code category:Onboarding}); keys of other namespaces go to the {@link #DEFAULT} region.
+ *
+ * @param maximumWeight     Upper bound of the summed entry weights
+ * @param weigher           How an entry's weight is computed
+ * @param expireAfterWrite  Entries are dropped this long after they were written
+ * @param refreshAfterWrite Entries older than this are reloaded in the background by
+ *                          {@link CacheStrategy#getOrLoad}; must be shorter than the expiry
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public record CacheRegion(
+        String name,
+        long maximumWeight,
+        Weigher weigher,
+        Duration expireAfterWrite,
+        Optional<Duration> refreshAfterWrite
+) {
+    public static final String DEFAULT = "default";
+
+    public enum Weigher {
+        /**
+         * Every entry weighs 1; the maximum weight is an entry count.
+         */
+        ENTRY_COUNT,
+        /**
+         * An entry weighs the number of records it holds: a rule set counts itself, its rules and
+         * their condition ids, and a list or category the sum of its elements. Suits regions whose values vary
+         * widely in size, such as categories.
+         */
+        ELEMENT_COUNT;
+
+        int weigh(Object value) {
+            return this == ENTRY_COUNT ? 1 : Math.max(1, elements(value));
+        }
+
+        private static int elements(Object value) {
+            return switch (value) {
+                case RuleSet ruleSet -> 1 + ruleSet.rules().stream().mapToInt(Weigher::elements).sum();
+                case Rule rule -> 1 + rule.conditionIds().size();
+                case CategoryRuleSets category -> elements(category.ruleSets());
+                case Collection<?> values -> values.stream().mapToInt(Weigher::elements).sum();
+                default -> 1;
+            };
+        }
+    }
+
+    public CacheRegion {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Region name cannot be blank");
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight of region '" + name + "' must be positive");
+        }
+        if (weigher == null || expireAfterWrite == null || refreshAfterWrite == null) {
+            throw new IllegalArgumentException("Weigher and expiry of region '" + name + "' cannot be null");
+        }
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("Expiry of region '" + name + "' must be positive");
+        }
+        refreshAfterWrite.ifPresent(interval -> {
+            if (interval.isNegative() || interval.isZero() || interval.compareTo(expireAfterWrite) >= 0) {
+                throw new IllegalArgumentException("Refresh interval of region '" + name
+                        + "' must be positive and shorter than the expiry");
+            }
+        });
+    }
+
+    /**
+     * A region bounded by entry count, without refresh-ahead.
+     */
+    public static CacheRegion ofEntries(String name, long maximumEntries, Duration expireAfterWrite) {
+        return new CacheRegion(name, maximumEntries, Weigher.ENTRY_COUNT, expireAfterWrite, Optional.empty());
+    }
+}
@@ -1,6 +1,10 @@
 package com.ruleengine.persistence.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Interface for cache strategies.
@@ -18,6 +22,52 @@ public interface CacheStrategy {
      */
     <T> Optional<T> get(String key, Class<T> type);
 
+    /**
+     * Gets several values at once. Distributed implementations fetch them in one round-trip.
+     *
+     * @param keys The cache keys
+     * @return The cached values by key; keys that are missing or of another type are absent
+     */
+    default <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> values = new HashMap<>();
+        for (String key : keys) {
+            get(key, type).ifPresent(value -> values.put(key, value));
+        }
+        return values;
+    }
+
+    /**
+     * Gets a value, loading and caching it on a miss. Implementations may run only one loader per
+     * key at a time and may reload entries in the background before they expire; loaders must
+     * therefore be safe to call from another thread. An empty result is not cached.
+     *
+     * @param key    The cache key
+     * @param loader Loads the value from the source of truth
+     * @return Optional containing the cached or loaded value
+     */
+    default <T> Optional<T> getOrLoad(String key, Class<T> type, Supplier<Optional<T>> loader) {
+        Optional<T> cached = get(key, type);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(value -> put(key, value));
+        return loaded;
+    }
+
+    /**
+     * Like {@link #getOrLoad(String, Class, Supplier)}, with a separate loader for background
+     * refreshes of an entry that is still cached. A tiered cache uses it to skip its shared level,
+     * which would hand back the copy being refreshed. The default ignores the refresher.
+     *
+     * @param loader    Loads the value on a miss
+     * @param refresher Reloads the value ahead of its expiry
+     */
+    default <T> Optional<T> getOrLoad(String key, Class<T> type, Supplier<Optional<T>> loader,
+                                      Supplier<Optional<T>> refresher) {
+        return getOrLoad(key, type, loader);
+    }
+
     /**
      * Puts a value into the cache.
      *
@@ -26,6 +76,15 @@ public interface CacheStrategy {
      */
     void put(String key, Object value);
 
+    /**
+     * Puts several values at once. Distributed implementations write them in one round-trip.
+     *
+     * @param entries The values to cache by key
+     */
+    default void putAll(Map<String, ?> entries) {
+        entries.forEach(this::put);
+    }
+
     /**
      * Removes a value from the cache.
      *
@@ -33,6 +92,38 @@ public interface CacheStrategy {
      */
     void evict(String key);
 
+    /**
+     * Removes several values at once. Distributed implementations delete them in one round-trip.
+     *
+     * @param keys The cache keys
+     */
+    default void evictAll(Collection<String> keys) {
+        keys.forEach(this::evict);
+    }
+
+    /**
+     * Removes a value from this instance only, for changes that their writer has already evicted
+     * from every level and instance (e.g. applied from the catalog change feed). Tiered
+     * implementations drop their local copy and leave the shared cache alone; purely distributed
+     * ones have nothing to drop.
+     *
+     * @param key The cache key
+     */
+    default void evictLocally(String key) {
+        evict(key);
+    }
+
+    /**
+     * Removes every entry of a key namespace, i.e. whose key starts with {@code namespace + ':'}.
+     * The default clears the whole cache; implementations backed by storage shared with other
+     * services must override it so that only this namespace is touched.
+     *
+     * @param namespace The key prefix before {@code ':'}, e.g. {@code category}
+     */
+    default void evictNamespace(String namespace) {
+        clear();
+    }
+
     /**
      * Clears all entries from the cache.
      */
@@ -2,57 +2,266 @@ package com.ruleengine.persistence.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * In-memory cache strategy using Caffeine.
  * Provides fast local caching for frequently accessed rules and expressions.
- * 
+ *
+ * <p>Entries are kept in named {@link CacheRegion}s, one Caffeine cache each, so every kind of
+ * value gets its own weight bound, weigher and expiry, and a large category cannot push out the
+ * conditions. Each region records hit, miss, eviction and load statistics ({@link #regionStats}).
+ *
+ * <p>{@link #getOrLoad} runs a single loader per key; concurrent callers for the same key wait
+ * for its result instead of all querying the database when a hot entry expires. In regions with
+ * a refresh-after-write interval, an entry older than that is still returned by the next
+ * {@link #getOrLoad} but reloaded in the background, so hot entries are replaced before they
+ * expire. A refresh never overwrites an entry that was evicted or rewritten meanwhile, and a failed
+ * refresh is logged and retried by a later read. Caffeine's own {@code refreshAfterWrite} is not used
+ * because it needs one loader per cache, while {@link #getOrLoad} takes the loader per call.
+ *
  * Module: rule-engine-persistence
  * Layer: Persistence
  */
 public class CaffeineCacheStrategy implements CacheStrategy {
-    private final Cache<String, Object> cache;
+    private static final Logger log = LoggerFactory.getLogger(CaffeineCacheStrategy.class);
+
+    private final Map<String, Region> regions;
+    private final Region defaultRegion;
+    private final Executor refreshExecutor;
+    private final Ticker ticker;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private record Entry(Object value, long writtenAt) {
+    }
+
+    private record Region(CacheRegion spec, Cache<String, Entry> cache) {
+    }
+
+    /**
+     * Statistics of one region since startup.
+     */
+    public record RegionStats(long hits, long misses, long evictions, long evictionWeight,
+                              long loadSuccesses, long loadFailures, Duration totalLoadTime,
+                              long size, long weight) {
+    }
 
     public CaffeineCacheStrategy() {
-        this.cache = Caffeine.newBuilder()
-            .maximumSize(10_000)
-            .expireAfterWrite(30, TimeUnit.MINUTES)
-            .build();
+        this(10_000, 30);
     }
 
     public CaffeineCacheStrategy(long maximumSize, long expireAfterWriteMinutes) {
-        this.cache = Caffeine.newBuilder()
-            .maximumSize(maximumSize)
-            .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+        this(List.of(CacheRegion.ofEntries(CacheRegion.DEFAULT, maximumSize, Duration.ofMinutes(expireAfterWriteMinutes))));
+    }
+
+    /**
+     * @param regions The regions; keys of other namespaces use the {@code default} region, which
+     *                holds 10,000 entries for 30 minutes unless given here
+     */
+    public CaffeineCacheStrategy(Collection<CacheRegion> regions) {
+        this(regions, Executors.newVirtualThreadPerTaskExecutor(), Ticker.systemTicker());
+    }
+
+    CaffeineCacheStrategy(Collection<CacheRegion> regions, Executor refreshExecutor, Ticker ticker) {
+        if (regions == null || refreshExecutor == null || ticker == null) {
+            throw new IllegalArgumentException("Regions and refresh settings cannot be null");
+        }
+        Map<String, Region> built = new LinkedHashMap<>();
+        for (CacheRegion spec : regions) {
+            if (built.put(spec.name(), build(spec, ticker)) != null) {
+                throw new IllegalArgumentException("Duplicate cache region: " + spec.name());
+            }
+        }
+        built.computeIfAbsent(CacheRegion.DEFAULT, name ->
+                build(CacheRegion.ofEntries(name, 10_000, Duration.ofMinutes(30)), ticker));
+        this.regions = Map.copyOf(built);
+        this.defaultRegion = built.get(CacheRegion.DEFAULT);
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+    }
+
+    private static Region build(CacheRegion spec, Ticker ticker) {
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+            .maximumWeight(spec.maximumWeight())
+            .weigher((String key, Entry entry) -> spec.weigher().weigh(entry.value()))
+            .expireAfterWrite(spec.expireAfterWrite())
+            .ticker(ticker)
+            .recordStats()
             .build();
+        return new Region(spec, cache);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Optional<T> get(String key, Class<T> type) {
-        Object value = cache.getIfPresent(key);
-        if (value != null && type.isInstance(value)) {
-            return Optional.of((T) value);
+        return valueOf(regionFor(key).cache().getIfPresent(key), type);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> values = new HashMap<>();
+        groupByRegion(keys).forEach((region, regionKeys) ->
+                region.cache().getAllPresent(regionKeys).forEach((key, entry) -> {
+                    if (type.isInstance(entry.value())) {
+                        values.put(key, type.cast(entry.value()));
+                    }
+                }));
+        return values;
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(String key, Class<T> type, Supplier<Optional<T>> loader) {
+        return getOrLoad(key, type, loader, loader);
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(String key, Class<T> type, Supplier<Optional<T>> loader,
+                                     Supplier<Optional<T>> refresher) {
+        Region region = regionFor(key);
+        // Caffeine blocks other callers for this key until the loader returns
+        Entry entry = region.cache().get(key, k -> loader.get().map(this::stamp).orElse(null));
+        if (entry != null && isRefreshDue(region, entry)) {
+            refreshInBackground(region, key, entry, refresher);
         }
-        return Optional.empty();
+        return valueOf(entry, type);
     }
 
     @Override
     public void put(String key, Object value) {
-        cache.put(key, value);
+        regionFor(key).cache().put(key, stamp(value));
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        groupByRegion(entries.keySet()).forEach((region, regionKeys) -> {
+            Map<String, Entry> stamped = new HashMap<>();
+            regionKeys.forEach(key -> stamped.put(key, stamp(entries.get(key))));
+            region.cache().putAll(stamped);
+        });
     }
 
     @Override
     public void evict(String key) {
-        cache.invalidate(key);
+        regionFor(key).cache().invalidate(key);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        groupByRegion(keys).forEach((region, regionKeys) -> region.cache().invalidateAll(regionKeys));
+    }
+
+    @Override
+    public void evictNamespace(String namespace) {
+        String prefix = namespace + ":";
+        regionFor(prefix).cache().asMap().keySet().removeIf(key -> key.startsWith(prefix));
     }
 
     @Override
     public void clear() {
-        cache.invalidateAll();
+        regions.values().forEach(region -> region.cache().invalidateAll());
+    }
+
+    /**
+     * Returns the names of all regions, including {@code default}.
+     */
+    public Set<String> regionNames() {
+        return regions.keySet();
+    }
+
+    /**
+     * Returns the statistics of a region.
+     */
+    public RegionStats regionStats(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            throw new IllegalArgumentException("Unknown cache region: " + name);
+        }
+        CacheStats stats = region.cache().stats();
+        long weight = region.cache().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new RegionStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.evictionWeight(),
+                stats.loadSuccessCount(), stats.loadFailureCount(), Duration.ofNanos(stats.totalLoadTime()),
+                region.cache().estimatedSize(), weight);
+    }
+
+    /**
+     * Runs pending evictions now instead of on Caffeine's maintenance thread.
+     */
+    void cleanUp() {
+        regions.values().forEach(region -> region.cache().cleanUp());
+    }
+
+    private Region regionFor(String key) {
+        int separator = key.indexOf(':');
+        Region region = separator < 0 ? null : regions.get(key.substring(0, separator));
+        return region != null ? region : defaultRegion;
     }
-}
 
+    private Map<Region, List<String>> groupByRegion(Collection<String> keys) {
+        Map<Region, List<String>> grouped = new HashMap<>();
+        for (String key : keys) {
+            grouped.computeIfAbsent(regionFor(key), region -> new ArrayList<>()).add(key);
+        }
+        return grouped;
+    }
+
+    private Entry stamp(Object value) {
+        return new Entry(value, ticker.read());
+    }
+
+    private boolean isRefreshDue(Region region, Entry entry) {
+        return region.spec().refreshAfterWrite()
+                .map(interval -> ticker.read() - entry.writtenAt() >= interval.toNanos())
+                .orElse(false);
+    }
+
+    private <T> void refreshInBackground(Region region, String key, Entry current, Supplier<Optional<T>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Optional<T> loaded = loader.get();
+                    if (loaded.isPresent()) {
+                        region.cache().asMap().replace(key, current, stamp(loaded.get()));
+                    } else {
+                        region.cache().asMap().remove(key, current);
+                    }
+                } catch (RuntimeException e) {
+                    // Keep serving the current value; the next read retries the refresh
+                    log.warn("Background refresh of cache key '{}' failed", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static <T> Optional<T> valueOf(Entry entry, Class<T> type) {
+        if (entry != null && type.isInstance(entry.value())) {
+            return Optional.of(type.cast(entry.value()));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,349 @@
+package com.ruleengine.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker around a remote cache. Calls that fail or take longer than the slow-call
+ * threshold count as failures; after {@code failureThreshold} consecutive failures the circuit
+ * opens and every call is skipped for {@code openDuration}: reads miss, so callers fall back to
+ * their local cache or the database, and writes are dropped. Then a single probe call is let
+ * through; success closes the circuit, failure opens it again. Each opening starts a new
+ * generation, and a call only affects the circuit of the generation it started in, so a slow
+ * success from before an outage cannot close a circuit that has opened since.
+ *
+ * <p>Evictions that fail or are skipped are remembered and replayed after the next successful
+ * call, so entries changed during an outage are not served stale from the remote cache afterwards.
+ * The replay runs on a background thread, not on the request that closed the circuit, and deletes
+ * the pending keys with one {@link CacheStrategy#evictAll} call. Until it has run, a write of one of
+ * those keys may be evicted again, which only costs a miss.
+ * If too many pile up, the pending keys are replaced by their namespaces (the prefix before
+ * {@code ':'}, e.g. {@code category}) and each namespace is evicted as a whole; keys this
+ * service does not write are never touched.
+ *
+ * <p>{@link IllegalArgumentException}s (e.g. unsupported value types) are programming errors and
+ * are rethrown without affecting the circuit.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class CircuitBreakingCacheStrategy implements CacheStrategy {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakingCacheStrategy.class);
+    private static final int MAX_PENDING_EVICTIONS = 10_000;
+    private static final long NOT_ACQUIRED = -1;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CacheStrategy delegate;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final Executor replayExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private long generation;
+    private int consecutiveFailures;
+    private long openedAt;
+    private final Set<String> pendingEvictions = new LinkedHashSet<>();
+    private final Set<String> pendingNamespaces = new LinkedHashSet<>();
+    private boolean pendingClear;
+    private volatile boolean hasPending;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    public CircuitBreakingCacheStrategy(CacheStrategy delegate, int failureThreshold,
+                                        Duration slowCallThreshold, Duration openDuration) {
+        this(delegate, failureThreshold, slowCallThreshold, openDuration, System::nanoTime,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    CircuitBreakingCacheStrategy(CacheStrategy delegate, int failureThreshold, Duration slowCallThreshold,
+                                 Duration openDuration, LongSupplier nanoClock, Executor replayExecutor) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate cache cannot be null");
+        }
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        if (slowCallThreshold == null || openDuration == null) {
+            throw new IllegalArgumentException("Durations cannot be null");
+        }
+        this.delegate = delegate;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.replayExecutor = replayExecutor;
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        return call(() -> delegate.get(key, type), Optional.empty());
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        return call(() -> delegate.getAll(keys, type), Map.of());
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        call(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        call(() -> {
+            delegate.putAll(entries);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void evict(String key) {
+        Boolean evicted = call(() -> {
+            delegate.evict(key);
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+        if (!evicted) {
+            rememberEvictions(List.of(key));
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Boolean evicted = call(() -> {
+            delegate.evictAll(keys);
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+        if (!evicted) {
+            rememberEvictions(keys);
+        }
+    }
+
+    @Override
+    public void evictLocally(String key) {
+        delegate.evictLocally(key);
+    }
+
+    @Override
+    public void evictNamespace(String namespace) {
+        Boolean evicted = call(() -> {
+            delegate.evictNamespace(namespace);
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+        if (!evicted) {
+            lock.lock();
+            try {
+                pendingNamespaces.add(namespace);
+                hasPending = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Boolean cleared = call(() -> {
+            delegate.clear();
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+        if (!cleared) {
+            lock.lock();
+            try {
+                pendingClear = true;
+                hasPending = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the current circuit state.
+     */
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <R> R call(Supplier<R> action, R fallback) {
+        long acquired = tryAcquire();
+        if (acquired == NOT_ACQUIRED) {
+            return fallback;
+        }
+        long start = nanoClock.getAsLong();
+        R result;
+        try {
+            result = action.get();
+        } catch (IllegalArgumentException e) {
+            release(acquired, true);
+            throw e;
+        } catch (RuntimeException e) {
+            release(acquired, false);
+            return fallback;
+        }
+        if (release(acquired, nanoClock.getAsLong() - start <= slowCallNanos) && hasPending) {
+            replayPendingEvictions();
+        }
+        return result;
+    }
+
+    /**
+     * @return The generation the call runs in, or {@link #NOT_ACQUIRED} if it must be skipped
+     */
+    private long tryAcquire() {
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> generation;
+                case HALF_OPEN -> NOT_ACQUIRED; // A probe is already in flight
+                case OPEN -> {
+                    if (nanoClock.getAsLong() - openedAt < openNanos) {
+                        yield NOT_ACQUIRED;
+                    }
+                    state = State.HALF_OPEN;
+                    yield generation;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Whether the circuit is closed after a success of the current generation
+     */
+    private boolean release(long callGeneration, boolean success) {
+        lock.lock();
+        try {
+            if (callGeneration != generation) {
+                // Started before the circuit last opened; the probe decides when it closes
+                return false;
+            }
+            if (success) {
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+                return true;
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = nanoClock.getAsLong();
+                generation++;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rememberEvictions(Collection<String> keys) {
+        lock.lock();
+        try {
+            for (String key : keys) {
+                if (pendingEvictions.size() < MAX_PENDING_EVICTIONS) {
+                    pendingEvictions.add(key);
+                } else {
+                    collapseToNamespaces(key);
+                }
+            }
+            hasPending = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void collapseToNamespaces(String overflowKey) {
+        if (pendingNamespaces.isEmpty()) {
+            log.warn("More than {} remote cache evictions pending; evicting their namespaces instead", MAX_PENDING_EVICTIONS);
+        }
+        pendingEvictions.add(overflowKey);
+        for (String key : pendingEvictions) {
+            int separator = key.indexOf(':');
+            if (separator > 0) {
+                pendingNamespaces.add(key.substring(0, separator));
+            } else {
+                log.warn("Dropping pending eviction of cache key '{}' without a namespace; it expires by TTL", key);
+            }
+        }
+        pendingEvictions.clear();
+    }
+
+    private void replayPendingEvictions() {
+        if (!replaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            replayExecutor.execute(this::replay);
+        } catch (RejectedExecutionException e) {
+            // The next successful call tries again
+            replaying.set(false);
+        }
+    }
+
+    /**
+     * Evictions that fail again are remembered again by the calls below.
+     */
+    private void replay() {
+        try {
+            List<String> keys;
+            List<String> namespaces;
+            boolean clear;
+            lock.lock();
+            try {
+                keys = new ArrayList<>(pendingEvictions);
+                namespaces = new ArrayList<>(pendingNamespaces);
+                clear = pendingClear;
+                pendingEvictions.clear();
+                pendingNamespaces.clear();
+                pendingClear = false;
+                hasPending = false;
+            } finally {
+                lock.unlock();
+            }
+            if (clear) {
+                clear();
+                return;
+            }
+            namespaces.forEach(this::evictNamespace);
+            evictAll(keys);
+        } catch (RuntimeException e) {
+            log.warn("Replaying pending remote cache evictions failed", e);
+        } finally {
+            replaying.set(false);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ruleengine.persistence.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process invalidation bus. Delivers every published key to all subscribers synchronously;
+ * several tiered caches sharing one instance behave like application instances sharing Redis.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String key) {
+        listeners.forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        listeners.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package com.ruleengine.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over Redis pub/sub. Messages are {@code <instance id>|<key>}, with several
+ * keys separated by newlines; an instance ignores its own messages. A daemon thread holds the subscription and reconnects after errors;
+ * since invalidations sent while disconnected are lost, listeners receive {@link #ALL_KEYS}
+ * after every reconnect. For the same reason publishing is best effort: {@link #publish} only queues
+ * the keys, and a second daemon thread sends everything queued in one message, so a write never
+ * waits for Redis, even during an outage. Keys that do not fit the bounded queue, or whose message
+ * cannot be sent, are dropped with a warning.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+    private static final long RECONNECT_DELAY_MS = 1000;
+    private static final int MAX_QUEUED_KEYS = 10_000;
+    private static final int MAX_KEYS_PER_MESSAGE = 1_000;
+
+    private final HostAndPort address;
+    private final DefaultJedisClientConfig subscriberConfig;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final JedisPool publisherPool;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread subscriberThread;
+    private final BlockingQueue<String> outbox = new LinkedBlockingQueue<>(MAX_QUEUED_KEYS);
+    private final Thread publisherThread;
+    private final AtomicBoolean dropping = new AtomicBoolean();
+    private boolean unreachable; // Confined to the publisher thread
+    private volatile JedisPubSub subscription;
+    private volatile boolean running = true;
+
+    public RedisCacheInvalidationBus(String host, int port, String channel) {
+        this(host, port, channel, RedisConnectionSettings.defaults());
+    }
+
+    public RedisCacheInvalidationBus(String host, int port, String channel, RedisConnectionSettings settings) {
+        if (channel == null || channel.isBlank()) {
+            throw new IllegalArgumentException("Invalidation channel cannot be null or blank");
+        }
+        if (settings == null) {
+            throw new IllegalArgumentException("Connection settings cannot be null");
+        }
+        this.address = new HostAndPort(host, port);
+        this.channel = channel;
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxWait(settings.maxWait());
+        this.publisherPool = new JedisPool(poolConfig, address, DefaultJedisClientConfig.builder()
+                .connectionTimeoutMillis((int) settings.connectTimeout().toMillis())
+                .socketTimeoutMillis((int) settings.socketTimeout().toMillis())
+                .build());
+        // The subscription idles between messages, so it must not time out on reads
+        this.subscriberConfig = DefaultJedisClientConfig.builder()
+                .connectionTimeoutMillis((int) settings.connectTimeout().toMillis())
+                .socketTimeoutMillis(0)
+                .build();
+        this.subscriberThread = Thread.ofPlatform()
+                .name("cache-invalidation-subscriber")
+                .daemon(true)
+                .start(this::listen);
+        this.publisherThread = Thread.ofPlatform()
+                .name("cache-invalidation-publisher")
+                .daemon(true)
+                .start(this::drainOutbox);
+    }
+
+    @Override
+    public void publish(String key) {
+        if (!outbox.offer(key) && dropping.compareAndSet(false, true)) {
+            log.warn("Cache invalidation queue is full; dropping invalidations until it drains");
+        }
+    }
+
+    @Override
+    public void publishAll(Collection<String> keys) {
+        keys.forEach(this::publish);
+    }
+
+    private void drainOutbox() {
+        List<String> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(outbox.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            outbox.drainTo(batch, MAX_KEYS_PER_MESSAGE - 1);
+            send(String.join("\n", batch));
+            batch.clear();
+        }
+    }
+
+    private void send(String keys) {
+        try (Jedis jedis = publisherPool.getResource()) {
+            jedis.publish(channel, instanceId + "|" + keys);
+            dropping.set(false);
+            if (unreachable) {
+                unreachable = false;
+                log.info("Publishing cache invalidations again");
+            }
+        } catch (JedisException e) {
+            // Best effort; subscribers clear their local cache when they reconnect
+            if (!unreachable) {
+                unreachable = true;
+                log.warn("Could not publish cache invalidations; dropping them until Redis is reachable", e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            boolean resubscribed = reconnect;
+            JedisPubSub pubSub = new JedisPubSub() {
+                @Override
+                public void onSubscribe(String subscribedChannel, int subscribedChannels) {
+                    if (resubscribed) {
+                        dispatch(ALL_KEYS);
+                    }
+                }
+
+                @Override
+                public void onMessage(String messageChannel, String message) {
+                    int separator = message.indexOf('|');
+                    if (separator > 0 && !message.startsWith(instanceId + "|")) {
+                        message.substring(separator + 1).lines().forEach(key -> dispatch(key));
+                    }
+                }
+            };
+            subscription = pubSub;
+            try (Jedis jedis = new Jedis(address, subscriberConfig)) {
+                jedis.subscribe(pubSub, channel);
+            } catch (JedisException e) {
+                // Connection lost or Redis unavailable; retry below
+            }
+            reconnect = true;
+            if (running) {
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String key) {
+        listeners.forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        JedisPubSub pubSub = subscription;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            try {
+                pubSub.unsubscribe();
+            } catch (JedisException e) {
+                // Subscription connection already gone
+            }
+        }
+        subscriberThread.interrupt();
+        publisherThread.interrupt();
+        publisherPool.close();
+    }
+}
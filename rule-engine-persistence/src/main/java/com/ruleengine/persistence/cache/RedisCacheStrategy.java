@@ -1,54 +1,139 @@
 package com.ruleengine.persistence.cache;
 
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Distributed cache strategy using Redis.
  * Provides shared caching across multiple application instances.
+ * Values are serialized with a {@link CacheCodec}; a value that cannot be decoded (for example
+ * one written by another schema version) is treated as a miss. {@link #getAll} uses one
+ * {@code MGET}, {@link #putAll} one pipelined batch of {@code SETEX} and {@link #evictAll} one of
+ * {@code UNLINK}, so resolving a rule set costs a single round-trip instead of one per rule or
+ * condition. TTLs are extended by a random
+ * fraction (the jitter) so entries written together do not all expire at once.
  * 
  * Module: rule-engine-persistence
  * Layer: Persistence
  */
 public class RedisCacheStrategy implements CacheStrategy {
+    private static final int UNLINK_BATCH_SIZE = 1000;
+
     private final JedisPool jedisPool;
     private final int defaultTtlSeconds;
+    private final double ttlJitter;
+    private final CacheCodec codec;
 
     public RedisCacheStrategy(String host, int port) {
         this(host, port, 1800); // Default 30 minutes
     }
 
     public RedisCacheStrategy(String host, int port, int defaultTtlSeconds) {
+        this(host, port, defaultTtlSeconds, new BinaryCacheCodec());
+    }
+
+    public RedisCacheStrategy(String host, int port, int defaultTtlSeconds, CacheCodec codec) {
+        this(host, port, RedisConnectionSettings.defaults(), defaultTtlSeconds, 0.0, codec);
+    }
+
+    /**
+     * @param ttlJitter Fraction of the TTL added at random to each entry, between 0 and 1
+     */
+    public RedisCacheStrategy(String host, int port, RedisConnectionSettings settings,
+                              int defaultTtlSeconds, double ttlJitter, CacheCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("Cache codec cannot be null");
+        }
+        if (settings == null) {
+            throw new IllegalArgumentException("Connection settings cannot be null");
+        }
+        if (defaultTtlSeconds <= 0) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (ttlJitter < 0 || ttlJitter > 1) {
+            throw new IllegalArgumentException("TTL jitter must be between 0 and 1");
+        }
         JedisPoolConfig poolConfig = new JedisPoolConfig();
-        poolConfig.setMaxTotal(128);
-        poolConfig.setMaxIdle(32);
-        this.jedisPool = new JedisPool(poolConfig, host, port);
+        poolConfig.setMaxTotal(settings.maxTotal());
+        poolConfig.setMaxIdle(settings.maxIdle());
+        poolConfig.setMaxWait(settings.maxWait());
+        this.jedisPool = new JedisPool(poolConfig, new HostAndPort(host, port), DefaultJedisClientConfig.builder()
+                .connectionTimeoutMillis((int) settings.connectTimeout().toMillis())
+                .socketTimeoutMillis((int) settings.socketTimeout().toMillis())
+                .build());
         this.defaultTtlSeconds = defaultTtlSeconds;
+        this.ttlJitter = ttlJitter;
+        this.codec = codec;
     }
 
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
+        byte[] value;
+        try (Jedis jedis = jedisPool.getResource()) {
+            value = jedis.get(keyBytes(key));
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        return decode(value, type);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keyList = List.copyOf(keys);
+        byte[][] keyBytes = keyList.stream().map(RedisCacheStrategy::keyBytes).toArray(byte[][]::new);
+        List<byte[]> values;
         try (Jedis jedis = jedisPool.getResource()) {
-            String value = jedis.get(key);
+            values = jedis.mget(keyBytes);
+        }
+        Map<String, T> result = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            byte[] value = values.get(i);
             if (value != null) {
-                // Simple deserialization - in production, use proper serialization (JSON, etc.)
-                if (type == String.class) {
-                    return Optional.of(type.cast(value));
-                }
-                // Add more type conversions as needed
+                String key = keyList.get(i);
+                decode(value, type).ifPresent(decoded -> result.put(key, decoded));
             }
-            return Optional.empty();
         }
+        return result;
     }
 
     @Override
     public void put(String key, Object value) {
+        byte[] encoded = codec.encode(value);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.setex(keyBytes(key), ttlSeconds(), encoded);
+        }
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<byte[], byte[]> encoded = new HashMap<>();
+        entries.forEach((key, value) -> encoded.put(keyBytes(key), codec.encode(value)));
         try (Jedis jedis = jedisPool.getResource()) {
-            String stringValue = value != null ? value.toString() : "";
-            jedis.setex(key, defaultTtlSeconds, stringValue);
+            Pipeline pipeline = jedis.pipelined();
+            encoded.forEach((key, value) -> pipeline.setex(key, ttlSeconds(), value));
+            pipeline.sync();
         }
     }
 
@@ -59,6 +144,50 @@ public class RedisCacheStrategy implements CacheStrategy {
         }
     }
 
+    /**
+     * Unlinks the keys in commands of at most {@value #UNLINK_BATCH_SIZE} keys, sent as one pipeline;
+     * {@code UNLINK} frees the values off Redis's main thread.
+     */
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> keyList = List.copyOf(keys);
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (int from = 0; from < keyList.size(); from += UNLINK_BATCH_SIZE) {
+                pipeline.unlink(keyList.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keyList.size()))
+                        .toArray(String[]::new));
+            }
+            pipeline.sync();
+        }
+    }
+
+    @Override
+    public void evictLocally(String key) {
+        // Nothing is held locally
+    }
+
+    /**
+     * Deletes the namespace's keys in batches found by {@code SCAN}, so other keys in the database
+     * are left alone and Redis is never blocked by a single large command.
+     */
+    @Override
+    public void evictNamespace(String namespace) {
+        ScanParams params = new ScanParams().match(namespace.replaceAll("([*?\\[\\]\\\\])", "\\\\$1") + ":*").count(1000);
+        try (Jedis jedis = jedisPool.getResource()) {
+            String cursor = ScanParams.SCAN_POINTER_START;
+            do {
+                ScanResult<String> page = jedis.scan(cursor, params);
+                if (!page.getResult().isEmpty()) {
+                    jedis.unlink(page.getResult().toArray(String[]::new));
+                }
+                cursor = page.getCursor();
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+        }
+    }
+
     @Override
     public void clear() {
         try (Jedis jedis = jedisPool.getResource()) {
@@ -69,5 +198,51 @@ public class RedisCacheStrategy implements CacheStrategy {
     public void close() {
         jedisPool.close();
     }
-}
 
+    /**
+     * Returns a snapshot of the connection pool, e.g. for metrics.
+     */
+    public PoolStats poolStats() {
+        return new PoolStats(
+                jedisPool.getNumActive(),
+                jedisPool.getNumIdle(),
+                jedisPool.getNumWaiters(),
+                jedisPool.getMeanBorrowWaitDuration(),
+                jedisPool.getMaxBorrowWaitDuration()
+        );
+    }
+
+    private long ttlSeconds() {
+        if (ttlJitter == 0) {
+            return defaultTtlSeconds;
+        }
+        return defaultTtlSeconds + ThreadLocalRandom.current().nextLong((long) (defaultTtlSeconds * ttlJitter) + 1);
+    }
+
+    private <T> Optional<T> decode(byte[] value, Class<T> type) {
+        try {
+            return codec.decode(value, type);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] keyBytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Connection pool snapshot.
+     *
+     * @param meanBorrowWait Mean time callers waited for a connection
+     * @param maxBorrowWait  Longest time a caller waited for a connection
+     */
+    public record PoolStats(
+            int active,
+            int idle,
+            int waiters,
+            Duration meanBorrowWait,
+            Duration maxBorrowWait
+    ) {
+    }
+}
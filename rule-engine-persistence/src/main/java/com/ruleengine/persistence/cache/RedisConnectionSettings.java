@@ -0,0 +1,34 @@
+package com.ruleengine.persistence.cache;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings for Redis clients. Short timeouts bound how long a request
+ * thread can be held up by a slow or failing-over Redis.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public record RedisConnectionSettings(
+        int maxTotal,
+        int maxIdle,
+        Duration connectTimeout,
+        Duration socketTimeout,
+        Duration maxWait
+) {
+    public RedisConnectionSettings {
+        if (maxTotal <= 0 || maxIdle < 0) {
+            throw new IllegalArgumentException("Pool sizes must be positive");
+        }
+        if (connectTimeout == null || socketTimeout == null || maxWait == null) {
+            throw new IllegalArgumentException("Timeouts cannot be null");
+        }
+    }
+
+    /**
+     * Creates settings with default values (128 connections, 32 idle, 2s timeouts, 2s pool wait).
+     */
+    public static RedisConnectionSettings defaults() {
+        return new RedisConnectionSettings(128, 32, Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2));
+    }
+}
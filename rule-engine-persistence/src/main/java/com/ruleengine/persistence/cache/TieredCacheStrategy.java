@@ -0,0 +1,156 @@
+package com.ruleengine.persistence.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache: a local near-cache (L1, typically Caffeine) in front of a shared cache
+ * (L2, typically Redis); callers fall through to the database on a miss in both.
+ * Writes and evictions go to both levels and are broadcast on the {@link CacheInvalidationBus},
+ * so other instances drop their L1 copy and read the new value from L2 or the database.
+ * {@link #getOrLoad} lets L1 coordinate loading, so at most one caller per key and instance
+ * reads L2 and then the database. L1 background refreshes skip L2, which holds a copy at least as
+ * old as the one being refreshed, and write the database's value through to it.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class TieredCacheStrategy implements CacheStrategy, AutoCloseable {
+    private final CacheStrategy local;
+    private final CacheStrategy remote;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TieredCacheStrategy(CacheStrategy local, CacheStrategy remote, CacheInvalidationBus invalidationBus) {
+        if (local == null || remote == null) {
+            throw new IllegalArgumentException("Local and remote caches cannot be null");
+        }
+        if (invalidationBus == null) {
+            throw new IllegalArgumentException("Invalidation bus cannot be null");
+        }
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::invalidateLocal);
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Optional<T> cached = local.get(key, type);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<T> shared = remote.get(key, type);
+        shared.ifPresent(value -> local.put(key, value));
+        return shared;
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> values = new HashMap<>(local.getAll(keys, type));
+        if (values.size() < keys.size()) {
+            Map<String, T> shared = remote.getAll(
+                    keys.stream().filter(key -> !values.containsKey(key)).toList(), type);
+            local.putAll(shared);
+            values.putAll(shared);
+        }
+        return values;
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(String key, Class<T> type, Supplier<Optional<T>> loader) {
+        return local.getOrLoad(key, type, () -> {
+            Optional<T> shared = remote.get(key, type);
+            if (shared.isPresent()) {
+                return shared;
+            }
+            return loadThrough(key, loader);
+        }, () -> {
+            Optional<T> refreshed = loadThrough(key, loader);
+            if (refreshed.isEmpty()) {
+                // L1 drops its entry, so L2 must not hand the old value back
+                remote.evict(key);
+            }
+            return refreshed;
+        });
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        remote.put(key, value);
+        // Publish first: a bus that also delivers to this instance must not evict the new L1 entry
+        invalidationBus.publish(key);
+        local.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        remote.putAll(entries);
+        invalidationBus.publishAll(entries.keySet());
+        local.putAll(entries);
+    }
+
+    @Override
+    public void evict(String key) {
+        remote.evict(key);
+        local.evict(key);
+        invalidationBus.publish(key);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        remote.evictAll(keys);
+        local.evictAll(keys);
+        invalidationBus.publishAll(keys);
+    }
+
+    @Override
+    public void evictLocally(String key) {
+        local.evict(key);
+    }
+
+    @Override
+    public void evictNamespace(String namespace) {
+        remote.evictNamespace(namespace);
+        local.evictNamespace(namespace);
+        // The bus carries single keys, so peers drop their whole L1
+        invalidationBus.publish(CacheInvalidationBus.ALL_KEYS);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        invalidationBus.publish(CacheInvalidationBus.ALL_KEYS);
+    }
+
+    /**
+     * A fresh load, not a change: other instances' L1 entries need no invalidation.
+     */
+    private <T> Optional<T> loadThrough(String key, Supplier<Optional<T>> loader) {
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(value -> remote.put(key, value));
+        return loaded;
+    }
+
+    private void invalidateLocal(String key) {
+        if (CacheInvalidationBus.ALL_KEYS.equals(key)) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    @Override
+    public void close() {
+        invalidationBus.close();
+    }
+}
@@ -1,18 +1,29 @@
 package com.ruleengine.persistence.config;
 
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+import com.ruleengine.persistence.cache.CacheRegion;
 import com.ruleengine.persistence.cache.CacheStrategy;
 import com.ruleengine.persistence.cache.CaffeineCacheStrategy;
+import com.ruleengine.persistence.cache.CircuitBreakingCacheStrategy;
+import com.ruleengine.persistence.cache.RedisCacheInvalidationBus;
 import com.ruleengine.persistence.cache.RedisCacheStrategy;
+import com.ruleengine.persistence.cache.RedisConnectionSettings;
+import com.ruleengine.persistence.cache.TieredCacheStrategy;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * JPA and caching configuration for persistence layer.
  * 
@@ -29,18 +40,96 @@ public class PersistenceConfiguration {
         return new JpaTransactionManager(entityManagerFactory);
     }
 
+    /**
+     * One Caffeine region per name in {@code rule-engine.cache.regions.names}, each configured under
+     * {@code rule-engine.cache.regions.<name>.*}; keys of other namespaces use the {@code default} region.
+     */
     @Bean
-    @Primary
-    public CacheStrategy caffeineCacheStrategy() {
-        return new CaffeineCacheStrategy(10_000, 30);
+    public CaffeineCacheStrategy caffeineCacheStrategy(
+            Environment environment,
+            @Value("${rule-engine.cache.regions.names:default,condition,category}") List<String> regionNames
+    ) {
+        return new CaffeineCacheStrategy(regionNames.stream()
+                .map(name -> cacheRegion(environment, name))
+                .toList());
+    }
+
+    private static CacheRegion cacheRegion(Environment environment, String name) {
+        String prefix = "rule-engine.cache.regions." + name + ".";
+        long refreshSeconds = environment.getProperty(prefix + "refresh-after-write-seconds", Long.class, 0L);
+        return new CacheRegion(
+                name,
+                environment.getProperty(prefix + "maximum-weight", Long.class, 10_000L),
+                environment.getProperty(prefix + "weigher", CacheRegion.Weigher.class, CacheRegion.Weigher.ENTRY_COUNT),
+                Duration.ofMinutes(environment.getProperty(prefix + "expire-after-write-minutes", Long.class, 30L)),
+                refreshSeconds > 0 ? Optional.of(Duration.ofSeconds(refreshSeconds)) : Optional.empty()
+        );
     }
 
+    /**
+     * Short timeouts, so a stalled Redis holds a request thread for milliseconds rather than seconds.
+     */
     @Bean
-    public CacheStrategy redisCacheStrategy(
+    public RedisConnectionSettings redisConnectionSettings(
+            @Value("${rule-engine.cache.redis.pool-max-total:128}") int maxTotal,
+            @Value("${rule-engine.cache.redis.pool-max-idle:32}") int maxIdle,
+            @Value("${rule-engine.cache.redis.connect-timeout-ms:250}") long connectTimeoutMs,
+            @Value("${rule-engine.cache.redis.socket-timeout-ms:100}") long socketTimeoutMs,
+            @Value("${rule-engine.cache.redis.pool-max-wait-ms:50}") long maxWaitMs
+    ) {
+        return new RedisConnectionSettings(maxTotal, maxIdle, Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(socketTimeoutMs), Duration.ofMillis(maxWaitMs));
+    }
+
+    @Bean
+    public RedisCacheStrategy redisCacheStrategy(
             @Value("${redis.host:localhost}") String redisHost,
-            @Value("${redis.port:6379}") int redisPort
+            @Value("${redis.port:6379}") int redisPort,
+            RedisConnectionSettings redisConnectionSettings,
+            @Value("${rule-engine.cache.redis.ttl-seconds:1800}") int ttlSeconds,
+            @Value("${rule-engine.cache.redis.ttl-jitter:0.1}") double ttlJitter,
+            @Value("${rule-engine.cache.redis.compression-threshold-bytes:1024}") int compressionThresholdBytes
     ) {
-        return new RedisCacheStrategy(redisHost, redisPort, 1800);
+        return new RedisCacheStrategy(redisHost, redisPort, redisConnectionSettings, ttlSeconds, ttlJitter,
+                new BinaryCacheCodec(compressionThresholdBytes));
     }
-}
 
+    /**
+     * Stops calling Redis after repeated failures or slow calls; the tiered cache then serves from
+     * Caffeine and falls through to the database.
+     */
+    @Bean
+    public CircuitBreakingCacheStrategy redisCircuitBreaker(
+            RedisCacheStrategy redisCacheStrategy,
+            @Value("${rule-engine.cache.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${rule-engine.cache.circuit-breaker.slow-call-ms:50}") long slowCallMs,
+            @Value("${rule-engine.cache.circuit-breaker.open-ms:5000}") long openMs
+    ) {
+        return new CircuitBreakingCacheStrategy(redisCacheStrategy, failureThreshold,
+                Duration.ofMillis(slowCallMs), Duration.ofMillis(openMs));
+    }
+
+    /**
+     * The cache used by the services. {@code local} (default) is Caffeine only; {@code tiered}
+     * puts Caffeine in front of Redis and invalidates the other instances' Caffeine entries over
+     * Redis pub/sub.
+     */
+    @Bean
+    @Primary
+    public CacheStrategy cacheStrategy(
+            @Value("${rule-engine.cache.mode:local}") String mode,
+            CaffeineCacheStrategy caffeineCacheStrategy,
+            CircuitBreakingCacheStrategy redisCircuitBreaker,
+            RedisConnectionSettings redisConnectionSettings,
+            @Value("${redis.host:localhost}") String redisHost,
+            @Value("${redis.port:6379}") int redisPort,
+            @Value("${rule-engine.cache.invalidation-channel:rule-engine:cache-invalidation}") String invalidationChannel
+    ) {
+        return switch (mode) {
+            case "local" -> caffeineCacheStrategy;
+            case "tiered" -> new TieredCacheStrategy(caffeineCacheStrategy, redisCircuitBreaker,
+                    new RedisCacheInvalidationBus(redisHost, redisPort, invalidationChannel, redisConnectionSettings));
+            default -> throw new IllegalArgumentException("Unknown cache mode: " + mode);
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package com.ruleengine.persistence.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections of read-only transactions ({@code @Transactional(readOnly = true)} and
+ * read-only transaction templates) to a replica pool and everything else to the primary, so
+ * validation reads do not compete with catalog writes for connections. If the replica cannot
+ * hand out a connection, the read falls back to the primary and the replica is skipped for
+ * {@code replicaRetryAfter}, so an unavailable replica costs one connection timeout per interval
+ * rather than one per read.
+ *
+ * <p>Wrap it in a {@link LazyConnectionDataSourceProxy}: the JPA transaction manager asks for the
+ * connection of a read-only transaction before it marks the transaction read-only, and the proxy
+ * defers the choice to the first statement.
+ *
+ * <p>The replica may lag the primary, so a read-only transaction right after a write can miss it.
+ * That is acceptable for a read whose result is returned and dropped, but not for one whose result
+ * is cached beyond the transaction: a cache refilled from the replica right after a write's
+ * eviction would keep the old value until it expires. Such reads run inside {@link #onPrimary},
+ * which sends this thread's read-only transactions to the primary.
+ *
+ * <p>Without a replica every connection comes from the primary, so the same wiring serves
+ * deployments with and without one.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final ThreadLocal<Boolean> primaryRequired = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long replicaRetryAfterNanos;
+    private final LongAdder replicaFallbacks = new LongAdder();
+    private volatile boolean replicaFailed;
+    private volatile long replicaRetryAt;
+
+    /**
+     * Creates a data source without a replica: every connection comes from the primary.
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary) {
+        if (primary == null) {
+            throw new IllegalArgumentException("Primary data source cannot be null");
+        }
+        this.primary = primary;
+        this.replica = null;
+        this.replicaRetryAfterNanos = 0;
+    }
+
+    /**
+     * Creates a data source that sends read-only transactions to the replica. The replica is
+     * owned by this data source and closed with it; the primary is left to its owner.
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration replicaRetryAfter) {
+        if (primary == null || replica == null) {
+            throw new IllegalArgumentException("Primary and replica data sources cannot be null");
+        }
+        if (replicaRetryAfter == null || replicaRetryAfter.isNegative()) {
+            throw new IllegalArgumentException("Replica retry interval cannot be negative");
+        }
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaRetryAfterNanos = replicaRetryAfter.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!wantsReplica()) {
+            return primary.getConnection();
+        }
+        if (!isReplicaAvailable()) {
+            replicaFallbacks.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaFailed = false;
+            return connection;
+        } catch (SQLException e) {
+            markReplicaFailed();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!wantsReplica()) {
+            return primary.getConnection(username, password);
+        }
+        if (!isReplicaAvailable()) {
+            replicaFallbacks.increment();
+            return primary.getConnection(username, password);
+        }
+        try {
+            Connection connection = replica.getConnection(username, password);
+            replicaFailed = false;
+            return connection;
+        } catch (SQLException e) {
+            markReplicaFailed();
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Runs the action with this thread's read-only transactions served by the primary, for reads
+     * that fill a cache. The scope must enclose the transaction's first statement: a transaction
+     * that already holds a replica connection keeps it.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPrimaryRequired()) {
+            return action.get();
+        }
+        primaryRequired.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            primaryRequired.remove();
+        }
+    }
+
+    /**
+     * Returns whether this thread is inside {@link #onPrimary}.
+     */
+    public static boolean isPrimaryRequired() {
+        return primaryRequired.get() != null;
+    }
+
+    /**
+     * Returns the number of read-only connections served by the primary because the replica failed:
+     * the one whose replica attempt failed, and every one while the replica is skipped.
+     */
+    public long replicaFallbacks() {
+        return replicaFallbacks.sum();
+    }
+
+    /**
+     * Returns whether a replica was configured; without one every connection comes from the primary.
+     */
+    public boolean hasReplica() {
+        return replica != null;
+    }
+
+    /**
+     * Returns whether read-only transactions currently go to the replica.
+     */
+    public boolean isReplicaAvailable() {
+        return replica != null && (!replicaFailed || System.nanoTime() - replicaRetryAt >= 0);
+    }
+
+    /**
+     * Closes the replica if it is closeable.
+     */
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private boolean wantsReplica() {
+        return replica != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !isPrimaryRequired();
+    }
+
+    private void markReplicaFailed() {
+        replicaRetryAt = System.nanoTime() + replicaRetryAfterNanos;
+        replicaFailed = true;
+        replicaFallbacks.increment();
+    }
+}
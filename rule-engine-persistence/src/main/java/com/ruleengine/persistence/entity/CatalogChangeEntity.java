@@ -0,0 +1,81 @@
+package com.ruleengine.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for the catalog change feed, an outbox written in the same transaction as the change
+ * it records: one row per rule set whose compiled graph changed (with its category) and per
+ * changed or deleted condition, stamped with the catalog revision of the write. Ids come from a
+ * sequence rather than an identity column, so rows are inserted in JDBC batches.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Entity
+@Table(name = "catalog_change", indexes = {
+        @Index(name = "idx_catalog_change_revision", columnList = "revision"),
+        @Index(name = "idx_catalog_change_created_at", columnList = "created_at")
+})
+public class CatalogChangeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_change_seq")
+    @SequenceGenerator(name = "catalog_change_seq", sequenceName = "catalog_change_seq", allocationSize = 50)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private CatalogChangeTypeEntity entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private String entityId;
+
+    @Column(name = "rule_category", length = 100)
+    private String ruleCategory;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected CatalogChangeEntity() {
+        // Required by JPA
+    }
+
+    public CatalogChangeEntity(long revision, CatalogChangeTypeEntity entityType, String entityId,
+                               String ruleCategory, Instant createdAt) {
+        this.revision = revision;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.ruleCategory = ruleCategory;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public CatalogChangeTypeEntity getEntityType() {
+        return entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public String getRuleCategory() {
+        return ruleCategory;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ruleengine.persistence.entity;
+
+/**
+ * Kind of catalog entity a change feed row refers to.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public enum CatalogChangeTypeEntity {
+    RULE_SET,
+    CONDITION
+}
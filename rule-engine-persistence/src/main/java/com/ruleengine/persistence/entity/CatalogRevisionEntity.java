@@ -0,0 +1,49 @@
+package com.ruleengine.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * JPA entity for the global catalog revision: a single row whose counter is incremented by every
+ * write to rules, rule sets, conditions and attributes.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Entity
+@Table(name = "catalog_revision")
+public class CatalogRevisionEntity {
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    protected CatalogRevisionEntity() {
+        // Required by JPA
+    }
+
+    public CatalogRevisionEntity(Integer id, long revision) {
+        this.id = id;
+        this.revision = revision;
+    }
+
+    // Getters and setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
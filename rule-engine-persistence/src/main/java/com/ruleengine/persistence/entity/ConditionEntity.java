@@ -10,7 +10,10 @@ import jakarta.persistence.*;
  * Layer: Persistence
  */
 @Entity
-@Table(name = "conditions")
+@Table(name = "conditions", indexes = {
+    @Index(name = "idx_conditions_left_attribute", columnList = "left_attribute_code"),
+    @Index(name = "idx_conditions_right_attribute", columnList = "right_attribute_code")
+})
 public class ConditionEntity {
     @Id
     @Column(name = "id", nullable = false, unique = true)
@@ -37,6 +40,9 @@ public class ConditionEntity {
     @Column(name = "target_value_type")
     private String targetValueType;
 
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     protected ConditionEntity() {
         // Required by JPA
     }
@@ -109,4 +115,12 @@ public class ConditionEntity {
     public void setTargetValueType(String targetValueType) {
         this.targetValueType = targetValueType;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
@@ -11,6 +11,7 @@ public enum EngineTypeEntity {
     MVEL,
     SPEL,
     JEXL,
-    GROOVY
+    GROOVY,
+    AUTO
 }
 
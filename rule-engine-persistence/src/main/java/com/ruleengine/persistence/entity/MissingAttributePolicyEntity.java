@@ -0,0 +1,14 @@
+package com.ruleengine.persistence.entity;
+
+/**
+ * JPA enum for MissingAttributePolicy persistence.
+ * Maps to the domain MissingAttributePolicy enum.
+ * 
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public enum MissingAttributePolicyEntity {
+    EVALUATE,
+    FAIL,
+    NOT_APPLICABLE
+}
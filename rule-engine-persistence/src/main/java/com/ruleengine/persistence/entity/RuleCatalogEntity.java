@@ -0,0 +1,85 @@
+package com.ruleengine.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.Length;
+
+/**
+ * JPA entity for the denormalized rule catalog: one row per rule set holding its encoded
+ * {@link com.ruleengine.domain.rule.RuleSetGraph}, so a category is read from one table by an
+ * index instead of joining the normalized tables.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Entity
+@Table(name = "rule_catalog", indexes = @Index(name = "idx_rule_catalog_category", columnList = "rule_category"))
+public class RuleCatalogEntity {
+    @Id
+    @Column(name = "rule_set_id", nullable = false)
+    private String ruleSetId;
+
+    @Column(name = "rule_category", nullable = false, length = 100)
+    private String ruleCategory;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    @Column(name = "payload", nullable = false, length = Length.LONG32)
+    private byte[] payload;
+
+    protected RuleCatalogEntity() {
+        // Required by JPA
+    }
+
+    public RuleCatalogEntity(String ruleSetId, String ruleCategory, long revision, int formatVersion, byte[] payload) {
+        this.ruleSetId = ruleSetId;
+        this.ruleCategory = ruleCategory;
+        this.revision = revision;
+        this.formatVersion = formatVersion;
+        this.payload = payload;
+    }
+
+    // Getters and setters
+    public String getRuleSetId() {
+        return ruleSetId;
+    }
+
+    public void setRuleSetId(String ruleSetId) {
+        this.ruleSetId = ruleSetId;
+    }
+
+    public String getRuleCategory() {
+        return ruleCategory;
+    }
+
+    public void setRuleCategory(String ruleCategory) {
+        this.ruleCategory = ruleCategory;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public void setFormatVersion(int formatVersion) {
+        this.formatVersion = formatVersion;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+}
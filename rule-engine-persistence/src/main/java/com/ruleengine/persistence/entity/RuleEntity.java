@@ -9,6 +9,10 @@ import java.util.Set;
 /**
  * JPA entity for Rule persistence.
  * Maps to the domain Rule model.
+ *
+ * <p>The collection table indexes mirror the PostgreSQL migrations in {@code db/migration/postgresql}.
+ * {@code idx_rules_active_priority} is declared only there: it is a partial covering index on
+ * {@code priority DESC} over active rules, which {@code @Index} cannot express.
  * 
  * Module: rule-engine-persistence
  * Layer: Persistence
@@ -24,7 +28,10 @@ public class RuleEntity {
     private String name;
 
     @ElementCollection
-    @CollectionTable(name = "rule_conditions", joinColumns = @JoinColumn(name = "rule_id"))
+    @CollectionTable(name = "rule_conditions", joinColumns = @JoinColumn(name = "rule_id"), indexes = {
+        @Index(name = "idx_rule_conditions_rule", columnList = "rule_id"),
+        @Index(name = "idx_rule_conditions_condition", columnList = "condition_id")
+    })
     @Column(name = "condition_id")
     @OrderColumn(name = "condition_order")
     private List<String> conditionIds = new ArrayList<>();
@@ -36,10 +43,16 @@ public class RuleEntity {
     private Boolean active;
 
     @ElementCollection
-    @CollectionTable(name = "rule_tags", joinColumns = @JoinColumn(name = "rule_id"))
+    @CollectionTable(name = "rule_tags", joinColumns = @JoinColumn(name = "rule_id"), indexes = {
+        @Index(name = "idx_rule_tags_rule", columnList = "rule_id"),
+        @Index(name = "idx_rule_tags_tag", columnList = "tag, rule_id")
+    })
     @Column(name = "tag")
     private Set<String> tags;
 
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     protected RuleEntity() {
         // Required by JPA
     }
@@ -100,5 +113,12 @@ public class RuleEntity {
     public void setTags(Set<String> tags) {
         this.tags = tags;
     }
-}
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
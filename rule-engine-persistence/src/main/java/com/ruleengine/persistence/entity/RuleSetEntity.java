@@ -13,7 +13,7 @@ import java.util.List;
  * Layer: Persistence
  */
 @Entity
-@Table(name = "rule_sets")
+@Table(name = "rule_sets", indexes = @Index(name = "idx_rule_sets_category", columnList = "rule_category"))
 public class RuleSetEntity {
     @Id
     @Column(name = "id", nullable = false, unique = true)
@@ -26,7 +26,11 @@ public class RuleSetEntity {
     @JoinTable(
         name = "rule_set_rules",
         joinColumns = @JoinColumn(name = "rule_set_id"),
-        inverseJoinColumns = @JoinColumn(name = "rule_id")
+        inverseJoinColumns = @JoinColumn(name = "rule_id"),
+        indexes = {
+            @Index(name = "idx_rule_set_rules_rule_set", columnList = "rule_set_id"),
+            @Index(name = "idx_rule_set_rules_rule", columnList = "rule_id")
+        }
     )
     @OrderColumn(name = "rule_order")
     private List<RuleEntity> rules = new ArrayList<>();
@@ -41,6 +45,13 @@ public class RuleSetEntity {
     @Column(name = "rule_category", nullable = false, length = 100)
     private String ruleCategory;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "missing_attribute_policy", length = 20)
+    private MissingAttributePolicyEntity missingAttributePolicy;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     protected RuleSetEntity() {
         // Required by JPA
     }
@@ -101,5 +112,20 @@ public class RuleSetEntity {
     public void setRuleCategory(String ruleCategory) {
         this.ruleCategory = ruleCategory;
     }
-}
 
+    public MissingAttributePolicyEntity getMissingAttributePolicy() {
+        return missingAttributePolicy;
+    }
+
+    public void setMissingAttributePolicy(MissingAttributePolicyEntity missingAttributePolicy) {
+        this.missingAttributePolicy = missingAttributePolicy;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
@@ -45,7 +45,8 @@ public final class ConditionMapper {
                 leftAttribute,
                 operator,
                 rightAttribute,
-                targetValue
+                targetValue,
+                entity.getRevision()
         );
     }
 
@@ -73,7 +74,7 @@ public final class ConditionMapper {
             targetValueType = targetValueObj != null ? targetValueObj.getClass().getName() : "java.lang.Object";
         }
 
-        return new ConditionEntity(
+        ConditionEntity entity = new ConditionEntity(
                 domain.id(),
                 domain.name(),
                 leftAttributeEntity,
@@ -82,6 +83,8 @@ public final class ConditionMapper {
                 targetValue,
                 targetValueType
         );
+        entity.setRevision(domain.revision());
+        return entity;
     }
 
     private static String serializeValue(Object value) {
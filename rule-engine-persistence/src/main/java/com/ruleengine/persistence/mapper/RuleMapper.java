@@ -34,14 +34,15 @@ public final class RuleMapper {
         RuleMetadata metadata = new RuleMetadata(
             entity.getPriority(),
             entity.getActive(),
-            entity.getTags() != null ? entity.getTags() : Set.of()
+            entity.getTags() != null ? new java.util.HashSet<>(entity.getTags()) : Set.of()
         );
 
         return new Rule(
             entity.getId(),
             entity.getName(),
             conditionIds,
-            metadata
+            metadata,
+            entity.getRevision()
         );
     }
 
@@ -65,6 +66,7 @@ public final class RuleMapper {
         entity.setConditionIds(domain.conditionIds() != null ? 
                 new java.util.ArrayList<>(domain.conditionIds()) : 
                 new java.util.ArrayList<>());
+        entity.setRevision(domain.revision());
 
         return entity;
     }
@@ -1,9 +1,11 @@
 package com.ruleengine.persistence.mapper;
 
 import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
 import com.ruleengine.domain.rule.Rule;
 import com.ruleengine.domain.rule.RuleSet;
 import com.ruleengine.persistence.entity.EngineTypeEntity;
+import com.ruleengine.persistence.entity.MissingAttributePolicyEntity;
 import com.ruleengine.persistence.entity.RuleEntity;
 import com.ruleengine.persistence.entity.RuleSetEntity;
 
@@ -46,7 +48,9 @@ public final class RuleSetMapper {
             rules,
             entity.getStopOnFirstFailure(),
             toDomainEngineType(entity.getEngineType()),
-            entity.getRuleCategory()
+            entity.getRuleCategory(),
+            toDomainPolicy(entity.getMissingAttributePolicy()),
+            entity.getRevision()
         );
     }
 
@@ -65,6 +69,8 @@ public final class RuleSetMapper {
             toEntityEngineType(domain.engineType()),
             domain.ruleCategory()
         );
+        entity.setMissingAttributePolicy(toEntityPolicy(domain.missingAttributePolicy()));
+        entity.setRevision(domain.revision());
 
         // Map rules
         List<RuleEntity> ruleEntities = new ArrayList<>();
@@ -91,6 +97,7 @@ public final class RuleSetMapper {
             case SPEL -> EngineType.SPEL;
             case JEXL -> EngineType.JEXL;
             case GROOVY -> EngineType.GROOVY;
+            case AUTO -> EngineType.AUTO;
         };
     }
 
@@ -106,7 +113,27 @@ public final class RuleSetMapper {
             case SPEL -> EngineTypeEntity.SPEL;
             case JEXL -> EngineTypeEntity.JEXL;
             case GROOVY -> EngineTypeEntity.GROOVY;
+            case AUTO -> EngineTypeEntity.AUTO;
         };
     }
-}
 
+    /**
+     * Converts MissingAttributePolicyEntity to domain MissingAttributePolicy.
+     */
+    private static MissingAttributePolicy toDomainPolicy(MissingAttributePolicyEntity entity) {
+        if (entity == null) {
+            return MissingAttributePolicy.EVALUATE; // Default for rows created before the column existed
+        }
+        return MissingAttributePolicy.valueOf(entity.name());
+    }
+
+    /**
+     * Converts domain MissingAttributePolicy to MissingAttributePolicyEntity.
+     */
+    private static MissingAttributePolicyEntity toEntityPolicy(MissingAttributePolicy domain) {
+        if (domain == null) {
+            return MissingAttributePolicyEntity.EVALUATE;
+        }
+        return MissingAttributePolicyEntity.valueOf(domain.name());
+    }
+}
@@ -1,9 +1,14 @@
 package com.ruleengine.persistence.repository;
 
 import com.ruleengine.persistence.entity.AttributeEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,8 +18,24 @@ import java.util.Optional;
  * Layer: Persistence
  */
 @Repository
-public interface AttributeRepository extends JpaRepository<AttributeEntity, String> {
+public interface AttributeRepository extends JpaRepository<AttributeEntity, String>,
+        BulkInsertRepository<AttributeEntity> {
     Optional<AttributeEntity> findByCode(String code);
     boolean existsByCode(String code);
+
+    /**
+     * Returns which of the given codes exist, without loading the attributes.
+     */
+    @Query("SELECT a.code FROM AttributeEntity a WHERE a.code IN :codes")
+    List<String> findCodesByCodeIn(@Param("codes") Collection<String> codes);
+
+    /**
+     * Returns the next page of codes in order, for walking all attributes without an offset.
+     */
+    @Query("SELECT a.code FROM AttributeEntity a WHERE a.code > :after ORDER BY a.code")
+    List<String> findCodesAfter(@Param("after") String after, Pageable page);
+
+    @Query("SELECT DISTINCT a FROM AttributeEntity a LEFT JOIN FETCH a.constraints WHERE a.code IN :codes")
+    List<AttributeEntity> findWithConstraintsByCodeIn(@Param("codes") Collection<String> codes);
 }
 
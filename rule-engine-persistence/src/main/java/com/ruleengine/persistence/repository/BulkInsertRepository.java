@@ -0,0 +1,22 @@
+package com.ruleengine.persistence.repository;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment for writing many new entities at once.
+ *
+ * <p>{@code save} merges an entity whose id is assigned by the application, which reads the row
+ * first to tell an insert from an update; {@link #insertAll} persists the entities instead, so the
+ * inserts are all that reach the database and Hibernate can send them in JDBC batches
+ * ({@code hibernate.jdbc.batch_size}).
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public interface BulkInsertRepository<T> {
+
+    /**
+     * Persists entities that do not exist yet; a row with the same id fails the flush.
+     */
+    void insertAll(Collection<T> entities);
+}
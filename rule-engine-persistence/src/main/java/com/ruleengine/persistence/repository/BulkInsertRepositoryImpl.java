@@ -0,0 +1,26 @@
+package com.ruleengine.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Implementation of {@link BulkInsertRepository}, picked up by Spring Data for every repository
+ * that extends the fragment.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public class BulkInsertRepositoryImpl<T> implements BulkInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertAll(Collection<T> entities) {
+        entities.forEach(entityManager::persist);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ruleengine.persistence.repository;
+
+import com.ruleengine.persistence.entity.CatalogChangeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the catalog change feed.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChangeEntity, Long>,
+        BulkInsertRepository<CatalogChangeEntity> {
+
+    /**
+     * Returns the changes written after revision {@code after} up to and including {@code upTo},
+     * in the order they were written.
+     */
+    @Query("SELECT c FROM CatalogChangeEntity c WHERE c.revision > :after AND c.revision <= :upTo ORDER BY c.id")
+    List<CatalogChangeEntity> findByRevisionRange(@Param("after") long after, @Param("upTo") long upTo);
+
+    /**
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM CatalogChangeEntity c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
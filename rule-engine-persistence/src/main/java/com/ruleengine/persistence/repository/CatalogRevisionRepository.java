@@ -0,0 +1,36 @@
+package com.ruleengine.persistence.repository;
+
+import com.ruleengine.persistence.entity.CatalogRevisionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for the catalog revision row.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Repository
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevisionEntity, Integer> {
+
+    /**
+     * Increments the revision in place. The update locks the row until the transaction ends, so
+     * concurrent writers are serialized and each one reads its own value afterwards.
+     *
+     * @return the number of updated rows, 0 if the row does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE CatalogRevisionEntity c SET c.revision = c.revision + 1 WHERE c.id = :id")
+    int increment(@Param("id") Integer id);
+
+    /**
+     * Reads the revision without loading the entity into the persistence context.
+     */
+    @Query("SELECT c.revision FROM CatalogRevisionEntity c WHERE c.id = :id")
+    Optional<Long> findRevision(@Param("id") Integer id);
+}
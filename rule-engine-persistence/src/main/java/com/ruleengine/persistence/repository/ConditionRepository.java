@@ -1,23 +1,33 @@
 package com.ruleengine.persistence.repository;
 
+import com.ruleengine.persistence.entity.AttributeEntity;
 import com.ruleengine.persistence.entity.ConditionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for ConditionEntity.
  * Provides CRUD operations for conditions.
  *
+ * <p>The {@code findGraph...} methods load conditions with their attributes and the attributes'
+ * constraints in two statements, instead of one query per attribute and per constraint map.
+ * They must run inside a transaction, so the follow-up query initializes the same entities.
+ *
  * Module: rule-engine-persistence
  * Layer: Persistence
  */
 @Repository
-public interface ConditionRepository extends JpaRepository<ConditionEntity, String> {
+public interface ConditionRepository extends JpaRepository<ConditionEntity, String>,
+        BulkInsertRepository<ConditionEntity> {
     
     /**
      * Finds a condition by its ID.
@@ -45,5 +55,56 @@ public interface ConditionRepository extends JpaRepository<ConditionEntity, Stri
      * Checks if a condition exists by ID.
      */
     boolean existsById(String id);
-}
 
+    /**
+     * Returns which of the given ids exist, without loading the conditions.
+     */
+    @Query("SELECT c.id FROM ConditionEntity c WHERE c.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Returns the next page of ids in order, for walking all conditions without an offset.
+     */
+    @Query("SELECT c.id FROM ConditionEntity c WHERE c.id > :after ORDER BY c.id")
+    List<String> findIdsAfter(@Param("after") String after, Pageable page);
+
+    @Query("SELECT c FROM ConditionEntity c JOIN FETCH c.leftAttribute LEFT JOIN FETCH c.rightAttribute WHERE c.id IN :ids")
+    List<ConditionEntity> findWithAttributesByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT c FROM ConditionEntity c JOIN FETCH c.leftAttribute LEFT JOIN FETCH c.rightAttribute")
+    List<ConditionEntity> findAllWithAttributes();
+
+    @Query("SELECT DISTINCT a FROM AttributeEntity a LEFT JOIN FETCH a.constraints WHERE a.code IN :codes")
+    List<AttributeEntity> fetchConstraintsOfAttributes(@Param("codes") Collection<String> codes);
+
+    /**
+     * Finds conditions by id with their attributes fully initialized.
+     */
+    default List<ConditionEntity> findGraphByIdIn(Collection<String> ids) {
+        return fetchAttributeConstraints(this, findWithAttributesByIdIn(ids));
+    }
+
+    /**
+     * Finds all conditions with their attributes fully initialized.
+     */
+    default List<ConditionEntity> findGraphAll() {
+        return fetchAttributeConstraints(this, findAllWithAttributes());
+    }
+
+    /**
+     * Static, so Spring Data does not take it for a query method.
+     */
+    private static List<ConditionEntity> fetchAttributeConstraints(ConditionRepository repository,
+                                                                   List<ConditionEntity> conditions) {
+        List<String> codes = conditions.stream()
+                .flatMap(condition -> Stream.of(condition.getLeftAttribute(), condition.getRightAttribute()))
+                .filter(Objects::nonNull)
+                .map(AttributeEntity::getCode)
+                .distinct()
+                .toList();
+        if (!codes.isEmpty()) {
+            repository.fetchConstraintsOfAttributes(codes);
+        }
+        return conditions;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ruleengine.persistence.repository;
+
+import com.ruleengine.persistence.entity.RuleCatalogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the denormalized rule catalog.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@Repository
+public interface RuleCatalogRepository extends JpaRepository<RuleCatalogEntity, String>,
+        BulkInsertRepository<RuleCatalogEntity> {
+    List<RuleCatalogEntity> findByRuleCategory(String ruleCategory);
+
+    long countByFormatVersion(int formatVersion);
+
+    @Query("SELECT DISTINCT c.ruleCategory FROM RuleCatalogEntity c ORDER BY c.ruleCategory")
+    List<String> findCategories();
+}
@@ -1,22 +1,103 @@
 package com.ruleengine.persistence.repository;
 
+import com.ruleengine.persistence.entity.RuleEntity;
 import com.ruleengine.persistence.entity.RuleSetEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA repository for RuleSet entities.
+ *
+ * <p>The {@code findGraph...} methods load rule sets with their rules, condition ids and tags in
+ * three statements however many rule sets and rules there are: one joining the rules, then one
+ * per rule collection. Fetching all collections in one join would multiply the rows instead.
+ * They must run inside a transaction, so the follow-up queries initialize the same entities.
  * 
  * Module: rule-engine-persistence
  * Layer: Persistence
  */
 @Repository
-public interface RuleSetRepository extends JpaRepository<RuleSetEntity, String> {
+public interface RuleSetRepository extends JpaRepository<RuleSetEntity, String>,
+        BulkInsertRepository<RuleSetEntity> {
     Optional<RuleSetEntity> findById(String id);
     boolean existsById(String id);
     List<RuleSetEntity> findByRuleCategory(String ruleCategory);
-}
 
+    /**
+     * Returns which of the given ids exist, without loading the rule sets.
+     */
+    @Query("SELECT rs.id FROM RuleSetEntity rs WHERE rs.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Returns the next page of ids in order, for walking all rule sets without an offset.
+     */
+    @Query("SELECT rs.id FROM RuleSetEntity rs WHERE rs.id > :after ORDER BY rs.id")
+    List<String> findIdsAfter(@Param("after") String after, Pageable page);
+
+    @Query("SELECT DISTINCT rs FROM RuleSetEntity rs JOIN rs.rules r WHERE r.id = :ruleId")
+    List<RuleSetEntity> findByRuleId(@Param("ruleId") String ruleId);
+
+    @Query("SELECT DISTINCT rs.id FROM RuleSetEntity rs JOIN rs.rules r JOIN r.conditionIds c WHERE c IN :conditionIds")
+    List<String> findIdsByConditionIdIn(@Param("conditionIds") Collection<String> conditionIds);
+
+    @Query("SELECT DISTINCT rs FROM RuleSetEntity rs LEFT JOIN FETCH rs.rules WHERE rs.ruleCategory = :ruleCategory")
+    List<RuleSetEntity> findWithRulesByRuleCategory(@Param("ruleCategory") String ruleCategory);
+
+    @Query("SELECT DISTINCT rs FROM RuleSetEntity rs LEFT JOIN FETCH rs.rules WHERE rs.id IN :ids")
+    List<RuleSetEntity> findWithRulesByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT rs FROM RuleSetEntity rs LEFT JOIN FETCH rs.rules")
+    List<RuleSetEntity> findAllWithRules();
+
+    @Query("SELECT DISTINCT r FROM RuleEntity r LEFT JOIN FETCH r.conditionIds WHERE r.id IN :ruleIds")
+    List<RuleEntity> fetchConditionIdsOfRules(@Param("ruleIds") Collection<String> ruleIds);
+
+    @Query("SELECT DISTINCT r FROM RuleEntity r LEFT JOIN FETCH r.tags WHERE r.id IN :ruleIds")
+    List<RuleEntity> fetchTagsOfRules(@Param("ruleIds") Collection<String> ruleIds);
+
+    /**
+     * Finds the rule sets of a category with their whole rule graph initialized.
+     */
+    default List<RuleSetEntity> findGraphByRuleCategory(String ruleCategory) {
+        return fetchRuleCollections(this, findWithRulesByRuleCategory(ruleCategory));
+    }
+
+    /**
+     * Finds rule sets by id with their whole rule graph initialized.
+     */
+    default List<RuleSetEntity> findGraphByIdIn(Collection<String> ids) {
+        return fetchRuleCollections(this, findWithRulesByIdIn(ids));
+    }
+
+    /**
+     * Finds all rule sets with their whole rule graph initialized.
+     */
+    default List<RuleSetEntity> findGraphAll() {
+        return fetchRuleCollections(this, findAllWithRules());
+    }
+
+    /**
+     * Static, so Spring Data does not take it for a query method.
+     */
+    private static List<RuleSetEntity> fetchRuleCollections(RuleSetRepository repository,
+                                                            List<RuleSetEntity> ruleSets) {
+        List<String> ruleIds = ruleSets.stream()
+                .flatMap(ruleSet -> ruleSet.getRules().stream())
+                .map(RuleEntity::getId)
+                .distinct()
+                .toList();
+        if (!ruleIds.isEmpty()) {
+            repository.fetchConditionIdsOfRules(ruleIds);
+            repository.fetchTagsOfRules(ruleIds);
+        }
+        return ruleSets;
+    }
+}
@@ -0,0 +1,277 @@
+package com.ruleengine.persistence.snapshot;
+
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compiled catalog snapshot file: every rule set with the conditions its rules reference
+ * ({@link RuleSetGraph}), grouped by category, for nodes that serve validations without database
+ * access. Conditions carry their attributes and rule sets their rules, so nothing has to be
+ * resolved when a category is read.
+ *
+ * <p>Layout, big-endian:
+ * <pre>
+ * header     magic "RCSF", format version, codec schema version, catalog revision,
+ *            created at (epoch millis), directory offset, category count
+ * blocks     per category: rule set count, then per rule set its length and
+ *            {@link BinaryCacheCodec} encoding (as stored in {@code rule_catalog})
+ * directory  per category, by name: name length, UTF-8 name, block offset, rule set count
+ * </pre>
+ *
+ * <p>The file is read through {@link FileChannel#map}: opening it parses the header and the
+ * directory only, and a category is decoded from the mapping when it is asked for. The writer
+ * fills a temporary file next to the target and moves it into place atomically, so a node that
+ * reopens the file never sees a partial one, and an open mapping keeps the file it was made from.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+public final class CatalogSnapshotFile {
+    public static final int MAGIC = 0x52435346;
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8 + 8 + 4;
+
+    private final MappedByteBuffer mapping;
+    private final long revision;
+    private final Instant createdAt;
+    private final Map<String, Block> directory;
+    private final BinaryCacheCodec codec = new BinaryCacheCodec();
+
+    private CatalogSnapshotFile(MappedByteBuffer mapping, Header header, Map<String, Block> directory) {
+        this.mapping = mapping;
+        this.revision = header.revision();
+        this.createdAt = header.createdAt();
+        this.directory = Collections.unmodifiableMap(directory);
+    }
+
+    /**
+     * Maps the file and reads its directory.
+     *
+     * @throws IllegalArgumentException if the file is not a snapshot in this format, or was written
+     *                                  with another codec schema version
+     */
+    public static CatalogSnapshotFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Catalog snapshot file too large to map: " + file);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            Header header = readHeader(mapping.duplicate(), file);
+            if (header.directoryOffset() < HEADER_SIZE || header.directoryOffset() > size) {
+                throw new IllegalArgumentException("Catalog snapshot file is truncated: " + file);
+            }
+            ByteBuffer entries = mapping.duplicate().position((int) header.directoryOffset());
+            Map<String, Block> directory = new TreeMap<>();
+            for (int i = 0; i < header.categoryCount(); i++) {
+                byte[] name = new byte[entries.getInt()];
+                entries.get(name);
+                directory.put(new String(name, StandardCharsets.UTF_8), new Block(entries.getLong(), entries.getInt()));
+            }
+            return new CatalogSnapshotFile(mapping, header, directory);
+        }
+    }
+
+    /**
+     * Reads the catalog revision from the header, without mapping the file.
+     */
+    public static long readRevision(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Fill the header
+            }
+            return readHeader(header.flip(), file).revision();
+        }
+    }
+
+    /**
+     * Starts writing a snapshot of the given catalog revision; {@link Writer#commit()} publishes it.
+     */
+    public static Writer create(Path file, long revision) throws IOException {
+        return new Writer(file, revision);
+    }
+
+    /**
+     * Catalog revision the snapshot was written at; it contains at least every write up to it.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public Set<String> categories() {
+        return directory.keySet();
+    }
+
+    /**
+     * Returns the number of rule sets across all categories.
+     */
+    public int ruleSetCount() {
+        return directory.values().stream().mapToInt(Block::ruleSetCount).sum();
+    }
+
+    /**
+     * Decodes the rule set graphs of a category from the mapping, or returns an empty list for an
+     * unknown category. Each call decodes anew; callers keep what they need.
+     */
+    public List<RuleSetGraph> category(String category) {
+        Block block = directory.get(category);
+        if (block == null) {
+            return List.of();
+        }
+        ByteBuffer blocks = mapping.duplicate().position((int) block.offset());
+        int count = blocks.getInt();
+        List<RuleSetGraph> graphs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] encoded = new byte[blocks.getInt()];
+            blocks.get(encoded);
+            graphs.add(codec.decode(encoded, RuleSetGraph.class).orElseThrow(() ->
+                    new IllegalArgumentException("Unreadable rule set in catalog snapshot category " + category)));
+        }
+        return graphs;
+    }
+
+    private static Header readHeader(ByteBuffer buffer, Path file) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a catalog snapshot file: " + file);
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Catalog snapshot file format " + formatVersion + " is not supported: " + file);
+        }
+        int schemaVersion = buffer.getInt();
+        if (schemaVersion != BinaryCacheCodec.SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Catalog snapshot file was written with codec schema " + schemaVersion
+                    + ", expected " + BinaryCacheCodec.SCHEMA_VERSION + ": " + file);
+        }
+        return new Header(buffer.getLong(), Instant.ofEpochMilli(buffer.getLong()), buffer.getLong(), buffer.getInt());
+    }
+
+    private record Header(long revision, Instant createdAt, long directoryOffset, int categoryCount) {
+    }
+
+    private record Block(long offset, int ruleSetCount) {
+    }
+
+    /**
+     * Writes a snapshot category by category. Closing without {@link #commit()} discards it.
+     */
+    public static final class Writer implements Closeable {
+        private final Path target;
+        private final Path temporary;
+        private final long revision;
+        private final FileChannel channel;
+        private final DataOutputStream out;
+        private final Map<String, Block> directory = new TreeMap<>();
+        private boolean committed;
+
+        private Writer(Path target, long revision) throws IOException {
+            Path directory = target.toAbsolutePath().getParent();
+            this.target = target;
+            this.temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+            this.revision = revision;
+            this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            out.write(new byte[HEADER_SIZE]);
+        }
+
+        /**
+         * Adds a category.
+         *
+         * @param encodedGraphs Its rule set graphs encoded with {@link BinaryCacheCodec}
+         */
+        public void addCategory(String category, List<byte[]> encodedGraphs) throws IOException {
+            if (category == null || directory.containsKey(category)) {
+                throw new IllegalArgumentException("Category missing or added twice: " + category);
+            }
+            long offset = out.size();
+            out.writeInt(encodedGraphs.size());
+            for (byte[] encoded : encodedGraphs) {
+                if (encoded.length < 3 || encoded[0] != BinaryCacheCodec.SCHEMA_VERSION) {
+                    throw new IllegalArgumentException("Rule set of category " + category
+                            + " is not encoded with codec schema " + BinaryCacheCodec.SCHEMA_VERSION);
+                }
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            checkSize();
+            directory.put(category, new Block(offset, encodedGraphs.size()));
+        }
+
+        /**
+         * Writes the directory and header and moves the file into place.
+         */
+        public void commit() throws IOException {
+            long directoryOffset = out.size();
+            for (Map.Entry<String, Block> entry : directory.entrySet()) {
+                byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+                out.writeLong(entry.getValue().offset());
+                out.writeInt(entry.getValue().ruleSetCount());
+            }
+            checkSize();
+            out.flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(BinaryCacheCodec.SCHEMA_VERSION)
+                    .putLong(revision)
+                    .putLong(Instant.now().toEpochMilli())
+                    .putLong(directoryOffset)
+                    .putInt(directory.size())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                channel.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        /**
+         * {@link DataOutputStream#size()} saturates at {@link Integer#MAX_VALUE}, which is also the
+         * largest file a single mapping can read.
+         */
+        private void checkSize() {
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Catalog snapshot exceeds the 2 GB a single mapping can read");
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+-- Schema of the first release. Databases created before migrations were introduced are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and continue with V2.
+
+CREATE TABLE attributes (
+    code        VARCHAR(255)  NOT NULL,
+    path        VARCHAR(255)  NOT NULL UNIQUE,
+    type        VARCHAR(255)  NOT NULL CHECK (type IN ('STRING', 'NUMBER', 'BOOLEAN', 'DATE', 'DATETIME', 'DECIMAL')),
+    description VARCHAR(1000),
+    PRIMARY KEY (code)
+);
+
+CREATE TABLE attribute_constraints (
+    attribute_code   VARCHAR(255) NOT NULL REFERENCES attributes,
+    constraint_key   VARCHAR(255) NOT NULL,
+    constraint_value VARCHAR(255),
+    PRIMARY KEY (attribute_code, constraint_key)
+);
+
+CREATE TABLE conditions (
+    id                   VARCHAR(255)  NOT NULL,
+    name                 VARCHAR(500)  NOT NULL,
+    left_attribute_code  VARCHAR(255)  NOT NULL REFERENCES attributes,
+    operator             VARCHAR(255)  NOT NULL CHECK (operator IN ('GT', 'GTE', 'LT', 'LTE', 'EQ', 'NE')),
+    right_attribute_code VARCHAR(255)  REFERENCES attributes,
+    target_value         VARCHAR(1000),
+    target_value_type    VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE expressions (
+    id                VARCHAR(255)  NOT NULL,
+    expression_string VARCHAR(5000) NOT NULL,
+    description       VARCHAR(1000),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE rules (
+    id       VARCHAR(255) NOT NULL,
+    name     VARCHAR(500) NOT NULL,
+    priority INTEGER      NOT NULL,
+    active   BOOLEAN      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE rule_conditions (
+    rule_id         VARCHAR(255) NOT NULL REFERENCES rules,
+    condition_order INTEGER      NOT NULL,
+    condition_id    VARCHAR(255),
+    PRIMARY KEY (condition_order, rule_id)
+);
+
+CREATE TABLE rule_tags (
+    rule_id VARCHAR(255) NOT NULL REFERENCES rules,
+    tag     VARCHAR(255)
+);
+
+CREATE TABLE rule_sets (
+    id                    VARCHAR(255) NOT NULL,
+    name                  VARCHAR(500) NOT NULL,
+    stop_on_first_failure BOOLEAN      NOT NULL,
+    engine_type           VARCHAR(20)  NOT NULL,
+    rule_category         VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT rule_sets_engine_type_check CHECK (engine_type IN ('MVEL', 'SPEL', 'JEXL', 'GROOVY'))
+);
+
+CREATE TABLE rule_set_rules (
+    rule_set_id VARCHAR(255) NOT NULL REFERENCES rule_sets,
+    rule_order  INTEGER      NOT NULL,
+    rule_id     VARCHAR(255) NOT NULL REFERENCES rules,
+    PRIMARY KEY (rule_order, rule_set_id)
+);
@@ -0,0 +1,3 @@
+ALTER TABLE rule_sets
+    ADD COLUMN IF NOT EXISTS missing_attribute_policy VARCHAR(20)
+        CHECK (missing_attribute_policy IN ('EVALUATE', 'FAIL', 'NOT_APPLICABLE'));
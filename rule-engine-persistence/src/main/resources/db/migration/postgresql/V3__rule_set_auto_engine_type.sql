@@ -0,0 +1,3 @@
+ALTER TABLE rule_sets DROP CONSTRAINT IF EXISTS rule_sets_engine_type_check;
+ALTER TABLE rule_sets
+    ADD CONSTRAINT rule_sets_engine_type_check CHECK (engine_type IN ('MVEL', 'SPEL', 'JEXL', 'GROOVY', 'AUTO'));
@@ -0,0 +1,10 @@
+ALTER TABLE rules      ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE rule_sets  ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE conditions ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+
+-- Single row (id 1), created by the first catalog write if absent
+CREATE TABLE IF NOT EXISTS catalog_revision (
+    id       INTEGER NOT NULL,
+    revision BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,11 @@
+-- Filled at application startup (rule-engine.catalog.table.rebuild-on-startup)
+CREATE TABLE IF NOT EXISTS rule_catalog (
+    rule_set_id    VARCHAR(255) NOT NULL,
+    rule_category  VARCHAR(100) NOT NULL,
+    revision       BIGINT       NOT NULL,
+    format_version INTEGER      NOT NULL,
+    payload        BYTEA        NOT NULL,
+    PRIMARY KEY (rule_set_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rule_catalog_category ON rule_catalog (rule_category);
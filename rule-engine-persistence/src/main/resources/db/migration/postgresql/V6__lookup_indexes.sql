@@ -0,0 +1,26 @@
+-- Secondary indexes for the repository lookups on the read and write paths. Built concurrently so
+-- an existing catalog keeps accepting writes; Flyway runs these statements outside a transaction.
+
+-- RuleSetRepository.findByRuleCategory and the category graph load
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_sets_category ON rule_sets (rule_category);
+
+-- RuleRepository.findByActiveTrueOrderByPriorityDesc: active rules in priority order from the index
+-- alone, without reading or sorting the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rules_active_priority
+    ON rules (priority DESC) INCLUDE (id, name, active, revision) WHERE active;
+
+-- RuleRepository.findByActiveTrueAndTag (MEMBER OF) and loading a rule's tags
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_tags_tag ON rule_tags (tag, rule_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_tags_rule ON rule_tags (rule_id);
+
+-- Loading a rule's conditions, and finding the rules that reference a condition
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_conditions_rule ON rule_conditions (rule_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_conditions_condition ON rule_conditions (condition_id);
+
+-- Loading a rule set's rules, and finding the rule sets that contain a rule
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_set_rules_rule_set ON rule_set_rules (rule_set_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rule_set_rules_rule ON rule_set_rules (rule_id);
+
+-- ConditionRepository.findByLeftAttributeCode / findByRightAttributeCode
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_conditions_left_attribute ON conditions (left_attribute_code);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_conditions_right_attribute ON conditions (right_attribute_code);
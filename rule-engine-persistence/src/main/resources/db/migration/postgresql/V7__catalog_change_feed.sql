@@ -0,0 +1,15 @@
+-- Catalog change feed, written in the same transaction as the change; rows older than a day are pruned
+CREATE SEQUENCE IF NOT EXISTS catalog_change_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS catalog_change (
+    id            BIGINT                   NOT NULL,
+    revision      BIGINT                   NOT NULL,
+    entity_type   VARCHAR(20)              NOT NULL,
+    entity_id     VARCHAR(255)             NOT NULL,
+    rule_category VARCHAR(100),
+    created_at    TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_catalog_change_revision ON catalog_change (revision);
+CREATE INDEX IF NOT EXISTS idx_catalog_change_created_at ON catalog_change (created_at);
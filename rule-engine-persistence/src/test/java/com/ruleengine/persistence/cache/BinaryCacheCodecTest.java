@@ -0,0 +1,108 @@
+package com.ruleengine.persistence.cache;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.CategoryRuleSets;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.MissingAttributePolicy;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BinaryCacheCodec.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class BinaryCacheCodecTest {
+
+    private final BinaryCacheCodec codec = new BinaryCacheCodec();
+
+    @Test
+    void shouldRoundTripAttributeWithConstraints() {
+        Attribute attribute = new Attribute("customer.age", "customer.details.age", AttributeType.NUMBER,
+                Optional.of("Customer age"), Optional.of(Map.of("min", 0, "max", 150L, "allowed", List.of("a", "b"))));
+
+        assertThat(codec.decode(codec.encode(attribute), Attribute.class)).contains(attribute);
+    }
+
+    @Test
+    void shouldRoundTripConditions() {
+        Attribute age = new Attribute("customer.age", AttributeType.NUMBER);
+        Attribute limit = new Attribute("customer.limit", AttributeType.DECIMAL);
+        Condition vsValue = Condition.attributeVsValue("c1", "Adult", age, ComparisonOperator.GTE, new BigDecimal("18.5"));
+        Condition vsAttribute = Condition.attributeVsAttribute("c2", "Within limit", age, ComparisonOperator.LTE, limit);
+
+        assertThat(codec.decode(codec.encode(vsValue), Condition.class)).contains(vsValue);
+        assertThat(codec.decode(codec.encode(vsAttribute), Condition.class)).contains(vsAttribute);
+    }
+
+    @Test
+    void shouldRoundTripRuleSet() {
+        Rule rule = new Rule("r1", "Adult", List.of("c1", "c2"), new RuleMetadata(5, true, Set.of("kyc")), 41);
+        RuleSet ruleSet = new RuleSet("rs1", "Onboarding", List.of(rule), true, EngineType.JEXL, "Onboarding",
+                MissingAttributePolicy.FAIL, 42);
+
+        assertThat(codec.decode(codec.encode(ruleSet), RuleSet.class)).contains(ruleSet);
+        assertThat(codec.decode(codec.encode(rule), Rule.class)).contains(rule);
+        assertThat(codec.decode(codec.encode(List.of(ruleSet, ruleSet)), List.class)).contains(List.of(ruleSet, ruleSet));
+    }
+
+    @Test
+    void shouldRoundTripCategoryWithItsRevision() {
+        Rule rule = new Rule("r1", "Adult", List.of("c1"), RuleMetadata.defaults());
+        RuleSet ruleSet = new RuleSet("rs1", "Onboarding", List.of(rule), false, EngineType.SPEL, "Onboarding");
+        CategoryRuleSets category = new CategoryRuleSets(7, List.of(ruleSet));
+
+        assertThat(codec.decode(codec.encode(category), CategoryRuleSets.class)).contains(category);
+        assertThat(codec.decode(codec.encode(List.of(ruleSet)), CategoryRuleSets.class)).isEmpty();
+    }
+
+    @Test
+    void shouldCompressLargeValues() {
+        List<String> conditionIds = IntStream.range(0, 500).mapToObj(i -> "condition-" + i).toList();
+        Rule rule = new Rule("r1", "Large", conditionIds, RuleMetadata.defaults());
+
+        byte[] compressed = new BinaryCacheCodec(256).encode(rule);
+        byte[] uncompressed = new BinaryCacheCodec(Integer.MAX_VALUE).encode(rule);
+
+        assertThat(compressed[1] & BinaryCacheCodec.FLAG_DEFLATED).isNotZero();
+        assertThat(compressed.length).isLessThan(uncompressed.length / 2);
+        assertThat(codec.decode(compressed, Rule.class)).contains(rule);
+    }
+
+    @Test
+    void shouldTreatOtherSchemaVersionOrTypeAsMiss() {
+        byte[] encoded = codec.encode("value");
+
+        assertThat(codec.decode(encoded, Rule.class)).isEmpty();
+        encoded[0] = (byte) (BinaryCacheCodec.SCHEMA_VERSION + 1);
+        assertThat(codec.decode(encoded, String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMalformedAndUnsupportedValues() {
+        byte[] encoded = codec.encode(new Attribute("customer.age", AttributeType.NUMBER));
+
+        assertThatThrownBy(() -> codec.decode(java.util.Arrays.copyOf(encoded, encoded.length - 2), Attribute.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(new Object()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(List.of("not a rule set")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
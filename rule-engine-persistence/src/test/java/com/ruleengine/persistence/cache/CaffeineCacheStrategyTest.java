@@ -0,0 +1,170 @@
+package com.ruleengine.persistence.cache;
+
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CaffeineCacheStrategy regions, loading and refresh-ahead.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class CaffeineCacheStrategyTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final CaffeineCacheStrategy cache = new CaffeineCacheStrategy(List.of(
+            new CacheRegion("category", 10, CacheRegion.Weigher.ELEMENT_COUNT, Duration.ofMinutes(30),
+                    Optional.of(Duration.ofMinutes(5))),
+            CacheRegion.ofEntries("condition", 100, Duration.ofMinutes(30))
+    ), refreshes::add, nanos::get);
+
+    @Test
+    void shouldRunOneLoaderForConcurrentMisses() throws Exception {
+        CaffeineCacheStrategy shared = new CaffeineCacheStrategy();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> shared.getOrLoad("category:hot", String.class, () -> {
+                    loads.incrementAndGet();
+                    await(loading);
+                    return Optional.of("loaded");
+                })));
+            }
+            Thread.sleep(100);
+            loading.countDown();
+
+            for (Future<Optional<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains("loaded");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotCacheEmptyLoads() {
+        assertThat(cache.getOrLoad("category:none", String.class, Optional::empty)).isEmpty();
+        assertThat(cache.getOrLoad("category:none", String.class, () -> Optional.of("v1"))).contains("v1");
+    }
+
+    @Test
+    void shouldServeCurrentValueAndRefreshInBackgroundOnce() {
+        cache.getOrLoad("category:hot", String.class, () -> Optional.of("v1"));
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        assertThat(cache.getOrLoad("category:hot", String.class, () -> Optional.of("v2"))).contains("v1");
+        assertThat(cache.getOrLoad("category:hot", String.class, () -> Optional.of("v3"))).contains("v1");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.getFirst().run();
+
+        assertThat(cache.get("category:hot", String.class)).contains("v2");
+    }
+
+    @Test
+    void shouldOnlyRefreshConfiguredNamespaces() {
+        cache.getOrLoad("condition:1", String.class, () -> Optional.of("v1"));
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        cache.getOrLoad("condition:1", String.class, () -> Optional.of("v2"));
+
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void shouldNotOverwriteEntryEvictedDuringRefresh() {
+        cache.getOrLoad("category:hot", String.class, () -> Optional.of("v1"));
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.getOrLoad("category:hot", String.class, () -> Optional.of("stale"));
+
+        cache.evict("category:hot");
+        refreshes.getFirst().run();
+
+        assertThat(cache.get("category:hot", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepValueWhenRefreshFailsAndRetryLater() {
+        cache.getOrLoad("category:hot", String.class, () -> Optional.of("v1"));
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.getOrLoad("category:hot", String.class, () -> {
+            throw new IllegalStateException("database down");
+        });
+
+        refreshes.getFirst().run();
+        cache.getOrLoad("category:hot", String.class, () -> Optional.of("v2"));
+
+        assertThat(cache.get("category:hot", String.class)).contains("v1");
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectRefreshIntervalNotShorterThanExpiry() {
+        assertThatThrownBy(() -> new CacheRegion("category", 100, CacheRegion.Weigher.ENTRY_COUNT,
+                Duration.ofMinutes(30), Optional.of(Duration.ofMinutes(30))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldBoundRegionsSeparatelyByWeight() {
+        Rule rule = new Rule("r1", "Rule", List.of("c1", "c2", "c3", "c4"), RuleMetadata.defaults());
+        RuleSet large = new RuleSet("rs1", "Large", List.of(rule, rule), false, EngineType.SPEL, "Big");
+        cache.put("condition:1", "kept");
+
+        cache.put("category:Big", List.of(large));
+        cache.put("category:Small", List.of());
+        cache.cleanUp();
+
+        assertThat(cache.regionStats("category").weight()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("category:Big", List.class)).isEmpty();
+        assertThat(cache.get("condition:1", String.class)).contains("kept");
+    }
+
+    @Test
+    void shouldRecordStatisticsPerRegion() {
+        cache.getOrLoad("condition:1", String.class, () -> Optional.of("v1"));
+        cache.get("condition:1", String.class);
+        cache.get("condition:2", String.class);
+        cache.put("other:1", "v1");
+
+        CaffeineCacheStrategy.RegionStats stats = cache.regionStats("condition");
+
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.loadSuccesses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(cache.regionNames()).containsExactlyInAnyOrder("default", "condition", "category");
+        assertThat(cache.regionStats("default").size()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
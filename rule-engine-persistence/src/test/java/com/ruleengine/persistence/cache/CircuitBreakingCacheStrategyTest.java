@@ -0,0 +1,239 @@
+package com.ruleengine.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CircuitBreakingCacheStrategy.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class CircuitBreakingCacheStrategyTest {
+
+    private FlakyCache remote;
+    private long now;
+    private CircuitBreakingCacheStrategy breaker;
+
+    @BeforeEach
+    void setUp() {
+        remote = new FlakyCache();
+        breaker = new CircuitBreakingCacheStrategy(remote, 2, Duration.ofMillis(50), Duration.ofSeconds(5), () -> now,
+                Runnable::run);
+    }
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndSkipCalls() {
+        remote.put("rule:1", "v1");
+        remote.failing = true;
+
+        assertThat(breaker.get("rule:1", String.class)).isEmpty();
+        assertThat(breaker.get("rule:1", String.class)).isEmpty();
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.OPEN);
+
+        remote.failing = false;
+        int callsBefore = remote.calls;
+        assertThat(breaker.get("rule:1", String.class)).isEmpty();
+        assertThat(remote.calls).isEqualTo(callsBefore);
+    }
+
+    @Test
+    void shouldCountSlowCallsAsFailures() {
+        remote.put("rule:1", "v1");
+        remote.latencyNanos = Duration.ofMillis(200).toNanos();
+
+        assertThat(breaker.get("rule:1", String.class)).contains("v1");
+        assertThat(breaker.get("rule:1", String.class)).contains("v1");
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbeAndReplaySkippedEvictions() {
+        remote.put("rule:1", "v1");
+        remote.failing = true;
+        breaker.get("rule:1", String.class);
+        breaker.get("rule:1", String.class);
+        breaker.evict("rule:1");
+
+        remote.failing = false;
+        now += Duration.ofSeconds(5).toNanos();
+
+        assertThat(breaker.get("rule:2", String.class)).isEmpty();
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.CLOSED);
+        assertThat(remote.get("rule:1", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldReplayFailedEvictionOnNextSuccessWhileClosed() {
+        remote.put("rule:1", "v1");
+        remote.failing = true;
+        breaker.evict("rule:1");
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.CLOSED);
+
+        remote.failing = false;
+        breaker.get("rule:2", String.class);
+
+        assertThat(remote.get("rule:1", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldReplayPendingEvictionsInOneBatchOffTheClosingCall() {
+        List<Runnable> replays = new ArrayList<>();
+        breaker = new CircuitBreakingCacheStrategy(remote, 2, Duration.ofMillis(50), Duration.ofSeconds(5), () -> now,
+                replays::add);
+        remote.put("rule:1", "v1");
+        remote.put("rule:2", "v2");
+        remote.failing = true;
+        breaker.evict("rule:1");
+        breaker.evict("rule:2");
+
+        remote.failing = false;
+        now += Duration.ofSeconds(5).toNanos();
+        breaker.get("rule:3", String.class);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.CLOSED);
+        assertThat(remote.get("rule:1", String.class)).contains("v1");
+        assertThat(replays).hasSize(1);
+
+        replays.getFirst().run();
+
+        assertThat(remote.get("rule:1", String.class)).isEmpty();
+        assertThat(remote.get("rule:2", String.class)).isEmpty();
+        assertThat(remote.evictAllBatches).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCloseOnSuccessStartedBeforeCircuitOpened() {
+        remote.put("rule:1", "v1");
+        remote.duringGet = () -> {
+            remote.duringGet = null;
+            remote.failing = true;
+            breaker.put("rule:2", "v2");
+            breaker.put("rule:2", "v2");
+            remote.failing = false;
+        };
+
+        assertThat(breaker.get("rule:1", String.class)).contains("v1");
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.OPEN);
+    }
+
+    @Test
+    void shouldEvictNamespacesInsteadOfClearingWhenTooManyEvictionsPending() {
+        remote.put("category:Onboarding", "v1");
+        remote.put("other:1", "not ours");
+        remote.failing = true;
+        breaker.get("category:Onboarding", String.class);
+        breaker.get("category:Onboarding", String.class);
+        for (int i = 0; i <= 10_000; i++) {
+            breaker.evict("category:" + i);
+        }
+
+        remote.failing = false;
+        now += Duration.ofSeconds(5).toNanos();
+        breaker.get("category:probe", String.class);
+
+        assertThat(remote.get("category:Onboarding", String.class)).isEmpty();
+        assertThat(remote.get("other:1", String.class)).contains("not ours");
+        assertThat(remote.clears).isZero();
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        remote.failing = true;
+        breaker.get("rule:1", String.class);
+        breaker.get("rule:1", String.class);
+        now += Duration.ofSeconds(5).toNanos();
+
+        breaker.get("rule:1", String.class);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.OPEN);
+    }
+
+    @Test
+    void shouldRethrowProgrammingErrorsWithoutOpening() {
+        remote.rejectValues = true;
+
+        assertThatThrownBy(() -> breaker.put("rule:1", new Object()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> breaker.put("rule:1", new Object()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(breaker.state()).isEqualTo(CircuitBreakingCacheStrategy.State.CLOSED);
+    }
+
+    /**
+     * Remote cache stand-in that can fail, reject values, advance the test clock to simulate latency
+     * or run other calls while a read is in flight.
+     */
+    private class FlakyCache extends CaffeineCacheStrategy {
+        boolean failing;
+        boolean rejectValues;
+        long latencyNanos;
+        int calls;
+        int clears;
+        int evictAllBatches;
+        Runnable duringGet;
+
+        @Override
+        public <T> Optional<T> get(String key, Class<T> type) {
+            simulateCall();
+            if (duringGet != null) {
+                duringGet.run();
+            }
+            return super.get(key, type);
+        }
+
+        @Override
+        public void put(String key, Object value) {
+            if (rejectValues) {
+                throw new IllegalArgumentException("Unsupported value");
+            }
+            simulateCall();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(String key) {
+            simulateCall();
+            super.evict(key);
+        }
+
+        @Override
+        public void evictAll(Collection<String> keys) {
+            simulateCall();
+            evictAllBatches++;
+            super.evictAll(keys);
+        }
+
+        @Override
+        public void evictNamespace(String namespace) {
+            simulateCall();
+            super.evictNamespace(namespace);
+        }
+
+        @Override
+        public void clear() {
+            simulateCall();
+            clears++;
+            super.clear();
+        }
+
+        private void simulateCall() {
+            calls++;
+            now += latencyNanos;
+            if (failing) {
+                throw new IllegalStateException("Redis unavailable");
+            }
+        }
+    }
+}
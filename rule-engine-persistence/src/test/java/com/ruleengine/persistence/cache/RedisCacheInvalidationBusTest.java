@@ -0,0 +1,31 @@
+package com.ruleengine.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RedisCacheInvalidationBus against an unreachable Redis.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class RedisCacheInvalidationBusTest {
+
+    @Test
+    void shouldNotBlockWritersWhileRedisIsUnreachable() {
+        // A non-routable address: connecting waits for the full connect timeout
+        RedisConnectionSettings settings = new RedisConnectionSettings(8, 8,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2));
+        try (RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus("10.255.255.1", 6379, "test", settings)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 20_000; i++) {
+                bus.publish("category:" + i);
+            }
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ruleengine.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TieredCacheStrategy. Two instances share an L2 cache and an in-process
+ * invalidation bus, standing in for two application instances sharing Redis.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class TieredCacheStrategyTest {
+
+    private CaffeineCacheStrategy sharedCache;
+    private CaffeineCacheStrategy localA;
+    private CaffeineCacheStrategy localB;
+    private TieredCacheStrategy nodeA;
+    private TieredCacheStrategy nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new CaffeineCacheStrategy();
+        localA = new CaffeineCacheStrategy();
+        localB = new CaffeineCacheStrategy();
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        nodeA = new TieredCacheStrategy(localA, sharedCache, bus);
+        nodeB = new TieredCacheStrategy(localB, sharedCache, bus);
+    }
+
+    @Test
+    void shouldPopulateLocalCacheFromSharedCacheOnMiss() {
+        sharedCache.put("rule:1", "v1");
+
+        assertThat(nodeA.get("rule:1", String.class)).contains("v1");
+        assertThat(localA.get("rule:1", String.class)).contains("v1");
+    }
+
+    @Test
+    void shouldKeepOwnLocalEntryAfterPut() {
+        nodeA.put("rule:1", "v1");
+
+        assertThat(localA.get("rule:1", String.class)).contains("v1");
+        assertThat(sharedCache.get("rule:1", String.class)).contains("v1");
+    }
+
+    @Test
+    void shouldDropStaleLocalEntryOnOtherInstanceAfterPut() {
+        nodeA.put("rule:1", "v1");
+        assertThat(nodeB.get("rule:1", String.class)).contains("v1");
+
+        nodeA.put("rule:1", "v2");
+
+        assertThat(localB.get("rule:1", String.class)).isEmpty();
+        assertThat(nodeB.get("rule:1", String.class)).contains("v2");
+    }
+
+    @Test
+    void shouldEvictFromAllLevelsAndInstances() {
+        nodeA.put("rule:1", "v1");
+        nodeB.get("rule:1", String.class);
+
+        nodeA.evict("rule:1");
+
+        assertThat(nodeA.get("rule:1", String.class)).isEmpty();
+        assertThat(nodeB.get("rule:1", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldEvictOnlyOwnLocalEntryWhenEvictingLocally() {
+        nodeA.put("rule:1", "v1");
+        nodeB.get("rule:1", String.class);
+
+        nodeA.evictLocally("rule:1");
+
+        assertThat(localA.get("rule:1", String.class)).isEmpty();
+        assertThat(localB.get("rule:1", String.class)).contains("v1");
+        assertThat(sharedCache.get("rule:1", String.class)).contains("v1");
+    }
+
+    @Test
+    void shouldClearLocalCachesOfAllInstances() {
+        nodeA.put("rule:1", "v1");
+        nodeB.put("rule:2", "v2");
+
+        nodeB.clear();
+
+        assertThat(localA.get("rule:1", String.class)).isEmpty();
+        assertThat(nodeA.get("rule:2", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldGetAllFromLocalThenSharedCache() {
+        localA.put("rule:1", "v1");
+        sharedCache.put("rule:2", "v2");
+
+        Map<String, String> values = nodeA.getAll(List.of("rule:1", "rule:2", "rule:3"), String.class);
+
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of("rule:1", "v1", "rule:2", "v2"));
+        assertThat(localA.get("rule:2", String.class)).contains("v2");
+    }
+
+    @Test
+    void shouldPutAllAndInvalidateOtherInstances() {
+        nodeB.putAll(Map.of("rule:1", "old", "rule:2", "old"));
+
+        nodeA.putAll(Map.of("rule:1", "v1", "rule:2", "v2"));
+
+        assertThat(localB.getAll(List.of("rule:1", "rule:2"), String.class)).isEmpty();
+        assertThat(nodeB.getAll(List.of("rule:1", "rule:2"), String.class))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("rule:1", "v1", "rule:2", "v2"));
+        assertThat(localA.getAll(List.of("rule:1", "rule:2"), String.class)).hasSize(2);
+    }
+
+    @Test
+    void shouldLoadThroughSharedCacheOnlyOnMissInBothLevels() {
+        sharedCache.put("rule:1", "shared");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.getOrLoad("rule:1", String.class, () -> {
+            loads.incrementAndGet();
+            return Optional.of("db");
+        })).contains("shared");
+        assertThat(nodeB.getOrLoad("rule:2", String.class, () -> {
+            loads.incrementAndGet();
+            return Optional.of("db");
+        })).contains("db");
+
+        assertThat(loads).hasValue(1);
+        assertThat(sharedCache.get("rule:2", String.class)).contains("db");
+        assertThat(localB.get("rule:2", String.class)).contains("db");
+    }
+
+    @Test
+    void shouldRefreshFromLoaderAndWriteThroughToSharedCache() {
+        AtomicLong nanos = new AtomicLong();
+        List<Runnable> refreshes = new ArrayList<>();
+        CaffeineCacheStrategy local = new CaffeineCacheStrategy(List.of(
+                new CacheRegion("category", 10, CacheRegion.Weigher.ENTRY_COUNT, Duration.ofMinutes(30),
+                        Optional.of(Duration.ofMinutes(5)))
+        ), refreshes::add, nanos::get);
+        TieredCacheStrategy node = new TieredCacheStrategy(local, sharedCache, new LocalCacheInvalidationBus());
+        sharedCache.put("category:hot", "old");
+        assertThat(node.getOrLoad("category:hot", String.class, () -> Optional.of("unused"))).contains("old");
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(node.getOrLoad("category:hot", String.class, () -> {
+            loads.incrementAndGet();
+            return Optional.of("db");
+        })).contains("old");
+        refreshes.getFirst().run();
+
+        assertThat(loads).hasValue(1);
+        assertThat(local.get("category:hot", String.class)).contains("db");
+        assertThat(sharedCache.get("category:hot", String.class)).contains("db");
+    }
+}
@@ -0,0 +1,107 @@
+package com.ruleengine.persistence.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadReplicaRoutingDataSource.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplica() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(5));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void shouldSendEverythingToPrimaryWithoutReplica() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+        assertThat(dataSource.replicaFallbacks()).isZero();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToPrimaryWhenPrimaryIsRequired() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(5));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection filling = ReadReplicaRoutingDataSource.onPrimary(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(filling).isSameAs(primaryConnection);
+        assertThat(ReadReplicaRoutingDataSource.isPrimaryRequired()).isFalse();
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryAndSkipReplicaUntilRetry() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection is not available"));
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofHours(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+        assertThat(dataSource.replicaFallbacks()).isEqualTo(2);
+        verify(replica, times(1)).getConnection();
+
+        // Writes are not fallbacks
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.replicaFallbacks()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRetryReplicaAfterInterval() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection is not available"))
+                .thenReturn(replicaConnection);
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+    }
+}
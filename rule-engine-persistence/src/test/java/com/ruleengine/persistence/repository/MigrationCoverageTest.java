@@ -0,0 +1,91 @@
+package com.ruleengine.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every table and column the entities map is created by a Flyway migration, so an entity
+ * change cannot ship without the script that a {@code ddl-auto: validate} deploy needs. The entity side
+ * is the schema Hibernate generates in H2; the migration side is parsed from the PostgreSQL scripts,
+ * which H2 cannot run.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrationcoverage",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class MigrationCoverageTest {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "CREATE TABLE (?:IF NOT EXISTS )?(\\w+)\\s*\\((.*?)\\n\\);", Pattern.DOTALL);
+    private static final Pattern ADD_COLUMN = Pattern.compile(
+            "ALTER TABLE\\s+(\\w+)\\s+ADD COLUMN (?:IF NOT EXISTS )?(\\w+)");
+    private static final Set<String> TABLE_CONSTRAINTS = Set.of("PRIMARY", "CONSTRAINT", "UNIQUE", "CHECK", "FOREIGN");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldCreateEveryMappedColumnInAMigration() throws Exception {
+        assertThat(migratedColumns()).containsAll(mappedColumns());
+    }
+
+    private Set<String> mappedColumns() throws SQLException {
+        Set<String> columns = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rs = connection.getMetaData().getColumns(null, "PUBLIC", "%", "%")) {
+            while (rs.next()) {
+                columns.add(column(rs.getString("TABLE_NAME"), rs.getString("COLUMN_NAME")));
+            }
+        }
+        return columns;
+    }
+
+    private static Set<String> migratedColumns() throws IOException {
+        Set<String> columns = new TreeSet<>();
+        Resource[] scripts = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/postgresql/*.sql");
+        for (Resource script : scripts) {
+            String sql = script.getContentAsString(StandardCharsets.UTF_8).replaceAll("--[^\\n]*", "");
+            Matcher table = CREATE_TABLE.matcher(sql);
+            while (table.find()) {
+                for (String line : table.group(2).split("\\n")) {
+                    String first = line.trim().split("\\s+")[0];
+                    if (!first.isEmpty() && !TABLE_CONSTRAINTS.contains(first.toUpperCase(Locale.ROOT))) {
+                        columns.add(column(table.group(1), first));
+                    }
+                }
+            }
+            Matcher added = ADD_COLUMN.matcher(sql);
+            while (added.find()) {
+                columns.add(column(added.group(1), added.group(2)));
+            }
+        }
+        return columns;
+    }
+
+    private static String column(String table, String column) {
+        return (table + "." + column).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,223 @@
+package com.ruleengine.persistence.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the query plans of the hot repository lookups on PostgreSQL. The schema is
+ * built by the migrations in {@code db/migration/postgresql} (and validated against the entities),
+ * filled with a catalog of realistic size, and every statement a lookup issues must be planned
+ * without a sequential scan. Skipped when Docker is not available.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanIntegrationTest {
+
+    private static final int ATTRIBUTES = 2_000;
+    private static final int CONDITIONS = 20_000;
+    private static final int RULES = 50_000;
+    private static final int TAGS = 500;
+    private static final int RULE_SETS = 5_000;
+    private static final int CATEGORIES = 500;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean catalogLoaded;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/postgresql");
+        registry.add("spring.flyway.postgresql.transactional-lock", () -> "false");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                RecordingStatementInspector.class::getName);
+    }
+
+    @Autowired
+    private RuleSetRepository ruleSetRepository;
+
+    @Autowired
+    private RuleRepository ruleRepository;
+
+    @Autowired
+    private ConditionRepository conditionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @BeforeEach
+    void setUp() {
+        if (!catalogLoaded) {
+            loadCatalog();
+            catalogLoaded = true;
+        }
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldFindRuleSetsByCategoryWithoutSequentialScan() throws SQLException {
+        assertThat(ruleSetRepository.findByRuleCategory("category-7")).hasSize(RULE_SETS / CATEGORIES);
+
+        assertIndexedPlans("idx_rule_sets_category", "idx_rule_set_rules_rule_set");
+    }
+
+    @Test
+    void shouldLoadCategoryGraphWithoutSequentialScan() throws SQLException {
+        assertThat(ruleSetRepository.findGraphByRuleCategory("category-7")).hasSize(RULE_SETS / CATEGORIES);
+
+        assertIndexedPlans("idx_rule_sets_category", "idx_rule_conditions_rule", "idx_rule_tags_rule");
+    }
+
+    @Test
+    void shouldFindActiveRulesInPriorityOrderWithoutSequentialScan() throws SQLException {
+        assertThat(ruleRepository.findByActiveTrueOrderByPriorityDesc()).hasSize(RULES / 5);
+
+        assertThat(assertIndexedPlans("idx_rules_active_priority")).contains("Index Only Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void shouldFindActiveRulesByTagWithoutSequentialScan() throws SQLException {
+        assertThat(ruleRepository.findByActiveTrueAndTag("tag-7")).isNotEmpty()
+                .allSatisfy(rule -> assertThat(rule.getActive()).isTrue());
+
+        assertThat(assertIndexedPlans("idx_rule_tags_tag")).doesNotContain("SubPlan");
+    }
+
+    @Test
+    void shouldFindConditionsByLeftAttributeWithoutSequentialScan() throws SQLException {
+        assertThat(conditionRepository.findByLeftAttributeCode("attr-7")).hasSize(CONDITIONS / ATTRIBUTES);
+
+        assertIndexedPlans("idx_conditions_left_attribute");
+    }
+
+    /**
+     * Explains every recorded statement as a generic plan, i.e. for any parameter values, which is
+     * how a prepared statement reused by the connection pool ends up being executed. The statements
+     * keep their parameter symbols, so they are sent with the simple query protocol.
+     *
+     * @return the plans, which use the given indexes and no sequential scan
+     */
+    private String assertIndexedPlans(String... indexes) throws SQLException {
+        List<String> statements = List.copyOf(RecordingStatementInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+        StringBuilder plans = new StringBuilder();
+        try (Connection connection = DriverManager.getConnection(url + "?preferQueryMode=simple", username, password);
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql))) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                assertThat(plan.toString()).as("Plan of %s", sql).doesNotContain("Seq Scan");
+                plans.append(plan);
+            }
+        }
+        assertThat(plans.toString()).contains(indexes);
+        return plans.toString();
+    }
+
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * Attributes with a min/max constraint; ten conditions per attribute, every other one comparing
+     * against the next attribute; rules with three conditions and three of {@value #TAGS} tags, one in
+     * five active; ten rules per rule set and ten rule sets per category.
+     */
+    private void loadCatalog() {
+        jdbcTemplate.update("INSERT INTO attributes (code, path, type) "
+                + "SELECT 'attr-' || i, 'attr.' || i, 'NUMBER' FROM generate_series(0, ?) i", ATTRIBUTES - 1);
+        jdbcTemplate.update("INSERT INTO attribute_constraints (attribute_code, constraint_key, constraint_value) "
+                + "SELECT 'attr-' || i, k, '0' FROM generate_series(0, ?) i, unnest(ARRAY['min', 'max']) k",
+                ATTRIBUTES - 1);
+        jdbcTemplate.update("INSERT INTO conditions (id, name, left_attribute_code, operator, right_attribute_code, "
+                + "target_value, target_value_type, revision) "
+                + "SELECT 'cond-' || i, 'Condition ' || i, 'attr-' || (i % ?), 'GTE', "
+                + "CASE WHEN i % 2 = 0 THEN 'attr-' || ((i + 1) % ?) END, "
+                + "CASE WHEN i % 2 = 1 THEN i::text END, CASE WHEN i % 2 = 1 THEN 'java.lang.Integer' END, 0 "
+                + "FROM generate_series(0, ?) i", ATTRIBUTES, ATTRIBUTES, CONDITIONS - 1);
+        jdbcTemplate.update("INSERT INTO rules (id, name, priority, active, revision) "
+                + "SELECT 'rule-' || i, 'Rule ' || i, (i * 7919) % 1000, i % 5 = 0, 0 FROM generate_series(0, ?) i",
+                RULES - 1);
+        jdbcTemplate.update("INSERT INTO rule_conditions (rule_id, condition_order, condition_id) "
+                + "SELECT 'rule-' || i, o, 'cond-' || ((i * 3 + o) % ?) FROM generate_series(0, ?) i, generate_series(0, 2) o",
+                CONDITIONS, RULES - 1);
+        jdbcTemplate.update("INSERT INTO rule_tags (rule_id, tag) "
+                + "SELECT 'rule-' || i, 'tag-' || ((i + o * 167) % ?) FROM generate_series(0, ?) i, generate_series(0, 2) o",
+                TAGS, RULES - 1);
+        jdbcTemplate.update("INSERT INTO rule_sets (id, name, stop_on_first_failure, engine_type, rule_category, revision) "
+                + "SELECT 'set-' || i, 'Set ' || i, false, 'SPEL', 'category-' || (i % ?), 0 FROM generate_series(0, ?) i",
+                CATEGORIES, RULE_SETS - 1);
+        jdbcTemplate.update("INSERT INTO rule_set_rules (rule_set_id, rule_order, rule_id) "
+                + "SELECT 'set-' || i, o, 'rule-' || (i * 10 + o) FROM generate_series(0, ?) i, generate_series(0, 9) o",
+                RULE_SETS - 1);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    /**
+     * Records the SQL Hibernate prepares; configured by class name, so it keeps its state statically.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ruleengine.persistence.repository;
+
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.persistence.entity.AttributeEntity;
+import com.ruleengine.persistence.entity.AttributeTypeEntity;
+import com.ruleengine.persistence.entity.ComparisonOperatorEntity;
+import com.ruleengine.persistence.entity.ConditionEntity;
+import com.ruleengine.persistence.entity.EngineTypeEntity;
+import com.ruleengine.persistence.entity.RuleEntity;
+import com.ruleengine.persistence.entity.RuleSetEntity;
+import com.ruleengine.persistence.mapper.ConditionMapper;
+import com.ruleengine.persistence.mapper.RuleSetMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for loading a category's rule graph in a bounded number of statements.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RuleSetRepositoryIntegrationTest {
+
+    @Autowired
+    private RuleSetRepository ruleSetRepository;
+
+    @Autowired
+    private ConditionRepository conditionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int a = 0; a < 4; a++) {
+            entityManager.persist(new AttributeEntity("attr-" + a, "attr." + a, AttributeTypeEntity.NUMBER, null,
+                    Map.of("min", "0", "max", "100")));
+        }
+        for (int c = 0; c < 8; c++) {
+            ConditionEntity condition = new ConditionEntity("cond-" + c, "Condition " + c,
+                    entityManager.find(AttributeEntity.class, "attr-" + (c % 4)), ComparisonOperatorEntity.GTE,
+                    c % 2 == 0 ? entityManager.find(AttributeEntity.class, "attr-" + ((c + 1) % 4)) : null,
+                    c % 2 == 0 ? null : String.valueOf(c), c % 2 == 0 ? null : "java.lang.Integer");
+            entityManager.persist(condition);
+        }
+        for (int s = 0; s < 5; s++) {
+            RuleSetEntity ruleSet = new RuleSetEntity("set-" + s, "Set " + s, false, EngineTypeEntity.SPEL,
+                    s < 4 ? "Pricing" : "Other");
+            List<RuleEntity> rules = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                RuleEntity rule = new RuleEntity("rule-" + s + "-" + r, "Rule", r, true, Set.of("tag-" + r, "shared"));
+                rule.setConditionIds(new ArrayList<>(List.of("cond-" + r, "cond-" + (r + 4))));
+                entityManager.persist(rule);
+                rules.add(rule);
+            }
+            ruleSet.setRules(rules);
+            entityManager.persist(ruleSet);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadCategoryRuleGraphInThreeStatements() {
+        List<RuleSet> ruleSets = ruleSetRepository.findGraphByRuleCategory("Pricing").stream()
+                .map(RuleSetMapper::toDomain)
+                .toList();
+
+        assertThat(ruleSets).hasSize(4);
+        assertThat(ruleSets).allSatisfy(ruleSet -> {
+            assertThat(ruleSet.rules()).hasSize(3);
+            assertThat(ruleSet.rules().get(1).conditionIds()).containsExactly("cond-1", "cond-5");
+            assertThat(ruleSet.rules().get(1).metadata().tags()).containsExactlyInAnyOrder("tag-1", "shared");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldLoadConditionsWithAttributesInTwoStatements() {
+        List<Condition> conditions = conditionRepository.findGraphByIdIn(
+                        List.of("cond-0", "cond-1", "cond-2", "cond-3", "cond-4", "cond-5")).stream()
+                .map(ConditionMapper::toDomain)
+                .toList();
+
+        assertThat(conditions).hasSize(6);
+        assertThat(conditions).allSatisfy(condition ->
+                assertThat(condition.leftAttribute().constraints()).contains(Map.of("min", 0, "max", 100)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotIssueFollowUpQueriesForEmptyCategory() {
+        assertThat(ruleSetRepository.findGraphByRuleCategory("Unknown")).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
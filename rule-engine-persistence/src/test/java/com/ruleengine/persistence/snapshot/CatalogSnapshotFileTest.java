@@ -0,0 +1,106 @@
+package com.ruleengine.persistence.snapshot;
+
+import com.ruleengine.domain.attribute.Attribute;
+import com.ruleengine.domain.attribute.AttributeType;
+import com.ruleengine.domain.factory.EngineType;
+import com.ruleengine.domain.operator.ComparisonOperator;
+import com.ruleengine.domain.rule.Condition;
+import com.ruleengine.domain.rule.Rule;
+import com.ruleengine.domain.rule.RuleMetadata;
+import com.ruleengine.domain.rule.RuleSet;
+import com.ruleengine.domain.rule.RuleSetGraph;
+import com.ruleengine.persistence.cache.BinaryCacheCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CatalogSnapshotFile.
+ *
+ * Module: rule-engine-persistence
+ * Layer: Persistence
+ */
+class CatalogSnapshotFileTest {
+
+    private final BinaryCacheCodec codec = new BinaryCacheCodec();
+
+    @TempDir
+    private Path directory;
+
+    private final Condition adult = Condition.attributeVsValue("cond-adult", "Adult",
+            new Attribute("customer.age", AttributeType.NUMBER), ComparisonOperator.GTE, 18);
+    private final RuleSetGraph adults = graph("set-adults", "Onboarding");
+    private final RuleSetGraph seniors = graph("set-seniors", "Onboarding");
+    private final RuleSetGraph pricing = graph("set-pricing", "Pricing");
+
+    @Test
+    void shouldReadCategoriesWrittenToFile() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(file, 42)) {
+            writer.addCategory("Pricing", List.of(codec.encode(pricing)));
+            writer.addCategory("Onboarding", List.of(codec.encode(adults), codec.encode(seniors)));
+            writer.commit();
+        }
+
+        CatalogSnapshotFile snapshot = CatalogSnapshotFile.open(file);
+
+        assertThat(snapshot.revision()).isEqualTo(42);
+        assertThat(CatalogSnapshotFile.readRevision(file)).isEqualTo(42);
+        assertThat(snapshot.categories()).containsExactly("Onboarding", "Pricing");
+        assertThat(snapshot.category("Onboarding")).containsExactly(adults, seniors);
+        assertThat(snapshot.category("Pricing")).containsExactly(pricing);
+        assertThat(snapshot.category("Unknown")).isEmpty();
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void shouldKeepPreviousFileWhenWriteIsNotCommitted() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(file, 1)) {
+            writer.addCategory("Pricing", List.of(codec.encode(pricing)));
+            writer.commit();
+        }
+
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(file, 2)) {
+            writer.addCategory("Pricing", List.of(codec.encode(pricing)));
+            assertThatThrownBy(() -> writer.addCategory("Pricing", List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(CatalogSnapshotFile.readRevision(file)).isEqualTo(1);
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void shouldRejectValuesOfAnotherCodecSchema() throws IOException {
+        byte[] outdated = codec.encode(pricing);
+        outdated[0] = (byte) (BinaryCacheCodec.SCHEMA_VERSION - 1);
+
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.create(directory.resolve("catalog.snapshot"), 1)) {
+            assertThatThrownBy(() -> writer.addCategory("Pricing", List.of(outdated)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("codec schema");
+        }
+    }
+
+    @Test
+    void shouldRejectFileInAnotherFormat() throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[64]);
+
+        assertThatThrownBy(() -> CatalogSnapshotFile.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a catalog snapshot file");
+    }
+
+    private RuleSetGraph graph(String id, String category) {
+        Rule rule = new Rule("rule-" + id, "Adult", List.of("cond-adult"), RuleMetadata.defaults(), 3);
+        return new RuleSetGraph(new RuleSet(id, id, List.of(rule), false, EngineType.SPEL, category), List.of(adult));
+    }
+}